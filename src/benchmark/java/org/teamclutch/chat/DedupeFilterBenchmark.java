@@ -0,0 +1,39 @@
+package org.teamclutch.chat;
+
+import org.junit.Test;
+
+/**
+ * Times adding and looking up keys in a filter holding as many as it expects, and reports the false
+ * positive rate it reaches.
+ */
+public class DedupeFilterBenchmark {
+    private static final long EXPECTED = 1_000_000;
+    private static final double RATE = 0.00001;
+    private static final int PROBES = 2_000_000;
+
+    @Test
+    public void putAndLookup() {
+        DedupeFilter filter = new DedupeFilter(new ServerConfig().dedupeExpectedMessages(EXPECTED)
+                .dedupeFalsePositiveRate(RATE));
+        // One partition more would make the filter drop the oldest
+        long added = EXPECTED - EXPECTED / DedupeFilter.PARTITIONS;
+        long begin = System.nanoTime();
+        for (long i = 0; i < added; i++) {
+            filter.put("sender:" + i);
+        }
+        long putting = System.nanoTime() - begin;
+
+        begin = System.nanoTime();
+        int hits = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (filter.mightContain("other:" + i)) {
+                hits++;
+            }
+        }
+        long probing = System.nanoTime() - begin;
+        System.out.printf("%d puts: %.0f/s; %d lookups of keys never added: %.0f/s%n", added,
+                added / (putting / 1e9), PROBES, PROBES / (probing / 1e9));
+        System.out.printf("False positive rate: %.2e observed, %.2e expected, %.2e configured%n",
+                (double) hits / PROBES, filter.expectedFalsePositiveRate(), RATE);
+    }
+}
@@ -0,0 +1,74 @@
+package org.teamclutch.chat;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares how long the posting thread, an IO thread in a session, is held up by a listener that takes
+ * a while, when posting through the synchronous {@link EventBus} the session used before and through
+ * the {@link EventDispatcher}.
+ */
+public class EventDispatcherBenchmark {
+    private static final int EVENTS = 2000;
+    private static final long LISTENER_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    @Test
+    public void postingDoesNotWaitForListeners() throws InterruptedException {
+        DataMessage message = new DataMessage("alice", "1", "1", "hello");
+
+        SlowListener busListener = new SlowListener(EVENTS);
+        EventBus bus = new EventBus();
+        bus.register(busListener);
+        long busNanos = timePosts(() -> bus.post(message));
+        assertTrue(busListener.received.await(10, TimeUnit.SECONDS));
+
+        EventDispatcher dispatcher = new EventDispatcher("benchmark", new ClientConfig().listenerMailboxSize(EVENTS),
+                new ChatMetrics());
+        SlowListener dispatcherListener = new SlowListener(EVENTS);
+        dispatcher.register(dispatcherListener);
+        long dispatcherNanos = timePosts(() -> dispatcher.post(message));
+        assertTrue(dispatcherListener.received.await(10, TimeUnit.SECONDS));
+        dispatcher.shutdown();
+
+        System.out.printf("Posting thread time per event: EventBus %.1fus, EventDispatcher %.1fus%n",
+                busNanos / 1e3 / EVENTS, dispatcherNanos / 1e3 / EVENTS);
+        assertTrue("Posting shouldn't wait for the listener", dispatcherNanos < busNanos);
+    }
+
+    private static long timePosts(Runnable post) {
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            post.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    public static final class SlowListener implements MessageListener {
+        final CountDownLatch received;
+
+        SlowListener(int events) {
+            this.received = new CountDownLatch(events);
+        }
+
+        @Subscribe
+        public void newMessage(DataMessage message) {
+            onMessage(message);
+        }
+
+        @Override
+        public void onMessage(@NotNull DataMessage message) {
+            long until = System.nanoTime() + LISTENER_NANOS;
+            while (System.nanoTime() < until) {
+                Thread.yield();
+            }
+            received.countDown();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.teamclutch.chat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Times appending to and replaying from the message log, next to the in-memory history a server without
+ * a log keeps, and how long forcing the appends to disk takes. The messages of several senders are
+ * interleaved, as on a busy server, and one sender's are replayed.
+ */
+public class MessageLogBenchmark {
+    private static final int MESSAGES = 20000;
+    private static final int SENDERS = 8;
+    private static final int REPLAY_WINDOW = 100;
+    private static final int ROUNDS = 20;
+    private static final String SENDER = "server0";
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void appendAndReplay() throws IOException {
+        DataMessage[] messages = new DataMessage[MESSAGES];
+        String[] keys = new String[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            String sender = "server" + i % SENDERS;
+            String id = Integer.toString(i / SENDERS);
+            messages[i] = new DataMessage("alice", sender, id, "message number " + i);
+            keys[i] = sender + ':' + id;
+        }
+        ServerConfig config = new ServerConfig().messageLogDirectory(folder.getRoot().toPath())
+                .messageLogCommitInterval(1, TimeUnit.HOURS);
+
+        MessageHistory history = new MessageHistory();
+        long start = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            history.add(keys[i], OffHeapMessage.copyOf(messages[i], ""));
+        }
+        long memoryAppend = System.nanoTime() - start;
+        long memoryReplay = timeReplay(history);
+
+        try (MessageLog log = MessageLog.open(config)) {
+            start = System.nanoTime();
+            for (int i = 0; i < MESSAGES; i++) {
+                log.append(keys[i], "", messages[i]);
+            }
+            long logAppend = System.nanoTime() - start;
+            start = System.nanoTime();
+            log.commit();
+            long fsync = System.nanoTime() - start;
+            long logReplay = timeReplay(log);
+
+            System.out.printf("%d appends: history %.2fus, log %.2fus each, then one fsync of %.2fms%n", MESSAGES,
+                    memoryAppend / 1e3 / MESSAGES, logAppend / 1e3 / MESSAGES, fsync / 1e6);
+            System.out.printf("Replaying %d messages of one of %d senders at a time: history %.1fus, log %.1fus%n",
+                    REPLAY_WINDOW, SENDERS, memoryReplay / 1e3 / replays(), logReplay / 1e3 / replays());
+        }
+    }
+
+    /**
+     * @return the fastest of several replays of everything, the first ones only warm up the JIT
+     */
+    private static long timeReplay(MessageStore store) {
+        long fastest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int lower = 0; lower < MESSAGES / SENDERS; lower += REPLAY_WINDOW) {
+                assertEquals(REPLAY_WINDOW, store.range(SENDER, lower, lower + REPLAY_WINDOW - 1).size());
+            }
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+
+    private static int replays() {
+        return MESSAGES / SENDERS / REPLAY_WINDOW;
+    }
+}
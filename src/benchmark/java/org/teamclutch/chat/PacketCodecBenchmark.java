@@ -0,0 +1,40 @@
+package org.teamclutch.chat;
+
+import org.junit.Test;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+public class PacketCodecBenchmark {
+    private static final int PACKETS = 2000;
+    private static final int ROUNDS = 10;
+
+    /**
+     * Encodes and decodes the same packets with both codecs, the binary one must get through more of
+     * them in the same time.
+     */
+    @Test
+    public void binaryOutperformsLegacy() {
+        List<Message.Packet> packets = PacketCodecTest.packets(PACKETS);
+        double legacy = throughput(WireFormat.LEGACY_JSON, packets);
+        double binary = throughput(WireFormat.BINARY, packets);
+        System.out.printf("Codec round trips/s: legacy %.0f, binary %.0f (%.1fx)%n", legacy, binary, binary / legacy);
+        assertTrue("The binary codec should be faster than the legacy one", binary > legacy);
+    }
+
+    private static double throughput(WireFormat format, List<Message.Packet> packets) {
+        // The first rounds only warm up the JIT
+        for (int i = 0; i < ROUNDS / 2; i++) {
+            PacketCodecTest.roundTrip(format, packets);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            PacketCodecTest.roundTrip(format, packets);
+        }
+        long elapsed = System.nanoTime() - start;
+        return (double) ROUNDS * packets.size() / elapsed * TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,66 @@
+package org.teamclutch.chat;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Times searches of an index holding a million messages, answered the way a channel asking for them gets
+ * them. Words are picked with a skewed distribution, like in real chat, so common words have postings
+ * of hundreds of thousands of messages. The target is under 10ms a query.
+ */
+public class SearchIndexBenchmark {
+    private static final int MESSAGES = 1_000_000;
+    private static final int WORDS_PER_MESSAGE = 8;
+    private static final int VOCABULARY = 20_000;
+    private static final int QUERIES = 2000;
+
+    @Test
+    public void queryLatency() throws Exception {
+        Random random = new Random(1);
+        SearchIndex index = new SearchIndex();
+        long start = System.nanoTime();
+        index.addAll(consumer -> {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < MESSAGES; i++) {
+                text.setLength(0);
+                for (int w = 0; w < WORDS_PER_MESSAGE; w++) {
+                    text.append('w').append(word(random)).append(' ');
+                }
+                consumer.accept("server:" + i, new DataMessage("alice", "server", Integer.toString(i), text.toString()));
+            }
+        });
+        // The messages were built without a room, so they are in the lobby
+        SearchIndexTest.Searcher searcher = new SearchIndexTest.Searcher(index, Collections.singleton(RoomIndex.LOBBY));
+        // The first answer comes once everything is indexed
+        searcher.search("w1", 0, 1);
+        long indexing = System.nanoTime() - start;
+
+        long[] times = new long[QUERIES];
+        // The first round only warms up the JIT
+        for (int round = 0; round < 2; round++) {
+            for (int q = 0; q < QUERIES; q++) {
+                String query = "w" + word(random) + " w" + word(random);
+                long begin = System.nanoTime();
+                SearchResults results = searcher.search(query, 0, 20);
+                times[q] = System.nanoTime() - begin;
+                assertEquals(Math.min(20, results.total()), results.messageKeys().size());
+            }
+        }
+        Arrays.sort(times);
+        System.out.printf("Indexed %d messages in %.1fs; queries of two words: median %.2fms, p99 %.2fms, max %.2fms%n",
+                MESSAGES, indexing / 1e9, times[QUERIES / 2] / 1e6, times[QUERIES * 99 / 100] / 1e6,
+                times[QUERIES - 1] / 1e6);
+    }
+
+    /**
+     * @return a word number, small ones far more likely than large ones
+     */
+    private static int word(Random random) {
+        return (int) Math.pow(VOCABULARY, random.nextDouble());
+    }
+}
@@ -0,0 +1,21 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.Channel;
+import org.junit.Test;
+
+import java.util.List;
+
+public class UserRegistryBenchmark {
+    private static final int JOINS = 10000;
+    private static final int THREADS = 16;
+
+    @Test
+    public void concurrentJoins() throws InterruptedException {
+        List<Channel> channels = UserRegistryTest.channels(JOINS);
+        long begin = System.nanoTime();
+        UserRegistryTest.joinConcurrently(new UserRegistry(), channels, THREADS);
+        long elapsed = System.nanoTime() - begin;
+        System.out.printf("%d concurrent joins on %d threads: %.1fms, %.0f joins/s%n", JOINS, THREADS,
+                elapsed / 1e6, JOINS / (elapsed / 1e9));
+    }
+}
@@ -1,13 +1,13 @@
 package org.teamclutch;
 
-import com.google.common.eventbus.Subscribe;
 import org.jetbrains.annotations.NotNull;
 import org.teamclutch.chat.Chat;
 import org.teamclutch.chat.DataMessage;
+import org.teamclutch.chat.MessageListener;
 
 import java.util.Scanner;
 
-public class Main {
+public class Main implements MessageListener {
     private Chat chat;
 
     public static void main(String[] args) {
@@ -36,9 +36,14 @@ public class Main {
                         System.err.println("This is a test message!");
                     } else if (s.equals("server")) {
                         System.err.println("Server is" + (chat.isServerUp() ? " " : " not ") + "running!");
+                    } else if (s.equals("stats")) {
+                        System.err.println(chat.metrics());
+                    } else if (s.equals("rtt")) {
+                        System.err.println("Connection: " + chat.roundTripTimes());
+                        chat.metrics().serverRtt().forEach((server, rtt) -> System.err.println(server + ": " + rtt));
                     }
-                } else {
-                    chat.newMessage(s);
+                } else if (!chat.newMessage(s)) {
+                    System.err.println("Too many messages are waiting to be sent, try again.");
                 }
             } catch (IllegalStateException ex) {
                 if (!chat.isRunning()) {
@@ -60,8 +65,8 @@ public class Main {
         System.out.print("\033[2K"); // Erase line content
     }
 
-    @Subscribe
-    public void newMessage(DataMessage message) {
+    @Override
+    public void onMessage(@NotNull DataMessage message) {
         @NotNull String username = message.username();
         if (username.equals(chat.config().username())) {
             username = "me";
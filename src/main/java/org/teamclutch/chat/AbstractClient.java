@@ -3,19 +3,20 @@ package org.teamclutch.chat;
 import com.google.common.base.Throwables;
 import com.google.common.util.concurrent.AbstractExecutionThreadService;
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.teamclutch.chat.protobuf.Message;
 
 import javax.net.ssl.SSLException;
 
@@ -26,7 +27,8 @@ abstract class AbstractClient extends AbstractExecutionThreadService {
 
     @Nullable
     private SslContext sslContext;
-    private final EventLoopGroup group = new NioEventLoopGroup();
+    private final Transport transport = Transport.select(true);
+    private final EventLoopGroup group = transport.newGroup(0);
 
     AbstractClient(ClientConfig config, String host) {
         HOST = host;
@@ -52,7 +54,8 @@ abstract class AbstractClient extends AbstractExecutionThreadService {
     @NotNull Bootstrap bootstrap() {
         Bootstrap b = new Bootstrap();
         b.group(eventLoopGroup())
-                .channel(NioSocketChannel.class)
+                .channel(transport.channel())
+                .option(ChannelOption.TCP_NODELAY, true)
                 .handler(new ClientInitializer());
         return b;
     }
@@ -64,7 +67,10 @@ abstract class AbstractClient extends AbstractExecutionThreadService {
         return false;
     }
 
-    protected abstract void channelRead(ChannelHandlerContext ctx, String msg);
+    protected abstract void channelRead(ChannelHandlerContext ctx, Message.Packet msg);
+
+    protected void writabilityChanged(ChannelHandlerContext ctx) {
+    }
 
     private final class ClientInitializer extends ChannelInitializer<SocketChannel> {
         @Override
@@ -74,16 +80,24 @@ abstract class AbstractClient extends AbstractExecutionThreadService {
     }
 
     @Contract(pure = true)
-    final SimpleChannelInboundHandler<String> handler() {
+    final SimpleChannelInboundHandler<Message.Packet> handler() {
         return clientHandler;
     }
 
-    private final class ClientHandler extends SimpleChannelInboundHandler<String> {
+    // Every reconnect adds the handler to a new pipeline
+    @ChannelHandler.Sharable
+    private final class ClientHandler extends SimpleChannelInboundHandler<Message.Packet> {
         @Override
-        protected void channelRead0(ChannelHandlerContext ctx, String msg) throws Exception {
+        protected void channelRead0(ChannelHandlerContext ctx, Message.Packet msg) throws Exception {
             AbstractClient.this.channelRead(ctx, msg);
         }
 
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+            AbstractClient.this.writabilityChanged(ctx);
+            super.channelWritabilityChanged(ctx);
+        }
+
         @Override
         public void exceptionCaught(@NotNull ChannelHandlerContext ctx, @NotNull Throwable throwable) {
             try {
@@ -0,0 +1,164 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Brings peer nodes back in line after they missed each other's messages, by comparing their
+ * {@link MerkleSummary summaries} top down. Only the nodes whose hashes differ are looked at further, so
+ * the traffic grows with the difference and not with the history.
+ * <p>
+ * The exchange rides on {@code DataRequest} packets whose ids start with {@link #PREFIX}:
+ * <ul>
+ * <li>{@code sync:*&#47;hash} compares the hash of everything held. On a mismatch the receiver answers
+ * with {@code sync:*&#47;roots}, which asks for the other side's roots.</li>
+ * <li>{@code sync:*&#47;senders/sender=hash/...} lists the root hash of every sender. The receiver compares
+ * them with its own, a sender missing on either side having the hash 0.</li>
+ * <li>{@code sync:sender/level/index/hash,...} lists the hashes of consecutive nodes of a sender's tree.
+ * For every node that differs the receiver answers with its own hashes of that node's children, so the
+ * two sides take turns going one level down.</li>
+ * <li>A leaf that differs is settled in both directions at once: its range is requested with a plain
+ * {@code sender:lower-upper} request, and the messages held for it are sent as one {@code DataPackage}.</li>
+ * </ul>
+ * The side that started the comparison sends the roots, and as the root level is odd it is also the one
+ * that compares the leaves. So only the initiator requests ranges, once per differing leaf.
+ */
+final class AntiEntropy {
+    static final String PREFIX = "sync:";
+    private static final String ALL = "*";
+    private static final String ROOTS = "roots";
+    private static final String SENDERS = "senders";
+
+    private final MerkleSummary summary;
+    private final MessageStore store;
+
+    AntiEntropy(@NotNull MerkleSummary summary, @NotNull MessageStore store) {
+        this.summary = summary;
+        this.store = store;
+    }
+
+    /**
+     * Starts a comparison with a peer, which costs a single packet while both hold the same messages.
+     */
+    void compare(@NotNull Channel peer) {
+        peer.writeAndFlush(request(ALL + '/' + Long.toHexString(summary.hash())));
+    }
+
+    /**
+     * Handles a request whose id starts with {@link #PREFIX}.
+     */
+    void onRequest(@NotNull ChannelHandlerContext ctx, @NotNull String id) {
+        String[] parts = id.substring(PREFIX.length()).split("/");
+        try {
+            if (parts.length >= 2 && ALL.equals(parts[0]) && SENDERS.equals(parts[1])) {
+                compareRoots(ctx, Arrays.copyOfRange(parts, 2, parts.length));
+            } else if (parts.length == 2 && ALL.equals(parts[0])) {
+                if (ROOTS.equals(parts[1])) {
+                    ctx.write(roots());
+                } else if (Long.parseUnsignedLong(parts[1], 16) != summary.hash()) {
+                    ctx.write(request(ALL + '/' + ROOTS));
+                }
+            } else if (parts.length == 4) {
+                compareNodes(ctx, parts[0], Integer.parseInt(parts[1]), Long.parseLong(parts[2]), parts[3].split(","));
+            }
+        } catch (NumberFormatException ex) {
+            if (Chat.DEBUG_VERSION) {
+                System.err.println("Malformed sync request " + id);
+            }
+        }
+        ctx.flush();
+    }
+
+    @NotNull
+    private Message.Packet roots() {
+        StringBuilder id = new StringBuilder(ALL).append('/').append(SENDERS);
+        for (String sender : summary.senders()) {
+            id.append('/').append(sender).append('=')
+                    .append(Long.toHexString(summary.hash(sender, MerkleSummary.ROOT_LEVEL, 0)));
+        }
+        return request(id.toString());
+    }
+
+    private void compareRoots(@NotNull ChannelHandlerContext ctx, @NotNull String[] roots) {
+        Map<String, Long> theirs = new HashMap<>();
+        for (String root : roots) {
+            int split = root.lastIndexOf('=');
+            if (split > 0) {
+                theirs.put(root.substring(0, split), Long.parseUnsignedLong(root.substring(split + 1), 16));
+            }
+        }
+        Set<String> senders = new HashSet<>(summary.senders());
+        senders.addAll(theirs.keySet());
+        for (String sender : senders) {
+            if (theirs.getOrDefault(sender, 0L) != summary.hash(sender, MerkleSummary.ROOT_LEVEL, 0)) {
+                ctx.write(nodes(sender, MerkleSummary.ROOT_LEVEL - 1, 0,
+                        summary.children(sender, MerkleSummary.ROOT_LEVEL, 0)));
+            }
+        }
+    }
+
+    private void compareNodes(@NotNull ChannelHandlerContext ctx, @NotNull String sender, int level, long index,
+                              @NotNull String[] hashes) {
+        if (level < 0 || level >= MerkleSummary.ROOT_LEVEL || hashes.length > MerkleSummary.FAN_OUT) {
+            return;
+        }
+        for (int i = 0; i < hashes.length; i++) {
+            long node = index + i;
+            if (Long.parseUnsignedLong(hashes[i], 16) == summary.hash(sender, level, node)) {
+                continue;
+            }
+            if (level == 0) {
+                syncLeaf(ctx, sender, node);
+            } else {
+                ctx.write(nodes(sender, level - 1, node * MerkleSummary.FAN_OUT,
+                        summary.children(sender, level, node)));
+            }
+        }
+    }
+
+    private void syncLeaf(@NotNull ChannelHandlerContext ctx, @NotNull String sender, long leaf) {
+        long lower = leaf * MerkleSummary.LEAF_SPAN;
+        long upper = lower + MerkleSummary.LEAF_SPAN - 1;
+        ctx.write(DataMessage.createMessageRequest(sender, lower, upper));
+
+        List<DataMessage> held = store.range(sender, lower, upper);
+        if (!held.isEmpty()) {
+            ctx.write(DataMessage.createDataPackage(held.toArray(new DataMessage[held.size()])));
+        }
+    }
+
+    @NotNull
+    private static Message.Packet nodes(@NotNull String sender, int level, long index, @NotNull long[] hashes) {
+        StringBuilder id = new StringBuilder().append(sender).append('/').append(level).append('/').append(index)
+                .append('/');
+        for (int i = 0; i < hashes.length; i++) {
+            if (i > 0) {
+                id.append(',');
+            }
+            id.append(Long.toHexString(hashes[i]));
+        }
+        return request(id.toString());
+    }
+
+    @NotNull
+    private static Message.Packet request(@NotNull String id) {
+        return DataMessage.createRequest(PREFIX + id);
+    }
+
+    /**
+     * @return whether the request belongs to this exchange
+     */
+    static boolean isSyncRequest(@Nullable String id) {
+        return id != null && id.startsWith(PREFIX);
+    }
+}
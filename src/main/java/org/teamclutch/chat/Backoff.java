@@ -0,0 +1,36 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exponential backoff with full jitter. Each delay is drawn uniformly from zero up to a ceiling that
+ * doubles with every attempt, so clients that lost the same server spread their retries out instead of
+ * arriving together.
+ */
+final class Backoff {
+    private final long initialMillis;
+    private final long maxMillis;
+    private int attempts;
+
+    Backoff(@NotNull ClientConfig config) {
+        this.initialMillis = config.reconnectBackoffInitial(TimeUnit.MILLISECONDS);
+        this.maxMillis = config.reconnectBackoffMax(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return how long to wait before the next attempt, in milliseconds
+     */
+    long nextDelayMillis() {
+        // Stop doubling well before the shift overflows
+        long ceiling = Math.min(maxMillis, initialMillis << Math.min(attempts, 30));
+        attempts++;
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    void reset() {
+        attempts = 0;
+    }
+}
@@ -0,0 +1,133 @@
+package org.teamclutch.chat;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.jetbrains.annotations.NotNull;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The recent messages of a room that a user who just joined it is sent, so it doesn't start out empty.
+ * <p>
+ * A {@code Snapshot} carries the room and the deflated {@code DataPackage} of its messages. Each room's
+ * snapshot is built once, off the event loops, and handed to every join until the room changes, so a
+ * burst of joins costs one compression.
+ */
+final class CatchUpSnapshots {
+    private final int messages;
+    private final long windowMillis;
+    private final Executor builder;
+    private final ConcurrentHashMap<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * @param builder runs the builds of snapshots
+     */
+    CatchUpSnapshots(@NotNull ServerConfig config, @NotNull Executor builder) {
+        this.messages = config.catchUpMessages();
+        this.windowMillis = config.catchUpWindow(TimeUnit.MILLISECONDS);
+        this.builder = builder;
+    }
+
+    /**
+     * @param lookup finds a held message by its cache key
+     * @return the snapshot of the room once it is built, {@code null} if it has nothing to catch up on
+     */
+    @NotNull
+    CompletableFuture<Message.Packet> snapshot(@NotNull String room, @NotNull RoomTimeline timeline,
+                                               @NotNull Function<String, DataMessage> lookup) {
+        if (messages == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long version = timeline.version(room);
+        Snapshot fresh = new Snapshot(version);
+        // Joins that come while a snapshot is built share it instead of building their own
+        Snapshot snapshot = snapshots.compute(room,
+                (r, cached) -> cached != null && cached.version == version ? cached : fresh);
+        if (snapshot == fresh) {
+            builder.execute(() -> {
+                try {
+                    long since = windowMillis > 0 ? System.currentTimeMillis() - windowMillis : Long.MIN_VALUE;
+                    List<DataMessage> recent = timeline.recent(room, messages, since, lookup);
+                    fresh.packet.complete(recent.isEmpty() ? null : encode(room, recent));
+                } catch (RuntimeException ex) {
+                    // The next join builds it again
+                    snapshots.remove(room, fresh);
+                    fresh.packet.completeExceptionally(ex);
+                }
+            });
+        }
+        return snapshot.packet;
+    }
+
+    @NotNull
+    static Message.Packet encode(@NotNull String room, @NotNull List<DataMessage> recent) {
+        Message.DataPackage.Builder pkg = Message.DataPackage.newBuilder();
+        for (DataMessage message : recent) {
+            pkg.addMessages(message.createMessage());
+        }
+        Deflater deflater = new Deflater();
+        deflater.setInput(pkg.build().toByteArray());
+        deflater.finish();
+        ByteString.Output compressed = ByteString.newOutput();
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+
+        return Message.Packet.newBuilder().setSnapshot(Message.Snapshot.newBuilder()
+                .setRoom(room).setDeflated(compressed.toByteString())).build();
+    }
+
+    /**
+     * @return the messages of a snapshot, oldest first
+     * @throws IllegalArgumentException if the snapshot is corrupted
+     */
+    @NotNull
+    static List<DataMessage> decode(@NotNull Message.Snapshot snapshot) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(snapshot.getDeflated().toByteArray());
+            ByteArrayOutputStream raw = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && inflater.needsInput()) {
+                    throw new IllegalArgumentException("The snapshot is cut short");
+                }
+                raw.write(buffer, 0, inflated);
+            }
+            List<Message.Data> data = Message.DataPackage.parseFrom(raw.toByteArray()).getMessagesList();
+            List<DataMessage> messages = new ArrayList<>(data.size());
+            for (Message.Data message : data) {
+                messages.add(new DataMessage(message));
+            }
+            return messages;
+        } catch (DataFormatException | InvalidProtocolBufferException ex) {
+            throw new IllegalArgumentException("The snapshot is corrupted", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Snapshot {
+        final long version;
+        // Completed with null if the room has nothing to catch up on
+        final CompletableFuture<Message.Packet> packet = new CompletableFuture<>();
+
+        Snapshot(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package org.teamclutch.chat;
 
-import com.google.common.eventbus.DeadEvent;
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
+import com.google.common.primitives.Longs;
 import com.google.common.util.concurrent.AbstractIdleService;
 import com.google.common.util.concurrent.Service;
 import com.google.common.util.concurrent.ServiceManager;
@@ -10,15 +8,20 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.SynchronousQueue;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public class Chat extends AbstractIdleService {
@@ -26,17 +29,26 @@ public class Chat extends AbstractIdleService {
 
     public static final int PORT = 8226;
     private final static List<Chat> instances = Collections.synchronizedList(new LinkedList<>());
-    private final EventBus eventBus;
+    private final EventDispatcher dispatcher;
     private final ClientConfig clientConfig;
-    private final ConcurrentLinkedQueue<DataMessage> messageQueue = new ConcurrentLinkedQueue<>();
-    private final SynchronousQueue<String> messageSendQueue = new SynchronousQueue<>(true);
+    private final ChatMetrics metrics = new ChatMetrics();
+    private final ServerConfig serverConfig = new ServerConfig();
+    private volatile BlockingQueue<DataMessage> messageQueue;
+    /**
+     * Messages read after the queue filled up under {@link InboundOverflowPolicy#BLOCK}, while reading
+     * stops. Guards the pause along with it.
+     */
+    private final Queue<DataMessage> inboundOverflow = new ArrayDeque<>();
+    private volatile boolean inboundFull;
+    private int inboundPauses;
+    private final MessagePublisher publisher;
     private final ChatClient chatClient;
     private final ChatServer chatServer;
     private ServiceManager serviceManager;
     private volatile boolean serverUp = false;
     private final String host;
 
-    public Chat(@NotNull String host, @NotNull String username, @Nullable String password, int port, @Nullable Object caller) {
+    public Chat(@NotNull String host, @NotNull String username, @Nullable String password, int port, @Nullable MessageListener caller) {
         clientConfig = new ClientConfig();
         this.host = checkNotNull(host);
         while (password == null) {
@@ -75,24 +87,24 @@ public class Chat extends AbstractIdleService {
         clientConfig.configureClient(username, password, port);
 
         instances.add(this);
-        eventBus = new EventBus(this.getClass().getSimpleName() + '#' + instances.size());
+        dispatcher = new EventDispatcher(this.getClass().getSimpleName() + '#' + instances.size(), clientConfig,
+                metrics);
 
+        publisher = new MessagePublisher(clientConfig, ForkJoinPool.commonPool(), this::subscriberSaturationChanged);
         chatClient = new ChatClient(this);
         chatServer = new ChatServer(this);
         serviceManager = new ServiceManager(Arrays.asList(chatClient, chatServer));
 
         if (caller != null) {
-            eventBus.register(caller);
+            dispatcher.register(caller);
         }
-
-        eventBus.register(this);
     }
 
     public Chat(@NotNull String host, @NotNull String username, @Nullable String password) {
         this(host, username, password, PORT, null);
     }
 
-    public Chat(@NotNull String host, @NotNull String username, @Nullable String password, @NotNull Object caller) {
+    public Chat(@NotNull String host, @NotNull String username, @Nullable String password, @NotNull MessageListener caller) {
         this(host, username, password, PORT, caller);
     }
 
@@ -110,6 +122,8 @@ public class Chat extends AbstractIdleService {
 
     @Override
     protected void startUp() throws Exception {
+        messageQueue = new ArrayBlockingQueue<>(clientConfig.inboundQueueCapacity());
+        metrics.inboundQueue(messageQueue);
         serviceManager.startAsync();
         serviceManager.awaitHealthy(5, TimeUnit.SECONDS);
         serviceManager.addListener(new ServiceManager.Listener() {
@@ -122,51 +136,180 @@ public class Chat extends AbstractIdleService {
 
     @Override
     protected void shutDown() throws Exception {
+        publisher.complete();
         serviceManager.stopAsync();
         serviceManager.awaitStopped(5, TimeUnit.SECONDS);
+        dispatcher.shutdown();
     }
 
+    /**
+     * Waits for the next received message. Only the most recent messages are kept, see
+     * {@link ClientConfig#inboundQueueCapacity(int)}.
+     *
+     * @throws IllegalStateException if the session was never started
+     */
     @NotNull
     public DataMessage getNextMessage() throws InterruptedException {
-        while (messageQueue.isEmpty()) {
-            synchronized (messageQueue) {
-                messageQueue.wait();
-            }
+        BlockingQueue<DataMessage> queue = messageQueue;
+        if (queue == null) {
+            throw new IllegalStateException("The session hasn't been started");
         }
-        synchronized (messageQueue) {
-            return messageQueue.poll();
+        DataMessage message = queue.take();
+        if (inboundFull) {
+            refillInbound(queue);
         }
+        return message;
+    }
+
+    /**
+     * Calls the listener with every message received from now on. Listeners run on a thread of their own,
+     * so a slow listener neither blocks the connection nor the other listeners, see
+     * {@link ClientConfig#listenerMailboxSize(int)}.
+     */
+    public void addListener(@NotNull MessageListener listener) {
+        dispatcher.register(checkNotNull(listener));
+    }
+
+    public void removeListener(@NotNull MessageListener listener) {
+        dispatcher.unregister(checkNotNull(listener));
+    }
+
+    /**
+     * Received messages as a stream that only delivers as many messages as each subscriber asks for.
+     * A subscriber that falls behind stops the connection from reading, rather than messages piling up.
+     */
+    @NotNull
+    public MessagePublisher messages() {
+        return publisher;
+    }
+
+    private void subscriberSaturationChanged() {
+        chatClient.updateAutoRead();
+    }
+
+    /**
+     * @return whether reading stopped because the inbound queue is full, see {@link InboundOverflowPolicy#BLOCK}
+     */
+    boolean isInboundFull() {
+        return inboundFull;
     }
 
     void newMessageReceived(@NotNull DataMessage message) {
-        synchronized (messageQueue) {
-            messageQueue.add(message);
-            messageQueue.notifyAll();
+        enqueue(message);
+        publisher.publish(message);
+        dispatcher.post(message);
+    }
+
+    private void enqueue(@NotNull DataMessage message) {
+        BlockingQueue<DataMessage> queue = messageQueue;
+        switch (clientConfig.inboundOverflowPolicy()) {
+            case DROP_NEWEST:
+                if (!queue.offer(message)) {
+                    metrics.inboundDropped();
+                }
+                break;
+            case BLOCK:
+                // Called on the IO thread, which mustn't wait for the queue. Reading stops instead, and what
+                // the current read still holds waits next to the queue.
+                synchronized (inboundOverflow) {
+                    if (!inboundOverflow.isEmpty() || !queue.offer(message)) {
+                        inboundOverflow.add(message);
+                    }
+                    if (queue.remainingCapacity() == 0 && !inboundFull) {
+                        inboundFull = true;
+                        final int pause = ++inboundPauses;
+                        chatClient.updateAutoRead();
+                        chatClient.eventLoopGroup().schedule(() -> inboundBlockExpired(pause),
+                                clientConfig.inboundBlockTimeout(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+                    }
+                }
+                break;
+            case DROP_OLDEST:
+            default:
+                while (!queue.offer(message)) {
+                    if (queue.poll() != null) {
+                        metrics.inboundDropped();
+                    }
+                }
+                break;
         }
+    }
 
-        eventBus.post(message);
+    /**
+     * Moves waiting messages into the queue once it has room, and reads again once all of them fit.
+     */
+    private void refillInbound(@NotNull BlockingQueue<DataMessage> queue) {
+        synchronized (inboundOverflow) {
+            while (!inboundOverflow.isEmpty() && queue.offer(inboundOverflow.peek())) {
+                inboundOverflow.remove();
+            }
+            if (inboundFull && inboundOverflow.isEmpty() && queue.remainingCapacity() > 0) {
+                inboundFull = false;
+                chatClient.updateAutoRead();
+            }
+        }
     }
 
-    public void newMessage(@NotNull String message) {
-        try {
-            if (this.isRunning() && chatClient.isRunning()) {
-                messageSendQueue.put(message);
-            } else {
-                throw new IllegalStateException("Session disconnected :(");
+    /**
+     * Drops the messages that waited for the whole timeout and reads again.
+     */
+    private void inboundBlockExpired(int pause) {
+        synchronized (inboundOverflow) {
+            if (inboundFull && inboundPauses == pause) {
+                for (int i = inboundOverflow.size(); i > 0; i--) {
+                    metrics.inboundDropped();
+                }
+                inboundOverflow.clear();
+                inboundFull = false;
+                chatClient.updateAutoRead();
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         }
     }
 
-    @NotNull
-    String getNextMessageToSend() throws InterruptedException {
-        String poll = messageSendQueue.poll();
-        while (poll == null) {
-            Thread.yield();
-            poll = messageSendQueue.poll();
+    /**
+     * Queues a message to be sent, this never blocks.
+     *
+     * @return {@code false} if the message was not queued because too many are still waiting to be sent
+     * @throws IllegalStateException if the session has ended
+     */
+    public boolean newMessage(@NotNull String message) {
+        if (this.isRunning() && chatClient.isRunning()) {
+            return chatClient.send(checkNotNull(message));
+        } else {
+            throw new IllegalStateException("Session disconnected :(");
         }
-        return poll;
+    }
+
+    /**
+     * Searches the messages the server holds for any of the words of the query, the messages using them
+     * most, and using the rarest of them, come first.
+     *
+     * @param offset how many of the best matches to skip
+     * @param limit  the most matches to return, at most 100
+     * @return a page of matches, which fails if the server doesn't answer in time
+     */
+    @NotNull
+    public CompletableFuture<SearchResults> search(@NotNull String query, int offset, int limit) {
+        checkArgument(offset >= 0, "The offset can't be negative");
+        checkArgument(limit > 0 && limit <= SearchIndex.MAX_LIMIT, "The limit must be from 1 to 100");
+        return chatClient.search(checkNotNull(query), offset, limit);
+    }
+
+    /**
+     * Loads a page of the current room's earlier messages from the server, in one request. While the page
+     * is read the one before it is already fetched, so paging back through a room rarely waits.
+     *
+     * @param cursor {@code null} for the newest messages, or the {@link HistoryPage#nextCursor()} of the
+     *               page after the one wanted. Cursors are only valid on the server that handed them out.
+     * @param limit  the most messages on the page, at most 200
+     * @return the page, which fails if the server doesn't answer in time
+     */
+    @NotNull
+    public CompletableFuture<HistoryPage> history(@Nullable String cursor, int limit) {
+        checkArgument(limit > 0 && limit <= RoomTimeline.MAX_LIMIT, "The limit must be from 1 to 200");
+        Long position = cursor == null ? null : Longs.tryParse(cursor);
+        checkArgument(cursor == null || position != null && position > 0, "Not a cursor: %s", cursor);
+        return chatClient.history(cursor, limit);
     }
 
     @NotNull
@@ -174,6 +317,25 @@ public class Chat extends AbstractIdleService {
         return clientConfig;
     }
 
+    @NotNull
+    public ServerConfig serverConfig() {
+        return serverConfig;
+    }
+
+    @NotNull
+    public ChatMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Heartbeat round trip times of the current connection, which start over whenever the client
+     * reconnects. See {@link ChatMetrics#serverRtt()} for the times of every server.
+     */
+    @NotNull
+    public RttHistogram roundTripTimes() {
+        return metrics.connectionRtt();
+    }
+
     void gracefullyEnd() {
         this.stopAsync();
     }
@@ -191,24 +353,12 @@ public class Chat extends AbstractIdleService {
         return serverUp;
     }
 
-    EventBus eventBus() {
-        return eventBus;
+    EventDispatcher dispatcher() {
+        return dispatcher;
     }
 
     public String host() {
         return host;
     }
 
-
-    @Subscribe
-    void deadEvents(DeadEvent dead) {
-        if (DEBUG_VERSION) {
-            System.err.println("\n[CLIENT]> [DEAD_EVENT] Event:\n" + dead.getEvent());
-        }
-    }
-
-    @Subscribe
-    void blackhole(DataMessage message) {
-
-    }
 }
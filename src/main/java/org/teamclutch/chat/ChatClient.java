@@ -3,37 +3,100 @@ package org.teamclutch.chat;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.*;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.handler.codec.DelimiterBasedFrameDecoder;
-import io.netty.handler.codec.Delimiters;
-import io.netty.handler.codec.string.StringDecoder;
-import io.netty.handler.codec.string.StringEncoder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.teamclutch.chat.protobuf.Message;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
-import static org.teamclutch.chat.DataMessage.encode;
-
 class ChatClient extends AbstractClient {
+    /**
+     * Most messages written per event loop task before other work gets a turn.
+     */
+    private static final int MAX_SEND_BATCH = 256;
+    /**
+     * How much lower another server's score must be than the current one's before the client moves.
+     */
+    private static final double MIGRATION_SCORE_RATIO = 0.5;
+    /**
+     * Short enough that a dead server doesn't hold up trying the next one.
+     */
+    private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+    /**
+     * How long a server has to answer the binary preamble, the TLS handshake included.
+     */
+    private static final long ANSWER_TIMEOUT_MILLIS = 5000;
+    /**
+     * How long a request waits for its answer.
+     */
+    private static final long REQUEST_TIMEOUT_MILLIS = 5000;
+    /**
+     * How many delivered messages are remembered, enough for the catch-up snapshots of a reconnect.
+     */
+    private static final int DELIVERED_KEYS = 1024;
+
     private final Chat instance;
     private final List<String> servers = Collections.synchronizedList(new ArrayList<>());
+    // Servers that didn't answer the binary preamble, they are spoken to in JSON
+    private final Set<String> legacyServers = ConcurrentHashMap.newKeySet();
+    private volatile ArrayBlockingQueue<String> sendQueue;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private volatile Channel channel;
+    private volatile String server;
+    private volatile String migratingTo;
+    private long lostAt;
+    private volatile long connectedAt;
+    private final ServerSelector selector;
+    private volatile boolean exitRequested;
+    private final AtomicLong nextTag = new AtomicLong();
+    // Requests waiting for their answer, by prefix and tag
+    private final ConcurrentHashMap<String, CompletableFuture<Message.Packet>> pending = new ConcurrentHashMap<>();
+    private volatile Prefetch prefetch;
+    // Snapshots after a reconnect repeat messages that were already passed on
+    private final RecentKeys delivered = new RecentKeys(DELIVERED_KEYS);
 
     ChatClient(Chat instance) {
         super(instance.config(), instance.host());
         this.instance = instance;
         servers.add(HOST);
+        selector = new ServerSelector(bootstrap(), sslContext(), instance.config(), instance.metrics(),
+                this::wireFormat);
+    }
+
+    @Override
+    protected void startUp() throws Exception {
+        sendQueue = new ArrayBlockingQueue<>(instance.config().sendQueueCapacity());
     }
 
     @Override
     protected void run() throws Exception {
-        boolean exit = false;
-        while (isRunning() && !exit) {
-            try {
-                Bootstrap b = bootstrap();
+        final ClientConfig clientConfig = instance.config();
+        final long reevaluation = clientConfig.serverReevaluationInterval(TimeUnit.MILLISECONDS);
+        if (reevaluation > 0) {
+            // Stops along with the event loops
+            eventLoopGroup().scheduleAtFixedRate(this::reevaluate, reevaluation, reevaluation, TimeUnit.MILLISECONDS);
+        }
+
+        final Backoff backoff = new Backoff(clientConfig);
+        // Servers that failed since the last working connection, skipped until every server has failed
+        final Set<String> failed = new HashSet<>();
+        try {
+            while (isRunning() && !exitRequested) {
+                Bootstrap b = bootstrap().option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS);
 
                 // Start the connection attempt.
                 while (isRunning() && servers.isEmpty()) {
@@ -43,51 +106,301 @@ class ChatClient extends AbstractClient {
                 }
                 final Channel ch;
 
+                final String target = selectServer(failed);
+                final long connectingSince = System.nanoTime();
                 try {
-                    synchronized (servers) {
-                        ch = b.connect(servers.get(0), PORT).sync().channel();
+                    server = target;
+                    ch = b.connect(target, PORT).sync().channel();
+                    if (!negotiate(ch, target)) {
+                        // The server is up, it only has to be spoken to in JSON
+                        continue;
                     }
                 } catch (Exception ex) {
-                    System.err.println("Attempt to connect failed to " + servers.get(0));
-                    Thread.sleep(5000);
+                    System.err.println("Attempt to connect failed to " + target);
+                    failed.add(target);
+                    if (failed.containsAll(knownServers())) {
+                        // A whole round failed, wait before starting over
+                        failed.clear();
+                        Thread.sleep(backoff.nextDelayMillis());
+                    }
                     continue;
                 }
+                backoff.reset();
+                failed.clear();
+                if (lostAt != 0) {
+                    instance.metrics().reconnected(System.nanoTime() - lostAt);
+                    lostAt = 0;
+                }
 
-                // Read commands from the stdin.
-                ChannelFuture lastWriteFuture;
-                final ClientConfig clientConfig = instance.config();
-                ch.writeAndFlush(encode(DataMessage.createNewUserRequest(clientConfig)));
-                while (isRunning()) {
-                    String line = instance.getNextMessageToSend();
-                    // Sends the received line to the server.
-                    Message.Packet message = DataMessage.createMessage(clientConfig, line);
-                    @NotNull String encode = encode(message);
-                    lastWriteFuture = ch.writeAndFlush(encode);
-                    if (!lastWriteFuture.await(1, TimeUnit.SECONDS) && !ch.closeFuture().await(1, TimeUnit.SECONDS)) {
-                        ch.write(DataMessage.createMessage(clientConfig, "exit"));
-                        continue;
-                    }
+                // Every connection, including a reconnect, announces the user again
+                connectedAt = System.nanoTime();
+                ch.writeAndFlush(DataMessage.createNewUserRequest(clientConfig));
 
-                    // If user typed the 'exit' command, wait until the server closes
-                    // the connection.
-                    if ("exit".equals(line.toLowerCase())) {
-                        System.out.print("\nWaiting last write...");
-                        lastWriteFuture.await(1000);
-                        System.out.print("\rWaiting client exit...");
-                        ch.closeFuture().await(5000);
-                        System.out.println("\rBye!");
-                        exit = true;
-                        break;
-                    }
-                }
-            } finally {
-                // The connection is closed automatically on shutdown.
-                eventLoopGroup().shutdownGracefully();
-                instance.gracefullyEnd();
-                while (isRunning()) {
-                    Thread.yield();
+                // From here on messages are written by the event loop as they are queued
+                channel = ch;
+                updateAutoRead();
+                scheduleDrain();
+                ch.closeFuture().await();
+                channel = null;
+                // Anything but a requested exit, such as missed heartbeats, means connecting again
+                if (migratingTo != null) {
+                    System.err.println("Moving from " + target + " to " + migratingTo);
+                } else if (!exitRequested && isRunning()) {
+                    System.err.println("Lost the connection to " + target + ", reconnecting");
+                    lostAt = System.nanoTime();
+                    failed.add(target);
+                    // Clients of the same server all notice at once, spread them out a little
+                    Thread.sleep(backoff.nextDelayMillis());
                 }
             }
+
+            if (exitRequested) {
+                System.out.println("\rBye!");
+            }
+        } finally {
+            // The connection is closed automatically on shutdown.
+            eventLoopGroup().shutdownGracefully();
+            instance.gracefullyEnd();
+        }
+    }
+
+    /**
+     * @return the framing to ask the server for
+     */
+    @NotNull
+    WireFormat wireFormat(@NotNull String server) {
+        return legacyServers.contains(server) ? WireFormat.LEGACY_JSON : instance.config().wireFormat();
+    }
+
+    /**
+     * Asks the server of a new binary connection to answer the preamble. One that predates the binary
+     * format is spoken to in JSON from then on, and the connection, which it can't make sense of, is closed.
+     *
+     * @return whether the connection can be used
+     */
+    private boolean negotiate(@NotNull Channel ch, @NotNull String target) throws Exception {
+        if (wireFormat(target) != WireFormat.BINARY) {
+            return true;
+        }
+        ch.writeAndFlush(PacketCodec.newPreamble());
+        final WireFormat answer;
+        try {
+            answer = PacketCodec.answer(ch).get(ANSWER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            ch.close();
+            throw ex;
+        }
+        if (answer == WireFormat.BINARY) {
+            return true;
+        }
+        System.err.println(target + " predates the binary format, connecting again in JSON");
+        legacyServers.add(target);
+        return false;
+    }
+
+    /**
+     * @return the server a migration was started for, or else the best known server that hasn't failed
+     * lately and answers a probe
+     */
+    @NotNull
+    private String selectServer(@NotNull Set<String> failed) throws InterruptedException {
+        String target = migratingTo;
+        if (target != null) {
+            migratingTo = null;
+            return target;
+        }
+
+        List<String> candidates = knownServers();
+        if (!failed.containsAll(candidates)) {
+            candidates.removeAll(failed);
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        try {
+            List<ServerSelector.Probe> probes = selector.probeAll(candidates).get();
+            return probes.isEmpty() ? candidates.get(0) : probes.get(0).server();
+        } catch (ExecutionException ex) {
+            return candidates.get(0);
+        }
+    }
+
+    /**
+     * Probes the known servers and drops the current connection if one of them is much better, the
+     * run loop then connects to it.
+     */
+    private void reevaluate() {
+        final Channel ch = channel;
+        final String current = server;
+        if (ch == null || migratingTo != null || knownServers().size() < 2) {
+            return;
+        }
+
+        selector.probeAll(knownServers()).thenAccept(probes -> {
+            if (probes.isEmpty() || probes.get(0).server().equals(current) || channel != ch) {
+                return;
+            }
+            ServerSelector.Probe best = probes.get(0);
+            double currentScore = probes.stream().filter(probe -> probe.server().equals(current))
+                    .mapToDouble(ServerSelector.Probe::score).findFirst().orElse(Double.POSITIVE_INFINITY);
+            if (best.score() < currentScore * MIGRATION_SCORE_RATIO) {
+                migratingTo = best.server();
+                ch.close();
+            }
+        });
+    }
+
+    @NotNull
+    private List<String> knownServers() {
+        synchronized (servers) {
+            return new ArrayList<>(servers);
+        }
+    }
+
+    @Override
+    protected void triggerShutdown() {
+        Channel ch = channel;
+        if (ch != null) {
+            ch.close();
+        }
+    }
+
+    /**
+     * Stops reading from the server while a subscriber of {@link Chat#messages()} can't keep up, or the
+     * inbound queue is full.
+     */
+    void updateAutoRead() {
+        Channel ch = channel;
+        if (ch != null) {
+            ch.eventLoop().execute(() -> ch.config().setAutoRead(!instance.messages().isSaturated()
+                    && !instance.isInboundFull()));
+        }
+    }
+
+    /**
+     * Queues a message to be sent without waiting for it to be written.
+     *
+     * @return {@code false} if too many messages are already waiting
+     */
+    boolean send(@NotNull String line) {
+        if (!sendQueue.offer(line)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        Channel ch = channel;
+        if (ch != null && !sendQueue.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+            ch.eventLoop().execute(this::drain);
+        }
+    }
+
+    /**
+     * Writes a batch of queued messages with a single flush, runs on the channel's event loop.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        Channel ch = channel;
+        if (ch == null || !ch.isActive()) {
+            return;
+        }
+
+        final ClientConfig clientConfig = instance.config();
+        int written = 0;
+        String line;
+        while (written < MAX_SEND_BATCH && ch.isWritable() && (line = sendQueue.poll()) != null) {
+            ch.write(DataMessage.createMessage(clientConfig, line));
+            written++;
+            // The server closes the connection once it has seen this
+            if ("exit".equals(line.toLowerCase())) {
+                exitRequested = true;
+            }
+        }
+        if (written > 0) {
+            ch.flush();
+        }
+
+        // Give other tasks a turn, an unwritable channel resumes in writabilityChanged
+        if (ch.isWritable()) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Asks the server for a page of the messages matching the query.
+     */
+    @NotNull
+    CompletableFuture<SearchResults> search(@NotNull String query, int offset, int limit) {
+        String tag = Long.toString(nextTag.incrementAndGet());
+        return request(tag, SearchIndex.createRequest(tag, query, offset, limit))
+                .thenApply(answer -> SearchResults.of(answer.getResults()));
+    }
+
+    /**
+     * Asks for a page of the current room's history, which was usually fetched already while the page
+     * after it was being read.
+     */
+    @NotNull
+    CompletableFuture<HistoryPage> history(@Nullable String cursor, int limit) {
+        Prefetch prefetch = this.prefetch;
+        final CompletableFuture<HistoryPage> page;
+        if (prefetch != null && prefetch.isFor(cursor, limit)) {
+            page = prefetch.page;
+        } else {
+            page = fetchHistory(cursor, limit);
+        }
+        page.thenAccept(fetched -> {
+            String next = fetched.nextCursor();
+            if (next != null) {
+                this.prefetch = new Prefetch(next, limit, fetchHistory(next, limit));
+            }
+        });
+        return page;
+    }
+
+    @NotNull
+    private CompletableFuture<HistoryPage> fetchHistory(@Nullable String cursor, int limit) {
+        String tag = Long.toString(nextTag.incrementAndGet());
+        return request(tag, RoomTimeline.createRequest(tag, cursor, limit, instance.config().room()))
+                .thenApply(answer -> HistoryPage.of(answer.getPage()));
+    }
+
+    /**
+     * Sends a request the server answers with a packet carrying the same tag, see
+     * {@link #answered(String, Message.Packet)}.
+     */
+    @NotNull
+    private CompletableFuture<Message.Packet> request(@NotNull String tag, @NotNull Message.Packet request) {
+        CompletableFuture<Message.Packet> answer = new CompletableFuture<>();
+        Channel ch = channel;
+        if (ch == null) {
+            answer.completeExceptionally(new IllegalStateException("Not connected to a server"));
+            return answer;
+        }
+        pending.put(tag, answer);
+        ch.writeAndFlush(request);
+        ch.eventLoop().schedule(() -> {
+            if (pending.remove(tag, answer)) {
+                answer.completeExceptionally(new TimeoutException("No answer to " + tag));
+            }
+        }, REQUEST_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        return answer;
+    }
+
+    /**
+     * @return whether the packet answered one of ours
+     */
+    private boolean answered(@NotNull String tag, @NotNull Message.Packet packet) {
+        CompletableFuture<Message.Packet> answer = pending.remove(tag);
+        return answer != null && answer.complete(packet);
+    }
+
+    @Override
+    protected void writabilityChanged(ChannelHandlerContext ctx) {
+        if (ctx.channel().isWritable()) {
+            scheduleDrain();
         }
     }
 
@@ -104,35 +417,110 @@ class ChatClient extends AbstractClient {
             pipeline.addLast(sslContext().newHandler(ch.alloc(), HOST, PORT));
         }
 
-        // On top of the SSL handler, add the text line codec.
-        pipeline.addLast(new DelimiterBasedFrameDecoder(8192, Delimiters.lineDelimiter()));
-        pipeline.addLast(new StringDecoder());
-        pipeline.addLast(new StringEncoder());
+        // On top of the SSL handler, add the packet codec.
+        pipeline.addLast(PacketCodec.newClientCodec(wireFormat(server)));
+
+        // Heartbeats keep the connection alive, measure it, and close it once the server stops answering.
+        final ChatMetrics metrics = instance.metrics();
+        pipeline.addLast(HeartbeatHandler.newIdleStateHandler(instance.config()));
+        pipeline.addLast(new HeartbeatHandler(instance.config(), metrics.newConnectionRtt(), metrics.serverRtt(server)));
 
         // and then business logic.
-        pipeline.addLast(handler());
+        pipeline.addLast(PacketCodec.HANDLER_NAME, handler());
     }
 
     @Override
-    protected void channelRead(ChannelHandlerContext ctx, String msg) {
-        Message.Packet decode = DataMessage.decode(msg);
-        if (decode == null) {
+    protected void channelRead(ChannelHandlerContext ctx, Message.Packet decode) {
+        if (decode.getTypeCase() == Message.Packet.TypeCase.DATA) {
+            deliver(new DataMessage(decode.getData()));
+        } else if (decode.getTypeCase() == Message.Packet.TypeCase.RESULTS
+                && answered(decode.getResults().getTag(), decode)) {
             return;
-        }
-
-        Message.Data data = decode.getData();
-        if (data != null) {
-            instance.newMessageReceived(new DataMessage(data));
+        } else if (decode.getTypeCase() == Message.Packet.TypeCase.PAGE
+                && answered(decode.getPage().getTag(), decode)) {
+            return;
+        } else if (decode.getTypeCase() == Message.Packet.TypeCase.SNAPSHOT) {
+            try {
+                for (DataMessage message : CatchUpSnapshots.decode(decode.getSnapshot())) {
+                    deliver(message);
+                }
+                instance.metrics().caughtUp(System.nanoTime() - connectedAt);
+            } catch (IllegalArgumentException ex) {
+                System.err.println(ex.getLocalizedMessage());
+            }
         } else {
             // Make sure the server system obtains this
-            if (decode.getServers() != null) {
+            if (decode.getTypeCase() == Message.Packet.TypeCase.SERVERS) {
+                List<String> locations = decode.getServers().getServerList().stream()
+                        .map(Message.Servers.Server::getLocation).collect(Collectors.toList());
                 synchronized (servers) {
-                    while (!servers.isEmpty()) {servers.get(servers.size() - 1);}
-                    servers.addAll(decode.getServers().getServerList().stream().map(Message.Servers.Server::getLocation).collect(Collectors.toList()));
+                    servers.clear();
+                    servers.addAll(locations);
+                    // The server we are talking to stays a candidate even if it isn't a node
+                    if (server != null && !servers.contains(server)) {
+                        servers.add(server);
+                    }
                     servers.notifyAll();
                 }
             }
-            instance.eventBus().post(decode);
+            instance.dispatcher().post(decode);
+        }
+    }
+
+    /**
+     * Passes a message on to the session unless it already was. Messages without an id can't be told
+     * apart and are always passed on.
+     */
+    private void deliver(@NotNull DataMessage message) {
+        String id = message.messageId();
+        if (id.isEmpty() || delivered.add(message.serverIdentifier() + ':' + id)) {
+            instance.newMessageReceived(message);
+        }
+    }
+
+    /**
+     * The most recently added keys, up to a limit.
+     */
+    private static final class RecentKeys {
+        private final int limit;
+        private final Set<String> keys = new HashSet<>();
+        private final ArrayDeque<String> order = new ArrayDeque<>();
+
+        RecentKeys(int limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * @return whether the key wasn't among the recent ones
+         */
+        synchronized boolean add(@NotNull String key) {
+            if (!keys.add(key)) {
+                return false;
+            }
+            order.addLast(key);
+            if (order.size() > limit) {
+                keys.remove(order.removeFirst());
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A page fetched ahead of being asked for.
+     */
+    private static final class Prefetch {
+        final String cursor;
+        final int limit;
+        final CompletableFuture<HistoryPage> page;
+
+        Prefetch(@NotNull String cursor, int limit, @NotNull CompletableFuture<HistoryPage> page) {
+            this.cursor = cursor;
+            this.limit = limit;
+            this.page = page;
+        }
+
+        boolean isFor(@Nullable String cursor, int limit) {
+            return this.cursor.equals(cursor) && this.limit == limit && !page.isCompletedExceptionally();
         }
     }
 }
@@ -0,0 +1,283 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters describing the work done by a {@link Chat} session's client and server.
+ */
+public final class ChatMetrics {
+    private final LongAdder broadcastBytesSerialized = new LongAdder();
+    private final LongAdder broadcastBytesWritten = new LongAdder();
+    private final LongAdder channelWrites = new LongAdder();
+    private final LongAdder channelFlushes = new LongAdder();
+    private final AtomicInteger slowConsumers = new AtomicInteger();
+    private final LongAdder slowConsumerQueuedBytes = new LongAdder();
+    private final LongAdder slowConsumerDropped = new LongAdder();
+    private final LongAdder slowConsumerDisconnects = new LongAdder();
+    private final LongAdder inboundDropped = new LongAdder();
+    private final LongAdder listenerDropped = new LongAdder();
+    private final LongAdder dedupeFiltered = new LongAdder();
+    private final LongAdder dedupeFalsePositives = new LongAdder();
+    private final LongAdder dedupeReplaysDropped = new LongAdder();
+    private volatile Collection<?> inboundQueue;
+    private volatile DedupeFilter dedupeFilter;
+    private volatile RttHistogram connectionRtt = new RttHistogram();
+    private final ConcurrentHashMap<String, RttHistogram> serverRtt = new ConcurrentHashMap<>();
+    private final RttHistogram reconnectTimes = new RttHistogram();
+    private final RttHistogram catchUpTimes = new RttHistogram();
+
+    ChatMetrics() {
+    }
+
+    void broadcastSerialized(int bytes) {
+        broadcastBytesSerialized.add(bytes);
+    }
+
+    void broadcastWritten(int bytes) {
+        broadcastBytesWritten.add(bytes);
+    }
+
+    void channelWrite() {
+        channelWrites.increment();
+    }
+
+    void channelFlush() {
+        channelFlushes.increment();
+    }
+
+    void slowConsumer(boolean slow) {
+        if (slow) {
+            slowConsumers.incrementAndGet();
+        } else {
+            slowConsumers.decrementAndGet();
+        }
+    }
+
+    void slowConsumerQueued(int bytes) {
+        slowConsumerQueuedBytes.add(bytes);
+    }
+
+    void slowConsumerDropped() {
+        slowConsumerDropped.increment();
+    }
+
+    void slowConsumerDisconnected() {
+        slowConsumerDisconnects.increment();
+    }
+
+    void inboundQueue(@NotNull Collection<?> queue) {
+        inboundQueue = queue;
+    }
+
+    void inboundDropped() {
+        inboundDropped.increment();
+    }
+
+    void listenerDropped() {
+        listenerDropped.increment();
+    }
+
+    void dedupeFilter(@NotNull DedupeFilter filter) {
+        dedupeFilter = filter;
+    }
+
+    void dedupeFiltered() {
+        dedupeFiltered.increment();
+    }
+
+    void dedupeFalsePositive() {
+        dedupeFalsePositives.increment();
+    }
+
+    void dedupeReplayDropped() {
+        dedupeReplaysDropped.increment();
+    }
+
+    /**
+     * Starts a fresh histogram for a new connection to the server.
+     */
+    @NotNull
+    RttHistogram newConnectionRtt() {
+        RttHistogram histogram = new RttHistogram();
+        connectionRtt = histogram;
+        return histogram;
+    }
+
+    @NotNull
+    RttHistogram serverRtt(@NotNull String server) {
+        return serverRtt.computeIfAbsent(server, key -> new RttHistogram());
+    }
+
+    void reconnected(long nanos) {
+        reconnectTimes.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void caughtUp(long nanos) {
+        catchUpTimes.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the number of bytes the server serialized for packets sent to more than one channel
+     */
+    public long broadcastBytesSerialized() {
+        return broadcastBytesSerialized.sum();
+    }
+
+    /**
+     * @return the number of bytes the server handed to channels for those packets
+     */
+    public long broadcastBytesWritten() {
+        return broadcastBytesWritten.sum();
+    }
+
+    public long channelWrites() {
+        return channelWrites.sum();
+    }
+
+    public long channelFlushes() {
+        return channelFlushes.sum();
+    }
+
+    /**
+     * @return the flushes issued per write on server connections, lower means more writes share a syscall
+     */
+    public double flushToWriteRatio() {
+        long writes = channelWrites();
+        return writes == 0 ? 0 : (double) channelFlushes() / writes;
+    }
+
+    /**
+     * @return the number of connections currently above their write buffer high water mark
+     */
+    public int slowConsumers() {
+        return slowConsumers.get();
+    }
+
+    /**
+     * @return the bytes held back for slow connections, on top of what their outbound buffers hold
+     */
+    public long slowConsumerQueuedBytes() {
+        return slowConsumerQueuedBytes.sum();
+    }
+
+    public long slowConsumerDroppedWrites() {
+        return slowConsumerDropped.sum();
+    }
+
+    public long slowConsumerDisconnects() {
+        return slowConsumerDisconnects.sum();
+    }
+
+    /**
+     * @return the number of received messages waiting to be taken with {@link Chat#getNextMessage()}
+     */
+    public int inboundQueueDepth() {
+        Collection<?> queue = inboundQueue;
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * @return the number of received messages discarded by the inbound overflow policy
+     */
+    public long inboundDroppedMessages() {
+        return inboundDropped.sum();
+    }
+
+    /**
+     * @return the number of events discarded because a listener's mailbox was full
+     */
+    public long listenerDroppedEvents() {
+        return listenerDropped.sum();
+    }
+
+    /**
+     * @return the number of messages the server dropped as duplicates seen earlier than its cache holds,
+     * which its message log showed it had stored
+     */
+    public long dedupeFilteredMessages() {
+        return dedupeFiltered.sum();
+    }
+
+    /**
+     * @return the number of messages a peer replayed that the server, without a message log, dropped on a
+     * dedupe filter hit. A few of them can be false positives, at about the expected rate.
+     */
+    public long dedupeReplaysDropped() {
+        return dedupeReplaysDropped.sum();
+    }
+
+    /**
+     * @return the number of messages the dedupe filter took for duplicates that were stored anyway: with a
+     * message log, new ones the log showed it was wrong about; without one, every live message it hit
+     */
+    public long dedupeFalsePositives() {
+        return dedupeFalsePositives.sum();
+    }
+
+    /**
+     * @return the chance the dedupe filter currently takes a new message for a duplicate
+     */
+    public double dedupeExpectedFalsePositiveRate() {
+        DedupeFilter filter = dedupeFilter;
+        return filter == null ? 0 : filter.expectedFalsePositiveRate();
+    }
+
+    /**
+     * @return the heartbeat round trip times of the client's current connection
+     */
+    @NotNull
+    public RttHistogram connectionRtt() {
+        return connectionRtt;
+    }
+
+    /**
+     * @return the heartbeat round trip times of every server the client has been connected to
+     */
+    @NotNull
+    public Map<String, RttHistogram> serverRtt() {
+        return Collections.unmodifiableMap(serverRtt);
+    }
+
+    /**
+     * @return how long the client took from losing a connection to having a new one
+     */
+    @NotNull
+    public RttHistogram reconnectTimes() {
+        return reconnectTimes;
+    }
+
+    /**
+     * @return how long the client took from connecting to having the messages it missed delivered
+     */
+    @NotNull
+    public RttHistogram catchUpTimes() {
+        return catchUpTimes;
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return "Broadcast bytes serialized: " + broadcastBytesSerialized() + '\n'
+                + "Broadcast bytes written: " + broadcastBytesWritten() + '\n'
+                + "Flush/write ratio: " + String.format("%.3f", flushToWriteRatio())
+                + " (" + channelFlushes() + '/' + channelWrites() + ")\n"
+                + "Slow consumers: " + slowConsumers() + " holding " + slowConsumerQueuedBytes() + " bytes, "
+                + slowConsumerDroppedWrites() + " writes dropped, " + slowConsumerDisconnects() + " disconnected\n"
+                + "Inbound queue: " + inboundQueueDepth() + " waiting, " + inboundDroppedMessages() + " dropped\n"
+                + "Listener events dropped: " + listenerDroppedEvents() + '\n'
+                + "Dedupe filter: " + dedupeFilteredMessages() + " duplicates dropped, "
+                + dedupeReplaysDropped() + " replays dropped, " + dedupeFalsePositives() + " false positives, expected rate "
+                + String.format("%.2e", dedupeExpectedFalsePositiveRate()) + '\n'
+                + "Connection RTT: " + connectionRtt() + '\n'
+                + "Time to reconnect: " + reconnectTimes() + '\n'
+                + "Time to catch up: " + catchUpTimes();
+    }
+}
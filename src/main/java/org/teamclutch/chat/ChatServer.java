@@ -1,55 +1,66 @@
 package org.teamclutch.chat;
 
+import com.github.benmanes.caffeine.cache.CacheWriter;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.guava.CaffeinatedGuava;
 import com.google.common.cache.Cache;
-import com.google.common.eventbus.EventBus;
-import com.google.common.eventbus.Subscribe;
+import com.google.common.net.HostAndPort;
 import com.google.common.net.InetAddresses;
 import com.google.common.util.concurrent.AbstractExecutionThreadService;
+import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.*;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.codec.DelimiterBasedFrameDecoder;
-import io.netty.handler.codec.Delimiters;
-import io.netty.handler.codec.string.StringDecoder;
-import io.netty.handler.codec.string.StringEncoder;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.teamclutch.chat.protobuf.Message;
 
+import javax.net.ssl.SSLException;
+import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static org.teamclutch.chat.DataMessage.decode;
-import static org.teamclutch.chat.DataMessage.encode;
 
 class ChatServer extends AbstractExecutionThreadService {
+    private static final int PEER_CONNECT_TIMEOUT_MILLIS = 5000;
+    // Keys go into the dedupe filter a moment before they are logged
+    private static final long LOG_SLACK_MILLIS = 1000;
+
     private final int PORT;
     private Thread executorThread;
     private final ClientConfig config;
     private final Chat chat;
-    private final EventBus eventBus;
+    private final EventDispatcher dispatcher;
+    private final ChatMetrics metrics;
+    private final ServerConfig serverConfig;
 
     ChatServer(Chat chat) {
         this.chat = chat;
         this.config = chat.config();
-        this.eventBus = chat.eventBus();
+        this.dispatcher = chat.dispatcher();
+        this.metrics = chat.metrics();
+        this.serverConfig = chat.serverConfig();
         PORT = config.port();
     }
 
@@ -61,38 +72,105 @@ class ChatServer extends AbstractExecutionThreadService {
         SslContext sslCtx = SslContextBuilder.forServer(ssc.certificate(), ssc.privateKey())
                 .build();
 
-        EventLoopGroup bossGroup = new NioEventLoopGroup(1);
-        EventLoopGroup workerGroup = new NioEventLoopGroup();
+        final Transport transport = Transport.select(serverConfig.nativeTransport());
+        // Without SO_REUSEPORT only one channel can be bound to the port
+        final int acceptors = transport == Transport.EPOLL ? serverConfig.acceptorThreads() : 1;
+        EventLoopGroup bossGroup = transport.newGroup(acceptors);
+        EventLoopGroup workerGroup = transport.newGroup(serverConfig.workerThreads());
+        LoadMonitor load = new LoadMonitor();
+        load.start(workerGroup);
+        MessageLog log = null;
         try {
+            if (serverConfig.messageLogDirectory() != null) {
+                log = MessageLog.open(serverConfig);
+            }
+            SecureChatServerInitializer initializer = new SecureChatServerInitializer(sslCtx, dispatcher, config,
+                    serverConfig, metrics, load, log);
+
             ServerBootstrap b = new ServerBootstrap();
             b.group(bossGroup, workerGroup)
-                    .channel(NioServerSocketChannel.class)
+                    .channel(transport.serverChannel())
                     //.handler(new LoggingHandler(LogLevel.ERROR))
-                    .childHandler(new SecureChatServerInitializer(sslCtx, eventBus, config));
+                    .childOption(ChannelOption.TCP_NODELAY, serverConfig.tcpNoDelay())
+                    .childHandler(initializer);
+            if (acceptors > 1) {
+                b.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
+            if (serverConfig.sendBufferSize() > 0) {
+                b.childOption(ChannelOption.SO_SNDBUF, serverConfig.sendBufferSize());
+            }
+            if (serverConfig.receiveBufferSize() > 0) {
+                b.childOption(ChannelOption.SO_RCVBUF, serverConfig.receiveBufferSize());
+            }
 
-            ChannelFuture future = null;
-            while (isRunning() && future == null) {
+            List<ChannelFuture> futures = null;
+            while (isRunning() && futures == null) {
+                List<Channel> bound = new ArrayList<>(acceptors);
                 try {
-                    future = b.bind(PORT).sync().channel().closeFuture();
+                    // Each bind is registered on the next boss loop, so every acceptor gets its own socket
+                    for (int i = 0; i < acceptors; i++) {
+                        ChannelFuture bind = serverConfig.bindAddress() == null ? b.bind(PORT)
+                                : b.bind(serverConfig.bindAddress(), PORT);
+                        bound.add(bind.sync().channel());
+                    }
+                    futures = bound.stream().map(Channel::closeFuture).collect(Collectors.toList());
                 } catch (Exception ex) {
+                    bound.forEach(Channel::close);
                     chat.serverCantBind(ex);
                     Thread.sleep(5000);
                 }
             }
 
-            if (future != null) {
+            if (futures != null) {
                 chat.serverReady();
-                future.sync();
+                linkPeers(transport, workerGroup, initializer);
+                long antiEntropyInterval = serverConfig.antiEntropyInterval(TimeUnit.MILLISECONDS);
+                // Without a log nodes hold whatever their caches kept, which never agree
+                if (antiEntropyInterval > 0 && log != null) {
+                    workerGroup.scheduleAtFixedRate(initializer.handler()::compareWithPeers, antiEntropyInterval,
+                            antiEntropyInterval, TimeUnit.MILLISECONDS);
+                }
+                for (ChannelFuture future : futures) {
+                    future.sync();
+                }
             }
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
         } finally {
             bossGroup.shutdownGracefully();
             workerGroup.shutdownGracefully();
+            if (log != null) {
+                log.close();
+            }
             chat.gracefullyEnd();
         }
     }
 
+    /**
+     * Connects to the federated nodes, the links run on the worker loops and end with them.
+     */
+    private void linkPeers(@NotNull Transport transport, @NotNull EventLoopGroup workerGroup,
+                           @NotNull SecureChatServerInitializer initializer) throws SSLException {
+        if (serverConfig.peers().isEmpty()) {
+            return;
+        }
+        // Nodes use self-signed certificates like any other server
+        SslContext peerSslCtx = SslContextBuilder.forClient().trustManager(InsecureTrustManagerFactory.INSTANCE).build();
+        Bootstrap b = new Bootstrap();
+        b.group(workerGroup)
+                .channel(transport.channel())
+                .option(ChannelOption.TCP_NODELAY, serverConfig.tcpNoDelay())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, PEER_CONNECT_TIMEOUT_MILLIS)
+                .handler(initializer.peerInitializer(peerSslCtx));
+        if (serverConfig.bindAddress() != null) {
+            // Peers tell their clients about this node by the address its link comes from
+            b.localAddress(serverConfig.bindAddress(), 0);
+        }
+        for (HostAndPort peer : serverConfig.peers()) {
+            new PeerLink(peer, b, config, initializer.handler()::addPeer).start();
+        }
+    }
+
     @Override
     public void triggerShutdown() {
         if (executorThread != null && executorThread.isAlive()) {
@@ -105,167 +183,475 @@ class ChatServer extends AbstractExecutionThreadService {
      * Handles a server-side channel.
      */
     @ChannelHandler.Sharable
-    private static class SecureChatServerHandler extends SimpleChannelInboundHandler<String> {
+    private static class SecureChatServerHandler extends SimpleChannelInboundHandler<Object>
+            implements PacketListener {
         //final ChannelGroup channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
 
-        @NotNull Cache<String, DataMessage> cache = CaffeinatedGuava.build(Caffeine.newBuilder()
-                .expireAfterAccess(1, TimeUnit.DAYS)
-                .maximumSize(5000));
-        final ConcurrentHashMap<String, String> usernameClientMap = new ConcurrentHashMap<>();
-        final ConcurrentHashMap<String, String> serverNodeMap = new ConcurrentHashMap<>();
+        // Only kept with a log, see compareWithPeers
+        final MerkleSummary summary = new MerkleSummary();
+        final MessageHistory history = new MessageHistory();
+        final SearchIndex search = new SearchIndex();
+        final RoomTimeline timeline = new RoomTimeline();
+        // With a log the cache is only the hot tier, what leaves it is still held in the log
+        @Nullable
+        private final MessageLog log;
+        // Messages the log failed to take, only held by the cache, which cleans up after them as without a log
+        private final Set<String> unlogged = ConcurrentHashMap.newKeySet();
+        // Keyed by cache key, weighed in bytes. New messages are only ever added in store(), which does
+        // everything else a new message needs; the writer cleans up after the ones that leave.
+        final Cache<String, OffHeapMessage> cache;
+        final AntiEntropy antiEntropy;
+        final UserRegistry users = new UserRegistry();
         final ConcurrentHashMap<String, Channel> channels = new ConcurrentHashMap<>();
+        final RoomIndex rooms = new RoomIndex();
+        final Set<Channel> peers = ConcurrentHashMap.newKeySet();
 
         private ClientConfig serverConfig;
         private final ClientConfig config;
-
-        private SecureChatServerHandler(ClientConfig config) {
+        private final ChatMetrics metrics;
+        private final LoadMonitor load;
+        private final CatchUpSnapshots catchUp;
+        // Remembers the keys that were stored for days after the cache let go of them
+        private final DedupeFilter dedupe;
+
+        private SecureChatServerHandler(ClientConfig config, ServerConfig settings, ChatMetrics metrics,
+                                        LoadMonitor load, @Nullable MessageLog log) {
             this.config = config;
+            this.metrics = metrics;
+            this.load = load;
+            this.log = log;
+            this.catchUp = new CatchUpSnapshots(settings, ForkJoinPool.commonPool());
+            this.dedupe = new DedupeFilter(settings);
+            metrics.dedupeFilter(dedupe);
+            this.cache = CaffeinatedGuava.build(Caffeine.newBuilder()
+                    .expireAfterAccess(1, TimeUnit.DAYS)
+                    .maximumWeight(settings.messageCacheBytes())
+                    .weigher((String key, OffHeapMessage value) -> value.weight(key))
+                    .writer(new CacheWriter<String, OffHeapMessage>() {
+                        @Override
+                        public void write(@NotNull String key, @NotNull OffHeapMessage value) {
+                        }
+
+                        @Override
+                        public void delete(@NotNull String key, @Nullable OffHeapMessage value,
+                                           @NotNull RemovalCause cause) {
+                            if (value == null) {
+                                return;
+                            }
+                            value.evict();
+                            // With a log the cache is only the hot tier, what leaves it is still held in the log
+                            if (SecureChatServerHandler.this.log == null || unlogged.remove(key)) {
+                                forget(key, value);
+                            }
+                            // Only once nothing indexes it anymore, reads that already have it finish first
+                            value.release();
+                        }
+                    }));
+            this.antiEntropy = new AntiEntropy(summary, store());
+            if (log != null) {
+                log.forEach((key, message, appendedAt) -> {
+                    summary.toggle(key);
+                    timeline.add(message.room(), key, appendedAt);
+                });
+                search.addAll(index -> log.forEach((key, message, appendedAt) -> index.accept(key, message)));
+                log.onRemoved((key, room) -> {
+                    summary.toggle(key);
+                    timeline.remove(room, key);
+                    search.remove(key);
+                });
+            }
+        }
+
+        @NotNull
+        private MessageStore store() {
+            return log != null ? log : history;
+        }
+
+        /**
+         * Holds on to a message unless it was seen before. The room is passed in so relayed messages, whose
+         * room was already peeked at, aren't parsed for it.
+         *
+         * @param replayed whether a peer is sending the message again, rather than passing on a live one
+         * @return whether the message is new
+         */
+        private boolean store(@NotNull String key, @NotNull String room, @NotNull DataMessage message,
+                              boolean replayed) {
+            if (dedupe.mightContain(key)) {
+                if (cache.asMap().containsKey(key)) {
+                    return false;
+                }
+                // Without a log there is no telling a duplicate from a false positive. Only replays, which are
+                // duplicates far more often than not, are dropped then, so a new message never is.
+                if (log == null && replayed) {
+                    metrics.dedupeReplayDropped();
+                    return false;
+                }
+                if (log != null && log.contains(key)) {
+                    metrics.dedupeFiltered();
+                    return false;
+                }
+                metrics.dedupeFalsePositive();
+            } else if (log != null && log.contains(key, dedupe.coveredSince() + LOG_SLACK_MILLIS)) {
+                // Missed by the filter, so stored before everything it still holds, if at all
+                return false;
+            }
+            OffHeapMessage cached = OffHeapMessage.copyOf(message, room);
+            if (cache.asMap().putIfAbsent(key, cached) != null) {
+                cached.release();
+                return false;
+            }
+            dedupe.put(key);
+
+            boolean logged = false;
+            if (log == null) {
+                history.add(key, cached);
+            } else {
+                try {
+                    log.append(key, room, message);
+                    summary.toggle(key);
+                    logged = true;
+                } catch (IOException | IllegalArgumentException e) {
+                    // Still relayed and indexed, but only for as long as the cache holds it
+                    System.err.println("Failed to log message " + key + ": " + e.getLocalizedMessage());
+                    unlogged.add(key);
+                }
+            }
+            timeline.add(room, key, System.currentTimeMillis());
+            search.add(key, room, message);
+            // The cache may have let go of it before it was indexed, leaving nothing for the writer to clean up
+            if (!logged && cached.isEvicted()) {
+                unlogged.remove(key);
+                forget(key, cached);
+            }
+            return true;
+        }
+
+        /**
+         * Removes a message that is only held by the cache from everything that indexes it.
+         */
+        private void forget(@NotNull String key, @NotNull OffHeapMessage message) {
+            history.remove(key, message);
+            search.remove(key);
+            timeline.remove(message.room(), key);
         }
 
         @Override
         public void channelActive(@NotNull final ChannelHandlerContext ctx) {
-            // Once session is secured, send a greeting and register the channel to the global channel
-            // list so the channel received the messages from others.
+            // The greeting is sent once the client has said who it is, see addUser.
             if (serverConfig == null) {
                 serverConfig = new ClientConfig();
                 serverConfig.configureClient("SERVER", config.serverClientId().toString(), 0);
             }
-            ctx.pipeline().get(SslHandler.class).handshakeFuture().addListener(
-                    (GenericFutureListener<Future<Channel>>) future -> {
-                        ctx.write(encode(DataMessage.createMessage(serverConfig,
-                                "Welcome to " + InetAddress.getLocalHost().getHostName() + " secure chat!\n")
-                        ));
-
-                        ctx.write(encode(DataMessage.createMessage(serverConfig,
-                                "Your session is protected by " +
-                                        ctx.pipeline().get(SslHandler.class).engine().getSession().getCipherSuite() +
-                                        " cipher suite.\n")));
-                        ctx.flush();
-
-                        //channels.put(ctx.channel());
-                        //config.connected(ctx.channel());
-                    });
         }
 
         @Override
-        public void channelRead0(@NotNull ChannelHandlerContext ctx, @NotNull String msg) throws Exception {
-            // Send the received message to all channels but the current one.
-            boolean close = false;
+        public void userEventTriggered(@NotNull ChannelHandlerContext ctx, @NotNull Object evt) throws Exception {
+            if (evt instanceof IdleStateEvent) {
+                // Ping a quiet client first, and give up on it if it is still quiet an interval later.
+                // Old JSON clients never answer pings, so only binary connections are closed.
+                if (((IdleStateEvent) evt).isFirst()) {
+                    ctx.writeAndFlush(DataMessage.createPing());
+                } else if (ctx.channel().attr(PacketCodec.WIRE_FORMAT).get() == WireFormat.BINARY) {
+                    ctx.close();
+                }
+                return;
+            }
+            super.userEventTriggered(ctx, evt);
+        }
 
-            Message.Packet decode = decode(msg);
-            if (decode == null) {
+        @Override
+        public void channelRead0(@NotNull ChannelHandlerContext ctx, @NotNull Object msg) throws Exception {
+            if (msg instanceof RelayedData) {
+                relay(ctx, (RelayedData) msg);
                 return;
             }
 
+            // Send the received message to all channels but the current one.
+            boolean close = false;
+            Message.Packet decode = (Message.Packet) msg;
+
             Message.Data data = decode.getData();
-            if (data != null) {
-                if (data.getData().trim().toLowerCase().equals("exit")) {
+            if (decode.getTypeCase() == Message.Packet.TypeCase.DATA) {
+                load.messageReceived();
+                // Peers only pass on messages, their senders leave on their own node
+                final boolean fromPeer = peers.contains(ctx.channel());
+                if (!fromPeer && data.getData().trim().toLowerCase().equals("exit")) {
                     close = true;
                 }
 
                 if (!close) {
-                    if (cache.getIfPresent(getId(data)) == null) {
-                        cache.put(getId(data),
-                                new DataMessage(data));
+                    if (store(getId(data), data.getRoom(), new DataMessage(data), false)) {
                         if (!data.getUsername().equals("")) { // Verify validity
-                            synchronized (usernameClientMap) {
-                                if (!usernameClientMap.containsKey(data.getUsername())) {
-                                    sendMessage(ctx.channel(), "Client Out-of-Spec 1", true);
-                                    addUser(ctx, data.getUsername(), data.getServerClientId(), false);
-                                }
+                            if (!fromPeer) {
+                                checkKnownUser(ctx, data.getUsername(), data.getServerClientId());
                             }
-                            sendMessageToAll(ctx, decode);
+                            sendMessageToRoom(ctx, data.getRoom(), decode);
+                            forwardToPeers(ctx, decode);
                         }
                     }
                 }
-            } else if (decode.getNew() != null) {
+            } else if (decode.getTypeCase() == Message.Packet.TypeCase.NEW) {
                 Message.NewUser newUser = decode.getNew();
                 String username = newUser.getUsername();
                 String id = newUser.getId();
-                addUser(ctx, username, id, newUser.getNode());
+                addUser(ctx, username, id, newUser.getNode(), newUser.getRoomsList());
 
-            } else if (decode.getRequest() != null) {
+            } else if (decode.getTypeCase() == Message.Packet.TypeCase.REQUEST) {
                 Message.DataRequest request = decode.getRequest();
-                String[] split = request.getId().split(":");
-                if (split.length == 2) {
-                    if (split[1].contains("-")) {
-                        String[] boundaries = split[1].split("-");
-                        if (boundaries.length == 2) {
-                            long lower = Long.getLong(boundaries[0]);
-                            long upper = Long.getLong(boundaries[1]);
-                            List<DataMessage> messages = new LinkedList<>();
-                            for (; lower <= upper; lower++) {
-                                messages.add(cache.getIfPresent(split[0] + ":" + lower));
-                            }
-                            if (!messages.isEmpty()) {
-                                ctx.writeAndFlush(
-                                        encode(DataMessage.createDataPackage(
-                                                messages.toArray(new DataMessage[messages.size()]))
-                                        ));
-                            }
-                        }
+                if (AntiEntropy.isSyncRequest(request.getId())) {
+                    if (log != null) {
+                        antiEntropy.onRequest(ctx, request.getId());
                     }
+                } else {
+                    replay(ctx, request.getId());
                 }
-            } else if (decode.getPkg() != null) {
+            } else if (decode.getTypeCase() == Message.Packet.TypeCase.HISTORY) {
+                page(ctx, decode.getHistory());
+            } else if (decode.getTypeCase() == Message.Packet.TypeCase.SEARCH) {
+                search.onRequest(ctx, decode.getSearch(), new HashSet<>(rooms.roomsOf(ctx.channel())));
+            } else if (decode.getTypeCase() == Message.Packet.TypeCase.PKG) {
                 Message.DataPackage pkg = decode.getPkg();
+                // Messages a peer missed delivering are delivered here now
+                final boolean fromPeer = peers.contains(ctx.channel());
                 for (Message.Data data1 : pkg.getMessagesList()) {
-                    cache.put(getId(data1),
-                            new DataMessage(
-                                    data1.getUsername(), data1.getServerClientId(), data1.getId(), data1.getData()
-                            )
-                    );
+                    if (store(getId(data1), data1.getRoom(), new DataMessage(data1), fromPeer) && fromPeer
+                            && !data1.getUsername().equals("")) {
+                        sendMessageToRoom(ctx, data1.getRoom(), Message.Packet.newBuilder().setData(data1).build());
+                    }
                 }
-            } else if (decode.getPing() != null) {
+            } else if (decode.getTypeCase() == Message.Packet.TypeCase.PING) {
                 Message.Ping ping = decode.getPing();
+                // Pings with a load are replies to our own heartbeats, reading them was all they were for
                 if (ping.getLoad().isEmpty()) {
-                    ctx.writeAndFlush(encode(DataMessage.createPing()));
+                    ctx.writeAndFlush(DataMessage.createPingReply(ping, load.current(channels.size()).toJson()));
                 }
             }
 
-            ctx.flush();
-
             // Close the connection if the client has sent 'bye'.
             if (close) {
-                final String username = data.getUsername();
-                sendMessageToAll(ctx, true, username + " has decided to leave :(");
-                channels.remove(data.getServerClientId());
-                if (usernameClientMap.containsKey(username)) {
-                    usernameClientMap.remove(username);
+                leave(ctx, data.getUsername(), data.getServerClientId());
+            }
+        }
+
+        /**
+         * Fast path for {@code Data} packets from binary clients, the original bytes are cached and
+         * forwarded as they are.
+         */
+        private void relay(@NotNull ChannelHandlerContext ctx, @NotNull RelayedData data) {
+            load.messageReceived();
+            final boolean fromPeer = peers.contains(ctx.channel());
+            if (data.isExit()) {
+                if (!fromPeer) {
+                    leave(ctx, data.username(), data.serverClientId());
                 }
-                ctx.close();
+                return;
+            }
+
+            String key = data.serverClientId() + ":" + data.id();
+            if (store(key, data.room(), new DataMessage(data.dataBytes()), false)) {
+                if (!data.username().equals("")) { // Verify validity
+                    if (!fromPeer) {
+                        checkKnownUser(ctx, data.username(), data.serverClientId());
+                    }
+                    EncodedPacket packet = new EncodedPacket(data.content(), metrics);
+                    try {
+                        broadcast(ctx, rooms.subscribers(data.room()), packet, null);
+                        broadcast(ctx, peersExcept(ctx.channel()), packet, null);
+                    } finally {
+                        packet.release();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Links a channel to another node, new messages are passed on to it from now on. The cache key of
+         * a message is the same on every node, so no node handles a message twice however the nodes are
+         * linked.
+         */
+        void addPeer(@NotNull Channel channel) {
+            if (peers.add(channel)) {
+                channel.closeFuture().addListener(future -> peers.remove(channel));
+            }
+        }
+
+        /**
+         * Answers a {@code serverClientId:lower-upper} request with the messages still held in that range.
+         */
+        private void replay(@NotNull ChannelHandlerContext ctx, @NotNull String id) {
+            int split = id.lastIndexOf(':');
+            int dash = id.indexOf('-', split + 1);
+            if (split < 0 || dash < 0) {
+                return;
+            }
+            final long lower;
+            final long upper;
+            try {
+                lower = Long.parseLong(id.substring(split + 1, dash));
+                upper = Long.parseLong(id.substring(dash + 1));
+            } catch (NumberFormatException ex) {
+                return;
+            }
+            List<DataMessage> messages = store().range(id.substring(0, split), lower, upper);
+            if (!messages.isEmpty()) {
+                ctx.writeAndFlush(DataMessage.createDataPackage(messages.toArray(new DataMessage[messages.size()])));
+            }
+        }
+
+        /**
+         * Answers a request for a page of a room's history.
+         */
+        private void page(@NotNull ChannelHandlerContext ctx, @NotNull Message.HistoryRequest request) {
+            int limit = Math.min(request.getLimit(), RoomTimeline.MAX_LIMIT);
+            if (limit <= 0 || request.getBefore() < 0) {
+                return;
+            }
+            long before = request.getBefore() == 0 ? Long.MAX_VALUE : request.getBefore();
+            HistoryPage page = timeline.page(request.getRoom(), before, limit, this::held);
+            ctx.writeAndFlush(RoomTimeline.createAnswer(request.getTag(), page));
+        }
+
+        /**
+         * @return the message with the cache key, if it is still held anywhere
+         */
+        @Nullable
+        private DataMessage held(@NotNull String key) {
+            OffHeapMessage cached = cache.getIfPresent(key);
+            DataMessage message = cached == null ? null : cached.materialize();
+            if (message != null) {
+                return message;
+            }
+            int split = key.lastIndexOf(':');
+            long id = MessageHistory.parseId(key, split);
+            if (id < 0) {
+                return null;
+            }
+            List<DataMessage> found = store().range(key.substring(0, split), id, id);
+            return found.isEmpty() ? null : found.get(0);
+        }
+
+        /**
+         * Starts comparing the messages held with every peer. Only nodes with a log take part: a cache
+         * keeps different messages on every node however well they are in sync, so comparing caches
+         * would only push old messages back and forth.
+         */
+        void compareWithPeers() {
+            for (Channel peer : peers) {
+                antiEntropy.compare(peer);
+            }
+        }
+
+        @NotNull
+        private List<Channel> peersExcept(@NotNull Channel source) {
+            if (peers.isEmpty()) {
+                return Collections.emptyList();
+            }
+            return peers.stream().filter(peer -> peer != source).collect(Collectors.toList());
+        }
+
+        private void forwardToPeers(@NotNull ChannelHandlerContext ctx, @NotNull Message.Packet packet) {
+            List<Channel> recipients = peersExcept(ctx.channel());
+            if (recipients.isEmpty()) {
+                return;
+            }
+            EncodedPacket encoded = new EncodedPacket(packet, metrics);
+            try {
+                broadcast(ctx, recipients, encoded, null);
+            } finally {
+                encoded.release();
+            }
+        }
+
+        private void checkKnownUser(@NotNull ChannelHandlerContext ctx, String username, String serverClientId) {
+            // A client whose username was taken has no session either, it was told already and isn't added again
+            if (users.sessionOf(ctx.channel()) == null && !users.isClaimed(username)) {
+                sendMessage(ctx.channel(), "Client Out-of-Spec 1", true);
+                addUser(ctx, username, serverClientId, false, Collections.emptyList());
             }
         }
 
-        private void addUser(@NotNull ChannelHandlerContext ctx, String username, String id, boolean isNode) {
+        private void leave(@NotNull ChannelHandlerContext ctx, String username, String serverClientId) {
+            for (String room : rooms.roomsOf(ctx.channel())) {
+                sendMessageToRoom(ctx, room, true, username + " has decided to leave :(");
+            }
+            rooms.unsubscribeAll(ctx.channel());
+            channels.remove(serverClientId);
+            users.leave(ctx.channel());
+            ctx.close();
+        }
+
+        private void addUser(@NotNull ChannelHandlerContext ctx, String username, String id, boolean isNode,
+                             @NotNull List<String> joinRooms) {
             if (isNode) {
                 if (ctx.channel().remoteAddress() instanceof InetSocketAddress) {
                     InetSocketAddress address = (InetSocketAddress) ctx.channel().remoteAddress();
-                    synchronized (serverNodeMap) {
-                        serverNodeMap.put(id, InetAddresses.toAddrString(address.getAddress()));
-                    }
+                    users.addNode(id, InetAddresses.toAddrString(address.getAddress()));
                 }
 
-                Message.Servers.Builder servers = Message.Servers.newBuilder();
-                synchronized (serverNodeMap) {
-                    for (Map.Entry<String, String> node : serverNodeMap.entrySet()) {
-                        servers.addServer(Message.Servers.Server.newBuilder().setId(node.getKey())
-                                .setLocation(node.getValue()));
-                    }
+                sendMessageToAll(ctx, Message.Packet.newBuilder().setServers(users.servers()).build());
+                // A node is not a user, it neither takes a name nor joins rooms
+                addPeer(ctx.channel());
+                return;
+            }
+            final Channel channel = ctx.channel();
+            if (users.sessionOf(channel) == null) {
+                greet(ctx);
+                // The nodes known so far are where the client can go if this one fails
+                Message.Servers servers = users.servers();
+                if (servers.getServerCount() > 0) {
+                    ctx.writeAndFlush(Message.Packet.newBuilder().setServers(servers).build());
                 }
-                sendMessageToAll(ctx, Message.Packet.newBuilder().setServers(servers).build());
-            }
-            channels.put(id, ctx.channel());
-            synchronized (usernameClientMap) {
-                if (!usernameClientMap.containsKey(username)) {
-                    usernameClientMap.put(username, id);
-                    String message = username + " joined the chat.";
-                    sendMessageToAll(ctx, true, message);
-                } else {
-                    sendMessage(ctx.channel(), username + " already exists!", true);
+            }
+            if (channels.put(id, channel) != channel) {
+                channel.closeFuture().addListener(future -> channels.remove(id, channel));
+            }
+            if (joinRooms.isEmpty()) {
+                joinRooms = Collections.singletonList(RoomIndex.LOBBY);
+            }
+            for (String room : joinRooms) {
+                rooms.subscribe(ctx.channel(), room);
+            }
+            // Legacy lines are capped at 8KiB, which a snapshot can easily exceed
+            if (channel.attr(PacketCodec.WIRE_FORMAT).get() == WireFormat.BINARY) {
+                for (String room : joinRooms) {
+                    catchUp.snapshot(room, timeline, this::held).whenComplete((snapshot, ex) -> {
+                        if (ex != null) {
+                            System.err.println("Failed to build the snapshot of " + room + ": "
+                                    + ex.getLocalizedMessage());
+                        } else if (snapshot != null) {
+                            ctx.writeAndFlush(snapshot);
+                        }
+                    });
+                }
+            }
+            if (users.join(ctx.channel(), username, id, isNode) != null) {
+                String message = username + " joined the chat.";
+                for (String room : joinRooms) {
+                    sendMessageToRoom(ctx, room, true, message);
                 }
+            } else {
+                sendMessage(ctx.channel(), username + " already exists!", true);
             }
         }
 
+        /**
+         * Welcomes a user. Nodes aren't greeted, their links would pass the greeting on as a message.
+         */
+        private void greet(@NotNull ChannelHandlerContext ctx) {
+            ctx.pipeline().get(SslHandler.class).handshakeFuture().addListener(
+                    (GenericFutureListener<Future<Channel>>) future -> {
+                        ctx.write(DataMessage.createMessage(serverConfig,
+                                "Welcome to " + InetAddress.getLocalHost().getHostName() + " secure chat!\n")
+                        );
+
+                        ctx.write(DataMessage.createMessage(serverConfig,
+                                "Your session is protected by " +
+                                        ctx.pipeline().get(SslHandler.class).engine().getSession().getCipherSuite() +
+                                        " cipher suite.\n"));
+                        ctx.flush();
+                    });
+        }
+
         private void sendMessage(@NotNull Channel ctx, @NotNull String message, boolean serverConfig) {
             if (serverConfig) {
                 sendMessage(ctx, DataMessage.createMessage(this.serverConfig, message));
@@ -275,31 +661,60 @@ class ChatServer extends AbstractExecutionThreadService {
         }
 
         private void sendMessage(@NotNull Channel ctx, @NotNull Message.Packet packet) {
-            ctx.writeAndFlush(encode(packet));
+            ctx.writeAndFlush(packet);
         }
 
         private void sendMessageToAll(@Nullable ChannelHandlerContext ctx, boolean serverConfig, @NotNull String... message) {
+            sendMessageToRoom(ctx, null, serverConfig, message);
+        }
+
+        private void sendMessageToAll(@Nullable ChannelHandlerContext ctx, Message.@NotNull Packet... message) {
+            sendMessageToRoom(ctx, null, message);
+        }
+
+        /**
+         * Sends text to the subscribers of a room, or to every channel if the room is {@code null}.
+         */
+        private void sendMessageToRoom(@Nullable ChannelHandlerContext ctx, @Nullable String room, boolean serverConfig,
+                                       @NotNull String... message) {
+            final ClientConfig sender = serverConfig ? this.serverConfig : config;
+            Message.Packet[] packets = new Message.Packet[message.length];
+            for (int i = 0; i < message.length; i++) {
+                packets[i] = DataMessage.createMessage(sender, room == null ? RoomIndex.LOBBY : room, message[i]);
+            }
+            sendMessageToRoom(ctx, room, packets);
+        }
+
+        private void sendMessageToRoom(@Nullable ChannelHandlerContext ctx, @Nullable String room,
+                                       Message.@NotNull Packet... message) {
+            Iterable<Channel> recipients = room == null ? channels.values() : rooms.subscribers(room);
             boolean includeMe = message.length > 1;
             checkArgument(!includeMe || ctx != null, "You must specify a ChannelHandlerContext if you want to exclude yourself!");
-            cleanChannelMap();
-            for (Channel c : channels.values()) {
-                if (includeMe && c == ctx.channel()) {
-                    sendMessage(c, message[1], serverConfig);
-                } else {
-                    sendMessage(c, message[0], serverConfig);
+            // Serialize once, every channel gets a duplicate of the same buffer
+            EncodedPacket others = new EncodedPacket(message[0], metrics);
+            EncodedPacket me = includeMe ? new EncodedPacket(message[1], metrics) : null;
+            try {
+                broadcast(ctx, recipients, others, me);
+            } finally {
+                others.release();
+                if (me != null) {
+                    me.release();
                 }
             }
         }
 
-        private void sendMessageToAll(@Nullable ChannelHandlerContext ctx, Message.@NotNull Packet... message) {
-            boolean includeMe = message.length > 1;
-            checkArgument(!includeMe || ctx != null, "You must specify a ChannelHandlerContext if you want to exclude yourself!");
+        /**
+         * Writes {@code others} to every recipient, or {@code me} instead to the channel of {@code ctx} if it
+         * is given.
+         */
+        private void broadcast(@Nullable ChannelHandlerContext ctx, @NotNull Iterable<Channel> recipients,
+                               @NotNull EncodedPacket others, @Nullable EncodedPacket me) {
             cleanChannelMap();
-            for (Channel c : channels.values()) {
-                if (includeMe && c == ctx.channel()) {
-                    sendMessage(c, message[1]);
+            for (Channel c : recipients) {
+                if (me != null && c == ctx.channel()) {
+                    me.writeAndFlush(c);
                 } else {
-                    sendMessage(c, message[0]);
+                    others.writeAndFlush(c);
                 }
             }
         }
@@ -316,20 +731,14 @@ class ChatServer extends AbstractExecutionThreadService {
             ctx.close();
         }
 
-        @Subscribe
-        public void receiveMessageToSend(Message.Packet data) {
-            try {
-                if (data.getData() != null) {
-                    String key = getId(data.getData());
-                    if (cache.getIfPresent(key) == null) {
-                        sendMessageToAll(null, wrap((
-                                cache.get(key, () -> new DataMessage(data.getData()))).createMessage()));
-                    }
+        @Override
+        public void onPacket(@NotNull Message.Packet data) {
+            if (data.getTypeCase() == Message.Packet.TypeCase.DATA) {
+                if (store(getId(data.getData()), data.getData().getRoom(), new DataMessage(data.getData()), false)) {
+                    sendMessageToAll(null, wrap(data.getData()));
                 }
-            } catch (ExecutionException e) {
-                e.printStackTrace();
             }
-            if (data.getData() != null) {
+            if (data.getTypeCase() == Message.Packet.TypeCase.DATA) {
                 sendMessageToAll(null, false, data.getData().getData());
             }
         }
@@ -348,31 +757,79 @@ class ChatServer extends AbstractExecutionThreadService {
      * Creates a newly configured {@link ChannelPipeline} for a new channel.
      */
     private static class SecureChatServerInitializer extends ChannelInitializer<SocketChannel> {
-        private static SecureChatServerHandler handler;
+        private final SecureChatServerHandler handler;
         private final SslContext sslCtx;
+        private final ServerConfig serverConfig;
+        private final ChatMetrics metrics;
 
-        SecureChatServerInitializer(SslContext sslCtx, EventBus bus, ClientConfig config) {
+        SecureChatServerInitializer(SslContext sslCtx, EventDispatcher dispatcher, ClientConfig config, ServerConfig serverConfig,
+                                    ChatMetrics metrics, LoadMonitor load, @Nullable MessageLog log) {
             this.sslCtx = sslCtx;
-            if (handler == null) {
-                handler = new SecureChatServerHandler(config);
-            }
+            this.serverConfig = serverConfig;
+            this.metrics = metrics;
+            // One handler for every channel of this server, but each server in the process has its own
+            this.handler = new SecureChatServerHandler(config, serverConfig, metrics, load, log);
 
-            bus.register(handler);
+            dispatcher.registerPacketListener(handler);
+        }
+
+        @NotNull
+        SecureChatServerHandler handler() {
+            return handler;
+        }
+
+        /**
+         * @return the initializer of links to other nodes, they speak the binary format from the start and
+         * are treated like any other connection from then on
+         */
+        @NotNull
+        ChannelInitializer<SocketChannel> peerInitializer(@NotNull SslContext peerSslCtx) {
+            return new ChannelInitializer<SocketChannel>() {
+                @Override
+                protected void initChannel(SocketChannel ch) throws Exception {
+                    ch.attr(PacketCodec.WIRE_FORMAT).set(WireFormat.BINARY);
+                    initPipeline(ch, peerSslCtx, PacketCodec.newPeerCodec());
+                }
+            };
         }
 
         @Override
         public void initChannel(@NotNull SocketChannel ch) throws Exception {
+            // On top of the SSL handler, work out which packet codec the client speaks.
+            initPipeline(ch, sslCtx, new PacketCodec.ProtocolDetector());
+        }
+
+        private void initPipeline(@NotNull SocketChannel ch, @NotNull SslContext sslContext,
+                                  @NotNull ChannelHandler... codec) {
+            // The low mark can't be raised above the high mark, or the high one lowered below the low one
+            ChannelConfig channelConfig = ch.config();
+            if (serverConfig.writeBufferLowWaterMark() > channelConfig.getWriteBufferHighWaterMark()) {
+                channelConfig.setWriteBufferHighWaterMark(serverConfig.writeBufferHighWaterMark());
+                channelConfig.setWriteBufferLowWaterMark(serverConfig.writeBufferLowWaterMark());
+            } else {
+                channelConfig.setWriteBufferLowWaterMark(serverConfig.writeBufferLowWaterMark());
+                channelConfig.setWriteBufferHighWaterMark(serverConfig.writeBufferHighWaterMark());
+            }
+
             ChannelPipeline pipeline = ch.pipeline();
-            pipeline.addLast(sslCtx.newHandler(ch.alloc()));
+            pipeline.addLast(sslContext.newHandler(ch.alloc()));
+
+            // Writes are flushed together at the end of a read burst instead of one syscall each.
+            pipeline.addLast(new FlushCoalescer(serverConfig, metrics));
+            // Stalled clients must not be able to grow their outbound buffers without bound.
+            pipeline.addLast(new SlowConsumerHandler(serverConfig, metrics));
+
+            // Quiet clients are pinged, and dropped if they stay quiet.
+            long idleTimeout = serverConfig.idleTimeout(TimeUnit.MILLISECONDS);
+            if (idleTimeout > 0) {
+                pipeline.addLast(new IdleStateHandler(idleTimeout, 0, 0, TimeUnit.MILLISECONDS));
+            }
 
-            // On top of the SSL handler, add the text line codec.
-            pipeline.addLast(new DelimiterBasedFrameDecoder(8192, Delimiters.lineDelimiter()));
-            pipeline.addLast(new StringDecoder());
-            pipeline.addLast(new StringEncoder());
+            pipeline.addLast(codec);
 
             // and then business logic.
 
-            pipeline.addLast(handler);
+            pipeline.addLast(PacketCodec.HANDLER_NAME, handler);
         }
     }
 }
@@ -9,8 +9,10 @@ import java.nio.charset.Charset;
 import java.security.SecureRandom;
 import java.util.HashMap;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Strings.isNullOrEmpty;
 
@@ -25,6 +27,19 @@ public final class ClientConfig {
     private final static long seed = RNG.nextLong();
     private long messageId = 0;
     private boolean connected;
+    private WireFormat wireFormat = WireFormat.BINARY;
+    private String room = RoomIndex.LOBBY;
+    private int sendQueueCapacity = 1024;
+    private int inboundQueueCapacity = 1024;
+    private InboundOverflowPolicy inboundOverflowPolicy = InboundOverflowPolicy.DROP_OLDEST;
+    private long inboundBlockTimeoutMillis = 1000;
+    private int subscriberBufferSize = 256;
+    private int listenerMailboxSize = 1024;
+    private long heartbeatIntervalMillis = 5000;
+    private int missedHeartbeats = 3;
+    private long serverReevaluationMillis = 60000;
+    private long reconnectBackoffInitialMillis = 100;
+    private long reconnectBackoffMaxMillis = 10000;
 
     private int portNumber;
 
@@ -78,4 +93,173 @@ public final class ClientConfig {
     public int port() {
         return portNumber;
     }
+
+    @Contract(pure = true)
+    public String room() {
+        return room;
+    }
+
+    /**
+     * Selects the room this client joins and sends to, the empty string is the lobby.
+     */
+    public ClientConfig room(@NotNull String room) {
+        this.room = checkNotNull(room);
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int sendQueueCapacity() {
+        return sendQueueCapacity;
+    }
+
+    /**
+     * Sets how many outgoing messages may wait to be written before {@link Chat#newMessage(String)}
+     * starts refusing them.
+     */
+    public ClientConfig sendQueueCapacity(int capacity) {
+        checkArgument(capacity > 0, "The send queue must hold at least one message");
+        sendQueueCapacity = capacity;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int inboundQueueCapacity() {
+        return inboundQueueCapacity;
+    }
+
+    /**
+     * Sets how many received messages {@link Chat#getNextMessage()} can fall behind by before the
+     * overflow policy applies.
+     */
+    public ClientConfig inboundQueueCapacity(int capacity) {
+        checkArgument(capacity > 0, "The inbound queue must hold at least one message");
+        inboundQueueCapacity = capacity;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public InboundOverflowPolicy inboundOverflowPolicy() {
+        return inboundOverflowPolicy;
+    }
+
+    @Contract(pure = true)
+    public long inboundBlockTimeout(TimeUnit unit) {
+        return unit.convert(inboundBlockTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets what happens to received messages once the inbound queue is full. The timeout only applies to
+     * {@link InboundOverflowPolicy#BLOCK}.
+     */
+    public ClientConfig inboundOverflowPolicy(@NotNull InboundOverflowPolicy policy, long timeout, TimeUnit unit) {
+        checkArgument(timeout >= 0, "The timeout can't be negative");
+        inboundOverflowPolicy = checkNotNull(policy);
+        inboundBlockTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int subscriberBufferSize() {
+        return subscriberBufferSize;
+    }
+
+    /**
+     * Sets how many messages a {@link MessagePublisher} subscriber may fall behind by before the
+     * connection stops reading from the server. Applies to subscriptions made afterwards.
+     */
+    public ClientConfig subscriberBufferSize(int size) {
+        checkArgument(size > 0, "The subscriber buffer must hold at least one message");
+        subscriberBufferSize = size;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int listenerMailboxSize() {
+        return listenerMailboxSize;
+    }
+
+    /**
+     * Sets how many messages may wait for a {@link MessageListener}, once exceeded its oldest waiting
+     * message is dropped. Applies to listeners added afterwards.
+     */
+    public ClientConfig listenerMailboxSize(int size) {
+        checkArgument(size > 0, "The listener mailbox must hold at least one message");
+        listenerMailboxSize = size;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long heartbeatInterval(TimeUnit unit) {
+        return unit.convert(heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Contract(pure = true)
+    public int missedHeartbeats() {
+        return missedHeartbeats;
+    }
+
+    /**
+     * Sets how often the client pings a quiet connection, and after how many unanswered intervals the
+     * connection is considered dead and replaced.
+     */
+    public ClientConfig heartbeat(long interval, TimeUnit unit, int missed) {
+        checkArgument(interval > 0, "The heartbeat interval must be positive");
+        checkArgument(missed > 0, "At least one heartbeat must be allowed to go unanswered");
+        heartbeatIntervalMillis = unit.toMillis(interval);
+        missedHeartbeats = missed;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long serverReevaluationInterval(TimeUnit unit) {
+        return unit.convert(serverReevaluationMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets how often the client probes the known servers while connected, and moves to another one
+     * that is much better than the current. Zero only picks a server when connecting.
+     */
+    public ClientConfig serverReevaluationInterval(long interval, TimeUnit unit) {
+        checkArgument(interval >= 0, "The reevaluation interval can't be negative");
+        serverReevaluationMillis = unit.toMillis(interval);
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long reconnectBackoffInitial(TimeUnit unit) {
+        return unit.convert(reconnectBackoffInitialMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Contract(pure = true)
+    public long reconnectBackoffMax(TimeUnit unit) {
+        return unit.convert(reconnectBackoffMaxMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets the delays between reconnection attempts. Once every known server has refused a connection
+     * the client waits a random time up to {@code initial}, doubling the limit each round until it
+     * reaches {@code max}.
+     */
+    public ClientConfig reconnectBackoff(long initial, long max, TimeUnit unit) {
+        checkArgument(initial > 0, "The initial backoff must be positive");
+        checkArgument(max >= initial, "The maximum backoff can't be below the initial one");
+        reconnectBackoffInitialMillis = unit.toMillis(initial);
+        reconnectBackoffMaxMillis = unit.toMillis(max);
+        return this;
+    }
+
+    @Contract(pure = true)
+    public WireFormat wireFormat() {
+        return wireFormat;
+    }
+
+    /**
+     * Selects the framing asked for when connecting. Servers that predate the binary format don't answer
+     * the request for it and are spoken to in {@link WireFormat#LEGACY_JSON} instead, so setting that
+     * only saves the round trip it takes to find out.
+     */
+    public ClientConfig wireFormat(@NotNull WireFormat wireFormat) {
+        this.wireFormat = checkNotNull(wireFormat);
+        return this;
+    }
 }
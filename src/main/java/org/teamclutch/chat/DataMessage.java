@@ -12,22 +12,20 @@ import org.teamclutch.chat.protobuf.Message;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 public class DataMessage {
     private static final Gson gson = new GsonBuilder().serializeSpecialFloatingPointValues().create();
-    private Message.Data cachedMessage;
-    private final String username;
-    private final String serverIdentifier;
-    private final String messageId;
-    private final String message;
+    private volatile Message.Data cachedMessage;
+    private final byte[] serialized;
 
     DataMessage(String username, String serverIdentifier, String messageId, String message) {
-        this.username = username;
-        this.serverIdentifier = serverIdentifier;
-        this.messageId = messageId;
-        this.message = message;
-
+        this(Message.Data.newBuilder().setId(messageId)
+                .setServerClientId(serverIdentifier)
+                .setUsername(username)
+                .setData(message)
+                .build());
     }
 
     DataMessage(Message.Data data) {
@@ -36,51 +34,81 @@ public class DataMessage {
         checkNotNull(data.getData());
         checkNotNull(data.getId());
 
-        this.username = data.getUsername();
-        this.serverIdentifier = data.getServerClientId();
-        this.messageId = data.getId();
-        this.message = data.getData();
+        this.cachedMessage = data;
+        this.serialized = null;
+    }
+
+    /**
+     * Creates a message from a serialized {@link Message.Data}, which is only parsed once one of its
+     * fields is read.
+     */
+    DataMessage(@NotNull byte[] serializedData) {
+        this.serialized = checkNotNull(serializedData);
     }
 
     @NotNull
     public String username() {
-        return username;
+        return createMessage().getUsername();
     }
 
     @NotNull
     public String serverIdentifier() {
-        return serverIdentifier;
+        return createMessage().getServerClientId();
     }
 
     @NotNull
     public String messageId() {
-        return messageId;
+        return createMessage().getId();
     }
 
     @NotNull
     public String message() {
-        return message;
+        return createMessage().getData();
+    }
+
+    /**
+     * @return the room the message was sent to, empty for the lobby
+     */
+    @NotNull
+    public String room() {
+        return createMessage().getRoom();
     }
 
     @NotNull
     Message.Data createMessage() {
-        if (cachedMessage == null) {
-            cachedMessage = Message.Data.newBuilder().setId(messageId)
-                    .setServerClientId(serverIdentifier)
-                    .setUsername(username)
-                    .setData(message)
-                    .build();
+        Message.Data message = cachedMessage;
+        if (message == null) {
+            try {
+                message = Message.Data.parseFrom(serialized);
+            } catch (InvalidProtocolBufferException e) {
+                throw new IllegalStateException("Stored message is corrupted", e);
+            }
+            cachedMessage = message;
         }
 
-        return cachedMessage;
+        return message;
+    }
+
+    /**
+     * @return the serialized {@link Message.Data}, without serializing it again if it was received that way
+     */
+    @NotNull
+    byte[] toByteArray() {
+        return serialized != null ? serialized : createMessage().toByteArray();
     }
 
     @NotNull
     static Message.Packet createMessage(@NotNull ClientConfig instance, @NotNull String message) {
+        return createMessage(instance, instance.room(), message);
+    }
+
+    @NotNull
+    static Message.Packet createMessage(@NotNull ClientConfig instance, @NotNull String room, @NotNull String message) {
         checkNotNull(message, "The message param is null");
         Message.Data.Builder builder = Message.Data.newBuilder().setId(Long.toString(instance.nextMessageId()))
                 .setServerClientId(instance.serverClientId().toString())
                 .setUsername(instance.username())
+                .setRoom(room)
                 .setData(message);
         return newPacketBuilder().setData(builder).build();
     }
@@ -90,9 +118,31 @@ public class DataMessage {
         return Message.Packet.newBuilder();
     }
 
+    /**
+     * A heartbeat, the other side answers it with {@link #createPingReply(Message.Ping, String)}.
+     */
     @NotNull
     static Message.Packet createPing() {
-        Message.Ping.Builder builder = Message.Ping.newBuilder().setTimeSent(System.currentTimeMillis());
+        return createPing(System.currentTimeMillis());
+    }
+
+    /**
+     * @param timeSent wall clock milliseconds, which is what older peers expect on the wire
+     */
+    @NotNull
+    static Message.Packet createPing(long timeSent) {
+        Message.Ping.Builder builder = Message.Ping.newBuilder().setTimeSent(timeSent);
+        return newPacketBuilder().setPing(builder).build();
+    }
+
+    /**
+     * Echoes the ping's send time back so the sender can measure the round trip. Replies always carry a
+     * load, which is what tells them apart from pings that want an answer.
+     */
+    @NotNull
+    static Message.Packet createPingReply(@NotNull Message.Ping ping, @NotNull String load) {
+        checkArgument(!load.isEmpty(), "A ping reply must carry a load");
+        Message.Ping.Builder builder = Message.Ping.newBuilder().setTimeSent(ping.getTimeSent()).setLoad(load);
         return newPacketBuilder().setPing(builder).build();
     }
 
@@ -100,7 +150,20 @@ public class DataMessage {
     static Message.Packet createNewUserRequest(@NotNull ClientConfig instance) {
         Message.NewUser build = Message.NewUser.newBuilder()
                 .setUsername(instance.username())
-                .setId(instance.serverClientId().toString()).build();
+                .setId(instance.serverClientId().toString())
+                .addRooms(instance.room()).build();
+        return newPacketBuilder().setNew(build).build();
+    }
+
+    /**
+     * Announces a server to a peer node it links to.
+     */
+    @NotNull
+    static Message.Packet createNodeRequest(@NotNull ClientConfig instance) {
+        Message.NewUser build = Message.NewUser.newBuilder()
+                .setUsername("SERVER")
+                .setId(instance.serverClientId().toString())
+                .setNode(true).build();
         return newPacketBuilder().setNew(build).build();
     }
 
@@ -119,6 +182,11 @@ public class DataMessage {
         return newPacketBuilder().setRequest(request).build();
     }
 
+    @NotNull
+    static Message.Packet createRequest(@NotNull String id) {
+        return newPacketBuilder().setRequest(Message.DataRequest.newBuilder().setId(id)).build();
+    }
+
     @NotNull
     static Message.Packet createDataPackage(@NotNull DataMessage... messages) {
         List<Message.Data> dataList = new ArrayList<>(messages.length);
@@ -0,0 +1,156 @@
+package org.teamclutch.chat;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Longs;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The cache keys of the messages stored over the last dedupe window, in Bloom filters of a few bits per
+ * key. The window is split into {@link #PARTITIONS} partitions by time; new keys go into the newest one,
+ * and once it is old or full the oldest partition is dropped and a new one started. So the filter never
+ * forgets a key sooner than a window, minus one partition, after it was added.
+ * <p>
+ * A key that was added is always found. One that wasn't is found by mistake at about the configured
+ * false positive rate, as every partition is sized for that rate divided by the number of partitions.
+ */
+final class DedupeFilter {
+    static final int PARTITIONS = 8;
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final long partitionMillis;
+    private final long keysPerPartition;
+    private final long bits;
+    private final int hashCount;
+    // Newest first, replaced as a whole on rotation
+    private volatile Partition[] partitions = new Partition[0];
+
+    DedupeFilter(@NotNull ServerConfig config) {
+        this.partitionMillis = Math.max(1, config.dedupeWindow(TimeUnit.MILLISECONDS) / PARTITIONS);
+        this.keysPerPartition = Math.max(1, config.dedupeExpectedMessages() / PARTITIONS);
+        double partitionRate = config.dedupeFalsePositiveRate() / PARTITIONS;
+        this.bits = Math.max(64, (long) (-keysPerPartition * Math.log(partitionRate) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bits / keysPerPartition * Math.log(2)));
+        rotate(null);
+    }
+
+    boolean mightContain(@NotNull String key) {
+        long[] hash = hash(key);
+        for (Partition partition : current()) {
+            if (partition.mightContain(hash[0], hash[1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void put(@NotNull String key) {
+        long[] hash = hash(key);
+        Partition newest = current()[0];
+        newest.put(hash[0], hash[1]);
+        if (newest.keys.sum() >= keysPerPartition) {
+            rotate(newest);
+        }
+    }
+
+    /**
+     * @return the two halves of the key's 128 bit hash, every bit index is derived from them
+     */
+    @NotNull
+    private static long[] hash(@NotNull String key) {
+        byte[] bytes = HASH.hashString(key, StandardCharsets.UTF_8).asBytes();
+        return new long[]{
+                Longs.fromBytes(bytes[7], bytes[6], bytes[5], bytes[4], bytes[3], bytes[2], bytes[1], bytes[0]),
+                Longs.fromBytes(bytes[15], bytes[14], bytes[13], bytes[12], bytes[11], bytes[10], bytes[9], bytes[8])
+        };
+    }
+
+    /**
+     * @return the time since which every key added is still found, in milliseconds since the epoch
+     */
+    long coveredSince() {
+        Partition[] current = partitions;
+        return current[current.length - 1].startedAt;
+    }
+
+    /**
+     * @return the chance that a key that was never added is found, given how full the partitions are
+     */
+    double expectedFalsePositiveRate() {
+        double missAll = 1;
+        for (Partition partition : partitions) {
+            double fill = 1 - Math.exp(-hashCount * (double) partition.keys.sum() / bits);
+            missAll *= 1 - Math.pow(fill, hashCount);
+        }
+        return 1 - missAll;
+    }
+
+    /**
+     * @return the partitions, after starting a new one if the newest is old enough
+     */
+    @NotNull
+    private Partition[] current() {
+        Partition[] current = partitions;
+        if (System.currentTimeMillis() - current[0].startedAt >= partitionMillis) {
+            rotate(current[0]);
+            current = partitions;
+        }
+        return current;
+    }
+
+    /**
+     * Starts a new partition unless another thread already replaced the given newest one.
+     */
+    private synchronized void rotate(Partition newest) {
+        Partition[] current = partitions;
+        if (current.length > 0 && current[0] != newest) {
+            return;
+        }
+        Partition[] rotated = new Partition[Math.min(current.length + 1, PARTITIONS)];
+        rotated[0] = new Partition(bits);
+        System.arraycopy(current, 0, rotated, 1, rotated.length - 1);
+        partitions = rotated;
+    }
+
+    private final class Partition {
+        final long startedAt = System.currentTimeMillis();
+        final AtomicLongArray words;
+        final LongAdder keys = new LongAdder();
+
+        Partition(long bits) {
+            this.words = new AtomicLongArray((int) ((bits + 63) / 64));
+        }
+
+        boolean mightContain(long hash1, long hash2) {
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = (combined & Long.MAX_VALUE) % bits;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+                combined += hash2;
+            }
+            return true;
+        }
+
+        void put(long hash1, long hash2) {
+            long combined = hash1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = (combined & Long.MAX_VALUE) % bits;
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word;
+                do {
+                    word = words.get(index);
+                } while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask));
+                combined += hash2;
+            }
+            keys.increment();
+        }
+    }
+}
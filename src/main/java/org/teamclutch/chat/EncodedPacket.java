@@ -0,0 +1,93 @@
+package org.teamclutch.chat;
+
+import com.google.protobuf.CodedInputStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import org.jetbrains.annotations.NotNull;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.io.IOException;
+
+/**
+ * A packet that is serialized at most once per {@link WireFormat} no matter how many channels it is
+ * written to. Each channel receives a retained duplicate of the shared buffer, so {@link #release()}
+ * must be called once all writes have been issued.
+ * <p>
+ * A packet relayed from a binary connection keeps its original bytes, binary channels receive them
+ * unchanged behind a new length prefix and the packet is only decoded if a legacy channel needs it.
+ */
+final class EncodedPacket {
+    private Message.Packet packet;
+    private final ByteBuf raw;
+    private final ChatMetrics metrics;
+    private final ByteBuf[] encoded = new ByteBuf[WireFormat.values().length];
+
+    EncodedPacket(@NotNull Message.Packet packet, @NotNull ChatMetrics metrics) {
+        this.packet = packet;
+        this.raw = null;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param raw the unframed bytes of a serialized packet, the caller keeps its reference
+     */
+    EncodedPacket(@NotNull ByteBuf raw, @NotNull ChatMetrics metrics) {
+        this.packet = null;
+        this.raw = raw;
+        this.metrics = metrics;
+    }
+
+    @NotNull
+    Message.Packet packet() {
+        if (packet == null) {
+            try {
+                packet = Message.Packet.parseFrom(CodedInputStream.newInstance(raw.nioBuffer()));
+            } catch (IOException e) {
+                throw new IllegalStateException("Relayed packet is corrupted", e);
+            }
+        }
+        return packet;
+    }
+
+    @NotNull
+    ChannelFuture writeAndFlush(@NotNull Channel channel) {
+        ByteBuf buf = encoded(channel).duplicate().retain();
+        metrics.broadcastWritten(buf.readableBytes());
+        return channel.writeAndFlush(buf);
+    }
+
+    @NotNull
+    private ByteBuf encoded(@NotNull Channel channel) {
+        WireFormat format = channel.attr(PacketCodec.WIRE_FORMAT).get();
+        if (format == null) {
+            format = WireFormat.LEGACY_JSON;
+        }
+
+        ByteBuf buf = encoded[format.ordinal()];
+        if (buf == null) {
+            if (raw != null && format == WireFormat.BINARY) {
+                ByteBuf header = PooledByteBufAllocator.DEFAULT.buffer(PacketCodec.varint32Size(raw.readableBytes()));
+                PacketCodec.writeVarint32(header, raw.readableBytes());
+                metrics.broadcastSerialized(header.readableBytes());
+                buf = Unpooled.wrappedBuffer(header, raw.retain());
+            } else {
+                buf = PacketCodec.encode(PooledByteBufAllocator.DEFAULT, packet(), format);
+                metrics.broadcastSerialized(buf.readableBytes());
+            }
+            encoded[format.ordinal()] = buf;
+        }
+        return buf;
+    }
+
+    void release() {
+        for (int i = 0; i < encoded.length; i++) {
+            if (encoded[i] != null) {
+                encoded[i].release();
+                encoded[i] = null;
+            }
+        }
+    }
+}
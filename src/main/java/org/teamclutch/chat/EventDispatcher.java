@@ -0,0 +1,98 @@
+package org.teamclutch.chat;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hands events to listeners without running listener code on the IO threads. Every listener gets a
+ * thread of its own with a bounded mailbox, so a slow listener only delays itself; once its mailbox
+ * is full the oldest waiting event is dropped.
+ */
+final class EventDispatcher {
+    private final Map<MessageListener, Mailbox> messageListeners = new ConcurrentHashMap<>();
+    private final Map<PacketListener, Mailbox> packetListeners = new ConcurrentHashMap<>();
+    private final ThreadFactory threadFactory;
+    private final ClientConfig config;
+    private final ChatMetrics metrics;
+
+    EventDispatcher(@NotNull String name, @NotNull ClientConfig config, @NotNull ChatMetrics metrics) {
+        this.threadFactory = new ThreadFactoryBuilder().setNameFormat(name + "-listener-%d").setDaemon(true).build();
+        this.config = config;
+        this.metrics = metrics;
+    }
+
+    void register(@NotNull MessageListener listener) {
+        messageListeners.computeIfAbsent(listener, key -> new Mailbox());
+    }
+
+    void unregister(@NotNull MessageListener listener) {
+        Mailbox mailbox = messageListeners.remove(listener);
+        if (mailbox != null) {
+            mailbox.shutdown();
+        }
+    }
+
+    void registerPacketListener(@NotNull PacketListener listener) {
+        packetListeners.computeIfAbsent(listener, key -> new Mailbox());
+    }
+
+    void post(@NotNull DataMessage message) {
+        dispatch(messageListeners, listener -> listener.onMessage(message));
+    }
+
+    void post(@NotNull Message.Packet packet) {
+        dispatch(packetListeners, listener -> listener.onPacket(packet));
+    }
+
+    void shutdown() {
+        messageListeners.values().forEach(Mailbox::shutdown);
+        packetListeners.values().forEach(Mailbox::shutdown);
+        messageListeners.clear();
+        packetListeners.clear();
+    }
+
+    private <L> void dispatch(Map<L, Mailbox> listeners, Consumer<L> event) {
+        for (Map.Entry<L, Mailbox> entry : listeners.entrySet()) {
+            L listener = entry.getKey();
+            entry.getValue().execute(() -> event.accept(listener));
+        }
+    }
+
+    private final class Mailbox {
+        private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.listenerMailboxSize()), threadFactory,
+                (task, executor) -> {
+                    if (!executor.isShutdown()) {
+                        // Make room by dropping the oldest event
+                        executor.getQueue().poll();
+                        metrics.listenerDropped();
+                        executor.execute(task);
+                    }
+                });
+
+        void execute(Runnable task) {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException ex) {
+                    if (Chat.DEBUG_VERSION) {
+                        ex.printStackTrace();
+                    }
+                }
+            });
+        }
+
+        void shutdown() {
+            executor.shutdown();
+        }
+    }
+}
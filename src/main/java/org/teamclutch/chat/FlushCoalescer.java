@@ -0,0 +1,128 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces flushes on a single channel. While the channel is in a read burst flushes are held until
+ * {@link #channelReadComplete(ChannelHandlerContext)}; otherwise they are deferred to the end of the
+ * current event loop task, or up to the configured delay. In both cases a flush is forced once the
+ * configured number of writes is pending.
+ */
+final class FlushCoalescer extends ChannelDuplexHandler {
+    private final int maxPendingWrites;
+    private final long maxDelayNanos;
+    private final ChatMetrics metrics;
+    private final Runnable flushTask;
+
+    private ChannelHandlerContext ctx;
+    private boolean readInProgress;
+    private boolean flushScheduled;
+    private int pendingWrites;
+    private ScheduledFuture<?> delayedFlush;
+
+    FlushCoalescer(@NotNull ServerConfig config, @NotNull ChatMetrics metrics) {
+        this.maxPendingWrites = config.flushMaxPendingWrites();
+        this.maxDelayNanos = config.flushMaxDelay(TimeUnit.NANOSECONDS);
+        this.metrics = metrics;
+        this.flushTask = () -> {
+            flushScheduled = false;
+            delayedFlush = null;
+            if (pendingWrites > 0 && !readInProgress) {
+                flushNow(ctx);
+            }
+        };
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        readInProgress = true;
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        readInProgress = false;
+        if (pendingWrites > 0) {
+            flushNow(ctx);
+        }
+        ctx.fireChannelReadComplete();
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        pendingWrites++;
+        metrics.channelWrite();
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        if (pendingWrites == 0) {
+            // Nothing of ours to flush, but something below us (e.g. the SSL handshake) may need it
+            ctx.flush();
+        } else if (pendingWrites >= maxPendingWrites) {
+            flushNow(ctx);
+        } else if (!readInProgress && !flushScheduled) {
+            flushScheduled = true;
+            if (maxDelayNanos == 0) {
+                ctx.channel().eventLoop().execute(flushTask);
+            } else {
+                delayedFlush = ctx.channel().eventLoop().schedule(flushTask, maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        // Let the socket drain if the outbound buffer is filling up
+        if (!ctx.channel().isWritable() && pendingWrites > 0) {
+            flushNow(ctx);
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushPending(ctx);
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushPending(ctx);
+        ctx.close(promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        flushPending(ctx);
+    }
+
+    private void flushPending(ChannelHandlerContext ctx) {
+        if (pendingWrites > 0) {
+            flushNow(ctx);
+        }
+    }
+
+    private void flushNow(ChannelHandlerContext ctx) {
+        if (delayedFlush != null) {
+            delayedFlush.cancel(false);
+            delayedFlush = null;
+        }
+        flushScheduled = false;
+        pendingWrites = 0;
+        metrics.channelFlush();
+        ctx.flush();
+    }
+}
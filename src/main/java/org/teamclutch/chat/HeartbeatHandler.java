@@ -0,0 +1,102 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import org.jetbrains.annotations.NotNull;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a client connection alive and measures it. An {@link IdleStateHandler} ahead of it reports quiet
+ * intervals, which are answered with a ping; the replies are recorded as round trip times and swallowed.
+ * After too many intervals without hearing from the server the connection is closed, so it can be
+ * replaced instead of hanging. Intervals in which the client wasn't reading don't count.
+ */
+final class HeartbeatHandler extends ChannelInboundHandlerAdapter {
+    static final String CLIENT_LOAD = "{}";
+
+    private final int maxMissed;
+    private final RttHistogram connectionRtt;
+    private final RttHistogram serverRtt;
+    /**
+     * When each unanswered ping went out, by its send time on the wire. Wall clock milliseconds are too
+     * coarse and jumpy for a round trip, so it's measured locally.
+     */
+    private final TreeMap<Long, Long> pending = new TreeMap<>();
+    private long lastTimeSent;
+    private int missed;
+
+    HeartbeatHandler(@NotNull ClientConfig config, @NotNull RttHistogram connectionRtt,
+                     @NotNull RttHistogram serverRtt) {
+        this.maxMissed = config.missedHeartbeats();
+        this.connectionRtt = connectionRtt;
+        this.serverRtt = serverRtt;
+    }
+
+    /**
+     * @return a handler that reports when the connection has been quiet for a heartbeat interval
+     */
+    @NotNull
+    static IdleStateHandler newIdleStateHandler(@NotNull ClientConfig config) {
+        long interval = config.heartbeatInterval(TimeUnit.MILLISECONDS);
+        return new IdleStateHandler(interval, interval, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        missed = 0;
+        if (msg instanceof Message.Packet && ((Message.Packet) msg).getTypeCase() == Message.Packet.TypeCase.PING) {
+            Message.Ping ping = ((Message.Packet) msg).getPing();
+            if (ping.getLoad().isEmpty()) {
+                ctx.writeAndFlush(DataMessage.createPingReply(ping, CLIENT_LOAD));
+            } else {
+                Long sentAt = pending.remove(ping.getTimeSent());
+                if (sentAt != null) {
+                    long rtt = System.nanoTime() - sentAt;
+                    connectionRtt.record(rtt, TimeUnit.NANOSECONDS);
+                    serverRtt.record(rtt, TimeUnit.NANOSECONDS);
+                    // Earlier pings went unanswered, replies come in order
+                    pending.headMap(ping.getTimeSent()).clear();
+                }
+            }
+            return;
+        }
+        super.channelRead(ctx, msg);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof IdleStateEvent) {
+            IdleStateEvent event = (IdleStateEvent) evt;
+            // Nothing is read while reading is paused for a slow subscriber, that says nothing about the server
+            if (event.state() == IdleState.READER_IDLE && !ctx.channel().config().isAutoRead()) {
+                missed = 0;
+            } else if (event.state() == IdleState.READER_IDLE && ++missed >= maxMissed) {
+                if (Chat.DEBUG_VERSION) {
+                    System.err.println("No heartbeat from " + ctx.channel().remoteAddress() + ", reconnecting");
+                }
+                ctx.close();
+                return;
+            }
+            // A ping answered on both a quiet read and write side would only be counted once anyway
+            if (event.state() == IdleState.READER_IDLE || event.isFirst()) {
+                ping(ctx);
+            }
+            return;
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+    private void ping(ChannelHandlerContext ctx) {
+        // Unique per ping, even for two in the same millisecond
+        long timeSent = Math.max(System.currentTimeMillis(), lastTimeSent + 1);
+        lastTimeSent = timeSent;
+        pending.put(timeSent, System.nanoTime());
+        ctx.writeAndFlush(DataMessage.createPing(timeSent));
+    }
+}
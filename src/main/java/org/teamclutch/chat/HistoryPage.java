@@ -0,0 +1,56 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of a room's earlier messages, see {@link Chat#history(String, int)}.
+ */
+public final class HistoryPage {
+    private final List<DataMessage> messages;
+    private final String nextCursor;
+
+    HistoryPage(@NotNull List<DataMessage> messages, @Nullable String nextCursor) {
+        this.messages = Collections.unmodifiableList(messages);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return the messages on this page, oldest first
+     */
+    @NotNull
+    @Contract(pure = true)
+    public List<DataMessage> messages() {
+        return messages;
+    }
+
+    /**
+     * @return the cursor of the page before this one, {@code null} if this page reaches back to the oldest
+     * message the server holds
+     */
+    @Nullable
+    @Contract(pure = true)
+    public String nextCursor() {
+        return nextCursor;
+    }
+
+    @Contract(pure = true)
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    @NotNull
+    static HistoryPage of(@NotNull Message.HistoryPage page) {
+        List<DataMessage> messages = new ArrayList<>(page.getMessagesCount());
+        for (Message.Data message : page.getMessagesList()) {
+            messages.add(new DataMessage(message));
+        }
+        return new HistoryPage(messages, page.getNext() == 0 ? null : Long.toString(page.getNext()));
+    }
+}
@@ -0,0 +1,20 @@
+package org.teamclutch.chat;
+
+/**
+ * What a {@link Chat} does with a received message when its inbound queue is full.
+ */
+public enum InboundOverflowPolicy {
+    /**
+     * Remove the oldest queued message to make room.
+     */
+    DROP_OLDEST,
+    /**
+     * Discard the message that just arrived.
+     */
+    DROP_NEWEST,
+    /**
+     * Stop reading from the server until there is room. Messages that have been read but don't fit are
+     * discarded after the configured timeout, and reading starts again.
+     */
+    BLOCK
+}
@@ -0,0 +1,66 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the server's {@link ServerLoad}. Every event loop runs a task once per sample interval, how
+ * much later than planned it runs is that loop's lag. The message rate is taken over the same interval.
+ */
+final class LoadMonitor {
+    private static final long SAMPLE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LongAdder messages = new LongAdder();
+    private final ConcurrentHashMap<EventExecutor, Long> lagNanos = new ConcurrentHashMap<>();
+    private volatile double messagesPerSecond;
+    // Only touched by the loop that updates the rate
+    private long rateSampledAt;
+
+    /**
+     * Starts sampling the event loops of the group until it shuts down.
+     */
+    void start(@NotNull EventLoopGroup group) {
+        long now = System.nanoTime();
+        for (EventExecutor loop : group) {
+            scheduleSample(loop, now);
+        }
+        rateSampledAt = now;
+        group.next().scheduleAtFixedRate(this::updateRate, SAMPLE_INTERVAL_NANOS, SAMPLE_INTERVAL_NANOS,
+                TimeUnit.NANOSECONDS);
+    }
+
+    void messageReceived() {
+        messages.increment();
+    }
+
+    @NotNull
+    ServerLoad current(int connections) {
+        long lag = 0;
+        for (long loopLag : lagNanos.values()) {
+            lag = Math.max(lag, loopLag);
+        }
+        return new ServerLoad(connections, lag / 1e6, messagesPerSecond);
+    }
+
+    private void scheduleSample(@NotNull EventExecutor loop, long scheduledAt) {
+        if (loop.isShuttingDown()) {
+            return;
+        }
+        loop.schedule(() -> {
+            long now = System.nanoTime();
+            lagNanos.put(loop, Math.max(0, now - scheduledAt - SAMPLE_INTERVAL_NANOS));
+            scheduleSample(loop, now);
+        }, SAMPLE_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+    }
+
+    private void updateRate() {
+        long now = System.nanoTime();
+        messagesPerSecond = messages.sumThenReset() * 1e9 / Math.max(1, now - rateSampledAt);
+        rateSampledAt = now;
+    }
+}
@@ -0,0 +1,125 @@
+package org.teamclutch.chat;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A hash tree per sender over the messages in a server's log. Leaves cover {@link #LEAF_SPAN} consecutive
+ * message ids and every node above has {@link #FAN_OUT} children. A node's hash is the XOR of the hashes
+ * of the messages below it, so adding or removing a message updates one node per level, and two nodes
+ * that hold the same messages have the same hash in every place no matter in which order they got them.
+ */
+final class MerkleSummary {
+    static final int LEAF_SPAN = 64;
+    static final int FAN_OUT = 16;
+    private static final int FAN_OUT_BITS = 4;
+    /**
+     * The root covers the first 64 * 16^7, about 17 billion, message ids of a sender. It must stay odd,
+     * see {@link AntiEntropy}.
+     */
+    static final int ROOT_LEVEL = 7;
+    private static final long MAX_LEAF = 1L << (FAN_OUT_BITS * ROOT_LEVEL);
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final ConcurrentHashMap<String, SenderTree> senders = new ConcurrentHashMap<>();
+    private final AtomicLong hash = new AtomicLong();
+
+    /**
+     * Adds or, as the hashes are XORed, removes the message with the given cache key.
+     */
+    void toggle(@NotNull String key) {
+        int split = key.lastIndexOf(':');
+        if (split < 0) {
+            return;
+        }
+        final long id;
+        try {
+            id = Long.parseLong(key.substring(split + 1));
+        } catch (NumberFormatException ex) {
+            return;
+        }
+        if (id < 0 || id / LEAF_SPAN >= MAX_LEAF) {
+            return;
+        }
+
+        long messageHash = HASH.hashString(key, StandardCharsets.UTF_8).asLong();
+        senders.computeIfAbsent(key.substring(0, split), sender -> new SenderTree()).toggle(id / LEAF_SPAN, messageHash);
+        hash.accumulateAndGet(messageHash, (a, b) -> a ^ b);
+    }
+
+    /**
+     * @return the hash of every message held, from every sender
+     */
+    long hash() {
+        return hash.get();
+    }
+
+    @NotNull
+    Set<String> senders() {
+        return senders.keySet();
+    }
+
+    /**
+     * @return the hash of a node, 0 if it is empty
+     */
+    long hash(@NotNull String sender, int level, long index) {
+        SenderTree tree = senders.get(sender);
+        return tree == null ? 0 : tree.hash(level, index);
+    }
+
+    /**
+     * @return the hashes of the children of a node, in order
+     */
+    @NotNull
+    long[] children(@NotNull String sender, int level, long index) {
+        long[] children = new long[FAN_OUT];
+        SenderTree tree = senders.get(sender);
+        if (tree != null) {
+            for (int i = 0; i < FAN_OUT; i++) {
+                children[i] = tree.hash(level - 1, index * FAN_OUT + i);
+            }
+        }
+        return children;
+    }
+
+    private static final class SenderTree {
+        private final List<Map<Long, Long>> levels = new ArrayList<>(ROOT_LEVEL + 1);
+
+        SenderTree() {
+            for (int i = 0; i <= ROOT_LEVEL; i++) {
+                levels.add(new HashMap<>());
+            }
+        }
+
+        synchronized void toggle(long leaf, long messageHash) {
+            for (int level = 0; level <= ROOT_LEVEL; level++) {
+                long index = leaf >>> (FAN_OUT_BITS * level);
+                Map<Long, Long> nodes = levels.get(level);
+                long updated = nodes.getOrDefault(index, 0L) ^ messageHash;
+                // Empty nodes take no space
+                if (updated == 0) {
+                    nodes.remove(index);
+                } else {
+                    nodes.put(index, updated);
+                }
+            }
+        }
+
+        synchronized long hash(int level, long index) {
+            if (level < 0 || level > ROOT_LEVEL) {
+                return 0;
+            }
+            return levels.get(level).getOrDefault(index, 0L);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The messages a server holds, ordered by id per sender, so a range of ids is found with one binary
+ * search and read as a contiguous scan. Messages usually arrive in order and leave oldest first, which
+ * are both constant time; anything else shifts part of the sender's arrays. The messages are the
+ * cache's off-heap copies, only read back for a range.
+ */
+final class MessageHistory implements MessageStore {
+    private final ConcurrentHashMap<String, SenderHistory> senders = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the message with the given cache key, keys without a numeric id are ignored.
+     */
+    void add(@NotNull String key, @NotNull OffHeapMessage message) {
+        int split = key.lastIndexOf(':');
+        long id = parseId(key, split);
+        if (id >= 0) {
+            senders.computeIfAbsent(key.substring(0, split), sender -> new SenderHistory()).add(id, message);
+        }
+    }
+
+    /**
+     * Removes the message with the given cache key, unless another one has replaced it since.
+     */
+    void remove(@NotNull String key, @NotNull OffHeapMessage message) {
+        int split = key.lastIndexOf(':');
+        long id = parseId(key, split);
+        if (id >= 0) {
+            SenderHistory history = senders.get(key.substring(0, split));
+            if (history != null) {
+                history.remove(id, message);
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<DataMessage> range(@NotNull String sender, long lower, long upper) {
+        SenderHistory history = senders.get(sender);
+        if (history == null || lower > upper) {
+            return new ArrayList<>(0);
+        }
+        return history.range(lower, upper);
+    }
+
+    /**
+     * @return the numeric id in a cache key whose sender ends at {@code split}, or -1 if there is none
+     */
+    static long parseId(@NotNull String key, int split) {
+        if (split < 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(key.substring(split + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private static final class SenderHistory {
+        private static final int INITIAL_CAPACITY = 16;
+
+        // Live entries are [head, head + size), sorted by id
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private OffHeapMessage[] messages = new OffHeapMessage[INITIAL_CAPACITY];
+        private int head;
+        private int size;
+
+        synchronized void add(long id, @NotNull OffHeapMessage message) {
+            ensureRoomAtEnd();
+            int end = head + size;
+            int insertAt = end;
+            if (size > 0 && ids[end - 1] >= id) {
+                int index = Arrays.binarySearch(ids, head, end, id);
+                if (index >= 0) {
+                    messages[index] = message;
+                    return;
+                }
+                insertAt = -index - 1;
+                System.arraycopy(ids, insertAt, ids, insertAt + 1, end - insertAt);
+                System.arraycopy(messages, insertAt, messages, insertAt + 1, end - insertAt);
+            }
+            ids[insertAt] = id;
+            messages[insertAt] = message;
+            size++;
+        }
+
+        synchronized void remove(long id, @NotNull OffHeapMessage message) {
+            int end = head + size;
+            int index = Arrays.binarySearch(ids, head, end, id);
+            if (index < 0 || messages[index] != message) {
+                return;
+            }
+            if (index == head) {
+                messages[head] = null;
+                head++;
+            } else {
+                System.arraycopy(ids, index + 1, ids, index, end - index - 1);
+                System.arraycopy(messages, index + 1, messages, index, end - index - 1);
+                messages[end - 1] = null;
+            }
+            size--;
+            if (size == 0) {
+                head = 0;
+            }
+        }
+
+        @NotNull
+        synchronized List<DataMessage> range(long lower, long upper) {
+            int end = head + size;
+            int from = Arrays.binarySearch(ids, head, end, lower);
+            if (from < 0) {
+                from = -from - 1;
+            }
+            List<DataMessage> range = new ArrayList<>();
+            for (int i = from; i < end && ids[i] <= upper; i++) {
+                // Null if it was evicted since this range started
+                DataMessage message = messages[i].materialize();
+                if (message != null) {
+                    range.add(message);
+                }
+            }
+            return range;
+        }
+
+        /**
+         * Makes sure one more entry fits after the last one, by moving the live entries to the front
+         * or growing the arrays.
+         */
+        private void ensureRoomAtEnd() {
+            if (head + size < ids.length) {
+                return;
+            }
+            if (head > 0 && size < ids.length / 2) {
+                System.arraycopy(ids, head, ids, 0, size);
+                System.arraycopy(messages, head, messages, 0, size);
+                Arrays.fill(messages, size, head + size, null);
+            } else {
+                int capacity = ids.length * 2;
+                long[] newIds = new long[capacity];
+                OffHeapMessage[] newMessages = new OffHeapMessage[capacity];
+                System.arraycopy(ids, head, newIds, 0, size);
+                System.arraycopy(messages, head, newMessages, 0, size);
+                ids = newIds;
+                messages = newMessages;
+            }
+            head = 0;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives the messages of a {@link Chat} session. Each listener is called from its own thread, one
+ * message at a time and in the order they arrived.
+ */
+@FunctionalInterface
+public interface MessageListener {
+    void onMessage(@NotNull DataMessage message);
+}
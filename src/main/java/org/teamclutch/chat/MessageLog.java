@@ -0,0 +1,722 @@
+package org.teamclutch.chat;
+
+import com.google.common.primitives.Longs;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.jetbrains.annotations.NotNull;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.zip.CRC32;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Every message a server has seen, in memory-mapped segment files that survive restarts. Records are
+ * appended as a length, a CRC32, the time they were appended and the serialized {@code Message.Data}; a
+ * zero length marks the end of a segment's records.
+ * <p>
+ * Appends only copy into the mapping. A background thread forces the dirty segments to disk once per
+ * commit interval, so every append in an interval shares one fsync. This is a periodic fsync rather than
+ * a group commit: the protocol has no acknowledgements to hold back, so a message is passed on before it
+ * is on disk, and at most one interval of messages is lost if the machine goes down. A torn record fails
+ * its checksum and ends recovery of its segment.
+ * <p>
+ * Each segment knows the span of ids it holds per sender, with the offset of every record of that sender
+ * and the id of every {@link #SPARSE_INTERVAL}th, and every sender knows its segments by their first id. A
+ * lookup finds the segment with one search, jumps to the nearest sampled id and only decodes records of
+ * the sender from there, however many other senders' records lie in between.
+ * <p>
+ * Retention works on whole segments, on the same background thread: segments older than the configured
+ * age, or the oldest ones while the log is over its size, are deleted, and a segment in which at least
+ * half the records are beyond a sender's or room's count limit is rewritten without them.
+ */
+final class MessageLog implements MessageStore, Closeable {
+    private static final String SUFFIX = ".log";
+    private static final String COMPACT_SUFFIX = ".compact";
+    private static final int HEADER_SIZE = 16;
+    private static final int SPARSE_INTERVAL = 64;
+    private static final long RETENTION_CHECK_MILLIS = 60000;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long retentionMillis;
+    private final long maxBytes;
+    private final int maxPerSender;
+    private final int maxPerRoom;
+    private final ConcurrentSkipListMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<String, SenderDirectory> senders = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService committer;
+    private volatile BiConsumer<String, String> onRemoved = (key, room) -> {
+    };
+    // Guarded by this
+    private Segment active;
+    private final List<Segment> dirty = new ArrayList<>();
+
+    private MessageLog(@NotNull Path directory, @NotNull ServerConfig config) {
+        this.directory = directory;
+        this.segmentSize = config.messageLogSegmentSize();
+        this.retentionMillis = config.messageLogRetention(TimeUnit.MILLISECONDS);
+        this.maxBytes = config.messageLogMaxBytes();
+        this.maxPerSender = config.messageLogMaxMessagesPerSender();
+        this.maxPerRoom = config.messageLogMaxMessagesPerRoom();
+        this.committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-log-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens the log in the directory, recovering the segments already in it.
+     */
+    @NotNull
+    static MessageLog open(@NotNull ServerConfig config) throws IOException {
+        Path directory = config.messageLogDirectory();
+        checkArgument(directory != null, "No message log directory is configured");
+        Files.createDirectories(directory);
+
+        MessageLog log = new MessageLog(directory, config);
+        // A compaction that didn't finish left its segment as it was
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + COMPACT_SUFFIX)) {
+            for (Path file : stream) {
+                Files.delete(file);
+            }
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        for (Path file : files) {
+            log.recover(file);
+        }
+        if (log.segments.isEmpty()) {
+            log.roll();
+        } else {
+            log.active = log.segments.lastEntry().getValue();
+        }
+
+        long interval = config.messageLogCommitInterval(TimeUnit.MILLISECONDS);
+        log.committer.scheduleWithFixedDelay(log::commit, interval, interval, TimeUnit.MILLISECONDS);
+        if (log.retentionMillis > 0 || log.maxBytes > 0 || log.maxPerSender > 0 || log.maxPerRoom > 0) {
+            log.committer.scheduleWithFixedDelay(log::enforceRetention, RETENTION_CHECK_MILLIS,
+                    RETENTION_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return log;
+    }
+
+    /**
+     * Sets what is called with the cache key and the room of every message retention removes.
+     */
+    void onRemoved(@NotNull BiConsumer<String, String> onRemoved) {
+        this.onRemoved = onRemoved;
+    }
+
+    /**
+     * Appends a message that isn't in the log yet, sent to the given room.
+     *
+     * @throws IllegalArgumentException if the key has no numeric id, or the message doesn't fit in a segment
+     */
+    void append(@NotNull String key, @NotNull String room, @NotNull DataMessage message) throws IOException {
+        int split = key.lastIndexOf(':');
+        long id = MessageHistory.parseId(key, split);
+        checkArgument(id >= 0, "The key %s has no message id", key);
+        byte[] data = message.toByteArray();
+        checkArgument(HEADER_SIZE + data.length + 4 <= segmentSize, "The message doesn't fit in a log segment");
+        String sender = key.substring(0, split);
+        long appendedAt = System.currentTimeMillis();
+
+        synchronized (this) {
+            if (!active.fits(data.length)) {
+                roll();
+            }
+            int offset = active.write(data, appendedAt);
+            SenderSpan span = active.index(offset, appendedAt, sender, id, room);
+            senders.computeIfAbsent(sender, s -> new SenderDirectory()).appended(active.number, span, id);
+            if (!dirty.contains(active)) {
+                dirty.add(active);
+            }
+        }
+    }
+
+    boolean contains(@NotNull String key) {
+        return contains(key, Long.MAX_VALUE);
+    }
+
+    /**
+     * Looks for a key only in the segments that started before the given time, which is all it takes
+     * for keys known to have been appended before it.
+     *
+     * @param appendedBefore in milliseconds since the epoch
+     */
+    boolean contains(@NotNull String key, long appendedBefore) {
+        int split = key.lastIndexOf(':');
+        long id = MessageHistory.parseId(key, split);
+        if (id < 0) {
+            return false;
+        }
+        String sender = key.substring(0, split);
+        SenderDirectory directory = senders.get(sender);
+        if (directory == null) {
+            return false;
+        }
+        boolean[] found = new boolean[1];
+        for (Segment segment : directory.segments(segments, id, id)) {
+            SenderSpan span = segment.senders.get(sender);
+            if (segment.firstAppended >= appendedBefore || span == null || !span.overlaps(id, id)) {
+                continue;
+            }
+            boolean ordered = span.isOrdered();
+            segment.scan(span, id, (offset, appendedAt, message, data) -> {
+                long recordId = idOf(message);
+                found[0] = recordId == id;
+                return !found[0] && !(ordered && recordId > id);
+            });
+            if (found[0]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @NotNull
+    @Override
+    public List<DataMessage> range(@NotNull String sender, long lower, long upper) {
+        SenderDirectory directory = senders.get(sender);
+        if (directory == null || lower > upper) {
+            return new ArrayList<>(0);
+        }
+        // Messages backfilled out of order can be in any segment, the map puts them back in order
+        TreeMap<Long, DataMessage> messages = new TreeMap<>();
+        for (Segment segment : directory.segments(segments, lower, upper)) {
+            SenderSpan span = segment.senders.get(sender);
+            if (span == null || !span.overlaps(lower, upper)) {
+                continue;
+            }
+            boolean ordered = span.isOrdered();
+            segment.scan(span, lower, (offset, appendedAt, message, data) -> {
+                long id = idOf(message);
+                if (id >= lower && id <= upper) {
+                    messages.put(id, new DataMessage(data));
+                }
+                return !(ordered && id > upper);
+            });
+        }
+        return new ArrayList<>(messages.values());
+    }
+
+    /**
+     * Calls the consumer with every logged message, oldest segment first.
+     */
+    void forEach(@NotNull EntryConsumer consumer) {
+        for (Segment segment : segments.values()) {
+            segment.scan(0, (offset, appendedAt, message, data) -> {
+                consumer.accept(message.getServerClientId() + ":" + message.getId(), new DataMessage(message),
+                        appendedAt);
+                return true;
+            });
+        }
+    }
+
+    /**
+     * Forces everything appended so far to disk.
+     */
+    void commit() {
+        List<Segment> toForce;
+        synchronized (this) {
+            toForce = new ArrayList<>(dirty);
+            dirty.clear();
+        }
+        for (Segment segment : toForce) {
+            segment.buffer.force();
+        }
+    }
+
+    /**
+     * Deletes and compacts the segments the retention limits no longer allow. The segment being appended
+     * to is left alone.
+     */
+    void enforceRetention() {
+        List<Segment> sealed = new ArrayList<>(segments.values());
+        synchronized (this) {
+            sealed.remove(active);
+        }
+        try {
+            long bytes = 0;
+            for (Segment segment : segments.values()) {
+                bytes += segment.end;
+            }
+            long cutoff = System.currentTimeMillis() - retentionMillis;
+            while (!sealed.isEmpty()) {
+                Segment oldest = sealed.get(0);
+                boolean expired = retentionMillis > 0 && oldest.lastAppended < cutoff;
+                if (!expired && (maxBytes <= 0 || bytes <= maxBytes)) {
+                    break;
+                }
+                bytes -= oldest.end;
+                delete(oldest);
+                sealed.remove(0);
+            }
+            if (maxPerSender > 0 || maxPerRoom > 0) {
+                compactOverLimits(sealed);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to enforce message log retention: " + e.getLocalizedMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        committer.shutdown();
+        try {
+            // Retention might be halfway through a segment
+            committer.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        commit();
+        for (Segment segment : segments.values()) {
+            segment.channel.close();
+        }
+    }
+
+    /**
+     * Goes through the sealed segments from the oldest, and rewrites every one where at least half the
+     * records have as many newer records of the same sender or room as the limit allows.
+     */
+    private void compactOverLimits(@NotNull List<Segment> sealed) throws IOException {
+        // How many records of each sender and room are in the segment being looked at or newer ones
+        Map<String, Integer> senderTotals = new HashMap<>();
+        Map<String, Integer> roomTotals = new HashMap<>();
+        for (Segment segment : segments.values()) {
+            segment.senders.forEach((sender, span) -> senderTotals.merge(sender, span.count(), Integer::sum));
+            segment.rooms.forEach((room, count) -> roomTotals.merge(room, count, Integer::sum));
+        }
+
+        for (Segment segment : sealed) {
+            Map<String, Integer> senderCounts = new HashMap<>();
+            segment.senders.forEach((sender, span) -> senderCounts.put(sender, span.count()));
+            Set<String> droppedSenders = overLimit(senderCounts, senderTotals, maxPerSender);
+            Set<String> droppedRooms = overLimit(segment.rooms, roomTotals, maxPerRoom);
+
+            int dropped = 0;
+            for (String sender : droppedSenders) {
+                dropped += senderCounts.get(sender);
+            }
+            for (String room : droppedRooms) {
+                dropped += segment.rooms.get(room);
+            }
+            // Rewriting a segment to win back a little space isn't worth it yet
+            if (dropped > 0 && dropped * 2 >= segment.records) {
+                compact(segment, droppedSenders, droppedRooms);
+            }
+        }
+    }
+
+    /**
+     * @return the names all of whose records in a segment are past the limit, given the totals from that
+     * segment on, which are moved on to the next segment
+     */
+    @NotNull
+    private static Set<String> overLimit(@NotNull Map<String, Integer> counts, @NotNull Map<String, Integer> totals,
+                                         int limit) {
+        Set<String> over = new HashSet<>();
+        counts.forEach((name, count) -> {
+            int total = totals.getOrDefault(name, count);
+            if (limit > 0 && total - count >= limit) {
+                over.add(name);
+            }
+            totals.put(name, total - count);
+        });
+        return over;
+    }
+
+    private void compact(@NotNull Segment segment, @NotNull Set<String> droppedSenders,
+                         @NotNull Set<String> droppedRooms) throws IOException {
+        Path temp = directory.resolve(fileName(segment.number) + COMPACT_SUFFIX);
+        Segment compacted = new Segment(segment.number, temp, segmentSize);
+        Map<String, String> removed = new LinkedHashMap<>();
+        segment.scan(0, (offset, appendedAt, message, data) -> {
+            String sender = message.getServerClientId();
+            if (droppedSenders.contains(sender) || droppedRooms.contains(message.getRoom())) {
+                removed.put(sender + ":" + message.getId(), message.getRoom());
+            } else {
+                int at = compacted.write(data, appendedAt);
+                compacted.index(at, appendedAt, sender, idOf(message), message.getRoom());
+            }
+            return true;
+        });
+        if (compacted.records == 0) {
+            compacted.channel.close();
+            Files.delete(temp);
+            delete(segment);
+            return;
+        }
+        compacted.buffer.force();
+        // Readers still holding the old segment keep its mapping, which outlives the file's name
+        Files.move(temp, segment.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        compacted.file = segment.file;
+        segments.put(segment.number, compacted);
+        compacted.senders.forEach((sender, span) ->
+                senders.computeIfAbsent(sender, s -> new SenderDirectory()).add(segment.number, span));
+        segment.senders.forEach((sender, span) -> {
+            SenderSpan kept = compacted.senders.get(sender);
+            SenderDirectory directory = senders.get(sender);
+            if (directory != null && (kept == null || kept.firstId != span.firstId)) {
+                directory.remove(segment.number, span);
+            }
+        });
+        segment.channel.close();
+        removed.forEach(onRemoved);
+    }
+
+    private void delete(@NotNull Segment segment) throws IOException {
+        Map<String, String> removed = new LinkedHashMap<>();
+        segment.scan(0, (offset, appendedAt, message, data) -> {
+            removed.put(message.getServerClientId() + ":" + message.getId(), message.getRoom());
+            return true;
+        });
+        segments.remove(segment.number, segment);
+        segment.senders.forEach((sender, span) -> {
+            SenderDirectory directory = senders.get(sender);
+            if (directory != null) {
+                directory.remove(segment.number, span);
+            }
+        });
+        segment.channel.close();
+        Files.deleteIfExists(segment.file);
+        removed.forEach(onRemoved);
+    }
+
+    private void recover(@NotNull Path file) throws IOException {
+        String name = file.getFileName().toString();
+        final int number;
+        try {
+            number = Integer.parseInt(name.substring(0, name.length() - SUFFIX.length()));
+        } catch (NumberFormatException ex) {
+            System.err.println("Skipping unknown file in the message log: " + file);
+            return;
+        }
+        Segment segment = new Segment(number, file, segmentSize);
+        MappedByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            long appendedAt = buffer.getLong(offset + 8);
+            byte[] data = new byte[length];
+            buffer.position(offset + HEADER_SIZE);
+            buffer.get(data);
+            if (checksum(appendedAt, data) != buffer.getInt(offset + 4)) {
+                break;
+            }
+            try {
+                Message.Data message = Message.Data.parseFrom(data);
+                long id = Long.parseLong(message.getId());
+                String sender = message.getServerClientId();
+                SenderSpan span = segment.index(offset, appendedAt, sender, id, message.getRoom());
+                senders.computeIfAbsent(sender, s -> new SenderDirectory()).appended(number, span, id);
+            } catch (InvalidProtocolBufferException | NumberFormatException ex) {
+                break;
+            }
+            offset += HEADER_SIZE + length;
+        }
+        // Whatever follows the last good record is overwritten by the next append
+        segment.end = offset;
+        if (offset + 4 <= buffer.capacity()) {
+            buffer.putInt(offset, 0);
+        }
+        segments.put(number, segment);
+    }
+
+    private void roll() throws IOException {
+        int number = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+        Segment segment = new Segment(number, directory.resolve(fileName(number) + SUFFIX), segmentSize);
+        segments.put(number, segment);
+        active = segment;
+    }
+
+    @NotNull
+    private static String fileName(int number) {
+        return String.format("%010d", number);
+    }
+
+    private static int checksum(long appendedAt, @NotNull byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(Longs.toByteArray(appendedAt));
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    private static long idOf(@NotNull Message.Data message) {
+        try {
+            return Long.parseLong(message.getId());
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    interface EntryConsumer {
+        /**
+         * @param appendedAt when the message was logged, in milliseconds since the epoch
+         */
+        void accept(@NotNull String key, @NotNull DataMessage message, long appendedAt);
+    }
+
+    private interface RecordVisitor {
+        /**
+         * @return whether to go on to the next record
+         */
+        boolean visit(int offset, long appendedAt, @NotNull Message.Data message, @NotNull byte[] data);
+    }
+
+    private static final class Segment {
+        final int number;
+        // Changes once when a compacted copy takes the place of the original
+        volatile Path file;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        final ConcurrentHashMap<String, SenderSpan> senders = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<String, Integer> rooms = new ConcurrentHashMap<>();
+        // Only changed by the thread writing the segment, records in [0, end) are complete
+        volatile int end;
+        volatile int records;
+        volatile long firstAppended = Long.MAX_VALUE;
+        volatile long lastAppended = Long.MIN_VALUE;
+
+        Segment(int number, @NotNull Path file, int size) throws IOException {
+            this.number = number;
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            // Mapping past the end grows the file, the new space reads as zeros
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+        }
+
+        /**
+         * @return whether a record of the length still fits, with the zero length that follows it
+         */
+        boolean fits(int length) {
+            return end + HEADER_SIZE + length + 4 <= buffer.capacity();
+        }
+
+        /**
+         * @return the offset of the new record
+         */
+        int write(@NotNull byte[] data, long appendedAt) {
+            int offset = end;
+            // The length goes in last, a record is only there once it is complete
+            buffer.putInt(offset + 4, checksum(appendedAt, data));
+            buffer.putLong(offset + 8, appendedAt);
+            buffer.position(offset + HEADER_SIZE);
+            buffer.put(data);
+            buffer.putInt(offset, data.length);
+            end = offset + HEADER_SIZE + data.length;
+            return offset;
+        }
+
+        /**
+         * Adds a record written by this thread to the index.
+         *
+         * @return the span of the record's sender
+         */
+        @NotNull
+        SenderSpan index(int offset, long appendedAt, @NotNull String sender, long id, @NotNull String room) {
+            SenderSpan span = senders.computeIfAbsent(sender, s -> new SenderSpan(id));
+            span.add(id, offset);
+            rooms.merge(room, 1, Integer::sum);
+            records++;
+            if (appendedAt < firstAppended) {
+                firstAppended = appendedAt;
+            }
+            if (appendedAt > lastAppended) {
+                lastAppended = appendedAt;
+            }
+            return span;
+        }
+
+        void scan(int from, @NotNull RecordVisitor visitor) {
+            ByteBuffer buffer = this.buffer.duplicate();
+            int limit = end;
+            int offset = from;
+            while (offset < limit && visit(buffer, offset, visitor)) {
+                offset += HEADER_SIZE + buffer.getInt(offset);
+            }
+        }
+
+        /**
+         * Visits the records of one sender only, from the last sampled one before {@code lower} on.
+         */
+        void scan(@NotNull SenderSpan span, long lower, @NotNull RecordVisitor visitor) {
+            ByteBuffer buffer = this.buffer.duplicate();
+            final int[] offsets;
+            final int count;
+            final int from;
+            synchronized (span) {
+                offsets = span.offsets;
+                count = span.count;
+                from = span.startIndex(lower);
+            }
+            for (int i = from; i < count; i++) {
+                if (!visit(buffer, offsets[i], visitor)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @return whether to go on to the next record
+         */
+        private static boolean visit(@NotNull ByteBuffer buffer, int offset, @NotNull RecordVisitor visitor) {
+            byte[] data = new byte[buffer.getInt(offset)];
+            buffer.position(offset + HEADER_SIZE);
+            buffer.get(data);
+            final Message.Data message;
+            try {
+                message = Message.Data.parseFrom(data);
+            } catch (InvalidProtocolBufferException ex) {
+                return false;
+            }
+            return visitor.visit(offset, buffer.getLong(offset + 8), message, data);
+        }
+    }
+
+    /**
+     * The ids of one sender in one segment, with the offset of every one of its records and the id of every
+     * {@link #SPARSE_INTERVAL}th. Offsets are only ever appended, so a reader may keep using the array it
+     * saw along with the count it saw.
+     */
+    private static final class SenderSpan {
+        final long firstId;
+        private long minId;
+        private long maxId;
+        private int count;
+        // Whether every id was higher than the one before, which lets lookups stop early
+        private boolean ordered = true;
+        private long[] sampleIds = new long[4];
+        private int samples;
+        private int[] offsets = new int[16];
+
+        SenderSpan(long firstId) {
+            this.firstId = firstId;
+            this.minId = firstId;
+            this.maxId = firstId;
+        }
+
+        synchronized void add(long id, int offset) {
+            if (count > 0 && id <= maxId) {
+                ordered = false;
+            }
+            minId = Math.min(minId, id);
+            maxId = Math.max(maxId, id);
+            if (count % SPARSE_INTERVAL == 0) {
+                if (samples == sampleIds.length) {
+                    sampleIds = Arrays.copyOf(sampleIds, samples * 2);
+                }
+                sampleIds[samples++] = id;
+            }
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = offset;
+        }
+
+        synchronized int count() {
+            return count;
+        }
+
+        synchronized boolean isOrdered() {
+            return ordered;
+        }
+
+        synchronized boolean overlaps(long lower, long upper) {
+            return count > 0 && minId <= upper && maxId >= lower;
+        }
+
+        /**
+         * @return the index of the record to scan from for ids of at least {@code lower}
+         */
+        synchronized int startIndex(long lower) {
+            if (!ordered) {
+                return 0;
+            }
+            int index = Arrays.binarySearch(sampleIds, 0, samples, lower);
+            if (index < 0) {
+                index = Math.max(0, -index - 2);
+            }
+            return index * SPARSE_INTERVAL;
+        }
+    }
+
+    /**
+     * The segments holding a sender's messages, by the first id appended to each.
+     */
+    private static final class SenderDirectory {
+        private final ConcurrentSkipListMap<Long, Integer> segmentsByFirstId = new ConcurrentSkipListMap<>();
+        // Whether ids only ever went up, so the segments are in id order too
+        private volatile boolean ordered = true;
+        private long lastId = -1;
+
+        synchronized void appended(int segment, @NotNull SenderSpan span, long id) {
+            if (id <= lastId) {
+                ordered = false;
+            }
+            lastId = Math.max(lastId, id);
+            segmentsByFirstId.putIfAbsent(span.firstId, segment);
+        }
+
+        void add(int segment, @NotNull SenderSpan span) {
+            segmentsByFirstId.put(span.firstId, segment);
+        }
+
+        void remove(int segment, @NotNull SenderSpan span) {
+            segmentsByFirstId.remove(span.firstId, segment);
+        }
+
+        /**
+         * @return the segments that can hold ids in the range, in order
+         */
+        @NotNull
+        Collection<Segment> segments(@NotNull ConcurrentSkipListMap<Integer, Segment> all, long lower, long upper) {
+            if (!ordered) {
+                return all.values();
+            }
+            Long from = segmentsByFirstId.floorKey(lower);
+            List<Segment> found = new ArrayList<>();
+            for (int number : segmentsByFirstId.subMap(from != null ? from : lower, true, upper, true).values()) {
+                Segment segment = all.get(number);
+                if (segment != null) {
+                    found.add(segment);
+                }
+            }
+            return found;
+        }
+    }
+}
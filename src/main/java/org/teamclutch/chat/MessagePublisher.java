@@ -0,0 +1,240 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Publishes received messages to subscribers that ask for them, following the same contract as
+ * {@code java.util.concurrent.Flow} (which needs Java 9, while this project targets Java 8).
+ * <p>
+ * Messages are delivered on an executor, never on the IO thread. Each subscriber has a bounded
+ * buffer; once any buffer is full the connection stops reading from the server until that
+ * subscriber catches up, so a slow subscriber pushes back on the server instead of using memory.
+ */
+public final class MessagePublisher {
+    private final CopyOnWriteArrayList<MessageSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger saturated = new AtomicInteger();
+    private final Runnable saturationChanged;
+    private final ClientConfig config;
+    private final Executor executor;
+    private volatile boolean completed;
+
+    /**
+     * @param saturationChanged called whenever {@link #isSaturated()} may have changed
+     */
+    MessagePublisher(@NotNull ClientConfig config, @NotNull Executor executor, @NotNull Runnable saturationChanged) {
+        this.config = config;
+        this.executor = executor;
+        this.saturationChanged = saturationChanged;
+    }
+
+    /**
+     * @return whether some subscriber's buffer is full, so no more messages should be read
+     */
+    boolean isSaturated() {
+        return saturated.get() > 0;
+    }
+
+    /**
+     * Adds a subscriber. {@link Subscriber#onSubscribe(Subscription)} is called before this returns and
+     * nothing is delivered until the subscriber requests it.
+     */
+    public void subscribe(@NotNull Subscriber subscriber) {
+        MessageSubscription subscription = new MessageSubscription(checkNotNull(subscriber),
+                config.subscriberBufferSize());
+        subscriber.onSubscribe(subscription);
+        // Added before checking, so a concurrent complete() either sees it or is seen here
+        subscriptions.add(subscription);
+        if (completed) {
+            subscription.complete();
+        }
+    }
+
+    void publish(@NotNull DataMessage message) {
+        for (MessageSubscription subscription : subscriptions) {
+            subscription.offer(message);
+        }
+    }
+
+    void complete() {
+        completed = true;
+        for (MessageSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Receives messages from a {@link MessagePublisher}, mirrors {@code Flow.Subscriber}.
+     */
+    public interface Subscriber {
+        void onSubscribe(@NotNull Subscription subscription);
+
+        void onNext(@NotNull DataMessage message);
+
+        void onError(@NotNull Throwable throwable);
+
+        void onComplete();
+    }
+
+    /**
+     * Links a {@link Subscriber} to its publisher, mirrors {@code Flow.Subscription}.
+     */
+    public interface Subscription {
+        /**
+         * Allows up to {@code n} more messages to be delivered.
+         */
+        void request(long n);
+
+        void cancel();
+    }
+
+    private final class MessageSubscription implements Subscription {
+        private final Subscriber subscriber;
+        private final int bufferSize;
+        private final ConcurrentLinkedQueue<DataMessage> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger buffered = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile boolean done;
+        private volatile Throwable error;
+        private boolean full;
+
+        MessageSubscription(Subscriber subscriber, int bufferSize) {
+            this.subscriber = subscriber;
+            this.bufferSize = bufferSize;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Must request a positive number of messages, got " + n);
+            } else {
+                long current;
+                long next;
+                do {
+                    current = requested.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!requested.compareAndSet(current, next));
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            signal();
+        }
+
+        void offer(DataMessage message) {
+            if (!cancelled) {
+                buffer.add(message);
+                buffered.incrementAndGet();
+                signal();
+            }
+        }
+
+        void complete() {
+            done = true;
+            signal();
+        }
+
+        private void signal() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        /**
+         * Only ever runs on one thread at a time, guarded by {@link #wip}.
+         */
+        private void drain() {
+            int missed = 1;
+            while (true) {
+                if (!deliver()) {
+                    terminate();
+                    return;
+                }
+                updateSaturation();
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @return {@code false} once the subscription has ended
+         */
+        private boolean deliver() {
+            long emitted = 0;
+            long limit = requested.get();
+            try {
+                while (emitted != limit && !cancelled && error == null) {
+                    DataMessage message = buffer.poll();
+                    if (message == null) {
+                        break;
+                    }
+                    buffered.decrementAndGet();
+                    subscriber.onNext(message);
+                    emitted++;
+                }
+            } catch (Throwable t) {
+                // The subscriber broke the contract, it won't hear from us again
+                cancelled = true;
+            }
+
+            if (emitted != 0 && limit != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+
+            if (cancelled) {
+                return false;
+            }
+            if (error != null) {
+                cancelled = true;
+                subscriber.onError(error);
+                return false;
+            }
+            if (done && buffer.isEmpty()) {
+                cancelled = true;
+                subscriber.onComplete();
+                return false;
+            }
+            return true;
+        }
+
+        private void terminate() {
+            subscriptions.remove(this);
+            buffer.clear();
+            buffered.set(0);
+            updateSaturation();
+        }
+
+        /**
+         * Pauses reading when this buffer fills up and resumes it once the buffer is half empty.
+         */
+        private void updateSaturation() {
+            int size = buffered.get();
+            if (!full && size >= bufferSize && !cancelled) {
+                full = true;
+                if (saturated.getAndIncrement() == 0) {
+                    saturationChanged.run();
+                }
+            } else if (full && (size <= bufferSize / 2 || cancelled)) {
+                full = false;
+                if (saturated.decrementAndGet() == 0) {
+                    saturationChanged.run();
+                }
+            }
+        }
+    }
+}
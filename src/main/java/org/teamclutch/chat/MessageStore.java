@@ -0,0 +1,17 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Where a server looks up the messages it holds by sender and id.
+ */
+interface MessageStore {
+    /**
+     * @return the held messages of the sender with ids from {@code lower} to {@code upper}, both
+     * included, in order
+     */
+    @NotNull
+    List<DataMessage> range(@NotNull String sender, long lower, long upper);
+}
@@ -0,0 +1,105 @@
+package org.teamclutch.chat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A cached message kept as its serialized bytes in pooled direct memory, where the garbage collector
+ * never has to look at it. A {@link DataMessage} is only made from it when it is read.
+ * <p>
+ * The pooled buffer's own reference count can't tell whether it is still ours, as the pool hands the
+ * same buffer out again once it is freed. So the message counts references itself: the cache holds
+ * one until it {@link #release() releases} the message on eviction, and every read holds one while it
+ * copies. The buffer goes back to the pool when the last of them is gone, and a read that starts after
+ * the cache let go gets {@code null} from {@link #materialize()}, just as if the message had been
+ * evicted a moment earlier.
+ */
+final class OffHeapMessage {
+    /**
+     * A rough size of what the cache keeps on the heap for every entry besides its key.
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+    private static final AtomicIntegerFieldUpdater<OffHeapMessage> REFERENCES =
+            AtomicIntegerFieldUpdater.newUpdater(OffHeapMessage.class, "references");
+
+    private final ByteBuf bytes;
+    private final String room;
+    private volatile int references = 1;
+    private volatile boolean evicted;
+
+    private OffHeapMessage(@NotNull ByteBuf bytes, @NotNull String room) {
+        this.bytes = bytes;
+        this.room = room;
+    }
+
+    /**
+     * @param room the room the message was sent to, kept on the heap so it can be had without a copy
+     */
+    @NotNull
+    static OffHeapMessage copyOf(@NotNull DataMessage message, @NotNull String room) {
+        byte[] data = message.toByteArray();
+        ByteBuf bytes = PooledByteBufAllocator.DEFAULT.directBuffer(data.length, data.length);
+        bytes.writeBytes(data);
+        return new OffHeapMessage(bytes, room);
+    }
+
+    @NotNull
+    String room() {
+        return room;
+    }
+
+    /**
+     * @return how many bytes the entry of this message under the key costs, both on and off the heap
+     */
+    int weight(@NotNull String key) {
+        return bytes.capacity() + 2 * (key.length() + room.length()) + ENTRY_OVERHEAD;
+    }
+
+    /**
+     * @return the message copied onto the heap, {@code null} if it was released meanwhile
+     */
+    @Nullable
+    DataMessage materialize() {
+        int count;
+        do {
+            count = references;
+            if (count == 0) {
+                return null;
+            }
+        } while (!REFERENCES.compareAndSet(this, count, count + 1));
+        try {
+            byte[] data = new byte[bytes.readableBytes()];
+            bytes.getBytes(bytes.readerIndex(), data);
+            return new DataMessage(data);
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Marks the message as leaving the cache, before what indexes it is cleaned up.
+     */
+    void evict() {
+        evicted = true;
+    }
+
+    /**
+     * @return whether the cache started letting go of the message
+     */
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    /**
+     * Drops a reference, the cache's unless it is a read's.
+     */
+    void release() {
+        if (REFERENCES.decrementAndGet(this) == 0) {
+            bytes.release();
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package org.teamclutch.chat;
+
+import com.google.protobuf.CodedOutputStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.DelimiterBasedFrameDecoder;
+import io.netty.handler.codec.Delimiters;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.MessageToMessageDecoder;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import io.netty.handler.codec.protobuf.ProtobufDecoder;
+import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
+import io.netty.handler.codec.string.StringDecoder;
+import io.netty.handler.codec.string.StringEncoder;
+import io.netty.util.AttributeKey;
+import io.netty.util.CharsetUtil;
+import org.jetbrains.annotations.NotNull;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Builds the codecs for both {@link WireFormat}s and negotiates which one a connection speaks.
+ * <p>
+ * A client that wants the binary format starts the connection with a two byte preamble, a NUL
+ * followed by the protocol version. A legacy JSON line always starts with '{', so the server can
+ * tell the two apart from the first byte and old clients keep working unchanged. Once detected the
+ * format is fired down the pipeline as a user event.
+ * <p>
+ * The server answers the preamble with its own, and the client only decodes binary once it got it.
+ * Servers that predate the binary format greet with a JSON line instead, which tells the client to
+ * connect again in JSON.
+ */
+final class PacketCodec {
+    static final AttributeKey<WireFormat> WIRE_FORMAT = AttributeKey.valueOf("chat.wireFormat");
+    private static final AttributeKey<CompletableFuture<WireFormat>> ANSWER = AttributeKey.valueOf("chat.answer");
+    static final String HANDLER_NAME = "handler";
+    private static final String CODEC_NAME = "codec";
+
+    private static final byte PREAMBLE_MAGIC = 0;
+    private static final byte PREAMBLE_VERSION = 1;
+    private static final int MAX_LINE_LENGTH = 8192;
+
+    private PacketCodec() {
+    }
+
+    /**
+     * Creates the codec handlers for the given format, in the order they must appear in the pipeline.
+     */
+    @NotNull
+    static ChannelHandler[] newCodec(@NotNull WireFormat format) {
+        switch (format) {
+            case BINARY:
+                return new ChannelHandler[]{
+                        new ProtobufVarint32FrameDecoder(),
+                        new ProtobufDecoder(Message.Packet.getDefaultInstance()),
+                        new BinaryEncoder()
+                };
+            case LEGACY_JSON:
+            default:
+                return new ChannelHandler[]{
+                        new DelimiterBasedFrameDecoder(MAX_LINE_LENGTH, Delimiters.lineDelimiter()),
+                        new StringDecoder(),
+                        new StringEncoder(),
+                        new LegacyDecoder(),
+                        new LegacyEncoder()
+                };
+        }
+    }
+
+    /**
+     * Like {@link #newCodec(WireFormat)}, but binary {@code Data} packets are handed to the server as
+     * {@link RelayedData} so they can be forwarded without a full decode.
+     */
+    @NotNull
+    static ChannelHandler[] newServerCodec(@NotNull WireFormat format) {
+        if (format == WireFormat.BINARY) {
+            return new ChannelHandler[]{
+                    new ProtobufVarint32FrameDecoder(),
+                    new RelayDecoder(),
+                    new BinaryEncoder()
+            };
+        }
+        return newCodec(format);
+    }
+
+    /**
+     * Creates the codec handlers a client connects with. For {@link WireFormat#BINARY} packets are encoded
+     * right away, but what the server sends is only decoded once it {@link #answer(Channel) answered} the
+     * preamble.
+     */
+    @NotNull
+    static ChannelHandler[] newClientCodec(@NotNull WireFormat format) {
+        if (format != WireFormat.BINARY) {
+            return newCodec(format);
+        }
+        return new ChannelHandler[]{
+                new AnswerDetector(new ProtobufVarint32FrameDecoder(),
+                        new ProtobufDecoder(Message.Packet.getDefaultInstance())),
+                new BinaryEncoder()
+        };
+    }
+
+    /**
+     * Like {@link #newClientCodec(WireFormat)} in binary, for a server linking to a peer. Like on any server
+     * channel, the peer's {@code Data} packets are handed on as {@link RelayedData}.
+     */
+    @NotNull
+    static ChannelHandler[] newPeerCodec() {
+        return new ChannelHandler[]{
+                new AnswerDetector(new ProtobufVarint32FrameDecoder(), new RelayDecoder()),
+                new BinaryEncoder()
+        };
+    }
+
+    /**
+     * @return how the server answered the preamble on a channel set up for {@link WireFormat#BINARY}: in
+     * binary, or in {@link WireFormat#LEGACY_JSON} if it predates the binary format. It took the preamble
+     * for the start of a line then, so the channel is closed.
+     */
+    @NotNull
+    static CompletableFuture<WireFormat> answer(@NotNull Channel channel) {
+        CompletableFuture<WireFormat> answer = channel.attr(ANSWER).get();
+        checkState(answer != null, "The channel wasn't set up for the binary format");
+        return answer;
+    }
+
+    /**
+     * The bytes a client sends first to switch the connection to {@link WireFormat#BINARY}, which the
+     * server sends back.
+     */
+    @NotNull
+    static ByteBuf newPreamble() {
+        return Unpooled.wrappedBuffer(new byte[]{PREAMBLE_MAGIC, PREAMBLE_VERSION});
+    }
+
+    /**
+     * Serializes a packet, including its framing, into a buffer taken from the allocator.
+     */
+    @NotNull
+    static ByteBuf encode(@NotNull ByteBufAllocator alloc, @NotNull Message.Packet packet, @NotNull WireFormat format) {
+        if (format == WireFormat.BINARY) {
+            int size = packet.getSerializedSize();
+            ByteBuf buf = alloc.buffer(varint32Size(size) + size);
+            writeBinary(packet, size, buf);
+            return buf;
+        }
+
+        return ByteBufUtil.encodeString(alloc, CharBuffer.wrap(DataMessage.encode(packet)), CharsetUtil.UTF_8);
+    }
+
+    static int varint32Size(int value) {
+        if ((value & (~0 << 7)) == 0) return 1;
+        if ((value & (~0 << 14)) == 0) return 2;
+        if ((value & (~0 << 21)) == 0) return 3;
+        if ((value & (~0 << 28)) == 0) return 4;
+        return 5;
+    }
+
+    static void writeVarint32(@NotNull ByteBuf out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static void writeBinary(@NotNull Message.Packet packet, int size, @NotNull ByteBuf out) {
+        writeVarint32(out, size);
+        out.ensureWritable(size);
+        try {
+            // Serialize straight into the buffer's memory instead of going through a byte[]. Direct buffers
+            // are written through a small staging array, which the flush empties.
+            CodedOutputStream stream = CodedOutputStream.newInstance(out.nioBuffer(out.writerIndex(), size));
+            packet.writeTo(stream);
+            stream.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize packet", e);
+        }
+        out.writerIndex(out.writerIndex() + size);
+    }
+
+    /**
+     * Sits right after the SSL handler of a server channel, looks at the first byte the client sent and
+     * replaces itself with the matching codec.
+     */
+    static final class ProtocolDetector extends ByteToMessageDecoder {
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+            if (!in.isReadable()) {
+                return;
+            }
+
+            final WireFormat format;
+            if (in.getByte(in.readerIndex()) == PREAMBLE_MAGIC) {
+                if (in.readableBytes() < 2) {
+                    return;
+                }
+                byte version = in.getByte(in.readerIndex() + 1);
+                if (version != PREAMBLE_VERSION) {
+                    in.skipBytes(in.readableBytes());
+                    ctx.close();
+                    return;
+                }
+                in.skipBytes(2);
+                format = WireFormat.BINARY;
+                // Tells the client it can decode binary, servers before it greet with a JSON line
+                ctx.writeAndFlush(newPreamble());
+            } else {
+                format = WireFormat.LEGACY_JSON;
+            }
+
+            ctx.channel().attr(WIRE_FORMAT).set(format);
+            ChannelPipeline pipeline = ctx.pipeline();
+            ChannelHandler[] codec = newServerCodec(format);
+            for (int i = 0; i < codec.length; i++) {
+                pipeline.addBefore(HANDLER_NAME, CODEC_NAME + i, codec[i]);
+            }
+            ctx.fireUserEventTriggered(format);
+            // Any bytes already buffered are passed on to the new codec when this handler is removed
+            pipeline.remove(this);
+        }
+    }
+
+    /**
+     * Sits where a binary client's decoders go until the server's first bytes show whether it answered
+     * the preamble, and then replaces itself with them.
+     */
+    private static final class AnswerDetector extends ByteToMessageDecoder {
+        private final ChannelHandler[] decoders;
+        private final CompletableFuture<WireFormat> answer = new CompletableFuture<>();
+
+        AnswerDetector(@NotNull ChannelHandler... decoders) {
+            this.decoders = decoders;
+        }
+
+        @Override
+        public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+            ctx.channel().attr(ANSWER).set(answer);
+        }
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+            if (!in.isReadable()) {
+                return;
+            }
+
+            if (in.getByte(in.readerIndex()) != PREAMBLE_MAGIC) {
+                in.skipBytes(in.readableBytes());
+                ctx.channel().attr(WIRE_FORMAT).set(WireFormat.LEGACY_JSON);
+                answer.complete(WireFormat.LEGACY_JSON);
+                ctx.close();
+                return;
+            }
+            if (in.readableBytes() < 2) {
+                return;
+            }
+            byte version = in.getByte(in.readerIndex() + 1);
+            if (version != PREAMBLE_VERSION) {
+                in.skipBytes(in.readableBytes());
+                answer.completeExceptionally(new IOException("The server speaks protocol version " + version));
+                ctx.close();
+                return;
+            }
+            in.skipBytes(2);
+
+            ctx.channel().attr(WIRE_FORMAT).set(WireFormat.BINARY);
+            ChannelPipeline pipeline = ctx.pipeline();
+            String previous = ctx.name();
+            for (int i = 0; i < decoders.length; i++) {
+                pipeline.addAfter(previous, CODEC_NAME + i, decoders[i]);
+                previous = CODEC_NAME + i;
+            }
+            answer.complete(WireFormat.BINARY);
+            // Any bytes already buffered are passed on to the decoders when this handler is removed
+            pipeline.remove(this);
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            answer.completeExceptionally(new ClosedChannelException());
+            super.channelInactive(ctx);
+        }
+    }
+
+    private static final class BinaryEncoder extends MessageToByteEncoder<Message.Packet> {
+        @Override
+        protected void encode(ChannelHandlerContext ctx, Message.Packet msg, ByteBuf out) throws Exception {
+            writeBinary(msg, msg.getSerializedSize(), out);
+        }
+    }
+
+    private static final class LegacyDecoder extends MessageToMessageDecoder<String> {
+        @Override
+        protected void decode(ChannelHandlerContext ctx, String msg, List<Object> out) throws Exception {
+            Message.Packet packet = DataMessage.decode(msg);
+            if (packet != null) {
+                out.add(packet);
+            }
+        }
+    }
+
+    private static final class LegacyEncoder extends MessageToMessageEncoder<Message.Packet> {
+        @Override
+        protected void encode(ChannelHandlerContext ctx, Message.Packet msg, List<Object> out) throws Exception {
+            out.add(DataMessage.encode(msg));
+        }
+    }
+}
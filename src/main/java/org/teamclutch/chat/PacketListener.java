@@ -0,0 +1,12 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+import org.teamclutch.chat.protobuf.Message;
+
+/**
+ * Receives the control packets (everything but {@code Data}) the client gets from its server.
+ */
+@FunctionalInterface
+interface PacketListener {
+    void onPacket(@NotNull Message.Packet packet);
+}
@@ -0,0 +1,79 @@
+package org.teamclutch.chat;
+
+import com.google.common.net.HostAndPort;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.EventLoopGroup;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A server's persistent link to one peer node. The link announces itself as a node and is connected
+ * again, with backoff, whenever it drops, until the server's event loops shut down.
+ */
+final class PeerLink {
+    private final HostAndPort peer;
+    private final Bootstrap bootstrap;
+    private final ClientConfig config;
+    private final Consumer<Channel> onConnected;
+    // Only used by the callback of the latest attempt
+    private final Backoff backoff;
+    // Whether the last attempt failed or the last link dropped, also only used by those callbacks
+    private boolean failing;
+
+    /**
+     * @param bootstrap   sets up the pipeline of the link, which is otherwise just another peer channel
+     * @param onConnected called with every new channel to the peer
+     */
+    PeerLink(@NotNull HostAndPort peer, @NotNull Bootstrap bootstrap, @NotNull ClientConfig config,
+             @NotNull Consumer<Channel> onConnected) {
+        this.peer = peer;
+        this.bootstrap = bootstrap;
+        this.config = config;
+        this.onConnected = onConnected;
+        this.backoff = new Backoff(config);
+    }
+
+    void start() {
+        bootstrap.connect(peer.getHostText(), peer.getPort()).addListener((ChannelFutureListener) future -> {
+            if (!future.isSuccess()) {
+                failed("Failed to link to peer " + peer + ": " + future.cause().getLocalizedMessage());
+                retry();
+                return;
+            }
+            backoff.reset();
+            if (failing) {
+                System.err.println("Linked to peer " + peer + " again");
+                failing = false;
+            }
+            Channel ch = future.channel();
+            ch.write(PacketCodec.newPreamble());
+            ch.writeAndFlush(DataMessage.createNodeRequest(config));
+            onConnected.accept(ch);
+            ch.closeFuture().addListener(closed -> {
+                failed("Lost the link to peer " + peer);
+                retry();
+            });
+        });
+    }
+
+    /**
+     * Reports the first failure of a streak, the link keeps retrying quietly after that.
+     */
+    private void failed(@NotNull String message) {
+        if (!failing) {
+            System.err.println(message + ", retrying");
+            failing = true;
+        }
+    }
+
+    private void retry() {
+        EventLoopGroup group = bootstrap.group();
+        if (!group.isShuttingDown()) {
+            group.schedule(this::start, backoff.nextDelayMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.teamclutch.chat;
+
+import com.google.protobuf.CodedInputStream;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.MessageToMessageDecoder;
+import io.netty.util.CharsetUtil;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.List;
+
+/**
+ * Server side replacement for the protobuf decoder of a binary connection. {@code Data} packets are
+ * only scanned for their routing fields and passed on as {@link RelayedData}; every other packet is
+ * decoded in full.
+ */
+final class RelayDecoder extends MessageToMessageDecoder<ByteBuf> {
+    private static final int WIRETYPE_LENGTH_DELIMITED = 2;
+    private static final int DATA_TAG = (Message.Packet.DATA_FIELD_NUMBER << 3) | WIRETYPE_LENGTH_DELIMITED;
+    /**
+     * Longest message body that is still decoded to check for the "exit" command.
+     */
+    private static final int MAX_EXIT_LENGTH = 64;
+
+    // Scan position, only valid while decode runs
+    private int index;
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        RelayedData relayed = in.isReadable() && in.getByte(in.readerIndex()) == DATA_TAG ? peek(in) : null;
+        if (relayed != null) {
+            out.add(relayed);
+        } else {
+            out.add(Message.Packet.parseFrom(CodedInputStream.newInstance(in.nioBuffer())));
+        }
+    }
+
+    /**
+     * Walks the fields of the embedded {@code Data} message, returning {@code null} if the packet holds
+     * anything the fast path doesn't understand.
+     */
+    private RelayedData peek(ByteBuf in) {
+        final int start = in.readerIndex();
+        final int end = in.writerIndex();
+        index = start + 1;
+        final int length = readVarint32(in, end);
+        final int dataStart = index;
+        final int dataEnd = dataStart + length;
+        if (length < 0 || dataEnd != end) {
+            return null;
+        }
+
+        String id = "";
+        String username = "";
+        String serverClientId = "";
+        String room = "";
+        boolean exit = false;
+        while (index < dataEnd) {
+            int tag = readVarint32(in, dataEnd);
+            if (tag < 0 || (tag & 7) != WIRETYPE_LENGTH_DELIMITED) {
+                return null;
+            }
+            int fieldLength = readVarint32(in, dataEnd);
+            if (fieldLength < 0 || index + fieldLength > dataEnd) {
+                return null;
+            }
+
+            switch (tag >>> 3) {
+                case Message.Data.ID_FIELD_NUMBER:
+                    id = in.toString(index, fieldLength, CharsetUtil.UTF_8);
+                    break;
+                case Message.Data.USERNAME_FIELD_NUMBER:
+                    username = in.toString(index, fieldLength, CharsetUtil.UTF_8);
+                    break;
+                case Message.Data.SERVERCLIENTID_FIELD_NUMBER:
+                    serverClientId = in.toString(index, fieldLength, CharsetUtil.UTF_8);
+                    break;
+                case Message.Data.ROOM_FIELD_NUMBER:
+                    room = in.toString(index, fieldLength, CharsetUtil.UTF_8);
+                    break;
+                case Message.Data.DATA_FIELD_NUMBER:
+                    exit = fieldLength <= MAX_EXIT_LENGTH
+                            && in.toString(index, fieldLength, CharsetUtil.UTF_8).trim().equalsIgnoreCase("exit");
+                    break;
+                default:
+                    return null;
+            }
+            index += fieldLength;
+        }
+
+        return new RelayedData(in.slice(start, end - start).retain(), id, username, serverClientId, room,
+                dataStart - start, length, exit);
+    }
+
+    private int readVarint32(ByteBuf in, int limit) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (index >= limit) {
+                return -1;
+            }
+            byte b = in.getByte(index++);
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new CorruptedFrameException("Malformed varint");
+    }
+}
@@ -0,0 +1,69 @@
+package org.teamclutch.chat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@code Data} packet as it arrived on the wire, with only the fields the server needs to route it
+ * peeked out. {@link #content()} holds the complete, unframed packet bytes so it can be forwarded
+ * without being serialized again.
+ */
+final class RelayedData extends DefaultByteBufHolder {
+    private final String id;
+    private final String username;
+    private final String serverClientId;
+    private final String room;
+    private final int dataOffset;
+    private final int dataLength;
+    private final boolean exit;
+
+    RelayedData(@NotNull ByteBuf packet, @NotNull String id, @NotNull String username, @NotNull String serverClientId,
+                @NotNull String room, int dataOffset, int dataLength, boolean exit) {
+        super(packet);
+        this.id = id;
+        this.username = username;
+        this.serverClientId = serverClientId;
+        this.room = room;
+        this.dataOffset = dataOffset;
+        this.dataLength = dataLength;
+        this.exit = exit;
+    }
+
+    @NotNull
+    String id() {
+        return id;
+    }
+
+    @NotNull
+    String username() {
+        return username;
+    }
+
+    @NotNull
+    String serverClientId() {
+        return serverClientId;
+    }
+
+    @NotNull
+    String room() {
+        return room;
+    }
+
+    /**
+     * @return whether the message asks the server to end the session
+     */
+    boolean isExit() {
+        return exit;
+    }
+
+    /**
+     * @return a copy of the serialized {@code Data} message embedded in the packet
+     */
+    @NotNull
+    byte[] dataBytes() {
+        byte[] bytes = new byte[dataLength];
+        content().getBytes(content().readerIndex() + dataOffset, bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,88 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.Channel;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps room names to the channels subscribed to them. Updates only lock the bin of the room being
+ * changed, so joins and leaves in different rooms never wait on each other.
+ */
+final class RoomIndex {
+    /**
+     * The room every client is in unless it asks for others.
+     */
+    static final String LOBBY = "";
+
+    private static final AttributeKey<Set<String>> ROOMS = AttributeKey.valueOf("chat.rooms");
+
+    private final ConcurrentHashMap<String, Set<Channel>> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * Subscribes the channel to a room, the subscription ends when the channel closes.
+     */
+    void subscribe(@NotNull Channel channel, @NotNull String room) {
+        Attribute<Set<String>> attribute = channel.attr(ROOMS);
+        Set<String> joined = attribute.get();
+        if (joined == null) {
+            Set<String> created = ConcurrentHashMap.newKeySet();
+            joined = attribute.setIfAbsent(created);
+            if (joined == null) {
+                joined = created;
+                channel.closeFuture().addListener(future -> unsubscribeAll(channel));
+            }
+        }
+
+        if (joined.add(room)) {
+            rooms.compute(room, (name, subscribers) -> {
+                if (subscribers == null) {
+                    subscribers = ConcurrentHashMap.newKeySet();
+                }
+                subscribers.add(channel);
+                return subscribers;
+            });
+        }
+    }
+
+    void unsubscribe(@NotNull Channel channel, @NotNull String room) {
+        Set<String> joined = channel.attr(ROOMS).get();
+        if (joined != null && joined.remove(room)) {
+            rooms.computeIfPresent(room, (name, subscribers) -> {
+                subscribers.remove(channel);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+
+    void unsubscribeAll(@NotNull Channel channel) {
+        Set<String> joined = channel.attr(ROOMS).get();
+        if (joined != null) {
+            for (String room : joined) {
+                unsubscribe(channel, room);
+            }
+        }
+    }
+
+    /**
+     * @return a live view of the channels in the room
+     */
+    @NotNull
+    Iterable<Channel> subscribers(@NotNull String room) {
+        Set<Channel> subscribers = rooms.get(room);
+        return subscribers == null ? Collections.emptySet() : subscribers;
+    }
+
+    /**
+     * @return a live view of the rooms the channel is subscribed to
+     */
+    @NotNull
+    Set<String> roomsOf(@NotNull Channel channel) {
+        Set<String> joined = channel.attr(ROOMS).get();
+        return joined == null ? Collections.emptySet() : joined;
+    }
+}
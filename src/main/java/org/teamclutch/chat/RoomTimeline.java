@@ -0,0 +1,188 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * The cache keys of the messages of every room in the order the server stored them, so a client can
+ * page back through a room. Positions in this order are the cursors of {@link HistoryPage}; they are
+ * only meaningful to the server that handed them out.
+ * <p>
+ * A page is asked for with a {@code HistoryRequest} and answered with a {@code HistoryPage} carrying the
+ * same tag. Positions start at 1, so a cursor of 0 stands for the newest messages, or for no more of them.
+ */
+final class RoomTimeline {
+    static final int MAX_LIMIT = 200;
+
+    private final ConcurrentHashMap<String, Timeline> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param storedAt when the server stored the message, in milliseconds since the epoch
+     */
+    void add(@NotNull String room, @NotNull String key, long storedAt) {
+        rooms.computeIfAbsent(room, r -> new Timeline()).add(sequence.incrementAndGet(), key, storedAt);
+    }
+
+    void remove(@NotNull String room, @NotNull String key) {
+        Timeline timeline = rooms.get(room);
+        if (timeline != null) {
+            timeline.remove(key);
+        }
+    }
+
+    /**
+     * @param before only messages stored before this position are on the page
+     * @param lookup finds a held message by its cache key, messages it doesn't find are dropped for good
+     */
+    @NotNull
+    HistoryPage page(@NotNull String room, long before, int limit, @NotNull Function<String, DataMessage> lookup) {
+        Timeline timeline = rooms.get(room);
+        if (timeline == null) {
+            return new HistoryPage(new ArrayList<>(0), null);
+        }
+        return timeline.page(before, Long.MIN_VALUE, limit, lookup);
+    }
+
+    /**
+     * @return up to {@code limit} of the room's newest messages stored since the given time, oldest first
+     */
+    @NotNull
+    List<DataMessage> recent(@NotNull String room, int limit, long since,
+                             @NotNull Function<String, DataMessage> lookup) {
+        Timeline timeline = rooms.get(room);
+        if (timeline == null) {
+            return new ArrayList<>(0);
+        }
+        return timeline.page(Long.MAX_VALUE, since, limit, lookup).messages();
+    }
+
+    /**
+     * @return a number that changes whenever a message is added to or removed from the room
+     */
+    long version(@NotNull String room) {
+        Timeline timeline = rooms.get(room);
+        return timeline == null ? 0 : timeline.version();
+    }
+
+    /**
+     * @param cursor {@code null} for the newest messages, or a cursor this server handed out
+     */
+    @NotNull
+    static Message.Packet createRequest(@NotNull String tag, @Nullable String cursor, int limit, @NotNull String room) {
+        return Message.Packet.newBuilder().setHistory(Message.HistoryRequest.newBuilder()
+                .setTag(tag).setRoom(room).setBefore(cursor == null ? 0 : Long.parseLong(cursor)).setLimit(limit))
+                .build();
+    }
+
+    @NotNull
+    static Message.Packet createAnswer(@NotNull String tag, @NotNull HistoryPage page) {
+        Message.HistoryPage.Builder answer = Message.HistoryPage.newBuilder()
+                .setTag(tag).setNext(page.nextCursor() == null ? 0 : Long.parseLong(page.nextCursor()));
+        for (DataMessage message : page.messages()) {
+            answer.addMessages(message.createMessage());
+        }
+        return Message.Packet.newBuilder().setPage(answer).build();
+    }
+
+    /**
+     * One room's keys by the position they were stored at, in ascending order.
+     */
+    private static final class Timeline {
+        // Live entries are [head, head + size)
+        private long[] positions = new long[16];
+        private String[] keys = new String[16];
+        private long[] storedAt = new long[16];
+        private int head;
+        private int size;
+        // Dropping messages that can't be found anymore doesn't change what pages hold, so it doesn't count
+        private long version;
+
+        synchronized void add(long position, @NotNull String key, long time) {
+            if (head + size == positions.length) {
+                if (head > 0 && size < positions.length / 2) {
+                    System.arraycopy(positions, head, positions, 0, size);
+                    System.arraycopy(keys, head, keys, 0, size);
+                    System.arraycopy(storedAt, head, storedAt, 0, size);
+                    Arrays.fill(keys, size, head + size, null);
+                } else {
+                    positions = Arrays.copyOfRange(positions, head, head + size * 2);
+                    keys = Arrays.copyOfRange(keys, head, head + size * 2);
+                    storedAt = Arrays.copyOfRange(storedAt, head, head + size * 2);
+                }
+                head = 0;
+            }
+            positions[head + size] = position;
+            keys[head + size] = key;
+            storedAt[head + size] = time;
+            size++;
+            version++;
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        /**
+         * Removes a key, which is almost always the oldest one.
+         */
+        synchronized void remove(@NotNull String key) {
+            for (int i = head; i < head + size; i++) {
+                if (key.equals(keys[i])) {
+                    removeAt(i);
+                    version++;
+                    return;
+                }
+            }
+        }
+
+        @NotNull
+        synchronized HistoryPage page(long before, long since, int limit, @NotNull Function<String, DataMessage> lookup) {
+            int index = Arrays.binarySearch(positions, head, head + size, before);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            ArrayDeque<DataMessage> messages = new ArrayDeque<>(limit);
+            long oldest = before;
+            int i = index - 1;
+            for (; i >= head && messages.size() < limit && storedAt[i] >= since; i--) {
+                DataMessage message = lookup.apply(keys[i]);
+                if (message == null) {
+                    // Evicted or dropped by retention, it won't come back
+                    removeAt(i);
+                } else {
+                    messages.addFirst(message);
+                    oldest = positions[i];
+                }
+            }
+            String next = i >= head && !messages.isEmpty() ? Long.toString(oldest) : null;
+            return new HistoryPage(new ArrayList<>(messages), next);
+        }
+
+        private void removeAt(int index) {
+            if (index == head) {
+                keys[head] = null;
+                head++;
+            } else {
+                int end = head + size;
+                System.arraycopy(positions, index + 1, positions, index, end - index - 1);
+                System.arraycopy(keys, index + 1, keys, index, end - index - 1);
+                System.arraycopy(storedAt, index + 1, storedAt, index, end - index - 1);
+                keys[end - 1] = null;
+            }
+            size--;
+            if (size == 0) {
+                head = 0;
+            }
+        }
+    }
+}
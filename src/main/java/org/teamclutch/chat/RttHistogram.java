@@ -0,0 +1,107 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Round trip times with a fixed memory footprint. Samples are counted in log-linear buckets of
+ * microseconds, 16 per power of two, so percentiles are accurate to about 6% and recording a sample
+ * is a couple of increments.
+ */
+public final class RttHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /**
+     * Longer round trips, about 19 hours, are counted in the last bucket.
+     */
+    private static final long MAX_MICROS = (1L << 36) - 1;
+    private static final int BUCKETS = bucketOf(MAX_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+
+    RttHistogram() {
+    }
+
+    void record(long rtt, @NotNull TimeUnit unit) {
+        long micros = Math.min(Math.max(unit.toMicros(rtt), 0), MAX_MICROS);
+        counts.incrementAndGet(bucketOf(micros));
+        count.increment();
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the round trip time below which the given share of samples fall, or 0 without samples
+     */
+    public long percentile(double percentile, @NotNull TimeUnit unit) {
+        checkArgument(percentile >= 0 && percentile <= 100, "The percentile must be between 0 and 100");
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        int bucket = 0;
+        for (; bucket < BUCKETS - 1; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                break;
+            }
+        }
+        return unit.convert(valueOf(bucket), TimeUnit.MICROSECONDS);
+    }
+
+    public long p50(@NotNull TimeUnit unit) {
+        return percentile(50, unit);
+    }
+
+    public long p99(@NotNull TimeUnit unit) {
+        return percentile(99, unit);
+    }
+
+    public long p999(@NotNull TimeUnit unit) {
+        return percentile(99.9, unit);
+    }
+
+    private static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((micros >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * @return the middle of the range of values counted in the bucket
+     */
+    private static long valueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) >> 1);
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return String.format("p50 %.1fms, p99 %.1fms, p99.9 %.1fms (%d samples)",
+                p50(TimeUnit.MICROSECONDS) / 1000.0, p99(TimeUnit.MICROSECONDS) / 1000.0,
+                p999(TimeUnit.MICROSECONDS) / 1000.0, count());
+    }
+}
@@ -0,0 +1,348 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.jetbrains.annotations.NotNull;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * An inverted index over the text of the messages a server holds, ranked with BM25. Every change and
+ * every query runs on the index's own thread, so the index needs no locks and the event loops only ever
+ * hand work over.
+ * <p>
+ * A {@code SearchRequest} is answered with {@code SearchResults} carrying the same tag: the cache keys of
+ * the best matches on the page, best first. Only messages of the rooms the asking channel is in match.
+ */
+final class SearchIndex {
+    static final int MAX_LIMIT = 100;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int REMOVED = -1;
+
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Everything below is only touched by the indexer thread
+    private final HashMap<String, Postings> terms = new HashMap<>();
+    private final HashMap<String, Integer> documents = new HashMap<>();
+    // Rooms are numbered so a search can tell the rooms it may look in from an array
+    private final HashMap<String, Integer> roomNumbers = new HashMap<>();
+    // Document numbers only grow, removed documents keep their slot until the next purge
+    private String[] keys = new String[1024];
+    private int[] rooms = new int[1024];
+    private int[] lengths = new int[1024];
+    private int next;
+    private int live;
+    private long totalLength;
+    // Kept between searches, one entry for every document
+    private float[] scores = new float[0];
+    private int[] touched = new int[0];
+
+    /**
+     * Queues a message to be indexed, it shows up in searches a moment after it was stored.
+     */
+    void add(@NotNull String key, @NotNull String room, @NotNull DataMessage message) {
+        submit(() -> index(key, room, message.message()));
+    }
+
+    void remove(@NotNull String key) {
+        submit(() -> unindex(key));
+    }
+
+    /**
+     * Indexes every message the source passes to its consumer, as one task on the indexer thread.
+     */
+    void addAll(@NotNull Consumer<BiConsumer<String, DataMessage>> source) {
+        submit(() -> source.accept((key, message) -> index(key, message.room(), message.message())));
+    }
+
+    /**
+     * Answers a search from the indexer thread.
+     *
+     * @param rooms the rooms the asking channel is in, only their messages are searched
+     */
+    void onRequest(@NotNull ChannelHandlerContext ctx, @NotNull Message.SearchRequest request,
+                   @NotNull Set<String> rooms) {
+        int offset = request.getOffset();
+        int limit = Math.min(request.getLimit(), MAX_LIMIT);
+        if (offset < 0 || limit <= 0) {
+            return;
+        }
+        submit(() -> {
+            List<String> page = new ArrayList<>(limit);
+            int total = search(request.getQuery(), rooms, offset, limit, page);
+            ctx.writeAndFlush(createAnswer(request.getTag(), offset, total, page));
+        });
+    }
+
+    private void submit(@NotNull Runnable task) {
+        try {
+            indexer.execute(task);
+        } catch (RejectedExecutionException ex) {
+            System.err.println("The search index is not taking any more work");
+        }
+    }
+
+    private void index(@NotNull String key, @NotNull String room, @NotNull String text) {
+        if (documents.containsKey(key)) {
+            return;
+        }
+        Map<String, Integer> frequencies = tokenize(text);
+        if (next == keys.length) {
+            keys = Arrays.copyOf(keys, next * 2);
+            rooms = Arrays.copyOf(rooms, next * 2);
+            lengths = Arrays.copyOf(lengths, next * 2);
+        }
+        int document = next++;
+        int length = 0;
+        for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+            terms.computeIfAbsent(term.getKey(), t -> new Postings()).add(document, term.getValue());
+            length += term.getValue();
+        }
+        keys[document] = key;
+        rooms[document] = roomNumbers.computeIfAbsent(room, r -> roomNumbers.size());
+        lengths[document] = length;
+        documents.put(key, document);
+        live++;
+        totalLength += length;
+    }
+
+    private void unindex(@NotNull String key) {
+        Integer document = documents.remove(key);
+        if (document == null) {
+            return;
+        }
+        keys[document] = null;
+        rooms[document] = REMOVED;
+        live--;
+        totalLength -= lengths[document];
+        // Postings of removed documents are skipped until half of the slots are dead
+        if (next - live > Math.max(live, 1024)) {
+            purge();
+        }
+    }
+
+    /**
+     * Drops removed documents from the postings and numbers the rest again from 0.
+     */
+    private void purge() {
+        int[] renumbered = new int[next];
+        int count = 0;
+        for (int document = 0; document < next; document++) {
+            if (keys[document] != null) {
+                renumbered[document] = count;
+                keys[count] = keys[document];
+                rooms[count] = rooms[document];
+                lengths[count] = lengths[document];
+                documents.put(keys[count], count);
+                count++;
+            } else {
+                renumbered[document] = -1;
+            }
+        }
+        Arrays.fill(keys, count, next, null);
+        next = count;
+        terms.values().removeIf(postings -> postings.renumber(renumbered) == 0);
+    }
+
+    /**
+     * Adds the keys of a page of the best matches in the rooms to {@code page}.
+     *
+     * @return how many messages match
+     */
+    private int search(@NotNull String query, @NotNull Set<String> rooms, int offset, int limit,
+                       @NotNull List<String> page) {
+        if (scores.length < next) {
+            scores = new float[keys.length];
+            touched = new int[keys.length];
+        }
+        // Read into locals, the loops below run over the postings of every message
+        float[] scores = this.scores;
+        int[] touched = this.touched;
+        int[] documentRooms = this.rooms;
+        int[] lengths = this.lengths;
+        boolean[] searched = new boolean[roomNumbers.size()];
+        for (String room : rooms) {
+            Integer number = roomNumbers.get(room);
+            if (number != null) {
+                searched[number] = true;
+            }
+        }
+        float averageLength = live == 0 ? 1 : (float) totalLength / live;
+        // BM25 weighs a document's length with K1 * (1 - B + B * length / averageLength)
+        float lengthFree = K1 * (1 - B);
+        float perWord = K1 * B / averageLength;
+        int matches = 0;
+        for (String term : tokenize(query).keySet()) {
+            Postings postings = terms.get(term);
+            if (postings == null) {
+                continue;
+            }
+            // The postings can still hold removed documents
+            int frequency = Math.min(postings.size, live);
+            float weight = (K1 + 1) * (float) Math.log(1 + (live - frequency + 0.5) / (frequency + 0.5));
+            int[] documents = postings.documents;
+            int[] frequencies = postings.frequencies;
+            for (int i = 0, size = postings.size; i < size; i++) {
+                int document = documents[i];
+                int room = documentRooms[document];
+                if (room == REMOVED || !searched[room]) {
+                    continue;
+                }
+                float score = scores[document];
+                if (score == 0) {
+                    touched[matches++] = document;
+                }
+                int tf = frequencies[i];
+                scores[document] = score + weight * tf / (tf + lengthFree + perWord * lengths[document]);
+            }
+        }
+
+        // Keeps the best offset + limit in a heap with the worst of them on top, most matches lose to it
+        int wanted = (int) Math.min((long) offset + limit, matches);
+        int[] best = new int[wanted];
+        int size = 0;
+        for (int i = 0; i < matches; i++) {
+            int document = touched[i];
+            if (size < wanted) {
+                best[size] = document;
+                siftUp(best, size++);
+            } else if (wanted > 0 && ranksBefore(document, best[0])) {
+                best[0] = document;
+                siftDown(best, 0, size);
+            }
+        }
+        // Moving the worst behind the heap until it is empty leaves the best first
+        for (int end = size - 1; end > 0; end--) {
+            int worst = best[0];
+            best[0] = best[end];
+            best[end] = worst;
+            siftDown(best, 0, end);
+        }
+        for (int i = offset; i < size; i++) {
+            page.add(keys[best[i]]);
+        }
+        for (int i = 0; i < matches; i++) {
+            scores[touched[i]] = 0;
+        }
+        return matches;
+    }
+
+    /**
+     * @return whether a document ranks before another in the last search; newer messages win ties
+     */
+    private boolean ranksBefore(int document, int other) {
+        return scores[document] > scores[other] || scores[document] == scores[other] && document > other;
+    }
+
+    private void siftUp(@NotNull int[] heap, int index) {
+        int document = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!ranksBefore(heap[parent], document)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = document;
+    }
+
+    private void siftDown(@NotNull int[] heap, int index, int size) {
+        int document = heap[index];
+        while (2 * index + 1 < size) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && ranksBefore(heap[child], heap[child + 1])) {
+                child++;
+            }
+            if (!ranksBefore(document, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = document;
+    }
+
+    /**
+     * @return the lower case words of the text and how often each occurs
+     */
+    @NotNull
+    static Map<String, Integer> tokenize(@NotNull String text) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                frequencies.merge(text.substring(start, i).toLowerCase(), 1, Integer::sum);
+                start = -1;
+            }
+        }
+        return frequencies;
+    }
+
+    @NotNull
+    static Message.Packet createRequest(@NotNull String tag, @NotNull String query, int offset, int limit) {
+        return Message.Packet.newBuilder().setSearch(Message.SearchRequest.newBuilder()
+                .setTag(tag).setQuery(query).setOffset(offset).setLimit(limit)).build();
+    }
+
+    @NotNull
+    static Message.Packet createAnswer(@NotNull String tag, int offset, int total, @NotNull List<String> keys) {
+        return Message.Packet.newBuilder().setResults(Message.SearchResults.newBuilder()
+                .setTag(tag).setOffset(offset).setTotal(total).addAllKeys(keys)).build();
+    }
+
+    /**
+     * The documents a term occurs in, in ascending order, and how often it does in each.
+     */
+    private static final class Postings {
+        int[] documents = new int[4];
+        int[] frequencies = new int[4];
+        int size;
+
+        void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        /**
+         * @return how many postings are left
+         */
+        int renumber(@NotNull int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int document = renumbered[documents[i]];
+                if (document >= 0) {
+                    documents[kept] = document;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+}
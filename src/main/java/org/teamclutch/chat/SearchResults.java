@@ -0,0 +1,61 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of the messages that matched a {@link Chat#search(String, int, int) search}, best match first.
+ */
+public final class SearchResults {
+    private final int offset;
+    private final int total;
+    private final List<String> messageKeys;
+
+    private SearchResults(int offset, int total, @NotNull List<String> messageKeys) {
+        this.offset = offset;
+        this.total = total;
+        this.messageKeys = Collections.unmodifiableList(messageKeys);
+    }
+
+    /**
+     * @return where in all matches this page starts
+     */
+    @Contract(pure = true)
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * @return how many messages matched in all
+     */
+    @Contract(pure = true)
+    public int total() {
+        return total;
+    }
+
+    /**
+     * @return the matches on this page as {@code serverClientId:messageId}
+     */
+    @NotNull
+    @Contract(pure = true)
+    public List<String> messageKeys() {
+        return messageKeys;
+    }
+
+    /**
+     * @return whether there are matches after this page
+     */
+    @Contract(pure = true)
+    public boolean hasMore() {
+        return offset + messageKeys.size() < total;
+    }
+
+    @NotNull
+    static SearchResults of(@NotNull Message.SearchResults results) {
+        return new SearchResults(results.getOffset(), results.getTotal(), results.getKeysList());
+    }
+}
@@ -0,0 +1,463 @@
+package org.teamclutch.chat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.net.HostAndPort;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Tuning options for the server half of a {@link Chat} session. Changes only take effect if they are
+ * made before the session is started.
+ */
+public final class ServerConfig {
+    private int flushMaxPendingWrites = 32;
+    private long flushMaxDelayNanos = 0;
+    private int writeBufferLowWaterMark = 32 * 1024;
+    private int writeBufferHighWaterMark = 64 * 1024;
+    private SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.DROP_OLDEST;
+    private int slowConsumerMaxQueuedWrites = 256;
+    private boolean nativeTransport = true;
+    private int acceptorThreads = 1;
+    private int workerThreads = 0;
+    private boolean tcpNoDelay = true;
+    private int sendBufferSize = 0;
+    private int receiveBufferSize = 0;
+    private long idleTimeoutMillis = 30000;
+    private String bindAddress;
+    private List<HostAndPort> peers = ImmutableList.of();
+    private long antiEntropyIntervalMillis = 30000;
+    private Path messageLogDirectory;
+    private int messageLogSegmentSize = 64 * 1024 * 1024;
+    private long messageLogCommitIntervalMillis = 10;
+    private long messageLogRetentionMillis = 0;
+    private long messageLogMaxBytes = 0;
+    private int messageLogMaxMessagesPerSender = 0;
+    private int messageLogMaxMessagesPerRoom = 0;
+    private int catchUpMessages = 50;
+    private long messageCacheBytes = 64 * 1024 * 1024;
+    private long catchUpWindowMillis = 0;
+    private long dedupeWindowMillis = TimeUnit.DAYS.toMillis(2);
+    private long dedupeExpectedMessages = 1000000;
+    private double dedupeFalsePositiveRate = 1e-5;
+
+    ServerConfig() {
+    }
+
+    @Contract(pure = true)
+    public int flushMaxPendingWrites() {
+        return flushMaxPendingWrites;
+    }
+
+    /**
+     * Sets how many writes may be queued on a connection before they are flushed, even in the middle
+     * of a read burst.
+     */
+    public ServerConfig flushMaxPendingWrites(int writes) {
+        checkArgument(writes > 0, "At least one write must be allowed before flushing");
+        flushMaxPendingWrites = writes;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long flushMaxDelay(TimeUnit unit) {
+        return unit.convert(flushMaxDelayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sets the longest a write outside of a read burst may wait for its flush. With a delay of zero the
+     * flush happens as soon as the connection's event loop finishes its current work.
+     */
+    public ServerConfig flushMaxDelay(long delay, TimeUnit unit) {
+        checkArgument(delay >= 0, "The flush delay can't be negative");
+        flushMaxDelayNanos = unit.toNanos(delay);
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int writeBufferLowWaterMark() {
+        return writeBufferLowWaterMark;
+    }
+
+    @Contract(pure = true)
+    public int writeBufferHighWaterMark() {
+        return writeBufferHighWaterMark;
+    }
+
+    /**
+     * Sets the number of buffered outbound bytes at which a connection stops being writable (high) and
+     * becomes writable again (low).
+     */
+    public ServerConfig writeBufferWaterMarks(int low, int high) {
+        checkArgument(low >= 0 && high >= low, "The water marks must satisfy 0 <= low <= high");
+        writeBufferLowWaterMark = low;
+        writeBufferHighWaterMark = high;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public SlowConsumerPolicy slowConsumerPolicy() {
+        return slowConsumerPolicy;
+    }
+
+    /**
+     * Sets what happens to writes for a connection that is above its high water mark.
+     */
+    public ServerConfig slowConsumerPolicy(@NotNull SlowConsumerPolicy policy) {
+        slowConsumerPolicy = checkNotNull(policy);
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int slowConsumerMaxQueuedWrites() {
+        return slowConsumerMaxQueuedWrites;
+    }
+
+    /**
+     * Sets how many writes {@link SlowConsumerPolicy#DROP_OLDEST} holds for a connection before it starts
+     * dropping them.
+     */
+    public ServerConfig slowConsumerMaxQueuedWrites(int writes) {
+        checkArgument(writes > 0, "At least one write must be queued");
+        slowConsumerMaxQueuedWrites = writes;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public boolean nativeTransport() {
+        return nativeTransport;
+    }
+
+    /**
+     * Sets whether the native epoll transport is used when it is available, NIO is used otherwise.
+     */
+    public ServerConfig nativeTransport(boolean nativeTransport) {
+        this.nativeTransport = nativeTransport;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int acceptorThreads() {
+        return acceptorThreads;
+    }
+
+    /**
+     * Sets how many event loops accept connections. More than one needs the native transport, each loop
+     * then binds the port itself through {@code SO_REUSEPORT}.
+     */
+    public ServerConfig acceptorThreads(int threads) {
+        checkArgument(threads > 0, "At least one acceptor thread is needed");
+        acceptorThreads = threads;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int workerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * Sets how many event loops serve connections, 0 uses Netty's default of twice the core count.
+     */
+    public ServerConfig workerThreads(int threads) {
+        checkArgument(threads >= 0, "The thread count can't be negative");
+        workerThreads = threads;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public boolean tcpNoDelay() {
+        return tcpNoDelay;
+    }
+
+    public ServerConfig tcpNoDelay(boolean tcpNoDelay) {
+        this.tcpNoDelay = tcpNoDelay;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int sendBufferSize() {
+        return sendBufferSize;
+    }
+
+    @Contract(pure = true)
+    public int receiveBufferSize() {
+        return receiveBufferSize;
+    }
+
+    /**
+     * Sets the socket buffer sizes of accepted connections, 0 keeps the operating system's default.
+     */
+    public ServerConfig socketBufferSizes(int send, int receive) {
+        checkArgument(send >= 0 && receive >= 0, "Buffer sizes can't be negative");
+        sendBufferSize = send;
+        receiveBufferSize = receive;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long idleTimeout(TimeUnit unit) {
+        return unit.convert(idleTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets how long a connection may stay silent before the server pings it. A binary connection that
+     * stays silent for as long again is closed, zero disables both.
+     */
+    public ServerConfig idleTimeout(long timeout, TimeUnit unit) {
+        checkArgument(timeout >= 0, "The idle timeout can't be negative");
+        idleTimeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
+    @Nullable
+    @Contract(pure = true)
+    public String bindAddress() {
+        return bindAddress;
+    }
+
+    /**
+     * Binds the server to one local address instead of all of them, so servers on different addresses of
+     * one machine can share a port. Links to peers are made from that address too, as peers hand it to
+     * their clients to fail over to.
+     */
+    public ServerConfig bindAddress(@Nullable String address) {
+        bindAddress = address;
+        return this;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    public List<HostAndPort> peers() {
+        return peers;
+    }
+
+    /**
+     * Federates this server with other nodes. The server keeps a link to every peer, given as
+     * {@code host} or {@code host:port}, and messages sent on any node reach the users of all of them.
+     */
+    public ServerConfig peers(@NotNull String... peers) {
+        ImmutableList.Builder<HostAndPort> builder = ImmutableList.builder();
+        for (String peer : peers) {
+            builder.add(HostAndPort.fromString(checkNotNull(peer)).withDefaultPort(Chat.PORT));
+        }
+        this.peers = builder.build();
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long antiEntropyInterval(TimeUnit unit) {
+        return unit.convert(antiEntropyIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets how often the server compares the messages it holds with its peers and fetches the ones it
+     * missed, zero disables it. Only servers with a {@link #messageLogDirectory(Path) message log} compare.
+     */
+    public ServerConfig antiEntropyInterval(long interval, TimeUnit unit) {
+        checkArgument(interval >= 0, "The anti-entropy interval can't be negative");
+        antiEntropyIntervalMillis = unit.toMillis(interval);
+        return this;
+    }
+
+    @Nullable
+    @Contract(pure = true)
+    public Path messageLogDirectory() {
+        return messageLogDirectory;
+    }
+
+    /**
+     * Keeps every message the server sees in a log in the directory, where it survives restarts. Without
+     * a directory, the default, only the most recent messages are held in memory.
+     */
+    public ServerConfig messageLogDirectory(@Nullable Path directory) {
+        messageLogDirectory = directory;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int messageLogSegmentSize() {
+        return messageLogSegmentSize;
+    }
+
+    /**
+     * Sets the size of each of the message log's files, a message must fit in one.
+     */
+    public ServerConfig messageLogSegmentSize(int bytes) {
+        checkArgument(bytes >= 64 * 1024, "Log segments must be at least 64KiB");
+        messageLogSegmentSize = bytes;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long messageLogCommitInterval(TimeUnit unit) {
+        return unit.convert(messageLogCommitIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets how often the message log is forced to disk. Every message logged in between shares one
+     * fsync, and a crash loses at most this much. Messages are passed on without waiting for it.
+     */
+    public ServerConfig messageLogCommitInterval(long interval, TimeUnit unit) {
+        checkArgument(interval > 0, "The commit interval must be positive");
+        messageLogCommitIntervalMillis = unit.toMillis(interval);
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long messageLogRetention(TimeUnit unit) {
+        return unit.convert(messageLogRetentionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets how long the message log keeps messages, zero, the default, keeps them for good. Whole log
+     * files are deleted once their newest message is this old.
+     */
+    public ServerConfig messageLogRetention(long age, TimeUnit unit) {
+        checkArgument(age >= 0, "The retention can't be negative");
+        messageLogRetentionMillis = unit.toMillis(age);
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long messageLogMaxBytes() {
+        return messageLogMaxBytes;
+    }
+
+    /**
+     * Sets how much the message log may hold, the oldest log files are deleted beyond it. Zero, the
+     * default, doesn't limit it.
+     */
+    public ServerConfig messageLogMaxBytes(long bytes) {
+        checkArgument(bytes >= 0, "The log size can't be negative");
+        messageLogMaxBytes = bytes;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int messageLogMaxMessagesPerSender() {
+        return messageLogMaxMessagesPerSender;
+    }
+
+    /**
+     * Sets how many of each sender's newest messages the message log keeps, zero, the default, keeps all.
+     * Older ones are dropped when their log file is compacted, so a few more than this may be kept.
+     */
+    public ServerConfig messageLogMaxMessagesPerSender(int messages) {
+        checkArgument(messages >= 0, "The message limit can't be negative");
+        messageLogMaxMessagesPerSender = messages;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int messageLogMaxMessagesPerRoom() {
+        return messageLogMaxMessagesPerRoom;
+    }
+
+    /**
+     * Sets how many of each room's newest messages the message log keeps, zero, the default, keeps all.
+     * Like the limit per sender it is enforced when log files are compacted.
+     */
+    public ServerConfig messageLogMaxMessagesPerRoom(int messages) {
+        checkArgument(messages >= 0, "The message limit can't be negative");
+        messageLogMaxMessagesPerRoom = messages;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public int catchUpMessages() {
+        return catchUpMessages;
+    }
+
+    /**
+     * Sets how many of a room's most recent messages a user is sent when joining it, zero sends none.
+     */
+    public ServerConfig catchUpMessages(int messages) {
+        checkArgument(messages >= 0 && messages <= RoomTimeline.MAX_LIMIT,
+                "Up to " + RoomTimeline.MAX_LIMIT + " messages can be sent on joining");
+        catchUpMessages = messages;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long catchUpWindow(TimeUnit unit) {
+        return unit.convert(catchUpWindowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Only sends joining users the messages of this last stretch of time, zero, the default, doesn't
+     * look at their age.
+     */
+    public ServerConfig catchUpWindow(long window, TimeUnit unit) {
+        checkArgument(window >= 0, "The catch-up window can't be negative");
+        catchUpWindowMillis = unit.toMillis(window);
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long messageCacheBytes() {
+        return messageCacheBytes;
+    }
+
+    /**
+     * Sets how many bytes of recent messages the server keeps at hand, mostly in direct memory outside
+     * the heap. Direct memory is limited by {@code -XX:MaxDirectMemorySize}, which must leave room for it.
+     */
+    public ServerConfig messageCacheBytes(long bytes) {
+        checkArgument(bytes > 0, "The message cache needs room for at least one message");
+        messageCacheBytes = bytes;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long dedupeWindow(TimeUnit unit) {
+        return unit.convert(dedupeWindowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets how long the server remembers which messages it has seen after they left its cache, so a
+     * late copy, say one replayed by a peer, isn't taken for a new message. Defaults to two days.
+     */
+    public ServerConfig dedupeWindow(long window, TimeUnit unit) {
+        checkArgument(window > 0, "The dedupe window must be positive");
+        dedupeWindowMillis = unit.toMillis(window);
+        return this;
+    }
+
+    @Contract(pure = true)
+    public long dedupeExpectedMessages() {
+        return dedupeExpectedMessages;
+    }
+
+    /**
+     * Sets how many messages are expected within a dedupe window, which sizes the filter remembering
+     * them. If more come the window is cut short rather than the filter getting less accurate.
+     */
+    public ServerConfig dedupeExpectedMessages(long messages) {
+        checkArgument(messages > 0, "At least one message must be expected");
+        dedupeExpectedMessages = messages;
+        return this;
+    }
+
+    @Contract(pure = true)
+    public double dedupeFalsePositiveRate() {
+        return dedupeFalsePositiveRate;
+    }
+
+    /**
+     * Sets the chance that a new message is mistaken for one seen before and dropped, when there is no
+     * message log to tell them apart. Lower rates cost a few more bits per message.
+     */
+    public ServerConfig dedupeFalsePositiveRate(double rate) {
+        checkArgument(rate > 0 && rate < 1, "The false positive rate must be between 0 and 1");
+        dedupeFalsePositiveRate = rate;
+        return this;
+    }
+}
@@ -0,0 +1,79 @@
+package org.teamclutch.chat;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * How busy a server is, as reported in the load of its ping replies.
+ */
+public final class ServerLoad {
+    private static final Gson gson = new Gson();
+    /**
+     * What is assumed of servers that don't report their load, such as older versions.
+     */
+    static final ServerLoad UNKNOWN = new ServerLoad(0, 0, 0);
+
+    private final int connections;
+    private final double lagMillis;
+    private final double messagesPerSecond;
+
+    ServerLoad(int connections, double lagMillis, double messagesPerSecond) {
+        this.connections = connections;
+        this.lagMillis = lagMillis;
+        this.messagesPerSecond = messagesPerSecond;
+    }
+
+    /**
+     * @return the number of clients connected to the server
+     */
+    @Contract(pure = true)
+    public int connections() {
+        return connections;
+    }
+
+    /**
+     * @return how late the server's busiest event loop runs its scheduled tasks
+     */
+    @Contract(pure = true)
+    public double lagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * @return the rate at which the server receives chat messages
+     */
+    @Contract(pure = true)
+    public double messagesPerSecond() {
+        return messagesPerSecond;
+    }
+
+    @NotNull
+    String toJson() {
+        return gson.toJson(this);
+    }
+
+    /**
+     * @return the load from a ping reply, or {@link #UNKNOWN} if it carries none
+     */
+    @NotNull
+    static ServerLoad parse(@NotNull String load) {
+        if (load.isEmpty()) {
+            return UNKNOWN;
+        }
+        try {
+            ServerLoad parsed = gson.fromJson(load, ServerLoad.class);
+            return parsed == null ? UNKNOWN : parsed;
+        } catch (JsonSyntaxException ex) {
+            return UNKNOWN;
+        }
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return String.format("%d connections, %.1fms lag, %.1f messages/s", connections, lagMillis,
+                messagesPerSecond);
+    }
+}
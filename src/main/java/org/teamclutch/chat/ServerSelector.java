@@ -0,0 +1,205 @@
+package org.teamclutch.chat;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Picks the server to connect to. Every candidate is probed over a short-lived connection of its own
+ * with a single ping, and scored by the round trip and the load it reports.
+ */
+final class ServerSelector {
+    private static final int PROBE_TIMEOUT_MILLIS = 1000;
+    /**
+     * What each connected client is taken to cost in round trip time.
+     */
+    private static final double MILLIS_PER_CONNECTION = 0.1;
+    private static final double MILLIS_PER_MESSAGE_PER_SECOND = 0.01;
+
+    private final Bootstrap bootstrap;
+    @Nullable
+    private final SslContext sslContext;
+    private final ClientConfig config;
+    private final ChatMetrics metrics;
+    private final Function<String, WireFormat> wireFormats;
+
+    /**
+     * @param wireFormats the framing to ask each server for
+     */
+    ServerSelector(@NotNull Bootstrap bootstrap, @Nullable SslContext sslContext, @NotNull ClientConfig config,
+                   @NotNull ChatMetrics metrics, @NotNull Function<String, WireFormat> wireFormats) {
+        this.bootstrap = bootstrap;
+        this.sslContext = sslContext;
+        this.config = config;
+        this.metrics = metrics;
+        this.wireFormats = wireFormats;
+    }
+
+    /**
+     * @return the servers that answered, best first
+     */
+    @NotNull
+    CompletableFuture<List<Probe>> probeAll(@NotNull Collection<String> servers) {
+        List<CompletableFuture<Probe>> probes = servers.stream().distinct().map(this::probe)
+                .collect(Collectors.toList());
+        return CompletableFuture.allOf(probes.toArray(new CompletableFuture<?>[probes.size()]))
+                .handle((ignored, failure) -> probes.stream()
+                        .filter(probe -> !probe.isCompletedExceptionally())
+                        .map(CompletableFuture::join)
+                        .sorted(Comparator.comparingDouble(Probe::score))
+                        .collect(Collectors.toList()));
+    }
+
+    @NotNull
+    CompletableFuture<Probe> probe(@NotNull String server) {
+        final CompletableFuture<Probe> result = new CompletableFuture<>();
+        final WireFormat format = wireFormats.apply(server);
+        Bootstrap b = bootstrap.clone()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, PROBE_TIMEOUT_MILLIS)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) throws Exception {
+                        ChannelPipeline pipeline = ch.pipeline();
+                        if (sslContext != null) {
+                            pipeline.addLast(sslContext.newHandler(ch.alloc(), server, config.port()));
+                        }
+                        pipeline.addLast(PacketCodec.newClientCodec(format));
+                        pipeline.addLast(new ProbeHandler(server, format, result));
+                    }
+                });
+
+        b.connect(server, config.port()).addListener((ChannelFutureListener) future -> {
+            if (!future.isSuccess()) {
+                result.completeExceptionally(future.cause());
+                return;
+            }
+            Channel ch = future.channel();
+            ch.eventLoop().schedule(() -> result.completeExceptionally(
+                    new TimeoutException(server + " didn't answer the probe")),
+                    PROBE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            result.whenComplete((probe, failure) -> ch.close());
+        });
+        return result;
+    }
+
+    /**
+     * Sends a ping once the connection is secured, and completes the probe with the reply.
+     */
+    private final class ProbeHandler extends SimpleChannelInboundHandler<Message.Packet> {
+        private final String server;
+        private final WireFormat format;
+        private final CompletableFuture<Probe> result;
+        private long sentAt;
+
+        ProbeHandler(@NotNull String server, @NotNull WireFormat format, @NotNull CompletableFuture<Probe> result) {
+            this.server = server;
+            this.format = format;
+            this.result = result;
+        }
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) throws Exception {
+            if (format == WireFormat.BINARY) {
+                ctx.channel().write(PacketCodec.newPreamble());
+            }
+            // The handshake would otherwise be counted in the round trip
+            SslHandler ssl = ctx.pipeline().get(SslHandler.class);
+            if (ssl == null) {
+                ping(ctx);
+            } else {
+                ssl.handshakeFuture().addListener(future -> {
+                    if (future.isSuccess()) {
+                        ping(ctx);
+                    } else {
+                        result.completeExceptionally(future.cause());
+                    }
+                });
+            }
+            super.channelActive(ctx);
+        }
+
+        private void ping(@NotNull ChannelHandlerContext ctx) {
+            sentAt = System.nanoTime();
+            ctx.writeAndFlush(DataMessage.createPing());
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, Message.Packet msg) throws Exception {
+            // Older servers answer with a ping of their own rather than a reply, which times the round trip all the same
+            if (msg.getTypeCase() == Message.Packet.TypeCase.PING && sentAt != 0) {
+                long rtt = System.nanoTime() - sentAt;
+                metrics.serverRtt(server).record(rtt, TimeUnit.NANOSECONDS);
+                result.complete(new Probe(server, rtt, ServerLoad.parse(msg.getPing().getLoad())));
+            }
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            result.completeExceptionally(new IllegalStateException(server + " closed the probe"));
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+            result.completeExceptionally(cause);
+            ctx.close();
+        }
+    }
+
+    /**
+     * What probing one server found.
+     */
+    static final class Probe {
+        private final String server;
+        private final long rttNanos;
+        private final ServerLoad load;
+
+        Probe(@NotNull String server, long rttNanos, @NotNull ServerLoad load) {
+            this.server = server;
+            this.rttNanos = rttNanos;
+            this.load = load;
+        }
+
+        @NotNull
+        @Contract(pure = true)
+        String server() {
+            return server;
+        }
+
+        @NotNull
+        @Contract(pure = true)
+        ServerLoad load() {
+            return load;
+        }
+
+        /**
+         * @return the expected latency in milliseconds, the round trip plus the delays the server's load
+         * adds to it; lower is better
+         */
+        double score() {
+            return rttNanos / 1e6 + load.lagMillis() + load.connections() * MILLIS_PER_CONNECTION
+                    + load.messagesPerSecond() * MILLIS_PER_MESSAGE_PER_SECOND;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.teamclutch.chat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.ReferenceCountUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+
+/**
+ * Applies the configured {@link SlowConsumerPolicy} to writes on a server channel that is no longer
+ * writable, so one stalled client can't grow its outbound buffer without bound.
+ */
+final class SlowConsumerHandler extends ChannelDuplexHandler {
+    private final SlowConsumerPolicy policy;
+    private final int maxQueuedWrites;
+    private final ChatMetrics metrics;
+    private final ArrayDeque<PendingWrite> queue = new ArrayDeque<>();
+    private boolean slow;
+
+    SlowConsumerHandler(@NotNull ServerConfig config, @NotNull ChatMetrics metrics) {
+        this.policy = config.slowConsumerPolicy();
+        this.maxQueuedWrites = config.slowConsumerMaxQueuedWrites();
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        // A closed channel is never writable, let the write fail the usual way
+        if (!ctx.channel().isActive() || (ctx.channel().isWritable() && queue.isEmpty())) {
+            ctx.write(msg, promise);
+            return;
+        }
+
+        markSlow(true);
+        switch (policy) {
+            case DISCONNECT:
+                ReferenceCountUtil.release(msg);
+                promise.tryFailure(new ClosedChannelException());
+                metrics.slowConsumerDisconnected();
+                ctx.close();
+                break;
+            case SKIP:
+                ReferenceCountUtil.release(msg);
+                promise.trySuccess();
+                metrics.slowConsumerDropped();
+                break;
+            case DROP_OLDEST:
+            default:
+                if (queue.size() >= maxQueuedWrites) {
+                    dequeue().discard();
+                    metrics.slowConsumerDropped();
+                }
+                PendingWrite write = new PendingWrite(msg, promise);
+                queue.add(write);
+                metrics.slowConsumerQueued(write.size);
+                break;
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable()) {
+            boolean wrote = false;
+            while (!queue.isEmpty() && ctx.channel().isWritable()) {
+                PendingWrite write = dequeue();
+                ctx.write(write.msg, write.promise);
+                wrote = true;
+            }
+            if (wrote) {
+                ctx.flush();
+            }
+            if (queue.isEmpty() && ctx.channel().isWritable()) {
+                markSlow(false);
+            }
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        discardQueue();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        discardQueue();
+    }
+
+    private void discardQueue() {
+        while (!queue.isEmpty()) {
+            dequeue().discard();
+        }
+        markSlow(false);
+    }
+
+    @NotNull
+    private PendingWrite dequeue() {
+        PendingWrite write = queue.remove();
+        metrics.slowConsumerQueued(-write.size);
+        return write;
+    }
+
+    private void markSlow(boolean slow) {
+        if (this.slow != slow) {
+            this.slow = slow;
+            metrics.slowConsumer(slow);
+        }
+    }
+
+    private static final class PendingWrite {
+        final Object msg;
+        final ChannelPromise promise;
+        final int size;
+
+        PendingWrite(Object msg, ChannelPromise promise) {
+            this.msg = msg;
+            this.promise = promise;
+            if (msg instanceof ByteBuf) {
+                size = ((ByteBuf) msg).readableBytes();
+            } else if (msg instanceof ByteBufHolder) {
+                size = ((ByteBufHolder) msg).content().readableBytes();
+            } else {
+                size = 0;
+            }
+        }
+
+        void discard() {
+            ReferenceCountUtil.release(msg);
+            promise.trySuccess();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.teamclutch.chat;
+
+/**
+ * What the server does with writes to a connection whose outbound buffer is above its high water mark.
+ */
+public enum SlowConsumerPolicy {
+    /**
+     * Hold writes in a bounded queue until the connection drains, dropping the oldest when it is full.
+     */
+    DROP_OLDEST,
+    /**
+     * Drop the write, the client can fetch what it missed later with a {@code DataRequest}.
+     */
+    SKIP,
+    /**
+     * Close the connection.
+     */
+    DISCONNECT
+}
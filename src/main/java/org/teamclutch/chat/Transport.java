@@ -0,0 +1,87 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The socket implementations the client and server can run on.
+ */
+enum Transport {
+    NIO {
+        @NotNull
+        @Override
+        EventLoopGroup newGroup(int threads) {
+            return new NioEventLoopGroup(threads);
+        }
+
+        @NotNull
+        @Override
+        Class<? extends ServerChannel> serverChannel() {
+            return NioServerSocketChannel.class;
+        }
+
+        @NotNull
+        @Override
+        Class<? extends SocketChannel> channel() {
+            return NioSocketChannel.class;
+        }
+    },
+    /**
+     * Linux only, talks to epoll directly and supports {@code SO_REUSEPORT}.
+     */
+    EPOLL {
+        @NotNull
+        @Override
+        EventLoopGroup newGroup(int threads) {
+            return new EpollEventLoopGroup(threads);
+        }
+
+        @NotNull
+        @Override
+        Class<? extends ServerChannel> serverChannel() {
+            return EpollServerSocketChannel.class;
+        }
+
+        @NotNull
+        @Override
+        Class<? extends SocketChannel> channel() {
+            return EpollSocketChannel.class;
+        }
+    };
+
+    /**
+     * @param threads the number of event loops, or 0 for Netty's default
+     */
+    @NotNull
+    abstract EventLoopGroup newGroup(int threads);
+
+    @NotNull
+    abstract Class<? extends ServerChannel> serverChannel();
+
+    @NotNull
+    abstract Class<? extends SocketChannel> channel();
+
+    /**
+     * @return epoll if it is wanted and can be loaded on this machine, NIO otherwise
+     */
+    @NotNull
+    static Transport select(boolean preferNative) {
+        if (preferNative && Epoll.isAvailable()) {
+            return EPOLL;
+        }
+
+        if (preferNative && Chat.DEBUG_VERSION) {
+            System.err.println("Native transport unavailable, using NIO: " + Epoll.unavailabilityCause());
+        }
+        return NIO;
+    }
+}
@@ -0,0 +1,109 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The users and server nodes known to a server. Every update is a single atomic map operation, so
+ * joins, leaves and username collision checks never block each other.
+ */
+final class UserRegistry {
+    private static final AttributeKey<Session> SESSION = AttributeKey.valueOf("chat.session");
+
+    private final ConcurrentHashMap<String, String> usernames = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a session on the channel, claiming the username for the client if nobody else holds it.
+     * The claim is released when the channel closes.
+     *
+     * @return the new session, or {@code null} if the username belongs to another client
+     */
+    @Nullable
+    Session join(@NotNull Channel channel, @NotNull String username, @NotNull String serverClientId, boolean node) {
+        String owner = usernames.putIfAbsent(username, serverClientId);
+        if (owner != null && !owner.equals(serverClientId)) {
+            return null;
+        }
+
+        Session session = new Session(username, serverClientId, node);
+        Session previous = channel.attr(SESSION).getAndSet(session);
+        if (previous == null) {
+            channel.closeFuture().addListener(future -> leave(channel));
+        } else if (!previous.username.equals(username)) {
+            usernames.remove(previous.username, previous.serverClientId);
+        }
+        return session;
+    }
+
+    /**
+     * Ends the channel's session and frees its username.
+     */
+    void leave(@NotNull Channel channel) {
+        Session session = channel.attr(SESSION).getAndSet(null);
+        if (session != null) {
+            usernames.remove(session.username, session.serverClientId);
+        }
+    }
+
+    /**
+     * @return whether some client holds the username
+     */
+    boolean isClaimed(@NotNull String username) {
+        return usernames.containsKey(username);
+    }
+
+    @Nullable
+    Session sessionOf(@NotNull Channel channel) {
+        return channel.attr(SESSION).get();
+    }
+
+    void addNode(@NotNull String id, @NotNull String location) {
+        nodes.put(id, location);
+    }
+
+    @NotNull
+    Message.Servers servers() {
+        Message.Servers.Builder servers = Message.Servers.newBuilder();
+        for (Map.Entry<String, String> node : nodes.entrySet()) {
+            servers.addServer(Message.Servers.Server.newBuilder().setId(node.getKey())
+                    .setLocation(node.getValue()));
+        }
+        return servers.build();
+    }
+
+    /**
+     * A client's state on one connection.
+     */
+    static final class Session {
+        private final String username;
+        private final String serverClientId;
+        private final boolean node;
+
+        private Session(String username, String serverClientId, boolean node) {
+            this.username = username;
+            this.serverClientId = serverClientId;
+            this.node = node;
+        }
+
+        @NotNull
+        String username() {
+            return username;
+        }
+
+        @NotNull
+        String serverClientId() {
+            return serverClientId;
+        }
+
+        boolean isNode() {
+            return node;
+        }
+    }
+}
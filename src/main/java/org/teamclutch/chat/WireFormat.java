@@ -0,0 +1,15 @@
+package org.teamclutch.chat;
+
+/**
+ * The framing used to carry {@link org.teamclutch.chat.protobuf.Message.Packet}s over a connection.
+ */
+public enum WireFormat {
+    /**
+     * The original line based codec, the packet is wrapped in a JSON object and terminated by a new line.
+     */
+    LEGACY_JSON,
+    /**
+     * A varint length prefix followed by the raw protobuf bytes of the packet.
+     */
+    BINARY
+}
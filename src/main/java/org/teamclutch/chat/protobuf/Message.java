@@ -66,6 +66,51 @@ public final class Message {
      */
     org.teamclutch.chat.protobuf.Message.ServersOrBuilder getServersOrBuilder();
 
+    /**
+     * <code>optional .SearchRequest search = 7;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.SearchRequest getSearch();
+    /**
+     * <code>optional .SearchRequest search = 7;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.SearchRequestOrBuilder getSearchOrBuilder();
+
+    /**
+     * <code>optional .SearchResults results = 8;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.SearchResults getResults();
+    /**
+     * <code>optional .SearchResults results = 8;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.SearchResultsOrBuilder getResultsOrBuilder();
+
+    /**
+     * <code>optional .HistoryRequest history = 9;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.HistoryRequest getHistory();
+    /**
+     * <code>optional .HistoryRequest history = 9;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.HistoryRequestOrBuilder getHistoryOrBuilder();
+
+    /**
+     * <code>optional .HistoryPage page = 10;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.HistoryPage getPage();
+    /**
+     * <code>optional .HistoryPage page = 10;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.HistoryPageOrBuilder getPageOrBuilder();
+
+    /**
+     * <code>optional .Snapshot snapshot = 11;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.Snapshot getSnapshot();
+    /**
+     * <code>optional .Snapshot snapshot = 11;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.SnapshotOrBuilder getSnapshotOrBuilder();
+
     public org.teamclutch.chat.protobuf.Message.Packet.TypeCase getTypeCase();
   }
   /**
@@ -190,6 +235,76 @@ public final class Message {
               typeCase_ = 6;
               break;
             }
+            case 58: {
+              org.teamclutch.chat.protobuf.Message.SearchRequest.Builder subBuilder = null;
+              if (typeCase_ == 7) {
+                subBuilder = ((org.teamclutch.chat.protobuf.Message.SearchRequest) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(org.teamclutch.chat.protobuf.Message.SearchRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.teamclutch.chat.protobuf.Message.SearchRequest) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 7;
+              break;
+            }
+            case 66: {
+              org.teamclutch.chat.protobuf.Message.SearchResults.Builder subBuilder = null;
+              if (typeCase_ == 8) {
+                subBuilder = ((org.teamclutch.chat.protobuf.Message.SearchResults) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(org.teamclutch.chat.protobuf.Message.SearchResults.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.teamclutch.chat.protobuf.Message.SearchResults) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 8;
+              break;
+            }
+            case 74: {
+              org.teamclutch.chat.protobuf.Message.HistoryRequest.Builder subBuilder = null;
+              if (typeCase_ == 9) {
+                subBuilder = ((org.teamclutch.chat.protobuf.Message.HistoryRequest) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(org.teamclutch.chat.protobuf.Message.HistoryRequest.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.teamclutch.chat.protobuf.Message.HistoryRequest) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 9;
+              break;
+            }
+            case 82: {
+              org.teamclutch.chat.protobuf.Message.HistoryPage.Builder subBuilder = null;
+              if (typeCase_ == 10) {
+                subBuilder = ((org.teamclutch.chat.protobuf.Message.HistoryPage) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(org.teamclutch.chat.protobuf.Message.HistoryPage.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.teamclutch.chat.protobuf.Message.HistoryPage) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 10;
+              break;
+            }
+            case 90: {
+              org.teamclutch.chat.protobuf.Message.Snapshot.Builder subBuilder = null;
+              if (typeCase_ == 11) {
+                subBuilder = ((org.teamclutch.chat.protobuf.Message.Snapshot) type_).toBuilder();
+              }
+              type_ =
+                  input.readMessage(org.teamclutch.chat.protobuf.Message.Snapshot.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom((org.teamclutch.chat.protobuf.Message.Snapshot) type_);
+                type_ = subBuilder.buildPartial();
+              }
+              typeCase_ = 11;
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -224,6 +339,11 @@ public final class Message {
       PING(4),
       PKG(5),
       SERVERS(6),
+      SEARCH(7),
+      RESULTS(8),
+      HISTORY(9),
+      PAGE(10),
+      SNAPSHOT(11),
       TYPE_NOT_SET(0);
       private int value = 0;
       private TypeCase(int value) {
@@ -237,6 +357,11 @@ public final class Message {
           case 4: return PING;
           case 5: return PKG;
           case 6: return SERVERS;
+          case 7: return SEARCH;
+          case 8: return RESULTS;
+          case 9: return HISTORY;
+          case 10: return PAGE;
+          case 11: return SNAPSHOT;
           case 0: return TYPE_NOT_SET;
           default: throw new java.lang.IllegalArgumentException(
             "Value is undefined for this oneof enum.");
@@ -373,6 +498,106 @@ public final class Message {
       return org.teamclutch.chat.protobuf.Message.Servers.getDefaultInstance();
     }
 
+    public static final int SEARCH_FIELD_NUMBER = 7;
+    /**
+     * <code>optional .SearchRequest search = 7;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.SearchRequest getSearch() {
+      if (typeCase_ == 7) {
+         return (org.teamclutch.chat.protobuf.Message.SearchRequest) type_;
+      }
+      return org.teamclutch.chat.protobuf.Message.SearchRequest.getDefaultInstance();
+    }
+    /**
+     * <code>optional .SearchRequest search = 7;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.SearchRequestOrBuilder getSearchOrBuilder() {
+      if (typeCase_ == 7) {
+         return (org.teamclutch.chat.protobuf.Message.SearchRequest) type_;
+      }
+      return org.teamclutch.chat.protobuf.Message.SearchRequest.getDefaultInstance();
+    }
+
+    public static final int RESULTS_FIELD_NUMBER = 8;
+    /**
+     * <code>optional .SearchResults results = 8;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.SearchResults getResults() {
+      if (typeCase_ == 8) {
+         return (org.teamclutch.chat.protobuf.Message.SearchResults) type_;
+      }
+      return org.teamclutch.chat.protobuf.Message.SearchResults.getDefaultInstance();
+    }
+    /**
+     * <code>optional .SearchResults results = 8;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.SearchResultsOrBuilder getResultsOrBuilder() {
+      if (typeCase_ == 8) {
+         return (org.teamclutch.chat.protobuf.Message.SearchResults) type_;
+      }
+      return org.teamclutch.chat.protobuf.Message.SearchResults.getDefaultInstance();
+    }
+
+    public static final int HISTORY_FIELD_NUMBER = 9;
+    /**
+     * <code>optional .HistoryRequest history = 9;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.HistoryRequest getHistory() {
+      if (typeCase_ == 9) {
+         return (org.teamclutch.chat.protobuf.Message.HistoryRequest) type_;
+      }
+      return org.teamclutch.chat.protobuf.Message.HistoryRequest.getDefaultInstance();
+    }
+    /**
+     * <code>optional .HistoryRequest history = 9;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.HistoryRequestOrBuilder getHistoryOrBuilder() {
+      if (typeCase_ == 9) {
+         return (org.teamclutch.chat.protobuf.Message.HistoryRequest) type_;
+      }
+      return org.teamclutch.chat.protobuf.Message.HistoryRequest.getDefaultInstance();
+    }
+
+    public static final int PAGE_FIELD_NUMBER = 10;
+    /**
+     * <code>optional .HistoryPage page = 10;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.HistoryPage getPage() {
+      if (typeCase_ == 10) {
+         return (org.teamclutch.chat.protobuf.Message.HistoryPage) type_;
+      }
+      return org.teamclutch.chat.protobuf.Message.HistoryPage.getDefaultInstance();
+    }
+    /**
+     * <code>optional .HistoryPage page = 10;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.HistoryPageOrBuilder getPageOrBuilder() {
+      if (typeCase_ == 10) {
+         return (org.teamclutch.chat.protobuf.Message.HistoryPage) type_;
+      }
+      return org.teamclutch.chat.protobuf.Message.HistoryPage.getDefaultInstance();
+    }
+
+    public static final int SNAPSHOT_FIELD_NUMBER = 11;
+    /**
+     * <code>optional .Snapshot snapshot = 11;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.Snapshot getSnapshot() {
+      if (typeCase_ == 11) {
+         return (org.teamclutch.chat.protobuf.Message.Snapshot) type_;
+      }
+      return org.teamclutch.chat.protobuf.Message.Snapshot.getDefaultInstance();
+    }
+    /**
+     * <code>optional .Snapshot snapshot = 11;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.SnapshotOrBuilder getSnapshotOrBuilder() {
+      if (typeCase_ == 11) {
+         return (org.teamclutch.chat.protobuf.Message.Snapshot) type_;
+      }
+      return org.teamclutch.chat.protobuf.Message.Snapshot.getDefaultInstance();
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -403,6 +628,21 @@ public final class Message {
       if (typeCase_ == 6) {
         output.writeMessage(6, (org.teamclutch.chat.protobuf.Message.Servers) type_);
       }
+      if (typeCase_ == 7) {
+        output.writeMessage(7, (org.teamclutch.chat.protobuf.Message.SearchRequest) type_);
+      }
+      if (typeCase_ == 8) {
+        output.writeMessage(8, (org.teamclutch.chat.protobuf.Message.SearchResults) type_);
+      }
+      if (typeCase_ == 9) {
+        output.writeMessage(9, (org.teamclutch.chat.protobuf.Message.HistoryRequest) type_);
+      }
+      if (typeCase_ == 10) {
+        output.writeMessage(10, (org.teamclutch.chat.protobuf.Message.HistoryPage) type_);
+      }
+      if (typeCase_ == 11) {
+        output.writeMessage(11, (org.teamclutch.chat.protobuf.Message.Snapshot) type_);
+      }
     }
 
     public int getSerializedSize() {
@@ -434,6 +674,26 @@ public final class Message {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(6, (org.teamclutch.chat.protobuf.Message.Servers) type_);
       }
+      if (typeCase_ == 7) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, (org.teamclutch.chat.protobuf.Message.SearchRequest) type_);
+      }
+      if (typeCase_ == 8) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, (org.teamclutch.chat.protobuf.Message.SearchResults) type_);
+      }
+      if (typeCase_ == 9) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, (org.teamclutch.chat.protobuf.Message.HistoryRequest) type_);
+      }
+      if (typeCase_ == 10) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, (org.teamclutch.chat.protobuf.Message.HistoryPage) type_);
+      }
+      if (typeCase_ == 11) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, (org.teamclutch.chat.protobuf.Message.Snapshot) type_);
+      }
       memoizedSize = size;
       return size;
     }
@@ -611,6 +871,41 @@ public final class Message {
             result.type_ = serversBuilder_.build();
           }
         }
+        if (typeCase_ == 7) {
+          if (searchBuilder_ == null) {
+            result.type_ = type_;
+          } else {
+            result.type_ = searchBuilder_.build();
+          }
+        }
+        if (typeCase_ == 8) {
+          if (resultsBuilder_ == null) {
+            result.type_ = type_;
+          } else {
+            result.type_ = resultsBuilder_.build();
+          }
+        }
+        if (typeCase_ == 9) {
+          if (historyBuilder_ == null) {
+            result.type_ = type_;
+          } else {
+            result.type_ = historyBuilder_.build();
+          }
+        }
+        if (typeCase_ == 10) {
+          if (pageBuilder_ == null) {
+            result.type_ = type_;
+          } else {
+            result.type_ = pageBuilder_.build();
+          }
+        }
+        if (typeCase_ == 11) {
+          if (snapshotBuilder_ == null) {
+            result.type_ = type_;
+          } else {
+            result.type_ = snapshotBuilder_.build();
+          }
+        }
         result.typeCase_ = typeCase_;
         onBuilt();
         return result;
@@ -652,6 +947,26 @@ public final class Message {
             mergeServers(other.getServers());
             break;
           }
+          case SEARCH: {
+            mergeSearch(other.getSearch());
+            break;
+          }
+          case RESULTS: {
+            mergeResults(other.getResults());
+            break;
+          }
+          case HISTORY: {
+            mergeHistory(other.getHistory());
+            break;
+          }
+          case PAGE: {
+            mergePage(other.getPage());
+            break;
+          }
+          case SNAPSHOT: {
+            mergeSnapshot(other.getSnapshot());
+            break;
+          }
           case TYPE_NOT_SET: {
             break;
           }
@@ -1476,124 +1791,3679 @@ public final class Message {
         onChanged();;
         return serversBuilder_;
       }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
+      private com.google.protobuf.SingleFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.SearchRequest, org.teamclutch.chat.protobuf.Message.SearchRequest.Builder, org.teamclutch.chat.protobuf.Message.SearchRequestOrBuilder> searchBuilder_;
+      /**
+       * <code>optional .SearchRequest search = 7;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.SearchRequest getSearch() {
+        if (searchBuilder_ == null) {
+          if (typeCase_ == 7) {
+            return (org.teamclutch.chat.protobuf.Message.SearchRequest) type_;
+          }
+          return org.teamclutch.chat.protobuf.Message.SearchRequest.getDefaultInstance();
+        } else {
+          if (typeCase_ == 7) {
+            return searchBuilder_.getMessage();
+          }
+          return org.teamclutch.chat.protobuf.Message.SearchRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .SearchRequest search = 7;</code>
+       */
+      public Builder setSearch(org.teamclutch.chat.protobuf.Message.SearchRequest value) {
+        if (searchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          type_ = value;
+          onChanged();
+        } else {
+          searchBuilder_.setMessage(value);
+        }
+        typeCase_ = 7;
         return this;
       }
-
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
+      /**
+       * <code>optional .SearchRequest search = 7;</code>
+       */
+      public Builder setSearch(
+          org.teamclutch.chat.protobuf.Message.SearchRequest.Builder builderForValue) {
+        if (searchBuilder_ == null) {
+          type_ = builderForValue.build();
+          onChanged();
+        } else {
+          searchBuilder_.setMessage(builderForValue.build());
+        }
+        typeCase_ = 7;
         return this;
       }
-
-
-      // @@protoc_insertion_point(builder_scope:Packet)
-    }
-
-    // @@protoc_insertion_point(class_scope:Packet)
-    private static final org.teamclutch.chat.protobuf.Message.Packet DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.Packet();
-    }
-
-    public static org.teamclutch.chat.protobuf.Message.Packet getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<Packet>
-        PARSER = new com.google.protobuf.AbstractParser<Packet>() {
-      public Packet parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        try {
-          return new Packet(input, extensionRegistry);
-        } catch (RuntimeException e) {
-          if (e.getCause() instanceof
-              com.google.protobuf.InvalidProtocolBufferException) {
-            throw (com.google.protobuf.InvalidProtocolBufferException)
-                e.getCause();
+      /**
+       * <code>optional .SearchRequest search = 7;</code>
+       */
+      public Builder mergeSearch(org.teamclutch.chat.protobuf.Message.SearchRequest value) {
+        if (searchBuilder_ == null) {
+          if (typeCase_ == 7 &&
+              type_ != org.teamclutch.chat.protobuf.Message.SearchRequest.getDefaultInstance()) {
+            type_ = org.teamclutch.chat.protobuf.Message.SearchRequest.newBuilder((org.teamclutch.chat.protobuf.Message.SearchRequest) type_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            type_ = value;
           }
-          throw e;
+          onChanged();
+        } else {
+          if (typeCase_ == 7) {
+            searchBuilder_.mergeFrom(value);
+          }
+          searchBuilder_.setMessage(value);
         }
+        typeCase_ = 7;
+        return this;
       }
-    };
-
-    public static com.google.protobuf.Parser<Packet> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<Packet> getParserForType() {
-      return PARSER;
-    }
-
-    public org.teamclutch.chat.protobuf.Message.Packet getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface DataOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Data)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>optional string id = 1;</code>
-     */
-    java.lang.String getId();
-    /**
-     * <code>optional string id = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getIdBytes();
-
-    /**
-     * <code>optional string username = 2;</code>
-     */
-    java.lang.String getUsername();
-    /**
-     * <code>optional string username = 2;</code>
-     */
-    com.google.protobuf.ByteString
-        getUsernameBytes();
+      /**
+       * <code>optional .SearchRequest search = 7;</code>
+       */
+      public Builder clearSearch() {
+        if (searchBuilder_ == null) {
+          if (typeCase_ == 7) {
+            typeCase_ = 0;
+            type_ = null;
+            onChanged();
+          }
+        } else {
+          if (typeCase_ == 7) {
+            typeCase_ = 0;
+            type_ = null;
+          }
+          searchBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .SearchRequest search = 7;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.SearchRequest.Builder getSearchBuilder() {
+        return getSearchFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .SearchRequest search = 7;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.SearchRequestOrBuilder getSearchOrBuilder() {
+        if ((typeCase_ == 7) && (searchBuilder_ != null)) {
+          return searchBuilder_.getMessageOrBuilder();
+        } else {
+          if (typeCase_ == 7) {
+            return (org.teamclutch.chat.protobuf.Message.SearchRequest) type_;
+          }
+          return org.teamclutch.chat.protobuf.Message.SearchRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .SearchRequest search = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.SearchRequest, org.teamclutch.chat.protobuf.Message.SearchRequest.Builder, org.teamclutch.chat.protobuf.Message.SearchRequestOrBuilder> 
+          getSearchFieldBuilder() {
+        if (searchBuilder_ == null) {
+          if (!(typeCase_ == 7)) {
+            type_ = org.teamclutch.chat.protobuf.Message.SearchRequest.getDefaultInstance();
+          }
+          searchBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.teamclutch.chat.protobuf.Message.SearchRequest, org.teamclutch.chat.protobuf.Message.SearchRequest.Builder, org.teamclutch.chat.protobuf.Message.SearchRequestOrBuilder>(
+                  (org.teamclutch.chat.protobuf.Message.SearchRequest) type_,
+                  getParentForChildren(),
+                  isClean());
+          type_ = null;
+        }
+        typeCase_ = 7;
+        onChanged();;
+        return searchBuilder_;
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.SearchResults, org.teamclutch.chat.protobuf.Message.SearchResults.Builder, org.teamclutch.chat.protobuf.Message.SearchResultsOrBuilder> resultsBuilder_;
+      /**
+       * <code>optional .SearchResults results = 8;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.SearchResults getResults() {
+        if (resultsBuilder_ == null) {
+          if (typeCase_ == 8) {
+            return (org.teamclutch.chat.protobuf.Message.SearchResults) type_;
+          }
+          return org.teamclutch.chat.protobuf.Message.SearchResults.getDefaultInstance();
+        } else {
+          if (typeCase_ == 8) {
+            return resultsBuilder_.getMessage();
+          }
+          return org.teamclutch.chat.protobuf.Message.SearchResults.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .SearchResults results = 8;</code>
+       */
+      public Builder setResults(org.teamclutch.chat.protobuf.Message.SearchResults value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          type_ = value;
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(value);
+        }
+        typeCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>optional .SearchResults results = 8;</code>
+       */
+      public Builder setResults(
+          org.teamclutch.chat.protobuf.Message.SearchResults.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          type_ = builderForValue.build();
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(builderForValue.build());
+        }
+        typeCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>optional .SearchResults results = 8;</code>
+       */
+      public Builder mergeResults(org.teamclutch.chat.protobuf.Message.SearchResults value) {
+        if (resultsBuilder_ == null) {
+          if (typeCase_ == 8 &&
+              type_ != org.teamclutch.chat.protobuf.Message.SearchResults.getDefaultInstance()) {
+            type_ = org.teamclutch.chat.protobuf.Message.SearchResults.newBuilder((org.teamclutch.chat.protobuf.Message.SearchResults) type_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            type_ = value;
+          }
+          onChanged();
+        } else {
+          if (typeCase_ == 8) {
+            resultsBuilder_.mergeFrom(value);
+          }
+          resultsBuilder_.setMessage(value);
+        }
+        typeCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>optional .SearchResults results = 8;</code>
+       */
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          if (typeCase_ == 8) {
+            typeCase_ = 0;
+            type_ = null;
+            onChanged();
+          }
+        } else {
+          if (typeCase_ == 8) {
+            typeCase_ = 0;
+            type_ = null;
+          }
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .SearchResults results = 8;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.SearchResults.Builder getResultsBuilder() {
+        return getResultsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .SearchResults results = 8;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.SearchResultsOrBuilder getResultsOrBuilder() {
+        if ((typeCase_ == 8) && (resultsBuilder_ != null)) {
+          return resultsBuilder_.getMessageOrBuilder();
+        } else {
+          if (typeCase_ == 8) {
+            return (org.teamclutch.chat.protobuf.Message.SearchResults) type_;
+          }
+          return org.teamclutch.chat.protobuf.Message.SearchResults.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .SearchResults results = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.SearchResults, org.teamclutch.chat.protobuf.Message.SearchResults.Builder, org.teamclutch.chat.protobuf.Message.SearchResultsOrBuilder> 
+          getResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          if (!(typeCase_ == 8)) {
+            type_ = org.teamclutch.chat.protobuf.Message.SearchResults.getDefaultInstance();
+          }
+          resultsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.teamclutch.chat.protobuf.Message.SearchResults, org.teamclutch.chat.protobuf.Message.SearchResults.Builder, org.teamclutch.chat.protobuf.Message.SearchResultsOrBuilder>(
+                  (org.teamclutch.chat.protobuf.Message.SearchResults) type_,
+                  getParentForChildren(),
+                  isClean());
+          type_ = null;
+        }
+        typeCase_ = 8;
+        onChanged();;
+        return resultsBuilder_;
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.HistoryRequest, org.teamclutch.chat.protobuf.Message.HistoryRequest.Builder, org.teamclutch.chat.protobuf.Message.HistoryRequestOrBuilder> historyBuilder_;
+      /**
+       * <code>optional .HistoryRequest history = 9;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.HistoryRequest getHistory() {
+        if (historyBuilder_ == null) {
+          if (typeCase_ == 9) {
+            return (org.teamclutch.chat.protobuf.Message.HistoryRequest) type_;
+          }
+          return org.teamclutch.chat.protobuf.Message.HistoryRequest.getDefaultInstance();
+        } else {
+          if (typeCase_ == 9) {
+            return historyBuilder_.getMessage();
+          }
+          return org.teamclutch.chat.protobuf.Message.HistoryRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .HistoryRequest history = 9;</code>
+       */
+      public Builder setHistory(org.teamclutch.chat.protobuf.Message.HistoryRequest value) {
+        if (historyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          type_ = value;
+          onChanged();
+        } else {
+          historyBuilder_.setMessage(value);
+        }
+        typeCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>optional .HistoryRequest history = 9;</code>
+       */
+      public Builder setHistory(
+          org.teamclutch.chat.protobuf.Message.HistoryRequest.Builder builderForValue) {
+        if (historyBuilder_ == null) {
+          type_ = builderForValue.build();
+          onChanged();
+        } else {
+          historyBuilder_.setMessage(builderForValue.build());
+        }
+        typeCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>optional .HistoryRequest history = 9;</code>
+       */
+      public Builder mergeHistory(org.teamclutch.chat.protobuf.Message.HistoryRequest value) {
+        if (historyBuilder_ == null) {
+          if (typeCase_ == 9 &&
+              type_ != org.teamclutch.chat.protobuf.Message.HistoryRequest.getDefaultInstance()) {
+            type_ = org.teamclutch.chat.protobuf.Message.HistoryRequest.newBuilder((org.teamclutch.chat.protobuf.Message.HistoryRequest) type_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            type_ = value;
+          }
+          onChanged();
+        } else {
+          if (typeCase_ == 9) {
+            historyBuilder_.mergeFrom(value);
+          }
+          historyBuilder_.setMessage(value);
+        }
+        typeCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>optional .HistoryRequest history = 9;</code>
+       */
+      public Builder clearHistory() {
+        if (historyBuilder_ == null) {
+          if (typeCase_ == 9) {
+            typeCase_ = 0;
+            type_ = null;
+            onChanged();
+          }
+        } else {
+          if (typeCase_ == 9) {
+            typeCase_ = 0;
+            type_ = null;
+          }
+          historyBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .HistoryRequest history = 9;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.HistoryRequest.Builder getHistoryBuilder() {
+        return getHistoryFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .HistoryRequest history = 9;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.HistoryRequestOrBuilder getHistoryOrBuilder() {
+        if ((typeCase_ == 9) && (historyBuilder_ != null)) {
+          return historyBuilder_.getMessageOrBuilder();
+        } else {
+          if (typeCase_ == 9) {
+            return (org.teamclutch.chat.protobuf.Message.HistoryRequest) type_;
+          }
+          return org.teamclutch.chat.protobuf.Message.HistoryRequest.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .HistoryRequest history = 9;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.HistoryRequest, org.teamclutch.chat.protobuf.Message.HistoryRequest.Builder, org.teamclutch.chat.protobuf.Message.HistoryRequestOrBuilder> 
+          getHistoryFieldBuilder() {
+        if (historyBuilder_ == null) {
+          if (!(typeCase_ == 9)) {
+            type_ = org.teamclutch.chat.protobuf.Message.HistoryRequest.getDefaultInstance();
+          }
+          historyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.teamclutch.chat.protobuf.Message.HistoryRequest, org.teamclutch.chat.protobuf.Message.HistoryRequest.Builder, org.teamclutch.chat.protobuf.Message.HistoryRequestOrBuilder>(
+                  (org.teamclutch.chat.protobuf.Message.HistoryRequest) type_,
+                  getParentForChildren(),
+                  isClean());
+          type_ = null;
+        }
+        typeCase_ = 9;
+        onChanged();;
+        return historyBuilder_;
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.HistoryPage, org.teamclutch.chat.protobuf.Message.HistoryPage.Builder, org.teamclutch.chat.protobuf.Message.HistoryPageOrBuilder> pageBuilder_;
+      /**
+       * <code>optional .HistoryPage page = 10;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.HistoryPage getPage() {
+        if (pageBuilder_ == null) {
+          if (typeCase_ == 10) {
+            return (org.teamclutch.chat.protobuf.Message.HistoryPage) type_;
+          }
+          return org.teamclutch.chat.protobuf.Message.HistoryPage.getDefaultInstance();
+        } else {
+          if (typeCase_ == 10) {
+            return pageBuilder_.getMessage();
+          }
+          return org.teamclutch.chat.protobuf.Message.HistoryPage.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .HistoryPage page = 10;</code>
+       */
+      public Builder setPage(org.teamclutch.chat.protobuf.Message.HistoryPage value) {
+        if (pageBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          type_ = value;
+          onChanged();
+        } else {
+          pageBuilder_.setMessage(value);
+        }
+        typeCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>optional .HistoryPage page = 10;</code>
+       */
+      public Builder setPage(
+          org.teamclutch.chat.protobuf.Message.HistoryPage.Builder builderForValue) {
+        if (pageBuilder_ == null) {
+          type_ = builderForValue.build();
+          onChanged();
+        } else {
+          pageBuilder_.setMessage(builderForValue.build());
+        }
+        typeCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>optional .HistoryPage page = 10;</code>
+       */
+      public Builder mergePage(org.teamclutch.chat.protobuf.Message.HistoryPage value) {
+        if (pageBuilder_ == null) {
+          if (typeCase_ == 10 &&
+              type_ != org.teamclutch.chat.protobuf.Message.HistoryPage.getDefaultInstance()) {
+            type_ = org.teamclutch.chat.protobuf.Message.HistoryPage.newBuilder((org.teamclutch.chat.protobuf.Message.HistoryPage) type_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            type_ = value;
+          }
+          onChanged();
+        } else {
+          if (typeCase_ == 10) {
+            pageBuilder_.mergeFrom(value);
+          }
+          pageBuilder_.setMessage(value);
+        }
+        typeCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>optional .HistoryPage page = 10;</code>
+       */
+      public Builder clearPage() {
+        if (pageBuilder_ == null) {
+          if (typeCase_ == 10) {
+            typeCase_ = 0;
+            type_ = null;
+            onChanged();
+          }
+        } else {
+          if (typeCase_ == 10) {
+            typeCase_ = 0;
+            type_ = null;
+          }
+          pageBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .HistoryPage page = 10;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.HistoryPage.Builder getPageBuilder() {
+        return getPageFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .HistoryPage page = 10;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.HistoryPageOrBuilder getPageOrBuilder() {
+        if ((typeCase_ == 10) && (pageBuilder_ != null)) {
+          return pageBuilder_.getMessageOrBuilder();
+        } else {
+          if (typeCase_ == 10) {
+            return (org.teamclutch.chat.protobuf.Message.HistoryPage) type_;
+          }
+          return org.teamclutch.chat.protobuf.Message.HistoryPage.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .HistoryPage page = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.HistoryPage, org.teamclutch.chat.protobuf.Message.HistoryPage.Builder, org.teamclutch.chat.protobuf.Message.HistoryPageOrBuilder> 
+          getPageFieldBuilder() {
+        if (pageBuilder_ == null) {
+          if (!(typeCase_ == 10)) {
+            type_ = org.teamclutch.chat.protobuf.Message.HistoryPage.getDefaultInstance();
+          }
+          pageBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.teamclutch.chat.protobuf.Message.HistoryPage, org.teamclutch.chat.protobuf.Message.HistoryPage.Builder, org.teamclutch.chat.protobuf.Message.HistoryPageOrBuilder>(
+                  (org.teamclutch.chat.protobuf.Message.HistoryPage) type_,
+                  getParentForChildren(),
+                  isClean());
+          type_ = null;
+        }
+        typeCase_ = 10;
+        onChanged();;
+        return pageBuilder_;
+      }
+      private com.google.protobuf.SingleFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.Snapshot, org.teamclutch.chat.protobuf.Message.Snapshot.Builder, org.teamclutch.chat.protobuf.Message.SnapshotOrBuilder> snapshotBuilder_;
+      /**
+       * <code>optional .Snapshot snapshot = 11;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Snapshot getSnapshot() {
+        if (snapshotBuilder_ == null) {
+          if (typeCase_ == 11) {
+            return (org.teamclutch.chat.protobuf.Message.Snapshot) type_;
+          }
+          return org.teamclutch.chat.protobuf.Message.Snapshot.getDefaultInstance();
+        } else {
+          if (typeCase_ == 11) {
+            return snapshotBuilder_.getMessage();
+          }
+          return org.teamclutch.chat.protobuf.Message.Snapshot.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .Snapshot snapshot = 11;</code>
+       */
+      public Builder setSnapshot(org.teamclutch.chat.protobuf.Message.Snapshot value) {
+        if (snapshotBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          type_ = value;
+          onChanged();
+        } else {
+          snapshotBuilder_.setMessage(value);
+        }
+        typeCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>optional .Snapshot snapshot = 11;</code>
+       */
+      public Builder setSnapshot(
+          org.teamclutch.chat.protobuf.Message.Snapshot.Builder builderForValue) {
+        if (snapshotBuilder_ == null) {
+          type_ = builderForValue.build();
+          onChanged();
+        } else {
+          snapshotBuilder_.setMessage(builderForValue.build());
+        }
+        typeCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>optional .Snapshot snapshot = 11;</code>
+       */
+      public Builder mergeSnapshot(org.teamclutch.chat.protobuf.Message.Snapshot value) {
+        if (snapshotBuilder_ == null) {
+          if (typeCase_ == 11 &&
+              type_ != org.teamclutch.chat.protobuf.Message.Snapshot.getDefaultInstance()) {
+            type_ = org.teamclutch.chat.protobuf.Message.Snapshot.newBuilder((org.teamclutch.chat.protobuf.Message.Snapshot) type_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            type_ = value;
+          }
+          onChanged();
+        } else {
+          if (typeCase_ == 11) {
+            snapshotBuilder_.mergeFrom(value);
+          }
+          snapshotBuilder_.setMessage(value);
+        }
+        typeCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>optional .Snapshot snapshot = 11;</code>
+       */
+      public Builder clearSnapshot() {
+        if (snapshotBuilder_ == null) {
+          if (typeCase_ == 11) {
+            typeCase_ = 0;
+            type_ = null;
+            onChanged();
+          }
+        } else {
+          if (typeCase_ == 11) {
+            typeCase_ = 0;
+            type_ = null;
+          }
+          snapshotBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .Snapshot snapshot = 11;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Snapshot.Builder getSnapshotBuilder() {
+        return getSnapshotFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .Snapshot snapshot = 11;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.SnapshotOrBuilder getSnapshotOrBuilder() {
+        if ((typeCase_ == 11) && (snapshotBuilder_ != null)) {
+          return snapshotBuilder_.getMessageOrBuilder();
+        } else {
+          if (typeCase_ == 11) {
+            return (org.teamclutch.chat.protobuf.Message.Snapshot) type_;
+          }
+          return org.teamclutch.chat.protobuf.Message.Snapshot.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>optional .Snapshot snapshot = 11;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.Snapshot, org.teamclutch.chat.protobuf.Message.Snapshot.Builder, org.teamclutch.chat.protobuf.Message.SnapshotOrBuilder> 
+          getSnapshotFieldBuilder() {
+        if (snapshotBuilder_ == null) {
+          if (!(typeCase_ == 11)) {
+            type_ = org.teamclutch.chat.protobuf.Message.Snapshot.getDefaultInstance();
+          }
+          snapshotBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.teamclutch.chat.protobuf.Message.Snapshot, org.teamclutch.chat.protobuf.Message.Snapshot.Builder, org.teamclutch.chat.protobuf.Message.SnapshotOrBuilder>(
+                  (org.teamclutch.chat.protobuf.Message.Snapshot) type_,
+                  getParentForChildren(),
+                  isClean());
+          type_ = null;
+        }
+        typeCase_ = 11;
+        onChanged();;
+        return snapshotBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Packet)
+    }
+
+    // @@protoc_insertion_point(class_scope:Packet)
+    private static final org.teamclutch.chat.protobuf.Message.Packet DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.Packet();
+    }
+
+    public static org.teamclutch.chat.protobuf.Message.Packet getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Packet>
+        PARSER = new com.google.protobuf.AbstractParser<Packet>() {
+      public Packet parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new Packet(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<Packet> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Packet> getParserForType() {
+      return PARSER;
+    }
+
+    public org.teamclutch.chat.protobuf.Message.Packet getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DataOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Data)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    java.lang.String getId();
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <code>optional string username = 2;</code>
+     */
+    java.lang.String getUsername();
+    /**
+     * <code>optional string username = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getUsernameBytes();
+
+    /**
+     * <code>optional string serverClientId = 3;</code>
+     */
+    java.lang.String getServerClientId();
+    /**
+     * <code>optional string serverClientId = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getServerClientIdBytes();
+
+    /**
+     * <code>optional string data = 4;</code>
+     */
+    java.lang.String getData();
+    /**
+     * <code>optional string data = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getDataBytes();
+
+    /**
+     * <code>optional string room = 5;</code>
+     */
+    java.lang.String getRoom();
+    /**
+     * <code>optional string room = 5;</code>
+     */
+    com.google.protobuf.ByteString
+        getRoomBytes();
+  }
+  /**
+   * Protobuf type {@code Data}
+   */
+  public  static final class Data extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Data)
+      DataOrBuilder {
+    // Use Data.newBuilder() to construct.
+    private Data(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Data() {
+      id_ = "";
+      username_ = "";
+      serverClientId_ = "";
+      data_ = "";
+      room_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private Data(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              id_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              username_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              serverClientId_ = s;
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              data_ = s;
+              break;
+            }
+            case 42: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              room_ = s;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_Data_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_Data_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.teamclutch.chat.protobuf.Message.Data.class, org.teamclutch.chat.protobuf.Message.Data.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object id_;
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int USERNAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object username_;
+    /**
+     * <code>optional string username = 2;</code>
+     */
+    public java.lang.String getUsername() {
+      java.lang.Object ref = username_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        username_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string username = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getUsernameBytes() {
+      java.lang.Object ref = username_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        username_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SERVERCLIENTID_FIELD_NUMBER = 3;
+    private volatile java.lang.Object serverClientId_;
+    /**
+     * <code>optional string serverClientId = 3;</code>
+     */
+    public java.lang.String getServerClientId() {
+      java.lang.Object ref = serverClientId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        serverClientId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string serverClientId = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getServerClientIdBytes() {
+      java.lang.Object ref = serverClientId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        serverClientId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DATA_FIELD_NUMBER = 4;
+    private volatile java.lang.Object data_;
+    /**
+     * <code>optional string data = 4;</code>
+     */
+    public java.lang.String getData() {
+      java.lang.Object ref = data_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        data_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string data = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDataBytes() {
+      java.lang.Object ref = data_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        data_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ROOM_FIELD_NUMBER = 5;
+    private volatile java.lang.Object room_;
+    /**
+     * <code>optional string room = 5;</code>
+     */
+    public java.lang.String getRoom() {
+      java.lang.Object ref = room_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        room_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string room = 5;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRoomBytes() {
+      java.lang.Object ref = room_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        room_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
+      }
+      if (!getUsernameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, username_);
+      }
+      if (!getServerClientIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, serverClientId_);
+      }
+      if (!getDataBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, data_);
+      }
+      if (!getRoomBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 5, room_);
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
+      }
+      if (!getUsernameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, username_);
+      }
+      if (!getServerClientIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, serverClientId_);
+      }
+      if (!getDataBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, data_);
+      }
+      if (!getRoomBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, room_);
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Data parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Data parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.Data prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Data}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Data)
+        org.teamclutch.chat.protobuf.Message.DataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_Data_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_Data_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.teamclutch.chat.protobuf.Message.Data.class, org.teamclutch.chat.protobuf.Message.Data.Builder.class);
+      }
+
+      // Construct using org.teamclutch.chat.protobuf.Message.Data.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        id_ = "";
+
+        username_ = "";
+
+        serverClientId_ = "";
+
+        data_ = "";
+
+        room_ = "";
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_Data_descriptor;
+      }
+
+      public org.teamclutch.chat.protobuf.Message.Data getDefaultInstanceForType() {
+        return org.teamclutch.chat.protobuf.Message.Data.getDefaultInstance();
+      }
+
+      public org.teamclutch.chat.protobuf.Message.Data build() {
+        org.teamclutch.chat.protobuf.Message.Data result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.teamclutch.chat.protobuf.Message.Data buildPartial() {
+        org.teamclutch.chat.protobuf.Message.Data result = new org.teamclutch.chat.protobuf.Message.Data(this);
+        result.id_ = id_;
+        result.username_ = username_;
+        result.serverClientId_ = serverClientId_;
+        result.data_ = data_;
+        result.room_ = room_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.teamclutch.chat.protobuf.Message.Data) {
+          return mergeFrom((org.teamclutch.chat.protobuf.Message.Data)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.Data other) {
+        if (other == org.teamclutch.chat.protobuf.Message.Data.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          onChanged();
+        }
+        if (!other.getUsername().isEmpty()) {
+          username_ = other.username_;
+          onChanged();
+        }
+        if (!other.getServerClientId().isEmpty()) {
+          serverClientId_ = other.serverClientId_;
+          onChanged();
+        }
+        if (!other.getData().isEmpty()) {
+          data_ = other.data_;
+          onChanged();
+        }
+        if (!other.getRoom().isEmpty()) {
+          room_ = other.room_;
+          onChanged();
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.teamclutch.chat.protobuf.Message.Data parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.teamclutch.chat.protobuf.Message.Data) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object id_ = "";
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public Builder clearId() {
+        
+        id_ = getDefaultInstance().getId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object username_ = "";
+      /**
+       * <code>optional string username = 2;</code>
+       */
+      public java.lang.String getUsername() {
+        java.lang.Object ref = username_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          username_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string username = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getUsernameBytes() {
+        java.lang.Object ref = username_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          username_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string username = 2;</code>
+       */
+      public Builder setUsername(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        username_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string username = 2;</code>
+       */
+      public Builder clearUsername() {
+        
+        username_ = getDefaultInstance().getUsername();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string username = 2;</code>
+       */
+      public Builder setUsernameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        username_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object serverClientId_ = "";
+      /**
+       * <code>optional string serverClientId = 3;</code>
+       */
+      public java.lang.String getServerClientId() {
+        java.lang.Object ref = serverClientId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          serverClientId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string serverClientId = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getServerClientIdBytes() {
+        java.lang.Object ref = serverClientId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          serverClientId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string serverClientId = 3;</code>
+       */
+      public Builder setServerClientId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        serverClientId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string serverClientId = 3;</code>
+       */
+      public Builder clearServerClientId() {
+        
+        serverClientId_ = getDefaultInstance().getServerClientId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string serverClientId = 3;</code>
+       */
+      public Builder setServerClientIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        serverClientId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object data_ = "";
+      /**
+       * <code>optional string data = 4;</code>
+       */
+      public java.lang.String getData() {
+        java.lang.Object ref = data_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          data_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string data = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getDataBytes() {
+        java.lang.Object ref = data_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          data_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string data = 4;</code>
+       */
+      public Builder setData(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string data = 4;</code>
+       */
+      public Builder clearData() {
+        
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string data = 4;</code>
+       */
+      public Builder setDataBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        data_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object room_ = "";
+      /**
+       * <code>optional string room = 5;</code>
+       */
+      public java.lang.String getRoom() {
+        java.lang.Object ref = room_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          room_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string room = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRoomBytes() {
+        java.lang.Object ref = room_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          room_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string room = 5;</code>
+       */
+      public Builder setRoom(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        room_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string room = 5;</code>
+       */
+      public Builder clearRoom() {
+        
+        room_ = getDefaultInstance().getRoom();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string room = 5;</code>
+       */
+      public Builder setRoomBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        room_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Data)
+    }
+
+    // @@protoc_insertion_point(class_scope:Data)
+    private static final org.teamclutch.chat.protobuf.Message.Data DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.Data();
+    }
+
+    public static org.teamclutch.chat.protobuf.Message.Data getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Data>
+        PARSER = new com.google.protobuf.AbstractParser<Data>() {
+      public Data parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new Data(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<Data> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Data> getParserForType() {
+      return PARSER;
+    }
+
+    public org.teamclutch.chat.protobuf.Message.Data getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DataRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DataRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    java.lang.String getId();
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+  }
+  /**
+   * Protobuf type {@code DataRequest}
+   */
+  public  static final class DataRequest extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:DataRequest)
+      DataRequestOrBuilder {
+    // Use DataRequest.newBuilder() to construct.
+    private DataRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private DataRequest() {
+      id_ = "";
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private DataRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              id_ = s;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_DataRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_DataRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.teamclutch.chat.protobuf.Message.DataRequest.class, org.teamclutch.chat.protobuf.Message.DataRequest.Builder.class);
+    }
+
+    public static final int ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object id_;
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.DataRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DataRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DataRequest)
+        org.teamclutch.chat.protobuf.Message.DataRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_DataRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_DataRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.teamclutch.chat.protobuf.Message.DataRequest.class, org.teamclutch.chat.protobuf.Message.DataRequest.Builder.class);
+      }
+
+      // Construct using org.teamclutch.chat.protobuf.Message.DataRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        id_ = "";
+
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_DataRequest_descriptor;
+      }
+
+      public org.teamclutch.chat.protobuf.Message.DataRequest getDefaultInstanceForType() {
+        return org.teamclutch.chat.protobuf.Message.DataRequest.getDefaultInstance();
+      }
+
+      public org.teamclutch.chat.protobuf.Message.DataRequest build() {
+        org.teamclutch.chat.protobuf.Message.DataRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.teamclutch.chat.protobuf.Message.DataRequest buildPartial() {
+        org.teamclutch.chat.protobuf.Message.DataRequest result = new org.teamclutch.chat.protobuf.Message.DataRequest(this);
+        result.id_ = id_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.teamclutch.chat.protobuf.Message.DataRequest) {
+          return mergeFrom((org.teamclutch.chat.protobuf.Message.DataRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.DataRequest other) {
+        if (other == org.teamclutch.chat.protobuf.Message.DataRequest.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          onChanged();
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.teamclutch.chat.protobuf.Message.DataRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.teamclutch.chat.protobuf.Message.DataRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private java.lang.Object id_ = "";
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public Builder clearId() {
+        
+        id_ = getDefaultInstance().getId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:DataRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:DataRequest)
+    private static final org.teamclutch.chat.protobuf.Message.DataRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.DataRequest();
+    }
+
+    public static org.teamclutch.chat.protobuf.Message.DataRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DataRequest>
+        PARSER = new com.google.protobuf.AbstractParser<DataRequest>() {
+      public DataRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new DataRequest(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<DataRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DataRequest> getParserForType() {
+      return PARSER;
+    }
+
+    public org.teamclutch.chat.protobuf.Message.DataRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface NewUserOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:NewUser)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    java.lang.String getId();
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    /**
+     * <code>optional string username = 2;</code>
+     */
+    java.lang.String getUsername();
+    /**
+     * <code>optional string username = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getUsernameBytes();
+
+    /**
+     * <code>optional bool node = 3;</code>
+     */
+    boolean getNode();
+
+    /**
+     * <code>repeated string rooms = 4;</code>
+     */
+    com.google.protobuf.ProtocolStringList
+        getRoomsList();
+    /**
+     * <code>repeated string rooms = 4;</code>
+     */
+    int getRoomsCount();
+    /**
+     * <code>repeated string rooms = 4;</code>
+     */
+    java.lang.String getRooms(int index);
+    /**
+     * <code>repeated string rooms = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getRoomsBytes(int index);
+  }
+  /**
+   * Protobuf type {@code NewUser}
+   */
+  public  static final class NewUser extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:NewUser)
+      NewUserOrBuilder {
+    // Use NewUser.newBuilder() to construct.
+    private NewUser(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private NewUser() {
+      id_ = "";
+      username_ = "";
+      node_ = false;
+      rooms_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private NewUser(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              id_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              username_ = s;
+              break;
+            }
+            case 24: {
+
+              node_ = input.readBool();
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                rooms_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              rooms_.add(s);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          rooms_ = rooms_.getUnmodifiableView();
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_NewUser_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_NewUser_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.teamclutch.chat.protobuf.Message.NewUser.class, org.teamclutch.chat.protobuf.Message.NewUser.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object id_;
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        id_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int USERNAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object username_;
+    /**
+     * <code>optional string username = 2;</code>
+     */
+    public java.lang.String getUsername() {
+      java.lang.Object ref = username_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        username_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string username = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getUsernameBytes() {
+      java.lang.Object ref = username_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        username_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NODE_FIELD_NUMBER = 3;
+    private boolean node_;
+    /**
+     * <code>optional bool node = 3;</code>
+     */
+    public boolean getNode() {
+      return node_;
+    }
+
+    public static final int ROOMS_FIELD_NUMBER = 4;
+    private com.google.protobuf.LazyStringList rooms_;
+    /**
+     * <code>repeated string rooms = 4;</code>
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRoomsList() {
+      return rooms_;
+    }
+    /**
+     * <code>repeated string rooms = 4;</code>
+     */
+    public int getRoomsCount() {
+      return rooms_.size();
+    }
+    /**
+     * <code>repeated string rooms = 4;</code>
+     */
+    public java.lang.String getRooms(int index) {
+      return rooms_.get(index);
+    }
+    /**
+     * <code>repeated string rooms = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getRoomsBytes(int index) {
+      return rooms_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getIdBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
+      }
+      if (!getUsernameBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, username_);
+      }
+      if (node_ != false) {
+        output.writeBool(3, node_);
+      }
+      for (int i = 0; i < rooms_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, rooms_.getRaw(i));
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getIdBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
+      }
+      if (!getUsernameBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, username_);
+      }
+      if (node_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, node_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < rooms_.size(); i++) {
+          dataSize += computeStringSizeNoTag(rooms_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRoomsList().size();
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.NewUser parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.NewUser parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.NewUser prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code NewUser}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:NewUser)
+        org.teamclutch.chat.protobuf.Message.NewUserOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_NewUser_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_NewUser_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.teamclutch.chat.protobuf.Message.NewUser.class, org.teamclutch.chat.protobuf.Message.NewUser.Builder.class);
+      }
+
+      // Construct using org.teamclutch.chat.protobuf.Message.NewUser.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        id_ = "";
+
+        username_ = "";
+
+        node_ = false;
+
+        rooms_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_NewUser_descriptor;
+      }
+
+      public org.teamclutch.chat.protobuf.Message.NewUser getDefaultInstanceForType() {
+        return org.teamclutch.chat.protobuf.Message.NewUser.getDefaultInstance();
+      }
+
+      public org.teamclutch.chat.protobuf.Message.NewUser build() {
+        org.teamclutch.chat.protobuf.Message.NewUser result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.teamclutch.chat.protobuf.Message.NewUser buildPartial() {
+        org.teamclutch.chat.protobuf.Message.NewUser result = new org.teamclutch.chat.protobuf.Message.NewUser(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.id_ = id_;
+        result.username_ = username_;
+        result.node_ = node_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          rooms_ = rooms_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.rooms_ = rooms_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.teamclutch.chat.protobuf.Message.NewUser) {
+          return mergeFrom((org.teamclutch.chat.protobuf.Message.NewUser)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.NewUser other) {
+        if (other == org.teamclutch.chat.protobuf.Message.NewUser.getDefaultInstance()) return this;
+        if (!other.getId().isEmpty()) {
+          id_ = other.id_;
+          onChanged();
+        }
+        if (!other.getUsername().isEmpty()) {
+          username_ = other.username_;
+          onChanged();
+        }
+        if (other.getNode() != false) {
+          setNode(other.getNode());
+        }
+        if (!other.rooms_.isEmpty()) {
+          if (rooms_.isEmpty()) {
+            rooms_ = other.rooms_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureRoomsIsMutable();
+            rooms_.addAll(other.rooms_);
+          }
+          onChanged();
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.teamclutch.chat.protobuf.Message.NewUser parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.teamclutch.chat.protobuf.Message.NewUser) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object id_ = "";
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public Builder clearId() {
+        
+        id_ = getDefaultInstance().getId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        id_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object username_ = "";
+      /**
+       * <code>optional string username = 2;</code>
+       */
+      public java.lang.String getUsername() {
+        java.lang.Object ref = username_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          username_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string username = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getUsernameBytes() {
+        java.lang.Object ref = username_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          username_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string username = 2;</code>
+       */
+      public Builder setUsername(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        username_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string username = 2;</code>
+       */
+      public Builder clearUsername() {
+        
+        username_ = getDefaultInstance().getUsername();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string username = 2;</code>
+       */
+      public Builder setUsernameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        username_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean node_ ;
+      /**
+       * <code>optional bool node = 3;</code>
+       */
+      public boolean getNode() {
+        return node_;
+      }
+      /**
+       * <code>optional bool node = 3;</code>
+       */
+      public Builder setNode(boolean value) {
+        
+        node_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool node = 3;</code>
+       */
+      public Builder clearNode() {
+        
+        node_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList rooms_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureRoomsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          rooms_ = new com.google.protobuf.LazyStringArrayList(rooms_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated string rooms = 4;</code>
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRoomsList() {
+        return rooms_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string rooms = 4;</code>
+       */
+      public int getRoomsCount() {
+        return rooms_.size();
+      }
+      /**
+       * <code>repeated string rooms = 4;</code>
+       */
+      public java.lang.String getRooms(int index) {
+        return rooms_.get(index);
+      }
+      /**
+       * <code>repeated string rooms = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRoomsBytes(int index) {
+        return rooms_.getByteString(index);
+      }
+      /**
+       * <code>repeated string rooms = 4;</code>
+       */
+      public Builder setRooms(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRoomsIsMutable();
+        rooms_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string rooms = 4;</code>
+       */
+      public Builder addRooms(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRoomsIsMutable();
+        rooms_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string rooms = 4;</code>
+       */
+      public Builder addAllRooms(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRoomsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, rooms_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string rooms = 4;</code>
+       */
+      public Builder clearRooms() {
+        rooms_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string rooms = 4;</code>
+       */
+      public Builder addRoomsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureRoomsIsMutable();
+        rooms_.add(value);
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:NewUser)
+    }
+
+    // @@protoc_insertion_point(class_scope:NewUser)
+    private static final org.teamclutch.chat.protobuf.Message.NewUser DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.NewUser();
+    }
+
+    public static org.teamclutch.chat.protobuf.Message.NewUser getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<NewUser>
+        PARSER = new com.google.protobuf.AbstractParser<NewUser>() {
+      public NewUser parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new NewUser(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<NewUser> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<NewUser> getParserForType() {
+      return PARSER;
+    }
+
+    public org.teamclutch.chat.protobuf.Message.NewUser getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DataPackageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DataPackage)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .Data messages = 1;</code>
+     */
+    java.util.List<org.teamclutch.chat.protobuf.Message.Data> 
+        getMessagesList();
+    /**
+     * <code>repeated .Data messages = 1;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.Data getMessages(int index);
+    /**
+     * <code>repeated .Data messages = 1;</code>
+     */
+    int getMessagesCount();
+    /**
+     * <code>repeated .Data messages = 1;</code>
+     */
+    java.util.List<? extends org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
+        getMessagesOrBuilderList();
+    /**
+     * <code>repeated .Data messages = 1;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.DataOrBuilder getMessagesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code DataPackage}
+   */
+  public  static final class DataPackage extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:DataPackage)
+      DataPackageOrBuilder {
+    // Use DataPackage.newBuilder() to construct.
+    private DataPackage(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private DataPackage() {
+      messages_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private DataPackage(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                messages_ = new java.util.ArrayList<org.teamclutch.chat.protobuf.Message.Data>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              messages_.add(input.readMessage(org.teamclutch.chat.protobuf.Message.Data.parser(), extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          messages_ = java.util.Collections.unmodifiableList(messages_);
+        }
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_DataPackage_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_DataPackage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.teamclutch.chat.protobuf.Message.DataPackage.class, org.teamclutch.chat.protobuf.Message.DataPackage.Builder.class);
+    }
+
+    public static final int MESSAGES_FIELD_NUMBER = 1;
+    private java.util.List<org.teamclutch.chat.protobuf.Message.Data> messages_;
+    /**
+     * <code>repeated .Data messages = 1;</code>
+     */
+    public java.util.List<org.teamclutch.chat.protobuf.Message.Data> getMessagesList() {
+      return messages_;
+    }
+    /**
+     * <code>repeated .Data messages = 1;</code>
+     */
+    public java.util.List<? extends org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
+        getMessagesOrBuilderList() {
+      return messages_;
+    }
+    /**
+     * <code>repeated .Data messages = 1;</code>
+     */
+    public int getMessagesCount() {
+      return messages_.size();
+    }
+    /**
+     * <code>repeated .Data messages = 1;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.Data getMessages(int index) {
+      return messages_.get(index);
+    }
+    /**
+     * <code>repeated .Data messages = 1;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.DataOrBuilder getMessagesOrBuilder(
+        int index) {
+      return messages_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < messages_.size(); i++) {
+        output.writeMessage(1, messages_.get(i));
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < messages_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, messages_.get(i));
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataPackage parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataPackage parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.DataPackage prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DataPackage}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DataPackage)
+        org.teamclutch.chat.protobuf.Message.DataPackageOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_DataPackage_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_DataPackage_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.teamclutch.chat.protobuf.Message.DataPackage.class, org.teamclutch.chat.protobuf.Message.DataPackage.Builder.class);
+      }
+
+      // Construct using org.teamclutch.chat.protobuf.Message.DataPackage.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getMessagesFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (messagesBuilder_ == null) {
+          messages_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          messagesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_DataPackage_descriptor;
+      }
+
+      public org.teamclutch.chat.protobuf.Message.DataPackage getDefaultInstanceForType() {
+        return org.teamclutch.chat.protobuf.Message.DataPackage.getDefaultInstance();
+      }
+
+      public org.teamclutch.chat.protobuf.Message.DataPackage build() {
+        org.teamclutch.chat.protobuf.Message.DataPackage result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.teamclutch.chat.protobuf.Message.DataPackage buildPartial() {
+        org.teamclutch.chat.protobuf.Message.DataPackage result = new org.teamclutch.chat.protobuf.Message.DataPackage(this);
+        int from_bitField0_ = bitField0_;
+        if (messagesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            messages_ = java.util.Collections.unmodifiableList(messages_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.messages_ = messages_;
+        } else {
+          result.messages_ = messagesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.teamclutch.chat.protobuf.Message.DataPackage) {
+          return mergeFrom((org.teamclutch.chat.protobuf.Message.DataPackage)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.DataPackage other) {
+        if (other == org.teamclutch.chat.protobuf.Message.DataPackage.getDefaultInstance()) return this;
+        if (messagesBuilder_ == null) {
+          if (!other.messages_.isEmpty()) {
+            if (messages_.isEmpty()) {
+              messages_ = other.messages_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureMessagesIsMutable();
+              messages_.addAll(other.messages_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.messages_.isEmpty()) {
+            if (messagesBuilder_.isEmpty()) {
+              messagesBuilder_.dispose();
+              messagesBuilder_ = null;
+              messages_ = other.messages_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              messagesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getMessagesFieldBuilder() : null;
+            } else {
+              messagesBuilder_.addAllMessages(other.messages_);
+            }
+          }
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.teamclutch.chat.protobuf.Message.DataPackage parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.teamclutch.chat.protobuf.Message.DataPackage) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.teamclutch.chat.protobuf.Message.Data> messages_ =
+        java.util.Collections.emptyList();
+      private void ensureMessagesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          messages_ = new java.util.ArrayList<org.teamclutch.chat.protobuf.Message.Data>(messages_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.Data, org.teamclutch.chat.protobuf.Message.Data.Builder, org.teamclutch.chat.protobuf.Message.DataOrBuilder> messagesBuilder_;
+
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public java.util.List<org.teamclutch.chat.protobuf.Message.Data> getMessagesList() {
+        if (messagesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(messages_);
+        } else {
+          return messagesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public int getMessagesCount() {
+        if (messagesBuilder_ == null) {
+          return messages_.size();
+        } else {
+          return messagesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Data getMessages(int index) {
+        if (messagesBuilder_ == null) {
+          return messages_.get(index);
+        } else {
+          return messagesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public Builder setMessages(
+          int index, org.teamclutch.chat.protobuf.Message.Data value) {
+        if (messagesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMessagesIsMutable();
+          messages_.set(index, value);
+          onChanged();
+        } else {
+          messagesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public Builder setMessages(
+          int index, org.teamclutch.chat.protobuf.Message.Data.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          messagesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public Builder addMessages(org.teamclutch.chat.protobuf.Message.Data value) {
+        if (messagesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMessagesIsMutable();
+          messages_.add(value);
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public Builder addMessages(
+          int index, org.teamclutch.chat.protobuf.Message.Data value) {
+        if (messagesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMessagesIsMutable();
+          messages_.add(index, value);
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public Builder addMessages(
+          org.teamclutch.chat.protobuf.Message.Data.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.add(builderForValue.build());
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public Builder addMessages(
+          int index, org.teamclutch.chat.protobuf.Message.Data.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public Builder addAllMessages(
+          java.lang.Iterable<? extends org.teamclutch.chat.protobuf.Message.Data> values) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, messages_);
+          onChanged();
+        } else {
+          messagesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public Builder clearMessages() {
+        if (messagesBuilder_ == null) {
+          messages_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          messagesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public Builder removeMessages(int index) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.remove(index);
+          onChanged();
+        } else {
+          messagesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Data.Builder getMessagesBuilder(
+          int index) {
+        return getMessagesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.DataOrBuilder getMessagesOrBuilder(
+          int index) {
+        if (messagesBuilder_ == null) {
+          return messages_.get(index);  } else {
+          return messagesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public java.util.List<? extends org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
+           getMessagesOrBuilderList() {
+        if (messagesBuilder_ != null) {
+          return messagesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(messages_);
+        }
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Data.Builder addMessagesBuilder() {
+        return getMessagesFieldBuilder().addBuilder(
+            org.teamclutch.chat.protobuf.Message.Data.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Data.Builder addMessagesBuilder(
+          int index) {
+        return getMessagesFieldBuilder().addBuilder(
+            index, org.teamclutch.chat.protobuf.Message.Data.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Data messages = 1;</code>
+       */
+      public java.util.List<org.teamclutch.chat.protobuf.Message.Data.Builder> 
+           getMessagesBuilderList() {
+        return getMessagesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.Data, org.teamclutch.chat.protobuf.Message.Data.Builder, org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
+          getMessagesFieldBuilder() {
+        if (messagesBuilder_ == null) {
+          messagesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.teamclutch.chat.protobuf.Message.Data, org.teamclutch.chat.protobuf.Message.Data.Builder, org.teamclutch.chat.protobuf.Message.DataOrBuilder>(
+                  messages_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          messages_ = null;
+        }
+        return messagesBuilder_;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:DataPackage)
+    }
+
+    // @@protoc_insertion_point(class_scope:DataPackage)
+    private static final org.teamclutch.chat.protobuf.Message.DataPackage DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.DataPackage();
+    }
+
+    public static org.teamclutch.chat.protobuf.Message.DataPackage getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DataPackage>
+        PARSER = new com.google.protobuf.AbstractParser<DataPackage>() {
+      public DataPackage parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new DataPackage(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<DataPackage> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DataPackage> getParserForType() {
+      return PARSER;
+    }
+
+    public org.teamclutch.chat.protobuf.Message.DataPackage getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PingOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Ping)
+      com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string serverClientId = 3;</code>
-     */
-    java.lang.String getServerClientId();
-    /**
-     * <code>optional string serverClientId = 3;</code>
+     * <code>optional int64 timeSent = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getServerClientIdBytes();
+    long getTimeSent();
 
     /**
-     * <code>optional string data = 4;</code>
+     * <code>optional string load = 2;</code>
      */
-    java.lang.String getData();
+    java.lang.String getLoad();
     /**
-     * <code>optional string data = 4;</code>
+     * <code>optional string load = 2;</code>
      */
     com.google.protobuf.ByteString
-        getDataBytes();
+        getLoadBytes();
   }
   /**
-   * Protobuf type {@code Data}
+   * Protobuf type {@code Ping}
    */
-  public  static final class Data extends
+  public  static final class Ping extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Data)
-      DataOrBuilder {
-    // Use Data.newBuilder() to construct.
-    private Data(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:Ping)
+      PingOrBuilder {
+    // Use Ping.newBuilder() to construct.
+    private Ping(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Data() {
-      id_ = "";
-      username_ = "";
-      serverClientId_ = "";
-      data_ = "";
+    private Ping() {
+      timeSent_ = 0L;
+      load_ = "";
     }
 
     @java.lang.Override
@@ -1601,7 +5471,7 @@ public final class Message {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private Data(
+    private Ping(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
       this();
@@ -1620,28 +5490,15 @@ public final class Message {
               }
               break;
             }
-            case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
+            case 8: {
 
-              id_ = s;
+              timeSent_ = input.readInt64();
               break;
             }
             case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              username_ = s;
-              break;
-            }
-            case 26: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              serverClientId_ = s;
-              break;
-            }
-            case 34: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              data_ = s;
+              load_ = s;
               break;
             }
           }
@@ -1658,845 +5515,1147 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_Data_descriptor;
+      return org.teamclutch.chat.protobuf.Message.internal_static_Ping_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_Data_fieldAccessorTable
+      return org.teamclutch.chat.protobuf.Message.internal_static_Ping_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.teamclutch.chat.protobuf.Message.Data.class, org.teamclutch.chat.protobuf.Message.Data.Builder.class);
+              org.teamclutch.chat.protobuf.Message.Ping.class, org.teamclutch.chat.protobuf.Message.Ping.Builder.class);
     }
 
-    public static final int ID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object id_;
+    public static final int TIMESENT_FIELD_NUMBER = 1;
+    private long timeSent_;
     /**
-     * <code>optional string id = 1;</code>
+     * <code>optional int64 timeSent = 1;</code>
      */
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
+    public long getTimeSent() {
+      return timeSent_;
+    }
+
+    public static final int LOAD_FIELD_NUMBER = 2;
+    private volatile java.lang.Object load_;
+    /**
+     * <code>optional string load = 2;</code>
+     */
+    public java.lang.String getLoad() {
+      java.lang.Object ref = load_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        id_ = s;
+        load_ = s;
         return s;
       }
-    }
-    /**
-     * <code>optional string id = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getIdBytes() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        id_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+    }
+    /**
+     * <code>optional string load = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getLoadBytes() {
+      java.lang.Object ref = load_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        load_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (timeSent_ != 0L) {
+        output.writeInt64(1, timeSent_);
+      }
+      if (!getLoadBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, load_);
+      }
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (timeSent_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, timeSent_);
+      }
+      if (!getLoadBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, load_);
+      }
+      memoizedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Ping parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Ping parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.Ping prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code Ping}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Ping)
+        org.teamclutch.chat.protobuf.Message.PingOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_Ping_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_Ping_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.teamclutch.chat.protobuf.Message.Ping.class, org.teamclutch.chat.protobuf.Message.Ping.Builder.class);
+      }
+
+      // Construct using org.teamclutch.chat.protobuf.Message.Ping.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        timeSent_ = 0L;
+
+        load_ = "";
+
+        return this;
       }
-    }
 
-    public static final int USERNAME_FIELD_NUMBER = 2;
-    private volatile java.lang.Object username_;
-    /**
-     * <code>optional string username = 2;</code>
-     */
-    public java.lang.String getUsername() {
-      java.lang.Object ref = username_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        username_ = s;
-        return s;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_Ping_descriptor;
       }
-    }
-    /**
-     * <code>optional string username = 2;</code>
-     */
-    public com.google.protobuf.ByteString
-        getUsernameBytes() {
-      java.lang.Object ref = username_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        username_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+
+      public org.teamclutch.chat.protobuf.Message.Ping getDefaultInstanceForType() {
+        return org.teamclutch.chat.protobuf.Message.Ping.getDefaultInstance();
       }
-    }
 
-    public static final int SERVERCLIENTID_FIELD_NUMBER = 3;
-    private volatile java.lang.Object serverClientId_;
-    /**
-     * <code>optional string serverClientId = 3;</code>
-     */
-    public java.lang.String getServerClientId() {
-      java.lang.Object ref = serverClientId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        serverClientId_ = s;
-        return s;
+      public org.teamclutch.chat.protobuf.Message.Ping build() {
+        org.teamclutch.chat.protobuf.Message.Ping result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
       }
-    }
-    /**
-     * <code>optional string serverClientId = 3;</code>
-     */
-    public com.google.protobuf.ByteString
-        getServerClientIdBytes() {
-      java.lang.Object ref = serverClientId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        serverClientId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+
+      public org.teamclutch.chat.protobuf.Message.Ping buildPartial() {
+        org.teamclutch.chat.protobuf.Message.Ping result = new org.teamclutch.chat.protobuf.Message.Ping(this);
+        result.timeSent_ = timeSent_;
+        result.load_ = load_;
+        onBuilt();
+        return result;
       }
-    }
 
-    public static final int DATA_FIELD_NUMBER = 4;
-    private volatile java.lang.Object data_;
-    /**
-     * <code>optional string data = 4;</code>
-     */
-    public java.lang.String getData() {
-      java.lang.Object ref = data_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        data_ = s;
-        return s;
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.teamclutch.chat.protobuf.Message.Ping) {
+          return mergeFrom((org.teamclutch.chat.protobuf.Message.Ping)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
       }
-    }
-    /**
-     * <code>optional string data = 4;</code>
-     */
-    public com.google.protobuf.ByteString
-        getDataBytes() {
-      java.lang.Object ref = data_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        data_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
+
+      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.Ping other) {
+        if (other == org.teamclutch.chat.protobuf.Message.Ping.getDefaultInstance()) return this;
+        if (other.getTimeSent() != 0L) {
+          setTimeSent(other.getTimeSent());
+        }
+        if (!other.getLoad().isEmpty()) {
+          load_ = other.load_;
+          onChanged();
+        }
+        onChanged();
+        return this;
       }
-    }
 
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
+      public final boolean isInitialized() {
+        return true;
+      }
 
-      memoizedIsInitialized = 1;
-      return true;
-    }
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.teamclutch.chat.protobuf.Message.Ping parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.teamclutch.chat.protobuf.Message.Ping) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
 
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      if (!getIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
+      private long timeSent_ ;
+      /**
+       * <code>optional int64 timeSent = 1;</code>
+       */
+      public long getTimeSent() {
+        return timeSent_;
+      }
+      /**
+       * <code>optional int64 timeSent = 1;</code>
+       */
+      public Builder setTimeSent(long value) {
+        
+        timeSent_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timeSent = 1;</code>
+       */
+      public Builder clearTimeSent() {
+        
+        timeSent_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object load_ = "";
+      /**
+       * <code>optional string load = 2;</code>
+       */
+      public java.lang.String getLoad() {
+        java.lang.Object ref = load_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          load_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string load = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLoadBytes() {
+        java.lang.Object ref = load_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          load_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string load = 2;</code>
+       */
+      public Builder setLoad(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        load_ = value;
+        onChanged();
+        return this;
       }
-      if (!getUsernameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, username_);
+      /**
+       * <code>optional string load = 2;</code>
+       */
+      public Builder clearLoad() {
+        
+        load_ = getDefaultInstance().getLoad();
+        onChanged();
+        return this;
       }
-      if (!getServerClientIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 3, serverClientId_);
+      /**
+       * <code>optional string load = 2;</code>
+       */
+      public Builder setLoadBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        load_ = value;
+        onChanged();
+        return this;
       }
-      if (!getDataBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 4, data_);
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
       }
-    }
-
-    public int getSerializedSize() {
-      int size = memoizedSize;
-      if (size != -1) return size;
 
-      size = 0;
-      if (!getIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
-      }
-      if (!getUsernameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, username_);
-      }
-      if (!getServerClientIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, serverClientId_);
-      }
-      if (!getDataBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, data_);
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
       }
-      memoizedSize = size;
-      return size;
-    }
 
-    private static final long serialVersionUID = 0L;
-    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+
+      // @@protoc_insertion_point(builder_scope:Ping)
     }
-    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+
+    // @@protoc_insertion_point(class_scope:Ping)
+    private static final org.teamclutch.chat.protobuf.Message.Ping DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.Ping();
     }
-    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
+
+    public static org.teamclutch.chat.protobuf.Message.Ping getDefaultInstance() {
+      return DEFAULT_INSTANCE;
     }
-    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
+
+    private static final com.google.protobuf.Parser<Ping>
+        PARSER = new com.google.protobuf.AbstractParser<Ping>() {
+      public Ping parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new Ping(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
+          }
+          throw e;
+        }
+      }
+    };
+
+    public static com.google.protobuf.Parser<Ping> parser() {
+      return PARSER;
     }
-    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Ping> getParserForType() {
+      return PARSER;
     }
-    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
+
+    public org.teamclutch.chat.protobuf.Message.Ping getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
     }
-    public static org.teamclutch.chat.protobuf.Message.Data parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
+
+  }
+
+  public interface ServersOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Servers)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .Servers.Server server = 1;</code>
+     */
+    java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server> 
+        getServerList();
+    /**
+     * <code>repeated .Servers.Server server = 1;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.Servers.Server getServer(int index);
+    /**
+     * <code>repeated .Servers.Server server = 1;</code>
+     */
+    int getServerCount();
+    /**
+     * <code>repeated .Servers.Server server = 1;</code>
+     */
+    java.util.List<? extends org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder> 
+        getServerOrBuilderList();
+    /**
+     * <code>repeated .Servers.Server server = 1;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder getServerOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code Servers}
+   */
+  public  static final class Servers extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Servers)
+      ServersOrBuilder {
+    // Use Servers.newBuilder() to construct.
+    private Servers(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
     }
-    public static org.teamclutch.chat.protobuf.Message.Data parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    private Servers() {
+      server_ = java.util.Collections.emptyList();
     }
-    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    public static org.teamclutch.chat.protobuf.Message.Data parseFrom(
+    private Servers(
         com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder() {
-      return DEFAULT_INSTANCE.toBuilder();
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                server_ = new java.util.ArrayList<org.teamclutch.chat.protobuf.Message.Servers.Server>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              server_.add(input.readMessage(org.teamclutch.chat.protobuf.Message.Servers.Server.parser(), extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          server_ = java.util.Collections.unmodifiableList(server_);
+        }
+        makeExtensionsImmutable();
+      }
     }
-    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.Data prototype) {
-      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_Servers_descriptor;
     }
-    public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE
-          ? new Builder() : new Builder().mergeFrom(this);
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_Servers_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.teamclutch.chat.protobuf.Message.Servers.class, org.teamclutch.chat.protobuf.Message.Servers.Builder.class);
     }
 
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
+    public interface ServerOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:Servers.Server)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      java.lang.String getId();
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getIdBytes();
+
+      /**
+       * <code>optional string location = 2;</code>
+       */
+      java.lang.String getLocation();
+      /**
+       * <code>optional string location = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getLocationBytes();
     }
     /**
-     * Protobuf type {@code Data}
+     * Protobuf type {@code Servers.Server}
      */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Data)
-        org.teamclutch.chat.protobuf.Message.DataOrBuilder {
+    public  static final class Server extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:Servers.Server)
+        ServerOrBuilder {
+      // Use Server.newBuilder() to construct.
+      private Server(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+      }
+      private Server() {
+        id_ = "";
+        location_ = "";
+      }
+
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+      getUnknownFields() {
+        return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+      }
+      private Server(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+        this();
+        int mutable_bitField0_ = 0;
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!input.skipField(tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                java.lang.String s = input.readStringRequireUtf8();
+
+                id_ = s;
+                break;
+              }
+              case 18: {
+                java.lang.String s = input.readStringRequireUtf8();
+
+                location_ = s;
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw new RuntimeException(e.setUnfinishedMessage(this));
+        } catch (java.io.IOException e) {
+          throw new RuntimeException(
+              new com.google.protobuf.InvalidProtocolBufferException(
+                  e.getMessage()).setUnfinishedMessage(this));
+        } finally {
+          makeExtensionsImmutable();
+        }
+      }
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_Data_descriptor;
+        return org.teamclutch.chat.protobuf.Message.internal_static_Servers_Server_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_Data_fieldAccessorTable
+        return org.teamclutch.chat.protobuf.Message.internal_static_Servers_Server_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.teamclutch.chat.protobuf.Message.Data.class, org.teamclutch.chat.protobuf.Message.Data.Builder.class);
+                org.teamclutch.chat.protobuf.Message.Servers.Server.class, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder.class);
       }
 
-      // Construct using org.teamclutch.chat.protobuf.Message.Data.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
+      public static final int ID_FIELD_NUMBER = 1;
+      private volatile java.lang.Object id_;
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          id_ = s;
+          return s;
+        }
+      }
+      /**
+       * <code>optional string id = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
       }
 
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+      public static final int LOCATION_FIELD_NUMBER = 2;
+      private volatile java.lang.Object location_;
+      /**
+       * <code>optional string location = 2;</code>
+       */
+      public java.lang.String getLocation() {
+        java.lang.Object ref = location_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          location_ = s;
+          return s;
+        }
       }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+      /**
+       * <code>optional string location = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLocationBytes() {
+        java.lang.Object ref = location_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          location_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
       }
-      public Builder clear() {
-        super.clear();
-        id_ = "";
 
-        username_ = "";
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
 
-        serverClientId_ = "";
+        memoizedIsInitialized = 1;
+        return true;
+      }
 
-        data_ = "";
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (!getIdBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
+        }
+        if (!getLocationBytes().isEmpty()) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 2, location_);
+        }
+      }
 
-        return this;
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (!getIdBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
+        }
+        if (!getLocationBytes().isEmpty()) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(2, location_);
+        }
+        memoizedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.Servers.Server prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
       }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_Data_descriptor;
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
       }
 
-      public org.teamclutch.chat.protobuf.Message.Data getDefaultInstanceForType() {
-        return org.teamclutch.chat.protobuf.Message.Data.getDefaultInstance();
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
       }
-
-      public org.teamclutch.chat.protobuf.Message.Data build() {
-        org.teamclutch.chat.protobuf.Message.Data result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+      /**
+       * Protobuf type {@code Servers.Server}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:Servers.Server)
+          org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.teamclutch.chat.protobuf.Message.internal_static_Servers_Server_descriptor;
         }
-        return result;
-      }
 
-      public org.teamclutch.chat.protobuf.Message.Data buildPartial() {
-        org.teamclutch.chat.protobuf.Message.Data result = new org.teamclutch.chat.protobuf.Message.Data(this);
-        result.id_ = id_;
-        result.username_ = username_;
-        result.serverClientId_ = serverClientId_;
-        result.data_ = data_;
-        onBuilt();
-        return result;
-      }
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.teamclutch.chat.protobuf.Message.internal_static_Servers_Server_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.teamclutch.chat.protobuf.Message.Servers.Server.class, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder.class);
+        }
 
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.teamclutch.chat.protobuf.Message.Data) {
-          return mergeFrom((org.teamclutch.chat.protobuf.Message.Data)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
+        // Construct using org.teamclutch.chat.protobuf.Message.Servers.Server.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
         }
-      }
 
-      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.Data other) {
-        if (other == org.teamclutch.chat.protobuf.Message.Data.getDefaultInstance()) return this;
-        if (!other.getId().isEmpty()) {
-          id_ = other.id_;
-          onChanged();
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
         }
-        if (!other.getUsername().isEmpty()) {
-          username_ = other.username_;
-          onChanged();
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
         }
-        if (!other.getServerClientId().isEmpty()) {
-          serverClientId_ = other.serverClientId_;
-          onChanged();
+        public Builder clear() {
+          super.clear();
+          id_ = "";
+
+          location_ = "";
+
+          return this;
         }
-        if (!other.getData().isEmpty()) {
-          data_ = other.data_;
-          onChanged();
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.teamclutch.chat.protobuf.Message.internal_static_Servers_Server_descriptor;
         }
-        onChanged();
-        return this;
-      }
 
-      public final boolean isInitialized() {
-        return true;
-      }
+        public org.teamclutch.chat.protobuf.Message.Servers.Server getDefaultInstanceForType() {
+          return org.teamclutch.chat.protobuf.Message.Servers.Server.getDefaultInstance();
+        }
 
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        org.teamclutch.chat.protobuf.Message.Data parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.teamclutch.chat.protobuf.Message.Data) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
+        public org.teamclutch.chat.protobuf.Message.Servers.Server build() {
+          org.teamclutch.chat.protobuf.Message.Servers.Server result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
           }
+          return result;
         }
-        return this;
-      }
 
-      private java.lang.Object id_ = "";
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          id_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
+        public org.teamclutch.chat.protobuf.Message.Servers.Server buildPartial() {
+          org.teamclutch.chat.protobuf.Message.Servers.Server result = new org.teamclutch.chat.protobuf.Message.Servers.Server(this);
+          result.id_ = id_;
+          result.location_ = location_;
+          onBuilt();
+          return result;
         }
-      }
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          id_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.teamclutch.chat.protobuf.Message.Servers.Server) {
+            return mergeFrom((org.teamclutch.chat.protobuf.Message.Servers.Server)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
         }
-      }
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public Builder setId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        id_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public Builder clearId() {
-        
-        id_ = getDefaultInstance().getId();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public Builder setIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        id_ = value;
-        onChanged();
-        return this;
-      }
 
-      private java.lang.Object username_ = "";
-      /**
-       * <code>optional string username = 2;</code>
-       */
-      public java.lang.String getUsername() {
-        java.lang.Object ref = username_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          username_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
+        public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.Servers.Server other) {
+          if (other == org.teamclutch.chat.protobuf.Message.Servers.Server.getDefaultInstance()) return this;
+          if (!other.getId().isEmpty()) {
+            id_ = other.id_;
+            onChanged();
+          }
+          if (!other.getLocation().isEmpty()) {
+            location_ = other.location_;
+            onChanged();
+          }
+          onChanged();
+          return this;
         }
-      }
-      /**
-       * <code>optional string username = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getUsernameBytes() {
-        java.lang.Object ref = username_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          username_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.teamclutch.chat.protobuf.Message.Servers.Server parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.teamclutch.chat.protobuf.Message.Servers.Server) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
         }
-      }
-      /**
-       * <code>optional string username = 2;</code>
-       */
-      public Builder setUsername(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        username_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string username = 2;</code>
-       */
-      public Builder clearUsername() {
-        
-        username_ = getDefaultInstance().getUsername();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string username = 2;</code>
-       */
-      public Builder setUsernameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        username_ = value;
-        onChanged();
-        return this;
-      }
 
-      private java.lang.Object serverClientId_ = "";
-      /**
-       * <code>optional string serverClientId = 3;</code>
-       */
-      public java.lang.String getServerClientId() {
-        java.lang.Object ref = serverClientId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          serverClientId_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
+        private java.lang.Object id_ = "";
+        /**
+         * <code>optional string id = 1;</code>
+         */
+        public java.lang.String getId() {
+          java.lang.Object ref = id_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            id_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
         }
-      }
-      /**
-       * <code>optional string serverClientId = 3;</code>
-       */
-      public com.google.protobuf.ByteString
-          getServerClientIdBytes() {
-        java.lang.Object ref = serverClientId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          serverClientId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+        /**
+         * <code>optional string id = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getIdBytes() {
+          java.lang.Object ref = id_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            id_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
         }
-      }
-      /**
-       * <code>optional string serverClientId = 3;</code>
-       */
-      public Builder setServerClientId(
-          java.lang.String value) {
-        if (value == null) {
+        /**
+         * <code>optional string id = 1;</code>
+         */
+        public Builder setId(
+            java.lang.String value) {
+          if (value == null) {
     throw new NullPointerException();
   }
   
-        serverClientId_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string serverClientId = 3;</code>
-       */
-      public Builder clearServerClientId() {
-        
-        serverClientId_ = getDefaultInstance().getServerClientId();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string serverClientId = 3;</code>
-       */
-      public Builder setServerClientIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
+          id_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string id = 1;</code>
+         */
+        public Builder clearId() {
+          
+          id_ = getDefaultInstance().getId();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string id = 1;</code>
+         */
+        public Builder setIdBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        
-        serverClientId_ = value;
-        onChanged();
-        return this;
-      }
+          
+          id_ = value;
+          onChanged();
+          return this;
+        }
 
-      private java.lang.Object data_ = "";
-      /**
-       * <code>optional string data = 4;</code>
-       */
-      public java.lang.String getData() {
-        java.lang.Object ref = data_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          data_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
+        private java.lang.Object location_ = "";
+        /**
+         * <code>optional string location = 2;</code>
+         */
+        public java.lang.String getLocation() {
+          java.lang.Object ref = location_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            location_ = s;
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
         }
-      }
-      /**
-       * <code>optional string data = 4;</code>
-       */
-      public com.google.protobuf.ByteString
-          getDataBytes() {
-        java.lang.Object ref = data_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          data_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+        /**
+         * <code>optional string location = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getLocationBytes() {
+          java.lang.Object ref = location_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            location_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
         }
-      }
-      /**
-       * <code>optional string data = 4;</code>
-       */
-      public Builder setData(
-          java.lang.String value) {
-        if (value == null) {
+        /**
+         * <code>optional string location = 2;</code>
+         */
+        public Builder setLocation(
+            java.lang.String value) {
+          if (value == null) {
     throw new NullPointerException();
   }
   
-        data_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string data = 4;</code>
-       */
-      public Builder clearData() {
-        
-        data_ = getDefaultInstance().getData();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string data = 4;</code>
-       */
-      public Builder setDataBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
+          location_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string location = 2;</code>
+         */
+        public Builder clearLocation() {
+          
+          location_ = getDefaultInstance().getLocation();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string location = 2;</code>
+         */
+        public Builder setLocationBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        
-        data_ = value;
-        onChanged();
-        return this;
-      }
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return this;
-      }
+          
+          location_ = value;
+          onChanged();
+          return this;
+        }
+        public final Builder setUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return this;
+        }
 
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return this;
-      }
+        public final Builder mergeUnknownFields(
+            final com.google.protobuf.UnknownFieldSet unknownFields) {
+          return this;
+        }
 
 
-      // @@protoc_insertion_point(builder_scope:Data)
-    }
+        // @@protoc_insertion_point(builder_scope:Servers.Server)
+      }
 
-    // @@protoc_insertion_point(class_scope:Data)
-    private static final org.teamclutch.chat.protobuf.Message.Data DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.Data();
-    }
+      // @@protoc_insertion_point(class_scope:Servers.Server)
+      private static final org.teamclutch.chat.protobuf.Message.Servers.Server DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.Servers.Server();
+      }
 
-    public static org.teamclutch.chat.protobuf.Message.Data getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
+      public static org.teamclutch.chat.protobuf.Message.Servers.Server getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
 
-    private static final com.google.protobuf.Parser<Data>
-        PARSER = new com.google.protobuf.AbstractParser<Data>() {
-      public Data parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        try {
-          return new Data(input, extensionRegistry);
-        } catch (RuntimeException e) {
-          if (e.getCause() instanceof
-              com.google.protobuf.InvalidProtocolBufferException) {
-            throw (com.google.protobuf.InvalidProtocolBufferException)
-                e.getCause();
+      private static final com.google.protobuf.Parser<Server>
+          PARSER = new com.google.protobuf.AbstractParser<Server>() {
+        public Server parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          try {
+            return new Server(input, extensionRegistry);
+          } catch (RuntimeException e) {
+            if (e.getCause() instanceof
+                com.google.protobuf.InvalidProtocolBufferException) {
+              throw (com.google.protobuf.InvalidProtocolBufferException)
+                  e.getCause();
+            }
+            throw e;
           }
-          throw e;
         }
+      };
+
+      public static com.google.protobuf.Parser<Server> parser() {
+        return PARSER;
       }
-    };
 
-    public static com.google.protobuf.Parser<Data> parser() {
-      return PARSER;
-    }
+      @java.lang.Override
+      public com.google.protobuf.Parser<Server> getParserForType() {
+        return PARSER;
+      }
 
-    @java.lang.Override
-    public com.google.protobuf.Parser<Data> getParserForType() {
-      return PARSER;
-    }
+      public org.teamclutch.chat.protobuf.Message.Servers.Server getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
 
-    public org.teamclutch.chat.protobuf.Message.Data getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
     }
 
-  }
-
-  public interface DataRequestOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:DataRequest)
-      com.google.protobuf.MessageOrBuilder {
-
+    public static final int SERVER_FIELD_NUMBER = 1;
+    private java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server> server_;
     /**
-     * <code>optional string id = 1;</code>
+     * <code>repeated .Servers.Server server = 1;</code>
      */
-    java.lang.String getId();
+    public java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server> getServerList() {
+      return server_;
+    }
     /**
-     * <code>optional string id = 1;</code>
+     * <code>repeated .Servers.Server server = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getIdBytes();
-  }
-  /**
-   * Protobuf type {@code DataRequest}
-   */
-  public  static final class DataRequest extends
-      com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:DataRequest)
-      DataRequestOrBuilder {
-    // Use DataRequest.newBuilder() to construct.
-    private DataRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-    }
-    private DataRequest() {
-      id_ = "";
-    }
-
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-    getUnknownFields() {
-      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
-    }
-    private DataRequest(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
-      this();
-      int mutable_bitField0_ = 0;
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!input.skipField(tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 10: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              id_ = s;
-              break;
-            }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw new RuntimeException(e.setUnfinishedMessage(this));
-      } catch (java.io.IOException e) {
-        throw new RuntimeException(
-            new com.google.protobuf.InvalidProtocolBufferException(
-                e.getMessage()).setUnfinishedMessage(this));
-      } finally {
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_DataRequest_descriptor;
+    public java.util.List<? extends org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder> 
+        getServerOrBuilderList() {
+      return server_;
     }
-
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_DataRequest_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              org.teamclutch.chat.protobuf.Message.DataRequest.class, org.teamclutch.chat.protobuf.Message.DataRequest.Builder.class);
+    /**
+     * <code>repeated .Servers.Server server = 1;</code>
+     */
+    public int getServerCount() {
+      return server_.size();
     }
-
-    public static final int ID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object id_;
     /**
-     * <code>optional string id = 1;</code>
+     * <code>repeated .Servers.Server server = 1;</code>
      */
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        id_ = s;
-        return s;
-      }
+    public org.teamclutch.chat.protobuf.Message.Servers.Server getServer(int index) {
+      return server_.get(index);
     }
     /**
-     * <code>optional string id = 1;</code>
+     * <code>repeated .Servers.Server server = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getIdBytes() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        id_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder getServerOrBuilder(
+        int index) {
+      return server_.get(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2511,8 +6670,8 @@ public final class Message {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
+      for (int i = 0; i < server_.size(); i++) {
+        output.writeMessage(1, server_.get(i));
       }
     }
 
@@ -2521,61 +6680,62 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      if (!getIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
+      for (int i = 0; i < server_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, server_.get(i));
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(byte[] data)
+    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(java.io.InputStream input)
+    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.teamclutch.chat.protobuf.Message.Servers parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataRequest parseDelimitedFrom(
+    public static org.teamclutch.chat.protobuf.Message.Servers parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataRequest parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2586,7 +6746,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.DataRequest prototype) {
+    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.Servers prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -2601,25 +6761,25 @@ public final class Message {
       return builder;
     }
     /**
-     * Protobuf type {@code DataRequest}
+     * Protobuf type {@code Servers}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:DataRequest)
-        org.teamclutch.chat.protobuf.Message.DataRequestOrBuilder {
+        // @@protoc_insertion_point(builder_implements:Servers)
+        org.teamclutch.chat.protobuf.Message.ServersOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_DataRequest_descriptor;
+        return org.teamclutch.chat.protobuf.Message.internal_static_Servers_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_DataRequest_fieldAccessorTable
+        return org.teamclutch.chat.protobuf.Message.internal_static_Servers_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.teamclutch.chat.protobuf.Message.DataRequest.class, org.teamclutch.chat.protobuf.Message.DataRequest.Builder.class);
+                org.teamclutch.chat.protobuf.Message.Servers.class, org.teamclutch.chat.protobuf.Message.Servers.Builder.class);
       }
 
-      // Construct using org.teamclutch.chat.protobuf.Message.DataRequest.newBuilder()
+      // Construct using org.teamclutch.chat.protobuf.Message.Servers.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2631,147 +6791,355 @@ public final class Message {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getServerFieldBuilder();
+        }
+      }
+      public Builder clear() {
+        super.clear();
+        if (serverBuilder_ == null) {
+          server_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          serverBuilder_.clear();
+        }
+        return this;
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_Servers_descriptor;
+      }
+
+      public org.teamclutch.chat.protobuf.Message.Servers getDefaultInstanceForType() {
+        return org.teamclutch.chat.protobuf.Message.Servers.getDefaultInstance();
+      }
+
+      public org.teamclutch.chat.protobuf.Message.Servers build() {
+        org.teamclutch.chat.protobuf.Message.Servers result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.teamclutch.chat.protobuf.Message.Servers buildPartial() {
+        org.teamclutch.chat.protobuf.Message.Servers result = new org.teamclutch.chat.protobuf.Message.Servers(this);
+        int from_bitField0_ = bitField0_;
+        if (serverBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            server_ = java.util.Collections.unmodifiableList(server_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.server_ = server_;
+        } else {
+          result.server_ = serverBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.teamclutch.chat.protobuf.Message.Servers) {
+          return mergeFrom((org.teamclutch.chat.protobuf.Message.Servers)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.Servers other) {
+        if (other == org.teamclutch.chat.protobuf.Message.Servers.getDefaultInstance()) return this;
+        if (serverBuilder_ == null) {
+          if (!other.server_.isEmpty()) {
+            if (server_.isEmpty()) {
+              server_ = other.server_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureServerIsMutable();
+              server_.addAll(other.server_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.server_.isEmpty()) {
+            if (serverBuilder_.isEmpty()) {
+              serverBuilder_.dispose();
+              serverBuilder_ = null;
+              server_ = other.server_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              serverBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getServerFieldBuilder() : null;
+            } else {
+              serverBuilder_.addAllMessages(other.server_);
+            }
+          }
+        }
+        onChanged();
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.teamclutch.chat.protobuf.Message.Servers parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.teamclutch.chat.protobuf.Message.Servers) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server> server_ =
+        java.util.Collections.emptyList();
+      private void ensureServerIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          server_ = new java.util.ArrayList<org.teamclutch.chat.protobuf.Message.Servers.Server>(server_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.Servers.Server, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder, org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder> serverBuilder_;
+
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server> getServerList() {
+        if (serverBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(server_);
+        } else {
+          return serverBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public int getServerCount() {
+        if (serverBuilder_ == null) {
+          return server_.size();
+        } else {
+          return serverBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Servers.Server getServer(int index) {
+        if (serverBuilder_ == null) {
+          return server_.get(index);
+        } else {
+          return serverBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public Builder setServer(
+          int index, org.teamclutch.chat.protobuf.Message.Servers.Server value) {
+        if (serverBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureServerIsMutable();
+          server_.set(index, value);
+          onChanged();
+        } else {
+          serverBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public Builder setServer(
+          int index, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder builderForValue) {
+        if (serverBuilder_ == null) {
+          ensureServerIsMutable();
+          server_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          serverBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public Builder addServer(org.teamclutch.chat.protobuf.Message.Servers.Server value) {
+        if (serverBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureServerIsMutable();
+          server_.add(value);
+          onChanged();
+        } else {
+          serverBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public Builder addServer(
+          int index, org.teamclutch.chat.protobuf.Message.Servers.Server value) {
+        if (serverBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureServerIsMutable();
+          server_.add(index, value);
+          onChanged();
+        } else {
+          serverBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public Builder addServer(
+          org.teamclutch.chat.protobuf.Message.Servers.Server.Builder builderForValue) {
+        if (serverBuilder_ == null) {
+          ensureServerIsMutable();
+          server_.add(builderForValue.build());
+          onChanged();
+        } else {
+          serverBuilder_.addMessage(builderForValue.build());
         }
-      }
-      public Builder clear() {
-        super.clear();
-        id_ = "";
-
         return this;
       }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_DataRequest_descriptor;
-      }
-
-      public org.teamclutch.chat.protobuf.Message.DataRequest getDefaultInstanceForType() {
-        return org.teamclutch.chat.protobuf.Message.DataRequest.getDefaultInstance();
-      }
-
-      public org.teamclutch.chat.protobuf.Message.DataRequest build() {
-        org.teamclutch.chat.protobuf.Message.DataRequest result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public Builder addServer(
+          int index, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder builderForValue) {
+        if (serverBuilder_ == null) {
+          ensureServerIsMutable();
+          server_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          serverBuilder_.addMessage(index, builderForValue.build());
         }
-        return result;
-      }
-
-      public org.teamclutch.chat.protobuf.Message.DataRequest buildPartial() {
-        org.teamclutch.chat.protobuf.Message.DataRequest result = new org.teamclutch.chat.protobuf.Message.DataRequest(this);
-        result.id_ = id_;
-        onBuilt();
-        return result;
+        return this;
       }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.teamclutch.chat.protobuf.Message.DataRequest) {
-          return mergeFrom((org.teamclutch.chat.protobuf.Message.DataRequest)other);
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public Builder addAllServer(
+          java.lang.Iterable<? extends org.teamclutch.chat.protobuf.Message.Servers.Server> values) {
+        if (serverBuilder_ == null) {
+          ensureServerIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, server_);
+          onChanged();
         } else {
-          super.mergeFrom(other);
-          return this;
+          serverBuilder_.addAllMessages(values);
         }
+        return this;
       }
-
-      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.DataRequest other) {
-        if (other == org.teamclutch.chat.protobuf.Message.DataRequest.getDefaultInstance()) return this;
-        if (!other.getId().isEmpty()) {
-          id_ = other.id_;
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public Builder clearServer() {
+        if (serverBuilder_ == null) {
+          server_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
           onChanged();
+        } else {
+          serverBuilder_.clear();
         }
-        onChanged();
         return this;
       }
-
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        org.teamclutch.chat.protobuf.Message.DataRequest parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.teamclutch.chat.protobuf.Message.DataRequest) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public Builder removeServer(int index) {
+        if (serverBuilder_ == null) {
+          ensureServerIsMutable();
+          server_.remove(index);
+          onChanged();
+        } else {
+          serverBuilder_.remove(index);
         }
         return this;
       }
-
-      private java.lang.Object id_ = "";
       /**
-       * <code>optional string id = 1;</code>
+       * <code>repeated .Servers.Server server = 1;</code>
        */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          id_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
+      public org.teamclutch.chat.protobuf.Message.Servers.Server.Builder getServerBuilder(
+          int index) {
+        return getServerFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Servers.Server server = 1;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder getServerOrBuilder(
+          int index) {
+        if (serverBuilder_ == null) {
+          return server_.get(index);  } else {
+          return serverBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>optional string id = 1;</code>
+       * <code>repeated .Servers.Server server = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          id_ = b;
-          return b;
+      public java.util.List<? extends org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder> 
+           getServerOrBuilderList() {
+        if (serverBuilder_ != null) {
+          return serverBuilder_.getMessageOrBuilderList();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return java.util.Collections.unmodifiableList(server_);
         }
       }
       /**
-       * <code>optional string id = 1;</code>
+       * <code>repeated .Servers.Server server = 1;</code>
        */
-      public Builder setId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        id_ = value;
-        onChanged();
-        return this;
+      public org.teamclutch.chat.protobuf.Message.Servers.Server.Builder addServerBuilder() {
+        return getServerFieldBuilder().addBuilder(
+            org.teamclutch.chat.protobuf.Message.Servers.Server.getDefaultInstance());
       }
       /**
-       * <code>optional string id = 1;</code>
+       * <code>repeated .Servers.Server server = 1;</code>
        */
-      public Builder clearId() {
-        
-        id_ = getDefaultInstance().getId();
-        onChanged();
-        return this;
+      public org.teamclutch.chat.protobuf.Message.Servers.Server.Builder addServerBuilder(
+          int index) {
+        return getServerFieldBuilder().addBuilder(
+            index, org.teamclutch.chat.protobuf.Message.Servers.Server.getDefaultInstance());
       }
       /**
-       * <code>optional string id = 1;</code>
+       * <code>repeated .Servers.Server server = 1;</code>
        */
-      public Builder setIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        id_ = value;
-        onChanged();
-        return this;
+      public java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server.Builder> 
+           getServerBuilderList() {
+        return getServerFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.Servers.Server, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder, org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder> 
+          getServerFieldBuilder() {
+        if (serverBuilder_ == null) {
+          serverBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.teamclutch.chat.protobuf.Message.Servers.Server, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder, org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder>(
+                  server_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          server_ = null;
+        }
+        return serverBuilder_;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -2784,27 +7152,27 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:DataRequest)
+      // @@protoc_insertion_point(builder_scope:Servers)
     }
 
-    // @@protoc_insertion_point(class_scope:DataRequest)
-    private static final org.teamclutch.chat.protobuf.Message.DataRequest DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Servers)
+    private static final org.teamclutch.chat.protobuf.Message.Servers DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.DataRequest();
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.Servers();
     }
 
-    public static org.teamclutch.chat.protobuf.Message.DataRequest getDefaultInstance() {
+    public static org.teamclutch.chat.protobuf.Message.Servers getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<DataRequest>
-        PARSER = new com.google.protobuf.AbstractParser<DataRequest>() {
-      public DataRequest parsePartialFrom(
+    private static final com.google.protobuf.Parser<Servers>
+        PARSER = new com.google.protobuf.AbstractParser<Servers>() {
+      public Servers parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         try {
-          return new DataRequest(input, extensionRegistry);
+          return new Servers(input, extensionRegistry);
         } catch (RuntimeException e) {
           if (e.getCause() instanceof
               com.google.protobuf.InvalidProtocolBufferException) {
@@ -2816,65 +7184,71 @@ public final class Message {
       }
     };
 
-    public static com.google.protobuf.Parser<DataRequest> parser() {
+    public static com.google.protobuf.Parser<Servers> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DataRequest> getParserForType() {
+    public com.google.protobuf.Parser<Servers> getParserForType() {
       return PARSER;
     }
 
-    public org.teamclutch.chat.protobuf.Message.DataRequest getDefaultInstanceForType() {
+    public org.teamclutch.chat.protobuf.Message.Servers getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface NewUserOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:NewUser)
+  public interface SearchRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SearchRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional string id = 1;</code>
+     * <code>optional string tag = 1;</code>
      */
-    java.lang.String getId();
+    java.lang.String getTag();
     /**
-     * <code>optional string id = 1;</code>
+     * <code>optional string tag = 1;</code>
      */
     com.google.protobuf.ByteString
-        getIdBytes();
+        getTagBytes();
 
     /**
-     * <code>optional string username = 2;</code>
+     * <code>optional string query = 2;</code>
      */
-    java.lang.String getUsername();
+    java.lang.String getQuery();
     /**
-     * <code>optional string username = 2;</code>
+     * <code>optional string query = 2;</code>
      */
     com.google.protobuf.ByteString
-        getUsernameBytes();
+        getQueryBytes();
 
     /**
-     * <code>optional bool node = 3;</code>
+     * <code>optional int32 offset = 3;</code>
      */
-    boolean getNode();
+    int getOffset();
+
+    /**
+     * <code>optional int32 limit = 4;</code>
+     */
+    int getLimit();
   }
   /**
-   * Protobuf type {@code NewUser}
+   * Protobuf type {@code SearchRequest}
    */
-  public  static final class NewUser extends
+  public  static final class SearchRequest extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:NewUser)
-      NewUserOrBuilder {
-    // Use NewUser.newBuilder() to construct.
-    private NewUser(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:SearchRequest)
+      SearchRequestOrBuilder {
+    // Use SearchRequest.newBuilder() to construct.
+    private SearchRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private NewUser() {
-      id_ = "";
-      username_ = "";
-      node_ = false;
+    private SearchRequest() {
+      tag_ = "";
+      query_ = "";
+      offset_ = 0;
+      limit_ = 0;
     }
 
     @java.lang.Override
@@ -2882,7 +7256,7 @@ public final class Message {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private NewUser(
+    private SearchRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
       this();
@@ -2904,18 +7278,23 @@ public final class Message {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              id_ = s;
+              tag_ = s;
               break;
             }
             case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              username_ = s;
+              query_ = s;
               break;
             }
             case 24: {
 
-              node_ = input.readBool();
+              offset_ = input.readInt32();
+              break;
+            }
+            case 32: {
+
+              limit_ = input.readInt32();
               break;
             }
           }
@@ -2932,91 +7311,100 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_NewUser_descriptor;
+      return org.teamclutch.chat.protobuf.Message.internal_static_SearchRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_NewUser_fieldAccessorTable
+      return org.teamclutch.chat.protobuf.Message.internal_static_SearchRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.teamclutch.chat.protobuf.Message.NewUser.class, org.teamclutch.chat.protobuf.Message.NewUser.Builder.class);
+              org.teamclutch.chat.protobuf.Message.SearchRequest.class, org.teamclutch.chat.protobuf.Message.SearchRequest.Builder.class);
     }
 
-    public static final int ID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object id_;
+    public static final int TAG_FIELD_NUMBER = 1;
+    private volatile java.lang.Object tag_;
     /**
-     * <code>optional string id = 1;</code>
+     * <code>optional string tag = 1;</code>
      */
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
+    public java.lang.String getTag() {
+      java.lang.Object ref = tag_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        id_ = s;
+        tag_ = s;
         return s;
       }
     }
     /**
-     * <code>optional string id = 1;</code>
+     * <code>optional string tag = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getIdBytes() {
-      java.lang.Object ref = id_;
+        getTagBytes() {
+      java.lang.Object ref = tag_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        id_ = b;
+        tag_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int USERNAME_FIELD_NUMBER = 2;
-    private volatile java.lang.Object username_;
+    public static final int QUERY_FIELD_NUMBER = 2;
+    private volatile java.lang.Object query_;
     /**
-     * <code>optional string username = 2;</code>
+     * <code>optional string query = 2;</code>
      */
-    public java.lang.String getUsername() {
-      java.lang.Object ref = username_;
+    public java.lang.String getQuery() {
+      java.lang.Object ref = query_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        username_ = s;
+        query_ = s;
         return s;
       }
     }
     /**
-     * <code>optional string username = 2;</code>
+     * <code>optional string query = 2;</code>
      */
     public com.google.protobuf.ByteString
-        getUsernameBytes() {
-      java.lang.Object ref = username_;
+        getQueryBytes() {
+      java.lang.Object ref = query_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        username_ = b;
+        query_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int NODE_FIELD_NUMBER = 3;
-    private boolean node_;
+    public static final int OFFSET_FIELD_NUMBER = 3;
+    private int offset_;
     /**
-     * <code>optional bool node = 3;</code>
+     * <code>optional int32 offset = 3;</code>
      */
-    public boolean getNode() {
-      return node_;
+    public int getOffset() {
+      return offset_;
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 4;
+    private int limit_;
+    /**
+     * <code>optional int32 limit = 4;</code>
+     */
+    public int getLimit() {
+      return limit_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3031,14 +7419,17 @@ public final class Message {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!getIdBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
+      if (!getTagBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, tag_);
       }
-      if (!getUsernameBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, username_);
+      if (!getQueryBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, query_);
       }
-      if (node_ != false) {
-        output.writeBool(3, node_);
+      if (offset_ != 0) {
+        output.writeInt32(3, offset_);
+      }
+      if (limit_ != 0) {
+        output.writeInt32(4, limit_);
       }
     }
 
@@ -3047,68 +7438,72 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      if (!getIdBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
+      if (!getTagBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, tag_);
       }
-      if (!getUsernameBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, username_);
+      if (!getQueryBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, query_);
       }
-      if (node_ != false) {
+      if (offset_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(3, node_);
+          .computeInt32Size(3, offset_);
+      }
+      if (limit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, limit_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(byte[] data)
+    public static org.teamclutch.chat.protobuf.Message.SearchRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(java.io.InputStream input)
+    public static org.teamclutch.chat.protobuf.Message.SearchRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.NewUser parseDelimitedFrom(java.io.InputStream input)
+    public static org.teamclutch.chat.protobuf.Message.SearchRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.NewUser parseDelimitedFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.NewUser parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3119,7 +7514,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.NewUser prototype) {
+    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.SearchRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -3134,25 +7529,25 @@ public final class Message {
       return builder;
     }
     /**
-     * Protobuf type {@code NewUser}
+     * Protobuf type {@code SearchRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:NewUser)
-        org.teamclutch.chat.protobuf.Message.NewUserOrBuilder {
+        // @@protoc_insertion_point(builder_implements:SearchRequest)
+        org.teamclutch.chat.protobuf.Message.SearchRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_NewUser_descriptor;
+        return org.teamclutch.chat.protobuf.Message.internal_static_SearchRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_NewUser_fieldAccessorTable
+        return org.teamclutch.chat.protobuf.Message.internal_static_SearchRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.teamclutch.chat.protobuf.Message.NewUser.class, org.teamclutch.chat.protobuf.Message.NewUser.Builder.class);
+                org.teamclutch.chat.protobuf.Message.SearchRequest.class, org.teamclutch.chat.protobuf.Message.SearchRequest.Builder.class);
       }
 
-      // Construct using org.teamclutch.chat.protobuf.Message.NewUser.newBuilder()
+      // Construct using org.teamclutch.chat.protobuf.Message.SearchRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3168,62 +7563,68 @@ public final class Message {
       }
       public Builder clear() {
         super.clear();
-        id_ = "";
+        tag_ = "";
 
-        username_ = "";
+        query_ = "";
 
-        node_ = false;
+        offset_ = 0;
+
+        limit_ = 0;
 
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_NewUser_descriptor;
+        return org.teamclutch.chat.protobuf.Message.internal_static_SearchRequest_descriptor;
       }
 
-      public org.teamclutch.chat.protobuf.Message.NewUser getDefaultInstanceForType() {
-        return org.teamclutch.chat.protobuf.Message.NewUser.getDefaultInstance();
+      public org.teamclutch.chat.protobuf.Message.SearchRequest getDefaultInstanceForType() {
+        return org.teamclutch.chat.protobuf.Message.SearchRequest.getDefaultInstance();
       }
 
-      public org.teamclutch.chat.protobuf.Message.NewUser build() {
-        org.teamclutch.chat.protobuf.Message.NewUser result = buildPartial();
+      public org.teamclutch.chat.protobuf.Message.SearchRequest build() {
+        org.teamclutch.chat.protobuf.Message.SearchRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.teamclutch.chat.protobuf.Message.NewUser buildPartial() {
-        org.teamclutch.chat.protobuf.Message.NewUser result = new org.teamclutch.chat.protobuf.Message.NewUser(this);
-        result.id_ = id_;
-        result.username_ = username_;
-        result.node_ = node_;
+      public org.teamclutch.chat.protobuf.Message.SearchRequest buildPartial() {
+        org.teamclutch.chat.protobuf.Message.SearchRequest result = new org.teamclutch.chat.protobuf.Message.SearchRequest(this);
+        result.tag_ = tag_;
+        result.query_ = query_;
+        result.offset_ = offset_;
+        result.limit_ = limit_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.teamclutch.chat.protobuf.Message.NewUser) {
-          return mergeFrom((org.teamclutch.chat.protobuf.Message.NewUser)other);
+        if (other instanceof org.teamclutch.chat.protobuf.Message.SearchRequest) {
+          return mergeFrom((org.teamclutch.chat.protobuf.Message.SearchRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.NewUser other) {
-        if (other == org.teamclutch.chat.protobuf.Message.NewUser.getDefaultInstance()) return this;
-        if (!other.getId().isEmpty()) {
-          id_ = other.id_;
+      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.SearchRequest other) {
+        if (other == org.teamclutch.chat.protobuf.Message.SearchRequest.getDefaultInstance()) return this;
+        if (!other.getTag().isEmpty()) {
+          tag_ = other.tag_;
           onChanged();
         }
-        if (!other.getUsername().isEmpty()) {
-          username_ = other.username_;
+        if (!other.getQuery().isEmpty()) {
+          query_ = other.query_;
           onChanged();
         }
-        if (other.getNode() != false) {
-          setNode(other.getNode());
+        if (other.getOffset() != 0) {
+          setOffset(other.getOffset());
+        }
+        if (other.getLimit() != 0) {
+          setLimit(other.getLimit());
         }
         onChanged();
         return this;
@@ -3237,11 +7638,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.teamclutch.chat.protobuf.Message.NewUser parsedMessage = null;
+        org.teamclutch.chat.protobuf.Message.SearchRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.teamclutch.chat.protobuf.Message.NewUser) e.getUnfinishedMessage();
+          parsedMessage = (org.teamclutch.chat.protobuf.Message.SearchRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -3251,166 +7652,192 @@ public final class Message {
         return this;
       }
 
-      private java.lang.Object id_ = "";
+      private java.lang.Object tag_ = "";
       /**
-       * <code>optional string id = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
+      public java.lang.String getTag() {
+        java.lang.Object ref = tag_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          id_ = s;
+          tag_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string id = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
+          getTagBytes() {
+        java.lang.Object ref = tag_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          id_ = b;
+          tag_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string id = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public Builder setId(
+      public Builder setTag(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        id_ = value;
+        tag_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string id = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public Builder clearId() {
+      public Builder clearTag() {
         
-        id_ = getDefaultInstance().getId();
+        tag_ = getDefaultInstance().getTag();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string id = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public Builder setIdBytes(
+      public Builder setTagBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        id_ = value;
+        tag_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object username_ = "";
+      private java.lang.Object query_ = "";
       /**
-       * <code>optional string username = 2;</code>
+       * <code>optional string query = 2;</code>
        */
-      public java.lang.String getUsername() {
-        java.lang.Object ref = username_;
+      public java.lang.String getQuery() {
+        java.lang.Object ref = query_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          username_ = s;
+          query_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string username = 2;</code>
+       * <code>optional string query = 2;</code>
        */
       public com.google.protobuf.ByteString
-          getUsernameBytes() {
-        java.lang.Object ref = username_;
+          getQueryBytes() {
+        java.lang.Object ref = query_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          username_ = b;
+          query_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string username = 2;</code>
+       * <code>optional string query = 2;</code>
        */
-      public Builder setUsername(
+      public Builder setQuery(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        username_ = value;
+        query_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string username = 2;</code>
+       * <code>optional string query = 2;</code>
        */
-      public Builder clearUsername() {
+      public Builder clearQuery() {
         
-        username_ = getDefaultInstance().getUsername();
+        query_ = getDefaultInstance().getQuery();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string username = 2;</code>
+       * <code>optional string query = 2;</code>
        */
-      public Builder setUsernameBytes(
+      public Builder setQueryBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        username_ = value;
+        query_ = value;
         onChanged();
         return this;
       }
 
-      private boolean node_ ;
+      private int offset_ ;
       /**
-       * <code>optional bool node = 3;</code>
+       * <code>optional int32 offset = 3;</code>
        */
-      public boolean getNode() {
-        return node_;
+      public int getOffset() {
+        return offset_;
       }
       /**
-       * <code>optional bool node = 3;</code>
+       * <code>optional int32 offset = 3;</code>
        */
-      public Builder setNode(boolean value) {
+      public Builder setOffset(int value) {
         
-        node_ = value;
+        offset_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bool node = 3;</code>
+       * <code>optional int32 offset = 3;</code>
        */
-      public Builder clearNode() {
+      public Builder clearOffset() {
         
-        node_ = false;
+        offset_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>optional int32 limit = 4;</code>
+       */
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 4;</code>
+       */
+      public Builder setLimit(int value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 limit = 4;</code>
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0;
         onChanged();
         return this;
       }
@@ -3425,27 +7852,27 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:NewUser)
+      // @@protoc_insertion_point(builder_scope:SearchRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:NewUser)
-    private static final org.teamclutch.chat.protobuf.Message.NewUser DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:SearchRequest)
+    private static final org.teamclutch.chat.protobuf.Message.SearchRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.NewUser();
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.SearchRequest();
     }
 
-    public static org.teamclutch.chat.protobuf.Message.NewUser getDefaultInstance() {
+    public static org.teamclutch.chat.protobuf.Message.SearchRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<NewUser>
-        PARSER = new com.google.protobuf.AbstractParser<NewUser>() {
-      public NewUser parsePartialFrom(
+    private static final com.google.protobuf.Parser<SearchRequest>
+        PARSER = new com.google.protobuf.AbstractParser<SearchRequest>() {
+      public SearchRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         try {
-          return new NewUser(input, extensionRegistry);
+          return new SearchRequest(input, extensionRegistry);
         } catch (RuntimeException e) {
           if (e.getCause() instanceof
               com.google.protobuf.InvalidProtocolBufferException) {
@@ -3457,62 +7884,80 @@ public final class Message {
       }
     };
 
-    public static com.google.protobuf.Parser<NewUser> parser() {
+    public static com.google.protobuf.Parser<SearchRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<NewUser> getParserForType() {
+    public com.google.protobuf.Parser<SearchRequest> getParserForType() {
       return PARSER;
     }
 
-    public org.teamclutch.chat.protobuf.Message.NewUser getDefaultInstanceForType() {
+    public org.teamclutch.chat.protobuf.Message.SearchRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface DataPackageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:DataPackage)
+  public interface SearchResultsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SearchResults)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .Data messages = 1;</code>
+     * <code>optional string tag = 1;</code>
      */
-    java.util.List<org.teamclutch.chat.protobuf.Message.Data> 
-        getMessagesList();
+    java.lang.String getTag();
     /**
-     * <code>repeated .Data messages = 1;</code>
+     * <code>optional string tag = 1;</code>
      */
-    org.teamclutch.chat.protobuf.Message.Data getMessages(int index);
+    com.google.protobuf.ByteString
+        getTagBytes();
+
     /**
-     * <code>repeated .Data messages = 1;</code>
+     * <code>optional int32 offset = 2;</code>
      */
-    int getMessagesCount();
+    int getOffset();
+
     /**
-     * <code>repeated .Data messages = 1;</code>
+     * <code>optional int32 total = 3;</code>
      */
-    java.util.List<? extends org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
-        getMessagesOrBuilderList();
+    int getTotal();
+
     /**
-     * <code>repeated .Data messages = 1;</code>
+     * <code>repeated string keys = 4;</code>
      */
-    org.teamclutch.chat.protobuf.Message.DataOrBuilder getMessagesOrBuilder(
-        int index);
+    com.google.protobuf.ProtocolStringList
+        getKeysList();
+    /**
+     * <code>repeated string keys = 4;</code>
+     */
+    int getKeysCount();
+    /**
+     * <code>repeated string keys = 4;</code>
+     */
+    java.lang.String getKeys(int index);
+    /**
+     * <code>repeated string keys = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getKeysBytes(int index);
   }
   /**
-   * Protobuf type {@code DataPackage}
+   * Protobuf type {@code SearchResults}
    */
-  public  static final class DataPackage extends
+  public  static final class SearchResults extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:DataPackage)
-      DataPackageOrBuilder {
-    // Use DataPackage.newBuilder() to construct.
-    private DataPackage(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:SearchResults)
+      SearchResultsOrBuilder {
+    // Use SearchResults.newBuilder() to construct.
+    private SearchResults(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private DataPackage() {
-      messages_ = java.util.Collections.emptyList();
+    private SearchResults() {
+      tag_ = "";
+      offset_ = 0;
+      total_ = 0;
+      keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
     }
 
     @java.lang.Override
@@ -3520,7 +7965,7 @@ public final class Message {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private DataPackage(
+    private SearchResults(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
       this();
@@ -3540,11 +7985,28 @@ public final class Message {
               break;
             }
             case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                messages_ = new java.util.ArrayList<org.teamclutch.chat.protobuf.Message.Data>();
-                mutable_bitField0_ |= 0x00000001;
+              java.lang.String s = input.readStringRequireUtf8();
+
+              tag_ = s;
+              break;
+            }
+            case 16: {
+
+              offset_ = input.readInt32();
+              break;
+            }
+            case 24: {
+
+              total_ = input.readInt32();
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                keys_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000008;
               }
-              messages_.add(input.readMessage(org.teamclutch.chat.protobuf.Message.Data.parser(), extensionRegistry));
+              keys_.add(s);
               break;
             }
           }
@@ -3556,57 +8018,104 @@ public final class Message {
             new com.google.protobuf.InvalidProtocolBufferException(
                 e.getMessage()).setUnfinishedMessage(this));
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          messages_ = java.util.Collections.unmodifiableList(messages_);
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          keys_ = keys_.getUnmodifiableView();
         }
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_DataPackage_descriptor;
+      return org.teamclutch.chat.protobuf.Message.internal_static_SearchResults_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_DataPackage_fieldAccessorTable
+      return org.teamclutch.chat.protobuf.Message.internal_static_SearchResults_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.teamclutch.chat.protobuf.Message.DataPackage.class, org.teamclutch.chat.protobuf.Message.DataPackage.Builder.class);
+              org.teamclutch.chat.protobuf.Message.SearchResults.class, org.teamclutch.chat.protobuf.Message.SearchResults.Builder.class);
     }
 
-    public static final int MESSAGES_FIELD_NUMBER = 1;
-    private java.util.List<org.teamclutch.chat.protobuf.Message.Data> messages_;
+    private int bitField0_;
+    public static final int TAG_FIELD_NUMBER = 1;
+    private volatile java.lang.Object tag_;
     /**
-     * <code>repeated .Data messages = 1;</code>
+     * <code>optional string tag = 1;</code>
      */
-    public java.util.List<org.teamclutch.chat.protobuf.Message.Data> getMessagesList() {
-      return messages_;
+    public java.lang.String getTag() {
+      java.lang.Object ref = tag_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        tag_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tag = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTagBytes() {
+      java.lang.Object ref = tag_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tag_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int OFFSET_FIELD_NUMBER = 2;
+    private int offset_;
+    /**
+     * <code>optional int32 offset = 2;</code>
+     */
+    public int getOffset() {
+      return offset_;
+    }
+
+    public static final int TOTAL_FIELD_NUMBER = 3;
+    private int total_;
+    /**
+     * <code>optional int32 total = 3;</code>
+     */
+    public int getTotal() {
+      return total_;
     }
+
+    public static final int KEYS_FIELD_NUMBER = 4;
+    private com.google.protobuf.LazyStringList keys_;
     /**
-     * <code>repeated .Data messages = 1;</code>
+     * <code>repeated string keys = 4;</code>
      */
-    public java.util.List<? extends org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
-        getMessagesOrBuilderList() {
-      return messages_;
+    public com.google.protobuf.ProtocolStringList
+        getKeysList() {
+      return keys_;
     }
     /**
-     * <code>repeated .Data messages = 1;</code>
+     * <code>repeated string keys = 4;</code>
      */
-    public int getMessagesCount() {
-      return messages_.size();
+    public int getKeysCount() {
+      return keys_.size();
     }
     /**
-     * <code>repeated .Data messages = 1;</code>
+     * <code>repeated string keys = 4;</code>
      */
-    public org.teamclutch.chat.protobuf.Message.Data getMessages(int index) {
-      return messages_.get(index);
+    public java.lang.String getKeys(int index) {
+      return keys_.get(index);
     }
     /**
-     * <code>repeated .Data messages = 1;</code>
+     * <code>repeated string keys = 4;</code>
      */
-    public org.teamclutch.chat.protobuf.Message.DataOrBuilder getMessagesOrBuilder(
-        int index) {
-      return messages_.get(index);
+    public com.google.protobuf.ByteString
+        getKeysBytes(int index) {
+      return keys_.getByteString(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -3621,8 +8130,17 @@ public final class Message {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < messages_.size(); i++) {
-        output.writeMessage(1, messages_.get(i));
+      if (!getTagBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, tag_);
+      }
+      if (offset_ != 0) {
+        output.writeInt32(2, offset_);
+      }
+      if (total_ != 0) {
+        output.writeInt32(3, total_);
+      }
+      for (int i = 0; i < keys_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, keys_.getRaw(i));
       }
     }
 
@@ -3631,62 +8149,77 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < messages_.size(); i++) {
+      if (!getTagBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, tag_);
+      }
+      if (offset_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, messages_.get(i));
+          .computeInt32Size(2, offset_);
+      }
+      if (total_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, total_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < keys_.size(); i++) {
+          dataSize += computeStringSizeNoTag(keys_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getKeysList().size();
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchResults parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchResults parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(byte[] data)
+    public static org.teamclutch.chat.protobuf.Message.SearchResults parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchResults parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(java.io.InputStream input)
+    public static org.teamclutch.chat.protobuf.Message.SearchResults parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchResults parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataPackage parseDelimitedFrom(java.io.InputStream input)
+    public static org.teamclutch.chat.protobuf.Message.SearchResults parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataPackage parseDelimitedFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchResults parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchResults parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.DataPackage parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.SearchResults parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3697,7 +8230,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.DataPackage prototype) {
+    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.SearchResults prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -3712,25 +8245,25 @@ public final class Message {
       return builder;
     }
     /**
-     * Protobuf type {@code DataPackage}
+     * Protobuf type {@code SearchResults}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:DataPackage)
-        org.teamclutch.chat.protobuf.Message.DataPackageOrBuilder {
+        // @@protoc_insertion_point(builder_implements:SearchResults)
+        org.teamclutch.chat.protobuf.Message.SearchResultsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_DataPackage_descriptor;
+        return org.teamclutch.chat.protobuf.Message.internal_static_SearchResults_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_DataPackage_fieldAccessorTable
+        return org.teamclutch.chat.protobuf.Message.internal_static_SearchResults_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.teamclutch.chat.protobuf.Message.DataPackage.class, org.teamclutch.chat.protobuf.Message.DataPackage.Builder.class);
+                org.teamclutch.chat.protobuf.Message.SearchResults.class, org.teamclutch.chat.protobuf.Message.SearchResults.Builder.class);
       }
 
-      // Construct using org.teamclutch.chat.protobuf.Message.DataPackage.newBuilder()
+      // Construct using org.teamclutch.chat.protobuf.Message.SearchResults.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3742,89 +8275,85 @@ public final class Message {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getMessagesFieldBuilder();
         }
       }
       public Builder clear() {
         super.clear();
-        if (messagesBuilder_ == null) {
-          messages_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          messagesBuilder_.clear();
-        }
+        tag_ = "";
+
+        offset_ = 0;
+
+        total_ = 0;
+
+        keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_DataPackage_descriptor;
+        return org.teamclutch.chat.protobuf.Message.internal_static_SearchResults_descriptor;
       }
 
-      public org.teamclutch.chat.protobuf.Message.DataPackage getDefaultInstanceForType() {
-        return org.teamclutch.chat.protobuf.Message.DataPackage.getDefaultInstance();
+      public org.teamclutch.chat.protobuf.Message.SearchResults getDefaultInstanceForType() {
+        return org.teamclutch.chat.protobuf.Message.SearchResults.getDefaultInstance();
       }
 
-      public org.teamclutch.chat.protobuf.Message.DataPackage build() {
-        org.teamclutch.chat.protobuf.Message.DataPackage result = buildPartial();
+      public org.teamclutch.chat.protobuf.Message.SearchResults build() {
+        org.teamclutch.chat.protobuf.Message.SearchResults result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.teamclutch.chat.protobuf.Message.DataPackage buildPartial() {
-        org.teamclutch.chat.protobuf.Message.DataPackage result = new org.teamclutch.chat.protobuf.Message.DataPackage(this);
+      public org.teamclutch.chat.protobuf.Message.SearchResults buildPartial() {
+        org.teamclutch.chat.protobuf.Message.SearchResults result = new org.teamclutch.chat.protobuf.Message.SearchResults(this);
         int from_bitField0_ = bitField0_;
-        if (messagesBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            messages_ = java.util.Collections.unmodifiableList(messages_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.messages_ = messages_;
-        } else {
-          result.messages_ = messagesBuilder_.build();
-        }
+        int to_bitField0_ = 0;
+        result.tag_ = tag_;
+        result.offset_ = offset_;
+        result.total_ = total_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          keys_ = keys_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.keys_ = keys_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.teamclutch.chat.protobuf.Message.DataPackage) {
-          return mergeFrom((org.teamclutch.chat.protobuf.Message.DataPackage)other);
+        if (other instanceof org.teamclutch.chat.protobuf.Message.SearchResults) {
+          return mergeFrom((org.teamclutch.chat.protobuf.Message.SearchResults)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.DataPackage other) {
-        if (other == org.teamclutch.chat.protobuf.Message.DataPackage.getDefaultInstance()) return this;
-        if (messagesBuilder_ == null) {
-          if (!other.messages_.isEmpty()) {
-            if (messages_.isEmpty()) {
-              messages_ = other.messages_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureMessagesIsMutable();
-              messages_.addAll(other.messages_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.messages_.isEmpty()) {
-            if (messagesBuilder_.isEmpty()) {
-              messagesBuilder_.dispose();
-              messagesBuilder_ = null;
-              messages_ = other.messages_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              messagesBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getMessagesFieldBuilder() : null;
-            } else {
-              messagesBuilder_.addAllMessages(other.messages_);
-            }
+      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.SearchResults other) {
+        if (other == org.teamclutch.chat.protobuf.Message.SearchResults.getDefaultInstance()) return this;
+        if (!other.getTag().isEmpty()) {
+          tag_ = other.tag_;
+          onChanged();
+        }
+        if (other.getOffset() != 0) {
+          setOffset(other.getOffset());
+        }
+        if (other.getTotal() != 0) {
+          setTotal(other.getTotal());
+        }
+        if (!other.keys_.isEmpty()) {
+          if (keys_.isEmpty()) {
+            keys_ = other.keys_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureKeysIsMutable();
+            keys_.addAll(other.keys_);
           }
+          onChanged();
         }
         onChanged();
         return this;
@@ -3838,11 +8367,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.teamclutch.chat.protobuf.Message.DataPackage parsedMessage = null;
+        org.teamclutch.chat.protobuf.Message.SearchResults parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.teamclutch.chat.protobuf.Message.DataPackage) e.getUnfinishedMessage();
+          parsedMessage = (org.teamclutch.chat.protobuf.Message.SearchResults) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -3853,244 +8382,219 @@ public final class Message {
       }
       private int bitField0_;
 
-      private java.util.List<org.teamclutch.chat.protobuf.Message.Data> messages_ =
-        java.util.Collections.emptyList();
-      private void ensureMessagesIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          messages_ = new java.util.ArrayList<org.teamclutch.chat.protobuf.Message.Data>(messages_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.teamclutch.chat.protobuf.Message.Data, org.teamclutch.chat.protobuf.Message.Data.Builder, org.teamclutch.chat.protobuf.Message.DataOrBuilder> messagesBuilder_;
-
-      /**
-       * <code>repeated .Data messages = 1;</code>
-       */
-      public java.util.List<org.teamclutch.chat.protobuf.Message.Data> getMessagesList() {
-        if (messagesBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(messages_);
-        } else {
-          return messagesBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .Data messages = 1;</code>
-       */
-      public int getMessagesCount() {
-        if (messagesBuilder_ == null) {
-          return messages_.size();
-        } else {
-          return messagesBuilder_.getCount();
-        }
-      }
+      private java.lang.Object tag_ = "";
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public org.teamclutch.chat.protobuf.Message.Data getMessages(int index) {
-        if (messagesBuilder_ == null) {
-          return messages_.get(index);
+      public java.lang.String getTag() {
+        java.lang.Object ref = tag_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          tag_ = s;
+          return s;
         } else {
-          return messagesBuilder_.getMessage(index);
+          return (java.lang.String) ref;
         }
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public Builder setMessages(
-          int index, org.teamclutch.chat.protobuf.Message.Data value) {
-        if (messagesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureMessagesIsMutable();
-          messages_.set(index, value);
-          onChanged();
+      public com.google.protobuf.ByteString
+          getTagBytes() {
+        java.lang.Object ref = tag_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tag_ = b;
+          return b;
         } else {
-          messagesBuilder_.setMessage(index, value);
+          return (com.google.protobuf.ByteString) ref;
         }
-        return this;
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public Builder setMessages(
-          int index, org.teamclutch.chat.protobuf.Message.Data.Builder builderForValue) {
-        if (messagesBuilder_ == null) {
-          ensureMessagesIsMutable();
-          messages_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          messagesBuilder_.setMessage(index, builderForValue.build());
-        }
+      public Builder setTag(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        tag_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public Builder addMessages(org.teamclutch.chat.protobuf.Message.Data value) {
-        if (messagesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureMessagesIsMutable();
-          messages_.add(value);
-          onChanged();
-        } else {
-          messagesBuilder_.addMessage(value);
-        }
+      public Builder clearTag() {
+        
+        tag_ = getDefaultInstance().getTag();
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public Builder addMessages(
-          int index, org.teamclutch.chat.protobuf.Message.Data value) {
-        if (messagesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureMessagesIsMutable();
-          messages_.add(index, value);
-          onChanged();
-        } else {
-          messagesBuilder_.addMessage(index, value);
-        }
+      public Builder setTagBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        tag_ = value;
+        onChanged();
         return this;
       }
+
+      private int offset_ ;
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>optional int32 offset = 2;</code>
        */
-      public Builder addMessages(
-          org.teamclutch.chat.protobuf.Message.Data.Builder builderForValue) {
-        if (messagesBuilder_ == null) {
-          ensureMessagesIsMutable();
-          messages_.add(builderForValue.build());
-          onChanged();
-        } else {
-          messagesBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
+      public int getOffset() {
+        return offset_;
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>optional int32 offset = 2;</code>
        */
-      public Builder addMessages(
-          int index, org.teamclutch.chat.protobuf.Message.Data.Builder builderForValue) {
-        if (messagesBuilder_ == null) {
-          ensureMessagesIsMutable();
-          messages_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          messagesBuilder_.addMessage(index, builderForValue.build());
-        }
+      public Builder setOffset(int value) {
+        
+        offset_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>optional int32 offset = 2;</code>
        */
-      public Builder addAllMessages(
-          java.lang.Iterable<? extends org.teamclutch.chat.protobuf.Message.Data> values) {
-        if (messagesBuilder_ == null) {
-          ensureMessagesIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, messages_);
-          onChanged();
-        } else {
-          messagesBuilder_.addAllMessages(values);
-        }
+      public Builder clearOffset() {
+        
+        offset_ = 0;
+        onChanged();
         return this;
       }
+
+      private int total_ ;
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>optional int32 total = 3;</code>
        */
-      public Builder clearMessages() {
-        if (messagesBuilder_ == null) {
-          messages_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          messagesBuilder_.clear();
-        }
+      public int getTotal() {
+        return total_;
+      }
+      /**
+       * <code>optional int32 total = 3;</code>
+       */
+      public Builder setTotal(int value) {
+        
+        total_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>optional int32 total = 3;</code>
        */
-      public Builder removeMessages(int index) {
-        if (messagesBuilder_ == null) {
-          ensureMessagesIsMutable();
-          messages_.remove(index);
-          onChanged();
-        } else {
-          messagesBuilder_.remove(index);
-        }
+      public Builder clearTotal() {
+        
+        total_ = 0;
+        onChanged();
         return this;
       }
+
+      private com.google.protobuf.LazyStringList keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureKeysIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          keys_ = new com.google.protobuf.LazyStringArrayList(keys_);
+          bitField0_ |= 0x00000008;
+         }
+      }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>repeated string keys = 4;</code>
        */
-      public org.teamclutch.chat.protobuf.Message.Data.Builder getMessagesBuilder(
-          int index) {
-        return getMessagesFieldBuilder().getBuilder(index);
+      public com.google.protobuf.ProtocolStringList
+          getKeysList() {
+        return keys_.getUnmodifiableView();
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>repeated string keys = 4;</code>
        */
-      public org.teamclutch.chat.protobuf.Message.DataOrBuilder getMessagesOrBuilder(
-          int index) {
-        if (messagesBuilder_ == null) {
-          return messages_.get(index);  } else {
-          return messagesBuilder_.getMessageOrBuilder(index);
-        }
+      public int getKeysCount() {
+        return keys_.size();
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>repeated string keys = 4;</code>
        */
-      public java.util.List<? extends org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
-           getMessagesOrBuilderList() {
-        if (messagesBuilder_ != null) {
-          return messagesBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(messages_);
-        }
+      public java.lang.String getKeys(int index) {
+        return keys_.get(index);
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>repeated string keys = 4;</code>
        */
-      public org.teamclutch.chat.protobuf.Message.Data.Builder addMessagesBuilder() {
-        return getMessagesFieldBuilder().addBuilder(
-            org.teamclutch.chat.protobuf.Message.Data.getDefaultInstance());
+      public com.google.protobuf.ByteString
+          getKeysBytes(int index) {
+        return keys_.getByteString(index);
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>repeated string keys = 4;</code>
        */
-      public org.teamclutch.chat.protobuf.Message.Data.Builder addMessagesBuilder(
-          int index) {
-        return getMessagesFieldBuilder().addBuilder(
-            index, org.teamclutch.chat.protobuf.Message.Data.getDefaultInstance());
+      public Builder setKeys(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeysIsMutable();
+        keys_.set(index, value);
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .Data messages = 1;</code>
+       * <code>repeated string keys = 4;</code>
        */
-      public java.util.List<org.teamclutch.chat.protobuf.Message.Data.Builder> 
-           getMessagesBuilderList() {
-        return getMessagesFieldBuilder().getBuilderList();
+      public Builder addKeys(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureKeysIsMutable();
+        keys_.add(value);
+        onChanged();
+        return this;
       }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.teamclutch.chat.protobuf.Message.Data, org.teamclutch.chat.protobuf.Message.Data.Builder, org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
-          getMessagesFieldBuilder() {
-        if (messagesBuilder_ == null) {
-          messagesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              org.teamclutch.chat.protobuf.Message.Data, org.teamclutch.chat.protobuf.Message.Data.Builder, org.teamclutch.chat.protobuf.Message.DataOrBuilder>(
-                  messages_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          messages_ = null;
-        }
-        return messagesBuilder_;
+      /**
+       * <code>repeated string keys = 4;</code>
+       */
+      public Builder addAllKeys(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureKeysIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, keys_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string keys = 4;</code>
+       */
+      public Builder clearKeys() {
+        keys_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string keys = 4;</code>
+       */
+      public Builder addKeysBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureKeysIsMutable();
+        keys_.add(value);
+        onChanged();
+        return this;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -4103,27 +8607,27 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:DataPackage)
+      // @@protoc_insertion_point(builder_scope:SearchResults)
     }
 
-    // @@protoc_insertion_point(class_scope:DataPackage)
-    private static final org.teamclutch.chat.protobuf.Message.DataPackage DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:SearchResults)
+    private static final org.teamclutch.chat.protobuf.Message.SearchResults DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.DataPackage();
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.SearchResults();
     }
 
-    public static org.teamclutch.chat.protobuf.Message.DataPackage getDefaultInstance() {
+    public static org.teamclutch.chat.protobuf.Message.SearchResults getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<DataPackage>
-        PARSER = new com.google.protobuf.AbstractParser<DataPackage>() {
-      public DataPackage parsePartialFrom(
+    private static final com.google.protobuf.Parser<SearchResults>
+        PARSER = new com.google.protobuf.AbstractParser<SearchResults>() {
+      public SearchResults parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         try {
-          return new DataPackage(input, extensionRegistry);
+          return new SearchResults(input, extensionRegistry);
         } catch (RuntimeException e) {
           if (e.getCause() instanceof
               com.google.protobuf.InvalidProtocolBufferException) {
@@ -4135,54 +8639,71 @@ public final class Message {
       }
     };
 
-    public static com.google.protobuf.Parser<DataPackage> parser() {
+    public static com.google.protobuf.Parser<SearchResults> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DataPackage> getParserForType() {
+    public com.google.protobuf.Parser<SearchResults> getParserForType() {
       return PARSER;
     }
 
-    public org.teamclutch.chat.protobuf.Message.DataPackage getDefaultInstanceForType() {
+    public org.teamclutch.chat.protobuf.Message.SearchResults getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PingOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Ping)
+  public interface HistoryRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:HistoryRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>optional int64 timeSent = 1;</code>
+     * <code>optional string tag = 1;</code>
      */
-    long getTimeSent();
+    java.lang.String getTag();
+    /**
+     * <code>optional string tag = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getTagBytes();
 
     /**
-     * <code>optional string load = 2;</code>
+     * <code>optional string room = 2;</code>
      */
-    java.lang.String getLoad();
+    java.lang.String getRoom();
     /**
-     * <code>optional string load = 2;</code>
+     * <code>optional string room = 2;</code>
      */
     com.google.protobuf.ByteString
-        getLoadBytes();
+        getRoomBytes();
+
+    /**
+     * <code>optional int64 before = 3;</code>
+     */
+    long getBefore();
+
+    /**
+     * <code>optional int32 limit = 4;</code>
+     */
+    int getLimit();
   }
   /**
-   * Protobuf type {@code Ping}
+   * Protobuf type {@code HistoryRequest}
    */
-  public  static final class Ping extends
+  public  static final class HistoryRequest extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Ping)
-      PingOrBuilder {
-    // Use Ping.newBuilder() to construct.
-    private Ping(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:HistoryRequest)
+      HistoryRequestOrBuilder {
+    // Use HistoryRequest.newBuilder() to construct.
+    private HistoryRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Ping() {
-      timeSent_ = 0L;
-      load_ = "";
+    private HistoryRequest() {
+      tag_ = "";
+      room_ = "";
+      before_ = 0L;
+      limit_ = 0;
     }
 
     @java.lang.Override
@@ -4190,7 +8711,7 @@ public final class Message {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private Ping(
+    private HistoryRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
       this();
@@ -4209,15 +8730,26 @@ public final class Message {
               }
               break;
             }
-            case 8: {
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-              timeSent_ = input.readInt64();
+              tag_ = s;
               break;
             }
             case 18: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              load_ = s;
+              room_ = s;
+              break;
+            }
+            case 24: {
+
+              before_ = input.readInt64();
+              break;
+            }
+            case 32: {
+
+              limit_ = input.readInt32();
               break;
             }
           }
@@ -4234,59 +8766,102 @@ public final class Message {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_Ping_descriptor;
+      return org.teamclutch.chat.protobuf.Message.internal_static_HistoryRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_Ping_fieldAccessorTable
+      return org.teamclutch.chat.protobuf.Message.internal_static_HistoryRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.teamclutch.chat.protobuf.Message.Ping.class, org.teamclutch.chat.protobuf.Message.Ping.Builder.class);
+              org.teamclutch.chat.protobuf.Message.HistoryRequest.class, org.teamclutch.chat.protobuf.Message.HistoryRequest.Builder.class);
     }
 
-    public static final int TIMESENT_FIELD_NUMBER = 1;
-    private long timeSent_;
+    public static final int TAG_FIELD_NUMBER = 1;
+    private volatile java.lang.Object tag_;
     /**
-     * <code>optional int64 timeSent = 1;</code>
+     * <code>optional string tag = 1;</code>
      */
-    public long getTimeSent() {
-      return timeSent_;
+    public java.lang.String getTag() {
+      java.lang.Object ref = tag_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        tag_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tag = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTagBytes() {
+      java.lang.Object ref = tag_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tag_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
-    public static final int LOAD_FIELD_NUMBER = 2;
-    private volatile java.lang.Object load_;
+    public static final int ROOM_FIELD_NUMBER = 2;
+    private volatile java.lang.Object room_;
     /**
-     * <code>optional string load = 2;</code>
+     * <code>optional string room = 2;</code>
      */
-    public java.lang.String getLoad() {
-      java.lang.Object ref = load_;
+    public java.lang.String getRoom() {
+      java.lang.Object ref = room_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        load_ = s;
+        room_ = s;
         return s;
       }
     }
     /**
-     * <code>optional string load = 2;</code>
+     * <code>optional string room = 2;</code>
      */
     public com.google.protobuf.ByteString
-        getLoadBytes() {
-      java.lang.Object ref = load_;
+        getRoomBytes() {
+      java.lang.Object ref = room_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        load_ = b;
+        room_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
+    public static final int BEFORE_FIELD_NUMBER = 3;
+    private long before_;
+    /**
+     * <code>optional int64 before = 3;</code>
+     */
+    public long getBefore() {
+      return before_;
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 4;
+    private int limit_;
+    /**
+     * <code>optional int32 limit = 4;</code>
+     */
+    public int getLimit() {
+      return limit_;
+    }
+
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -4299,11 +8874,17 @@ public final class Message {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (timeSent_ != 0L) {
-        output.writeInt64(1, timeSent_);
+      if (!getTagBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, tag_);
       }
-      if (!getLoadBytes().isEmpty()) {
-        com.google.protobuf.GeneratedMessage.writeString(output, 2, load_);
+      if (!getRoomBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, room_);
+      }
+      if (before_ != 0L) {
+        output.writeInt64(3, before_);
+      }
+      if (limit_ != 0) {
+        output.writeInt32(4, limit_);
       }
     }
 
@@ -4312,65 +8893,72 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      if (timeSent_ != 0L) {
+      if (!getTagBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, tag_);
+      }
+      if (!getRoomBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, room_);
+      }
+      if (before_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, timeSent_);
+          .computeInt64Size(3, before_);
       }
-      if (!getLoadBytes().isEmpty()) {
-        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, load_);
+      if (limit_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, limit_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.HistoryRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.HistoryRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(byte[] data)
+    public static org.teamclutch.chat.protobuf.Message.HistoryRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.HistoryRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(java.io.InputStream input)
+    public static org.teamclutch.chat.protobuf.Message.HistoryRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.HistoryRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.Ping parseDelimitedFrom(java.io.InputStream input)
+    public static org.teamclutch.chat.protobuf.Message.HistoryRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.Ping parseDelimitedFrom(
+    public static org.teamclutch.chat.protobuf.Message.HistoryRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.HistoryRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.Ping parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.HistoryRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4381,7 +8969,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.Ping prototype) {
+    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.HistoryRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -4396,25 +8984,25 @@ public final class Message {
       return builder;
     }
     /**
-     * Protobuf type {@code Ping}
+     * Protobuf type {@code HistoryRequest}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Ping)
-        org.teamclutch.chat.protobuf.Message.PingOrBuilder {
+        // @@protoc_insertion_point(builder_implements:HistoryRequest)
+        org.teamclutch.chat.protobuf.Message.HistoryRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_Ping_descriptor;
+        return org.teamclutch.chat.protobuf.Message.internal_static_HistoryRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_Ping_fieldAccessorTable
+        return org.teamclutch.chat.protobuf.Message.internal_static_HistoryRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.teamclutch.chat.protobuf.Message.Ping.class, org.teamclutch.chat.protobuf.Message.Ping.Builder.class);
+                org.teamclutch.chat.protobuf.Message.HistoryRequest.class, org.teamclutch.chat.protobuf.Message.HistoryRequest.Builder.class);
       }
 
-      // Construct using org.teamclutch.chat.protobuf.Message.Ping.newBuilder()
+      // Construct using org.teamclutch.chat.protobuf.Message.HistoryRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4430,56 +9018,69 @@ public final class Message {
       }
       public Builder clear() {
         super.clear();
-        timeSent_ = 0L;
+        tag_ = "";
 
-        load_ = "";
+        room_ = "";
+
+        before_ = 0L;
+
+        limit_ = 0;
 
         return this;
       }
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_Ping_descriptor;
+        return org.teamclutch.chat.protobuf.Message.internal_static_HistoryRequest_descriptor;
       }
 
-      public org.teamclutch.chat.protobuf.Message.Ping getDefaultInstanceForType() {
-        return org.teamclutch.chat.protobuf.Message.Ping.getDefaultInstance();
+      public org.teamclutch.chat.protobuf.Message.HistoryRequest getDefaultInstanceForType() {
+        return org.teamclutch.chat.protobuf.Message.HistoryRequest.getDefaultInstance();
       }
 
-      public org.teamclutch.chat.protobuf.Message.Ping build() {
-        org.teamclutch.chat.protobuf.Message.Ping result = buildPartial();
+      public org.teamclutch.chat.protobuf.Message.HistoryRequest build() {
+        org.teamclutch.chat.protobuf.Message.HistoryRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.teamclutch.chat.protobuf.Message.Ping buildPartial() {
-        org.teamclutch.chat.protobuf.Message.Ping result = new org.teamclutch.chat.protobuf.Message.Ping(this);
-        result.timeSent_ = timeSent_;
-        result.load_ = load_;
+      public org.teamclutch.chat.protobuf.Message.HistoryRequest buildPartial() {
+        org.teamclutch.chat.protobuf.Message.HistoryRequest result = new org.teamclutch.chat.protobuf.Message.HistoryRequest(this);
+        result.tag_ = tag_;
+        result.room_ = room_;
+        result.before_ = before_;
+        result.limit_ = limit_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.teamclutch.chat.protobuf.Message.Ping) {
-          return mergeFrom((org.teamclutch.chat.protobuf.Message.Ping)other);
+        if (other instanceof org.teamclutch.chat.protobuf.Message.HistoryRequest) {
+          return mergeFrom((org.teamclutch.chat.protobuf.Message.HistoryRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.Ping other) {
-        if (other == org.teamclutch.chat.protobuf.Message.Ping.getDefaultInstance()) return this;
-        if (other.getTimeSent() != 0L) {
-          setTimeSent(other.getTimeSent());
-        }
-        if (!other.getLoad().isEmpty()) {
-          load_ = other.load_;
+      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.HistoryRequest other) {
+        if (other == org.teamclutch.chat.protobuf.Message.HistoryRequest.getDefaultInstance()) return this;
+        if (!other.getTag().isEmpty()) {
+          tag_ = other.tag_;
+          onChanged();
+        }
+        if (!other.getRoom().isEmpty()) {
+          room_ = other.room_;
           onChanged();
         }
+        if (other.getBefore() != 0L) {
+          setBefore(other.getBefore());
+        }
+        if (other.getLimit() != 0) {
+          setLimit(other.getLimit());
+        }
         onChanged();
         return this;
       }
@@ -4492,11 +9093,11 @@ public final class Message {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.teamclutch.chat.protobuf.Message.Ping parsedMessage = null;
+        org.teamclutch.chat.protobuf.Message.HistoryRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.teamclutch.chat.protobuf.Message.Ping) e.getUnfinishedMessage();
+          parsedMessage = (org.teamclutch.chat.protobuf.Message.HistoryRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -4506,97 +9107,192 @@ public final class Message {
         return this;
       }
 
-      private long timeSent_ ;
+      private java.lang.Object tag_ = "";
       /**
-       * <code>optional int64 timeSent = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public long getTimeSent() {
-        return timeSent_;
+      public java.lang.String getTag() {
+        java.lang.Object ref = tag_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          tag_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>optional int64 timeSent = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public Builder setTimeSent(long value) {
+      public com.google.protobuf.ByteString
+          getTagBytes() {
+        java.lang.Object ref = tag_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tag_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tag = 1;</code>
+       */
+      public Builder setTag(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        tag_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tag = 1;</code>
+       */
+      public Builder clearTag() {
         
-        timeSent_ = value;
+        tag_ = getDefaultInstance().getTag();
         onChanged();
         return this;
       }
       /**
-       * <code>optional int64 timeSent = 1;</code>
+       * <code>optional string tag = 1;</code>
        */
-      public Builder clearTimeSent() {
+      public Builder setTagBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
         
-        timeSent_ = 0L;
+        tag_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object load_ = "";
+      private java.lang.Object room_ = "";
       /**
-       * <code>optional string load = 2;</code>
+       * <code>optional string room = 2;</code>
        */
-      public java.lang.String getLoad() {
-        java.lang.Object ref = load_;
+      public java.lang.String getRoom() {
+        java.lang.Object ref = room_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          load_ = s;
+          room_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string load = 2;</code>
+       * <code>optional string room = 2;</code>
        */
       public com.google.protobuf.ByteString
-          getLoadBytes() {
-        java.lang.Object ref = load_;
+          getRoomBytes() {
+        java.lang.Object ref = room_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          load_ = b;
+          room_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string load = 2;</code>
+       * <code>optional string room = 2;</code>
        */
-      public Builder setLoad(
+      public Builder setRoom(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        load_ = value;
+        room_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string load = 2;</code>
+       * <code>optional string room = 2;</code>
        */
-      public Builder clearLoad() {
+      public Builder clearRoom() {
         
-        load_ = getDefaultInstance().getLoad();
+        room_ = getDefaultInstance().getRoom();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string load = 2;</code>
+       * <code>optional string room = 2;</code>
        */
-      public Builder setLoadBytes(
+      public Builder setRoomBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        load_ = value;
+        room_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long before_ ;
+      /**
+       * <code>optional int64 before = 3;</code>
+       */
+      public long getBefore() {
+        return before_;
+      }
+      /**
+       * <code>optional int64 before = 3;</code>
+       */
+      public Builder setBefore(long value) {
+        
+        before_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 before = 3;</code>
+       */
+      public Builder clearBefore() {
+        
+        before_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>optional int32 limit = 4;</code>
+       */
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 4;</code>
+       */
+      public Builder setLimit(int value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 limit = 4;</code>
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0;
         onChanged();
         return this;
       }
@@ -4611,27 +9307,27 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Ping)
+      // @@protoc_insertion_point(builder_scope:HistoryRequest)
     }
 
-    // @@protoc_insertion_point(class_scope:Ping)
-    private static final org.teamclutch.chat.protobuf.Message.Ping DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:HistoryRequest)
+    private static final org.teamclutch.chat.protobuf.Message.HistoryRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.Ping();
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.HistoryRequest();
     }
 
-    public static org.teamclutch.chat.protobuf.Message.Ping getDefaultInstance() {
+    public static org.teamclutch.chat.protobuf.Message.HistoryRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Ping>
-        PARSER = new com.google.protobuf.AbstractParser<Ping>() {
-      public Ping parsePartialFrom(
+    private static final com.google.protobuf.Parser<HistoryRequest>
+        PARSER = new com.google.protobuf.AbstractParser<HistoryRequest>() {
+      public HistoryRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         try {
-          return new Ping(input, extensionRegistry);
+          return new HistoryRequest(input, extensionRegistry);
         } catch (RuntimeException e) {
           if (e.getCause() instanceof
               com.google.protobuf.InvalidProtocolBufferException) {
@@ -4643,62 +9339,79 @@ public final class Message {
       }
     };
 
-    public static com.google.protobuf.Parser<Ping> parser() {
+    public static com.google.protobuf.Parser<HistoryRequest> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Ping> getParserForType() {
+    public com.google.protobuf.Parser<HistoryRequest> getParserForType() {
       return PARSER;
     }
 
-    public org.teamclutch.chat.protobuf.Message.Ping getDefaultInstanceForType() {
+    public org.teamclutch.chat.protobuf.Message.HistoryRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ServersOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Servers)
+  public interface HistoryPageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:HistoryPage)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>repeated .Servers.Server server = 1;</code>
+     * <code>optional string tag = 1;</code>
      */
-    java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server> 
-        getServerList();
+    java.lang.String getTag();
     /**
-     * <code>repeated .Servers.Server server = 1;</code>
+     * <code>optional string tag = 1;</code>
      */
-    org.teamclutch.chat.protobuf.Message.Servers.Server getServer(int index);
+    com.google.protobuf.ByteString
+        getTagBytes();
+
     /**
-     * <code>repeated .Servers.Server server = 1;</code>
+     * <code>repeated .Data messages = 2;</code>
      */
-    int getServerCount();
+    java.util.List<org.teamclutch.chat.protobuf.Message.Data> 
+        getMessagesList();
     /**
-     * <code>repeated .Servers.Server server = 1;</code>
+     * <code>repeated .Data messages = 2;</code>
      */
-    java.util.List<? extends org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder> 
-        getServerOrBuilderList();
+    org.teamclutch.chat.protobuf.Message.Data getMessages(int index);
     /**
-     * <code>repeated .Servers.Server server = 1;</code>
+     * <code>repeated .Data messages = 2;</code>
      */
-    org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder getServerOrBuilder(
+    int getMessagesCount();
+    /**
+     * <code>repeated .Data messages = 2;</code>
+     */
+    java.util.List<? extends org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
+        getMessagesOrBuilderList();
+    /**
+     * <code>repeated .Data messages = 2;</code>
+     */
+    org.teamclutch.chat.protobuf.Message.DataOrBuilder getMessagesOrBuilder(
         int index);
+
+    /**
+     * <code>optional int64 next = 3;</code>
+     */
+    long getNext();
   }
   /**
-   * Protobuf type {@code Servers}
+   * Protobuf type {@code HistoryPage}
    */
-  public  static final class Servers extends
+  public  static final class HistoryPage extends
       com.google.protobuf.GeneratedMessage implements
-      // @@protoc_insertion_point(message_implements:Servers)
-      ServersOrBuilder {
-    // Use Servers.newBuilder() to construct.
-    private Servers(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      // @@protoc_insertion_point(message_implements:HistoryPage)
+      HistoryPageOrBuilder {
+    // Use HistoryPage.newBuilder() to construct.
+    private HistoryPage(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-    private Servers() {
-      server_ = java.util.Collections.emptyList();
+    private HistoryPage() {
+      tag_ = "";
+      messages_ = java.util.Collections.emptyList();
+      next_ = 0L;
     }
 
     @java.lang.Override
@@ -4706,7 +9419,7 @@ public final class Message {
     getUnknownFields() {
       return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
     }
-    private Servers(
+    private HistoryPage(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
       this();
@@ -4726,655 +9439,929 @@ public final class Message {
               break;
             }
             case 10: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                server_ = new java.util.ArrayList<org.teamclutch.chat.protobuf.Message.Servers.Server>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              server_.add(input.readMessage(org.teamclutch.chat.protobuf.Message.Servers.Server.parser(), extensionRegistry));
+              java.lang.String s = input.readStringRequireUtf8();
+
+              tag_ = s;
               break;
             }
-          }
-        }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw new RuntimeException(e.setUnfinishedMessage(this));
-      } catch (java.io.IOException e) {
-        throw new RuntimeException(
-            new com.google.protobuf.InvalidProtocolBufferException(
-                e.getMessage()).setUnfinishedMessage(this));
-      } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          server_ = java.util.Collections.unmodifiableList(server_);
-        }
-        makeExtensionsImmutable();
-      }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_Servers_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return org.teamclutch.chat.protobuf.Message.internal_static_Servers_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              org.teamclutch.chat.protobuf.Message.Servers.class, org.teamclutch.chat.protobuf.Message.Servers.Builder.class);
-    }
-
-    public interface ServerOrBuilder extends
-        // @@protoc_insertion_point(interface_extends:Servers.Server)
-        com.google.protobuf.MessageOrBuilder {
-
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      java.lang.String getId();
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      com.google.protobuf.ByteString
-          getIdBytes();
-
-      /**
-       * <code>optional string location = 2;</code>
-       */
-      java.lang.String getLocation();
-      /**
-       * <code>optional string location = 2;</code>
-       */
-      com.google.protobuf.ByteString
-          getLocationBytes();
-    }
-    /**
-     * Protobuf type {@code Servers.Server}
-     */
-    public  static final class Server extends
-        com.google.protobuf.GeneratedMessage implements
-        // @@protoc_insertion_point(message_implements:Servers.Server)
-        ServerOrBuilder {
-      // Use Server.newBuilder() to construct.
-      private Server(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-        super(builder);
-      }
-      private Server() {
-        id_ = "";
-        location_ = "";
-      }
-
-      @java.lang.Override
-      public final com.google.protobuf.UnknownFieldSet
-      getUnknownFields() {
-        return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
-      }
-      private Server(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
-        this();
-        int mutable_bitField0_ = 0;
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              default: {
-                if (!input.skipField(tag)) {
-                  done = true;
-                }
-                break;
-              }
-              case 10: {
-                java.lang.String s = input.readStringRequireUtf8();
-
-                id_ = s;
-                break;
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                messages_ = new java.util.ArrayList<org.teamclutch.chat.protobuf.Message.Data>();
+                mutable_bitField0_ |= 0x00000002;
               }
-              case 18: {
-                java.lang.String s = input.readStringRequireUtf8();
+              messages_.add(input.readMessage(org.teamclutch.chat.protobuf.Message.Data.parser(), extensionRegistry));
+              break;
+            }
+            case 24: {
 
-                location_ = s;
-                break;
-              }
+              next_ = input.readInt64();
+              break;
             }
           }
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw new RuntimeException(e.setUnfinishedMessage(this));
-        } catch (java.io.IOException e) {
-          throw new RuntimeException(
-              new com.google.protobuf.InvalidProtocolBufferException(
-                  e.getMessage()).setUnfinishedMessage(this));
-        } finally {
-          makeExtensionsImmutable();
-        }
-      }
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_Servers_Server_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_Servers_Server_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                org.teamclutch.chat.protobuf.Message.Servers.Server.class, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder.class);
-      }
-
-      public static final int ID_FIELD_NUMBER = 1;
-      private volatile java.lang.Object id_;
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
-        if (ref instanceof java.lang.String) {
-          return (java.lang.String) ref;
-        } else {
-          com.google.protobuf.ByteString bs = 
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          id_ = s;
-          return s;
         }
-      }
-      /**
-       * <code>optional string id = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
-        if (ref instanceof java.lang.String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          id_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          messages_ = java.util.Collections.unmodifiableList(messages_);
         }
+        makeExtensionsImmutable();
       }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_HistoryPage_descriptor;
+    }
 
-      public static final int LOCATION_FIELD_NUMBER = 2;
-      private volatile java.lang.Object location_;
-      /**
-       * <code>optional string location = 2;</code>
-       */
-      public java.lang.String getLocation() {
-        java.lang.Object ref = location_;
-        if (ref instanceof java.lang.String) {
-          return (java.lang.String) ref;
-        } else {
-          com.google.protobuf.ByteString bs = 
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          location_ = s;
-          return s;
-        }
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_HistoryPage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.teamclutch.chat.protobuf.Message.HistoryPage.class, org.teamclutch.chat.protobuf.Message.HistoryPage.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int TAG_FIELD_NUMBER = 1;
+    private volatile java.lang.Object tag_;
+    /**
+     * <code>optional string tag = 1;</code>
+     */
+    public java.lang.String getTag() {
+      java.lang.Object ref = tag_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        tag_ = s;
+        return s;
       }
-      /**
-       * <code>optional string location = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getLocationBytes() {
-        java.lang.Object ref = location_;
-        if (ref instanceof java.lang.String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          location_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+    }
+    /**
+     * <code>optional string tag = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getTagBytes() {
+      java.lang.Object ref = tag_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tag_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
+    }
 
-      private byte memoizedIsInitialized = -1;
-      public final boolean isInitialized() {
-        byte isInitialized = memoizedIsInitialized;
-        if (isInitialized == 1) return true;
-        if (isInitialized == 0) return false;
-
-        memoizedIsInitialized = 1;
-        return true;
-      }
+    public static final int MESSAGES_FIELD_NUMBER = 2;
+    private java.util.List<org.teamclutch.chat.protobuf.Message.Data> messages_;
+    /**
+     * <code>repeated .Data messages = 2;</code>
+     */
+    public java.util.List<org.teamclutch.chat.protobuf.Message.Data> getMessagesList() {
+      return messages_;
+    }
+    /**
+     * <code>repeated .Data messages = 2;</code>
+     */
+    public java.util.List<? extends org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
+        getMessagesOrBuilderList() {
+      return messages_;
+    }
+    /**
+     * <code>repeated .Data messages = 2;</code>
+     */
+    public int getMessagesCount() {
+      return messages_.size();
+    }
+    /**
+     * <code>repeated .Data messages = 2;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.Data getMessages(int index) {
+      return messages_.get(index);
+    }
+    /**
+     * <code>repeated .Data messages = 2;</code>
+     */
+    public org.teamclutch.chat.protobuf.Message.DataOrBuilder getMessagesOrBuilder(
+        int index) {
+      return messages_.get(index);
+    }
 
-      public void writeTo(com.google.protobuf.CodedOutputStream output)
-                          throws java.io.IOException {
-        if (!getIdBytes().isEmpty()) {
-          com.google.protobuf.GeneratedMessage.writeString(output, 1, id_);
-        }
-        if (!getLocationBytes().isEmpty()) {
-          com.google.protobuf.GeneratedMessage.writeString(output, 2, location_);
-        }
-      }
+    public static final int NEXT_FIELD_NUMBER = 3;
+    private long next_;
+    /**
+     * <code>optional int64 next = 3;</code>
+     */
+    public long getNext() {
+      return next_;
+    }
 
-      public int getSerializedSize() {
-        int size = memoizedSize;
-        if (size != -1) return size;
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
-        size = 0;
-        if (!getIdBytes().isEmpty()) {
-          size += com.google.protobuf.GeneratedMessage.computeStringSize(1, id_);
-        }
-        if (!getLocationBytes().isEmpty()) {
-          size += com.google.protobuf.GeneratedMessage.computeStringSize(2, location_);
-        }
-        memoizedSize = size;
-        return size;
-      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
 
-      private static final long serialVersionUID = 0L;
-      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
-          com.google.protobuf.ByteString data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
-          com.google.protobuf.ByteString data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(byte[] data)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data);
-      }
-      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
-          byte[] data,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return PARSER.parseFrom(data, extensionRegistry);
-      }
-      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!getTagBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, tag_);
       }
-      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+      for (int i = 0; i < messages_.size(); i++) {
+        output.writeMessage(2, messages_.get(i));
       }
-      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseDelimitedFrom(java.io.InputStream input)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input);
+      if (next_ != 0L) {
+        output.writeInt64(3, next_);
       }
-      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseDelimitedFrom(
-          java.io.InputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!getTagBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, tag_);
       }
-      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
-          com.google.protobuf.CodedInputStream input)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input);
+      for (int i = 0; i < messages_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, messages_.get(i));
       }
-      public static org.teamclutch.chat.protobuf.Message.Servers.Server parseFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        return PARSER.parseFrom(input, extensionRegistry);
+      if (next_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, next_);
       }
+      memoizedSize = size;
+      return size;
+    }
 
-      public Builder newBuilderForType() { return newBuilder(); }
-      public static Builder newBuilder() {
-        return DEFAULT_INSTANCE.toBuilder();
+    private static final long serialVersionUID = 0L;
+    public static org.teamclutch.chat.protobuf.Message.HistoryPage parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.HistoryPage parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.HistoryPage parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.teamclutch.chat.protobuf.Message.HistoryPage parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.HistoryPage parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.HistoryPage parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.HistoryPage parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.HistoryPage parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.teamclutch.chat.protobuf.Message.HistoryPage parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.teamclutch.chat.protobuf.Message.HistoryPage parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.HistoryPage prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code HistoryPage}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:HistoryPage)
+        org.teamclutch.chat.protobuf.Message.HistoryPageOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_HistoryPage_descriptor;
       }
-      public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.Servers.Server prototype) {
-        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_HistoryPage_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.teamclutch.chat.protobuf.Message.HistoryPage.class, org.teamclutch.chat.protobuf.Message.HistoryPage.Builder.class);
       }
-      public Builder toBuilder() {
-        return this == DEFAULT_INSTANCE
-            ? new Builder() : new Builder().mergeFrom(this);
+
+      // Construct using org.teamclutch.chat.protobuf.Message.HistoryPage.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
       }
 
-      @java.lang.Override
-      protected Builder newBuilderForType(
+      private Builder(
           com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        Builder builder = new Builder(parent);
-        return builder;
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * Protobuf type {@code Servers.Server}
-       */
-      public static final class Builder extends
-          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-          // @@protoc_insertion_point(builder_implements:Servers.Server)
-          org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder {
-        public static final com.google.protobuf.Descriptors.Descriptor
-            getDescriptor() {
-          return org.teamclutch.chat.protobuf.Message.internal_static_Servers_Server_descriptor;
-        }
-
-        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-            internalGetFieldAccessorTable() {
-          return org.teamclutch.chat.protobuf.Message.internal_static_Servers_Server_fieldAccessorTable
-              .ensureFieldAccessorsInitialized(
-                  org.teamclutch.chat.protobuf.Message.Servers.Server.class, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder.class);
-        }
-
-        // Construct using org.teamclutch.chat.protobuf.Message.Servers.Server.newBuilder()
-        private Builder() {
-          maybeForceBuilderInitialization();
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getMessagesFieldBuilder();
         }
+      }
+      public Builder clear() {
+        super.clear();
+        tag_ = "";
 
-        private Builder(
-            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-          super(parent);
-          maybeForceBuilderInitialization();
-        }
-        private void maybeForceBuilderInitialization() {
-          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          }
+        if (messagesBuilder_ == null) {
+          messages_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          messagesBuilder_.clear();
         }
-        public Builder clear() {
-          super.clear();
-          id_ = "";
+        next_ = 0L;
 
-          location_ = "";
+        return this;
+      }
 
-          return this;
-        }
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_HistoryPage_descriptor;
+      }
 
-        public com.google.protobuf.Descriptors.Descriptor
-            getDescriptorForType() {
-          return org.teamclutch.chat.protobuf.Message.internal_static_Servers_Server_descriptor;
-        }
+      public org.teamclutch.chat.protobuf.Message.HistoryPage getDefaultInstanceForType() {
+        return org.teamclutch.chat.protobuf.Message.HistoryPage.getDefaultInstance();
+      }
 
-        public org.teamclutch.chat.protobuf.Message.Servers.Server getDefaultInstanceForType() {
-          return org.teamclutch.chat.protobuf.Message.Servers.Server.getDefaultInstance();
+      public org.teamclutch.chat.protobuf.Message.HistoryPage build() {
+        org.teamclutch.chat.protobuf.Message.HistoryPage result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
+      }
 
-        public org.teamclutch.chat.protobuf.Message.Servers.Server build() {
-          org.teamclutch.chat.protobuf.Message.Servers.Server result = buildPartial();
-          if (!result.isInitialized()) {
-            throw newUninitializedMessageException(result);
+      public org.teamclutch.chat.protobuf.Message.HistoryPage buildPartial() {
+        org.teamclutch.chat.protobuf.Message.HistoryPage result = new org.teamclutch.chat.protobuf.Message.HistoryPage(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.tag_ = tag_;
+        if (messagesBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            messages_ = java.util.Collections.unmodifiableList(messages_);
+            bitField0_ = (bitField0_ & ~0x00000002);
           }
-          return result;
+          result.messages_ = messages_;
+        } else {
+          result.messages_ = messagesBuilder_.build();
         }
+        result.next_ = next_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
 
-        public org.teamclutch.chat.protobuf.Message.Servers.Server buildPartial() {
-          org.teamclutch.chat.protobuf.Message.Servers.Server result = new org.teamclutch.chat.protobuf.Message.Servers.Server(this);
-          result.id_ = id_;
-          result.location_ = location_;
-          onBuilt();
-          return result;
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.teamclutch.chat.protobuf.Message.HistoryPage) {
+          return mergeFrom((org.teamclutch.chat.protobuf.Message.HistoryPage)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
         }
+      }
 
-        public Builder mergeFrom(com.google.protobuf.Message other) {
-          if (other instanceof org.teamclutch.chat.protobuf.Message.Servers.Server) {
-            return mergeFrom((org.teamclutch.chat.protobuf.Message.Servers.Server)other);
-          } else {
-            super.mergeFrom(other);
-            return this;
-          }
+      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.HistoryPage other) {
+        if (other == org.teamclutch.chat.protobuf.Message.HistoryPage.getDefaultInstance()) return this;
+        if (!other.getTag().isEmpty()) {
+          tag_ = other.tag_;
+          onChanged();
         }
-
-        public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.Servers.Server other) {
-          if (other == org.teamclutch.chat.protobuf.Message.Servers.Server.getDefaultInstance()) return this;
-          if (!other.getId().isEmpty()) {
-            id_ = other.id_;
+        if (messagesBuilder_ == null) {
+          if (!other.messages_.isEmpty()) {
+            if (messages_.isEmpty()) {
+              messages_ = other.messages_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureMessagesIsMutable();
+              messages_.addAll(other.messages_);
+            }
             onChanged();
           }
-          if (!other.getLocation().isEmpty()) {
-            location_ = other.location_;
-            onChanged();
+        } else {
+          if (!other.messages_.isEmpty()) {
+            if (messagesBuilder_.isEmpty()) {
+              messagesBuilder_.dispose();
+              messagesBuilder_ = null;
+              messages_ = other.messages_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              messagesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getMessagesFieldBuilder() : null;
+            } else {
+              messagesBuilder_.addAllMessages(other.messages_);
+            }
           }
-          onChanged();
-          return this;
         }
-
-        public final boolean isInitialized() {
-          return true;
+        if (other.getNext() != 0L) {
+          setNext(other.getNext());
         }
+        onChanged();
+        return this;
+      }
 
-        public Builder mergeFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-          org.teamclutch.chat.protobuf.Message.Servers.Server parsedMessage = null;
-          try {
-            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-            parsedMessage = (org.teamclutch.chat.protobuf.Message.Servers.Server) e.getUnfinishedMessage();
-            throw e;
-          } finally {
-            if (parsedMessage != null) {
-              mergeFrom(parsedMessage);
-            }
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.teamclutch.chat.protobuf.Message.HistoryPage parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.teamclutch.chat.protobuf.Message.HistoryPage) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
-          return this;
         }
+        return this;
+      }
+      private int bitField0_;
 
-        private java.lang.Object id_ = "";
-        /**
-         * <code>optional string id = 1;</code>
-         */
-        public java.lang.String getId() {
-          java.lang.Object ref = id_;
-          if (!(ref instanceof java.lang.String)) {
-            com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-            java.lang.String s = bs.toStringUtf8();
-            id_ = s;
-            return s;
-          } else {
-            return (java.lang.String) ref;
-          }
+      private java.lang.Object tag_ = "";
+      /**
+       * <code>optional string tag = 1;</code>
+       */
+      public java.lang.String getTag() {
+        java.lang.Object ref = tag_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          tag_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
         }
-        /**
-         * <code>optional string id = 1;</code>
-         */
-        public com.google.protobuf.ByteString
-            getIdBytes() {
-          java.lang.Object ref = id_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            id_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
+      }
+      /**
+       * <code>optional string tag = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTagBytes() {
+        java.lang.Object ref = tag_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tag_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
-        /**
-         * <code>optional string id = 1;</code>
-         */
-        public Builder setId(
-            java.lang.String value) {
-          if (value == null) {
+      }
+      /**
+       * <code>optional string tag = 1;</code>
+       */
+      public Builder setTag(
+          java.lang.String value) {
+        if (value == null) {
     throw new NullPointerException();
   }
   
-          id_ = value;
+        tag_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tag = 1;</code>
+       */
+      public Builder clearTag() {
+        
+        tag_ = getDefaultInstance().getTag();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tag = 1;</code>
+       */
+      public Builder setTagBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        tag_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.teamclutch.chat.protobuf.Message.Data> messages_ =
+        java.util.Collections.emptyList();
+      private void ensureMessagesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          messages_ = new java.util.ArrayList<org.teamclutch.chat.protobuf.Message.Data>(messages_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.Data, org.teamclutch.chat.protobuf.Message.Data.Builder, org.teamclutch.chat.protobuf.Message.DataOrBuilder> messagesBuilder_;
+
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public java.util.List<org.teamclutch.chat.protobuf.Message.Data> getMessagesList() {
+        if (messagesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(messages_);
+        } else {
+          return messagesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public int getMessagesCount() {
+        if (messagesBuilder_ == null) {
+          return messages_.size();
+        } else {
+          return messagesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Data getMessages(int index) {
+        if (messagesBuilder_ == null) {
+          return messages_.get(index);
+        } else {
+          return messagesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public Builder setMessages(
+          int index, org.teamclutch.chat.protobuf.Message.Data value) {
+        if (messagesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMessagesIsMutable();
+          messages_.set(index, value);
           onChanged();
-          return this;
+        } else {
+          messagesBuilder_.setMessage(index, value);
         }
-        /**
-         * <code>optional string id = 1;</code>
-         */
-        public Builder clearId() {
-          
-          id_ = getDefaultInstance().getId();
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public Builder setMessages(
+          int index, org.teamclutch.chat.protobuf.Message.Data.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.set(index, builderForValue.build());
           onChanged();
-          return this;
+        } else {
+          messagesBuilder_.setMessage(index, builderForValue.build());
         }
-        /**
-         * <code>optional string id = 1;</code>
-         */
-        public Builder setIdBytes(
-            com.google.protobuf.ByteString value) {
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public Builder addMessages(org.teamclutch.chat.protobuf.Message.Data value) {
+        if (messagesBuilder_ == null) {
           if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-          
-          id_ = value;
+            throw new NullPointerException();
+          }
+          ensureMessagesIsMutable();
+          messages_.add(value);
           onChanged();
-          return this;
+        } else {
+          messagesBuilder_.addMessage(value);
         }
-
-        private java.lang.Object location_ = "";
-        /**
-         * <code>optional string location = 2;</code>
-         */
-        public java.lang.String getLocation() {
-          java.lang.Object ref = location_;
-          if (!(ref instanceof java.lang.String)) {
-            com.google.protobuf.ByteString bs =
-                (com.google.protobuf.ByteString) ref;
-            java.lang.String s = bs.toStringUtf8();
-            location_ = s;
-            return s;
-          } else {
-            return (java.lang.String) ref;
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public Builder addMessages(
+          int index, org.teamclutch.chat.protobuf.Message.Data value) {
+        if (messagesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureMessagesIsMutable();
+          messages_.add(index, value);
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(index, value);
         }
-        /**
-         * <code>optional string location = 2;</code>
-         */
-        public com.google.protobuf.ByteString
-            getLocationBytes() {
-          java.lang.Object ref = location_;
-          if (ref instanceof String) {
-            com.google.protobuf.ByteString b = 
-                com.google.protobuf.ByteString.copyFromUtf8(
-                    (java.lang.String) ref);
-            location_ = b;
-            return b;
-          } else {
-            return (com.google.protobuf.ByteString) ref;
-          }
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public Builder addMessages(
+          org.teamclutch.chat.protobuf.Message.Data.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.add(builderForValue.build());
+          onChanged();
+        } else {
+          messagesBuilder_.addMessage(builderForValue.build());
         }
-        /**
-         * <code>optional string location = 2;</code>
-         */
-        public Builder setLocation(
-            java.lang.String value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  
-          location_ = value;
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public Builder addMessages(
+          int index, org.teamclutch.chat.protobuf.Message.Data.Builder builderForValue) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.add(index, builderForValue.build());
           onChanged();
-          return this;
+        } else {
+          messagesBuilder_.addMessage(index, builderForValue.build());
         }
-        /**
-         * <code>optional string location = 2;</code>
-         */
-        public Builder clearLocation() {
-          
-          location_ = getDefaultInstance().getLocation();
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public Builder addAllMessages(
+          java.lang.Iterable<? extends org.teamclutch.chat.protobuf.Message.Data> values) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, messages_);
           onChanged();
-          return this;
+        } else {
+          messagesBuilder_.addAllMessages(values);
         }
-        /**
-         * <code>optional string location = 2;</code>
-         */
-        public Builder setLocationBytes(
-            com.google.protobuf.ByteString value) {
-          if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-          
-          location_ = value;
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public Builder clearMessages() {
+        if (messagesBuilder_ == null) {
+          messages_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
           onChanged();
-          return this;
+        } else {
+          messagesBuilder_.clear();
         }
-        public final Builder setUnknownFields(
-            final com.google.protobuf.UnknownFieldSet unknownFields) {
-          return this;
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public Builder removeMessages(int index) {
+        if (messagesBuilder_ == null) {
+          ensureMessagesIsMutable();
+          messages_.remove(index);
+          onChanged();
+        } else {
+          messagesBuilder_.remove(index);
         }
-
-        public final Builder mergeUnknownFields(
-            final com.google.protobuf.UnknownFieldSet unknownFields) {
-          return this;
+        return this;
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Data.Builder getMessagesBuilder(
+          int index) {
+        return getMessagesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.DataOrBuilder getMessagesOrBuilder(
+          int index) {
+        if (messagesBuilder_ == null) {
+          return messages_.get(index);  } else {
+          return messagesBuilder_.getMessageOrBuilder(index);
         }
-
-
-        // @@protoc_insertion_point(builder_scope:Servers.Server)
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public java.util.List<? extends org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
+           getMessagesOrBuilderList() {
+        if (messagesBuilder_ != null) {
+          return messagesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(messages_);
+        }
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Data.Builder addMessagesBuilder() {
+        return getMessagesFieldBuilder().addBuilder(
+            org.teamclutch.chat.protobuf.Message.Data.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public org.teamclutch.chat.protobuf.Message.Data.Builder addMessagesBuilder(
+          int index) {
+        return getMessagesFieldBuilder().addBuilder(
+            index, org.teamclutch.chat.protobuf.Message.Data.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Data messages = 2;</code>
+       */
+      public java.util.List<org.teamclutch.chat.protobuf.Message.Data.Builder> 
+           getMessagesBuilderList() {
+        return getMessagesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.teamclutch.chat.protobuf.Message.Data, org.teamclutch.chat.protobuf.Message.Data.Builder, org.teamclutch.chat.protobuf.Message.DataOrBuilder> 
+          getMessagesFieldBuilder() {
+        if (messagesBuilder_ == null) {
+          messagesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.teamclutch.chat.protobuf.Message.Data, org.teamclutch.chat.protobuf.Message.Data.Builder, org.teamclutch.chat.protobuf.Message.DataOrBuilder>(
+                  messages_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          messages_ = null;
+        }
+        return messagesBuilder_;
       }
 
-      // @@protoc_insertion_point(class_scope:Servers.Server)
-      private static final org.teamclutch.chat.protobuf.Message.Servers.Server DEFAULT_INSTANCE;
-      static {
-        DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.Servers.Server();
+      private long next_ ;
+      /**
+       * <code>optional int64 next = 3;</code>
+       */
+      public long getNext() {
+        return next_;
+      }
+      /**
+       * <code>optional int64 next = 3;</code>
+       */
+      public Builder setNext(long value) {
+        
+        next_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 next = 3;</code>
+       */
+      public Builder clearNext() {
+        
+        next_ = 0L;
+        onChanged();
+        return this;
+      }
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
       }
 
-      public static org.teamclutch.chat.protobuf.Message.Servers.Server getDefaultInstance() {
-        return DEFAULT_INSTANCE;
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return this;
       }
 
-      private static final com.google.protobuf.Parser<Server>
-          PARSER = new com.google.protobuf.AbstractParser<Server>() {
-        public Server parsePartialFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
-          try {
-            return new Server(input, extensionRegistry);
-          } catch (RuntimeException e) {
-            if (e.getCause() instanceof
-                com.google.protobuf.InvalidProtocolBufferException) {
-              throw (com.google.protobuf.InvalidProtocolBufferException)
-                  e.getCause();
-            }
-            throw e;
+
+      // @@protoc_insertion_point(builder_scope:HistoryPage)
+    }
+
+    // @@protoc_insertion_point(class_scope:HistoryPage)
+    private static final org.teamclutch.chat.protobuf.Message.HistoryPage DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.HistoryPage();
+    }
+
+    public static org.teamclutch.chat.protobuf.Message.HistoryPage getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<HistoryPage>
+        PARSER = new com.google.protobuf.AbstractParser<HistoryPage>() {
+      public HistoryPage parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        try {
+          return new HistoryPage(input, extensionRegistry);
+        } catch (RuntimeException e) {
+          if (e.getCause() instanceof
+              com.google.protobuf.InvalidProtocolBufferException) {
+            throw (com.google.protobuf.InvalidProtocolBufferException)
+                e.getCause();
           }
+          throw e;
         }
-      };
-
-      public static com.google.protobuf.Parser<Server> parser() {
-        return PARSER;
       }
+    };
 
-      @java.lang.Override
-      public com.google.protobuf.Parser<Server> getParserForType() {
-        return PARSER;
-      }
+    public static com.google.protobuf.Parser<HistoryPage> parser() {
+      return PARSER;
+    }
 
-      public org.teamclutch.chat.protobuf.Message.Servers.Server getDefaultInstanceForType() {
-        return DEFAULT_INSTANCE;
+    @java.lang.Override
+    public com.google.protobuf.Parser<HistoryPage> getParserForType() {
+      return PARSER;
+    }
+
+    public org.teamclutch.chat.protobuf.Message.HistoryPage getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SnapshotOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Snapshot)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string room = 1;</code>
+     */
+    java.lang.String getRoom();
+    /**
+     * <code>optional string room = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getRoomBytes();
+
+    /**
+     * <code>optional bytes deflated = 2;</code>
+     */
+    com.google.protobuf.ByteString getDeflated();
+  }
+  /**
+   * Protobuf type {@code Snapshot}
+   */
+  public  static final class Snapshot extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:Snapshot)
+      SnapshotOrBuilder {
+    // Use Snapshot.newBuilder() to construct.
+    private Snapshot(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private Snapshot() {
+      room_ = "";
+      deflated_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return com.google.protobuf.UnknownFieldSet.getDefaultInstance();
+    }
+    private Snapshot(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry) {
+      this();
+      int mutable_bitField0_ = 0;
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!input.skipField(tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              room_ = s;
+              break;
+            }
+            case 18: {
+
+              deflated_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw new RuntimeException(e.setUnfinishedMessage(this));
+      } catch (java.io.IOException e) {
+        throw new RuntimeException(
+            new com.google.protobuf.InvalidProtocolBufferException(
+                e.getMessage()).setUnfinishedMessage(this));
+      } finally {
+        makeExtensionsImmutable();
       }
-
     }
-
-    public static final int SERVER_FIELD_NUMBER = 1;
-    private java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server> server_;
-    /**
-     * <code>repeated .Servers.Server server = 1;</code>
-     */
-    public java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server> getServerList() {
-      return server_;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_Snapshot_descriptor;
     }
-    /**
-     * <code>repeated .Servers.Server server = 1;</code>
-     */
-    public java.util.List<? extends org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder> 
-        getServerOrBuilderList() {
-      return server_;
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.teamclutch.chat.protobuf.Message.internal_static_Snapshot_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.teamclutch.chat.protobuf.Message.Snapshot.class, org.teamclutch.chat.protobuf.Message.Snapshot.Builder.class);
     }
+
+    public static final int ROOM_FIELD_NUMBER = 1;
+    private volatile java.lang.Object room_;
     /**
-     * <code>repeated .Servers.Server server = 1;</code>
+     * <code>optional string room = 1;</code>
      */
-    public int getServerCount() {
-      return server_.size();
+    public java.lang.String getRoom() {
+      java.lang.Object ref = room_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        room_ = s;
+        return s;
+      }
     }
     /**
-     * <code>repeated .Servers.Server server = 1;</code>
+     * <code>optional string room = 1;</code>
      */
-    public org.teamclutch.chat.protobuf.Message.Servers.Server getServer(int index) {
-      return server_.get(index);
+    public com.google.protobuf.ByteString
+        getRoomBytes() {
+      java.lang.Object ref = room_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        room_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
+
+    public static final int DEFLATED_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString deflated_;
     /**
-     * <code>repeated .Servers.Server server = 1;</code>
+     * <code>optional bytes deflated = 2;</code>
      */
-    public org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder getServerOrBuilder(
-        int index) {
-      return server_.get(index);
+    public com.google.protobuf.ByteString getDeflated() {
+      return deflated_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -5389,8 +10376,11 @@ public final class Message {
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      for (int i = 0; i < server_.size(); i++) {
-        output.writeMessage(1, server_.get(i));
+      if (!getRoomBytes().isEmpty()) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, room_);
+      }
+      if (!deflated_.isEmpty()) {
+        output.writeBytes(2, deflated_);
       }
     }
 
@@ -5399,62 +10389,65 @@ public final class Message {
       if (size != -1) return size;
 
       size = 0;
-      for (int i = 0; i < server_.size(); i++) {
+      if (!getRoomBytes().isEmpty()) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, room_);
+      }
+      if (!deflated_.isEmpty()) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, server_.get(i));
+          .computeBytesSize(2, deflated_);
       }
       memoizedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Snapshot parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Snapshot parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(byte[] data)
+    public static org.teamclutch.chat.protobuf.Message.Snapshot parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Snapshot parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(java.io.InputStream input)
+    public static org.teamclutch.chat.protobuf.Message.Snapshot parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Snapshot parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.Servers parseDelimitedFrom(java.io.InputStream input)
+    public static org.teamclutch.chat.protobuf.Message.Snapshot parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.Servers parseDelimitedFrom(
+    public static org.teamclutch.chat.protobuf.Message.Snapshot parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Snapshot parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.teamclutch.chat.protobuf.Message.Servers parseFrom(
+    public static org.teamclutch.chat.protobuf.Message.Snapshot parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5465,7 +10458,7 @@ public final class Message {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.Servers prototype) {
+    public static Builder newBuilder(org.teamclutch.chat.protobuf.Message.Snapshot prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() {
@@ -5480,385 +10473,212 @@ public final class Message {
       return builder;
     }
     /**
-     * Protobuf type {@code Servers}
+     * Protobuf type {@code Snapshot}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Servers)
-        org.teamclutch.chat.protobuf.Message.ServersOrBuilder {
+        // @@protoc_insertion_point(builder_implements:Snapshot)
+        org.teamclutch.chat.protobuf.Message.SnapshotOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_Servers_descriptor;
+        return org.teamclutch.chat.protobuf.Message.internal_static_Snapshot_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_Servers_fieldAccessorTable
+        return org.teamclutch.chat.protobuf.Message.internal_static_Snapshot_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.teamclutch.chat.protobuf.Message.Servers.class, org.teamclutch.chat.protobuf.Message.Servers.Builder.class);
+                org.teamclutch.chat.protobuf.Message.Snapshot.class, org.teamclutch.chat.protobuf.Message.Snapshot.Builder.class);
       }
 
-      // Construct using org.teamclutch.chat.protobuf.Message.Servers.newBuilder()
+      // Construct using org.teamclutch.chat.protobuf.Message.Snapshot.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
 
       private Builder(
           com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getServerFieldBuilder();
-        }
-      }
-      public Builder clear() {
-        super.clear();
-        if (serverBuilder_ == null) {
-          server_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-        } else {
-          serverBuilder_.clear();
-        }
-        return this;
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return org.teamclutch.chat.protobuf.Message.internal_static_Servers_descriptor;
-      }
-
-      public org.teamclutch.chat.protobuf.Message.Servers getDefaultInstanceForType() {
-        return org.teamclutch.chat.protobuf.Message.Servers.getDefaultInstance();
-      }
-
-      public org.teamclutch.chat.protobuf.Message.Servers build() {
-        org.teamclutch.chat.protobuf.Message.Servers result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public org.teamclutch.chat.protobuf.Message.Servers buildPartial() {
-        org.teamclutch.chat.protobuf.Message.Servers result = new org.teamclutch.chat.protobuf.Message.Servers(this);
-        int from_bitField0_ = bitField0_;
-        if (serverBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001)) {
-            server_ = java.util.Collections.unmodifiableList(server_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.server_ = server_;
-        } else {
-          result.server_ = serverBuilder_.build();
-        }
-        onBuilt();
-        return result;
-      }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.teamclutch.chat.protobuf.Message.Servers) {
-          return mergeFrom((org.teamclutch.chat.protobuf.Message.Servers)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.Servers other) {
-        if (other == org.teamclutch.chat.protobuf.Message.Servers.getDefaultInstance()) return this;
-        if (serverBuilder_ == null) {
-          if (!other.server_.isEmpty()) {
-            if (server_.isEmpty()) {
-              server_ = other.server_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensureServerIsMutable();
-              server_.addAll(other.server_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.server_.isEmpty()) {
-            if (serverBuilder_.isEmpty()) {
-              serverBuilder_.dispose();
-              serverBuilder_ = null;
-              server_ = other.server_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              serverBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getServerFieldBuilder() : null;
-            } else {
-              serverBuilder_.addAllMessages(other.server_);
-            }
-          }
-        }
-        onChanged();
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        org.teamclutch.chat.protobuf.Message.Servers parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.teamclutch.chat.protobuf.Message.Servers) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int bitField0_;
-
-      private java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server> server_ =
-        java.util.Collections.emptyList();
-      private void ensureServerIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          server_ = new java.util.ArrayList<org.teamclutch.chat.protobuf.Message.Servers.Server>(server_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.teamclutch.chat.protobuf.Message.Servers.Server, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder, org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder> serverBuilder_;
-
-      /**
-       * <code>repeated .Servers.Server server = 1;</code>
-       */
-      public java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server> getServerList() {
-        if (serverBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(server_);
-        } else {
-          return serverBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .Servers.Server server = 1;</code>
-       */
-      public int getServerCount() {
-        if (serverBuilder_ == null) {
-          return server_.size();
-        } else {
-          return serverBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .Servers.Server server = 1;</code>
-       */
-      public org.teamclutch.chat.protobuf.Message.Servers.Server getServer(int index) {
-        if (serverBuilder_ == null) {
-          return server_.get(index);
-        } else {
-          return serverBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .Servers.Server server = 1;</code>
-       */
-      public Builder setServer(
-          int index, org.teamclutch.chat.protobuf.Message.Servers.Server value) {
-        if (serverBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureServerIsMutable();
-          server_.set(index, value);
-          onChanged();
-        } else {
-          serverBuilder_.setMessage(index, value);
-        }
-        return this;
+        super(parent);
+        maybeForceBuilderInitialization();
       }
-      /**
-       * <code>repeated .Servers.Server server = 1;</code>
-       */
-      public Builder setServer(
-          int index, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder builderForValue) {
-        if (serverBuilder_ == null) {
-          ensureServerIsMutable();
-          server_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          serverBuilder_.setMessage(index, builderForValue.build());
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
-        return this;
       }
-      /**
-       * <code>repeated .Servers.Server server = 1;</code>
-       */
-      public Builder addServer(org.teamclutch.chat.protobuf.Message.Servers.Server value) {
-        if (serverBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureServerIsMutable();
-          server_.add(value);
-          onChanged();
-        } else {
-          serverBuilder_.addMessage(value);
-        }
+      public Builder clear() {
+        super.clear();
+        room_ = "";
+
+        deflated_ = com.google.protobuf.ByteString.EMPTY;
+
         return this;
       }
-      /**
-       * <code>repeated .Servers.Server server = 1;</code>
-       */
-      public Builder addServer(
-          int index, org.teamclutch.chat.protobuf.Message.Servers.Server value) {
-        if (serverBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureServerIsMutable();
-          server_.add(index, value);
-          onChanged();
-        } else {
-          serverBuilder_.addMessage(index, value);
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.teamclutch.chat.protobuf.Message.internal_static_Snapshot_descriptor;
+      }
+
+      public org.teamclutch.chat.protobuf.Message.Snapshot getDefaultInstanceForType() {
+        return org.teamclutch.chat.protobuf.Message.Snapshot.getDefaultInstance();
+      }
+
+      public org.teamclutch.chat.protobuf.Message.Snapshot build() {
+        org.teamclutch.chat.protobuf.Message.Snapshot result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        return this;
+        return result;
       }
-      /**
-       * <code>repeated .Servers.Server server = 1;</code>
-       */
-      public Builder addServer(
-          org.teamclutch.chat.protobuf.Message.Servers.Server.Builder builderForValue) {
-        if (serverBuilder_ == null) {
-          ensureServerIsMutable();
-          server_.add(builderForValue.build());
-          onChanged();
+
+      public org.teamclutch.chat.protobuf.Message.Snapshot buildPartial() {
+        org.teamclutch.chat.protobuf.Message.Snapshot result = new org.teamclutch.chat.protobuf.Message.Snapshot(this);
+        result.room_ = room_;
+        result.deflated_ = deflated_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.teamclutch.chat.protobuf.Message.Snapshot) {
+          return mergeFrom((org.teamclutch.chat.protobuf.Message.Snapshot)other);
         } else {
-          serverBuilder_.addMessage(builderForValue.build());
+          super.mergeFrom(other);
+          return this;
         }
-        return this;
       }
-      /**
-       * <code>repeated .Servers.Server server = 1;</code>
-       */
-      public Builder addServer(
-          int index, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder builderForValue) {
-        if (serverBuilder_ == null) {
-          ensureServerIsMutable();
-          server_.add(index, builderForValue.build());
+
+      public Builder mergeFrom(org.teamclutch.chat.protobuf.Message.Snapshot other) {
+        if (other == org.teamclutch.chat.protobuf.Message.Snapshot.getDefaultInstance()) return this;
+        if (!other.getRoom().isEmpty()) {
+          room_ = other.room_;
           onChanged();
-        } else {
-          serverBuilder_.addMessage(index, builderForValue.build());
         }
+        if (other.getDeflated() != com.google.protobuf.ByteString.EMPTY) {
+          setDeflated(other.getDeflated());
+        }
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .Servers.Server server = 1;</code>
-       */
-      public Builder addAllServer(
-          java.lang.Iterable<? extends org.teamclutch.chat.protobuf.Message.Servers.Server> values) {
-        if (serverBuilder_ == null) {
-          ensureServerIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, server_);
-          onChanged();
-        } else {
-          serverBuilder_.addAllMessages(values);
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.teamclutch.chat.protobuf.Message.Snapshot parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.teamclutch.chat.protobuf.Message.Snapshot) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
         }
         return this;
       }
+
+      private java.lang.Object room_ = "";
       /**
-       * <code>repeated .Servers.Server server = 1;</code>
+       * <code>optional string room = 1;</code>
        */
-      public Builder clearServer() {
-        if (serverBuilder_ == null) {
-          server_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
+      public java.lang.String getRoom() {
+        java.lang.Object ref = room_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          room_ = s;
+          return s;
         } else {
-          serverBuilder_.clear();
+          return (java.lang.String) ref;
         }
-        return this;
       }
       /**
-       * <code>repeated .Servers.Server server = 1;</code>
+       * <code>optional string room = 1;</code>
        */
-      public Builder removeServer(int index) {
-        if (serverBuilder_ == null) {
-          ensureServerIsMutable();
-          server_.remove(index);
-          onChanged();
+      public com.google.protobuf.ByteString
+          getRoomBytes() {
+        java.lang.Object ref = room_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          room_ = b;
+          return b;
         } else {
-          serverBuilder_.remove(index);
+          return (com.google.protobuf.ByteString) ref;
         }
-        return this;
       }
       /**
-       * <code>repeated .Servers.Server server = 1;</code>
+       * <code>optional string room = 1;</code>
        */
-      public org.teamclutch.chat.protobuf.Message.Servers.Server.Builder getServerBuilder(
-          int index) {
-        return getServerFieldBuilder().getBuilder(index);
+      public Builder setRoom(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        room_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .Servers.Server server = 1;</code>
+       * <code>optional string room = 1;</code>
        */
-      public org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder getServerOrBuilder(
-          int index) {
-        if (serverBuilder_ == null) {
-          return server_.get(index);  } else {
-          return serverBuilder_.getMessageOrBuilder(index);
-        }
+      public Builder clearRoom() {
+        
+        room_ = getDefaultInstance().getRoom();
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .Servers.Server server = 1;</code>
+       * <code>optional string room = 1;</code>
        */
-      public java.util.List<? extends org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder> 
-           getServerOrBuilderList() {
-        if (serverBuilder_ != null) {
-          return serverBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(server_);
-        }
+      public Builder setRoomBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        room_ = value;
+        onChanged();
+        return this;
       }
+
+      private com.google.protobuf.ByteString deflated_ = com.google.protobuf.ByteString.EMPTY;
       /**
-       * <code>repeated .Servers.Server server = 1;</code>
+       * <code>optional bytes deflated = 2;</code>
        */
-      public org.teamclutch.chat.protobuf.Message.Servers.Server.Builder addServerBuilder() {
-        return getServerFieldBuilder().addBuilder(
-            org.teamclutch.chat.protobuf.Message.Servers.Server.getDefaultInstance());
+      public com.google.protobuf.ByteString getDeflated() {
+        return deflated_;
       }
       /**
-       * <code>repeated .Servers.Server server = 1;</code>
+       * <code>optional bytes deflated = 2;</code>
        */
-      public org.teamclutch.chat.protobuf.Message.Servers.Server.Builder addServerBuilder(
-          int index) {
-        return getServerFieldBuilder().addBuilder(
-            index, org.teamclutch.chat.protobuf.Message.Servers.Server.getDefaultInstance());
+      public Builder setDeflated(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        deflated_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .Servers.Server server = 1;</code>
+       * <code>optional bytes deflated = 2;</code>
        */
-      public java.util.List<org.teamclutch.chat.protobuf.Message.Servers.Server.Builder> 
-           getServerBuilderList() {
-        return getServerFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          org.teamclutch.chat.protobuf.Message.Servers.Server, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder, org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder> 
-          getServerFieldBuilder() {
-        if (serverBuilder_ == null) {
-          serverBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              org.teamclutch.chat.protobuf.Message.Servers.Server, org.teamclutch.chat.protobuf.Message.Servers.Server.Builder, org.teamclutch.chat.protobuf.Message.Servers.ServerOrBuilder>(
-                  server_,
-                  ((bitField0_ & 0x00000001) == 0x00000001),
-                  getParentForChildren(),
-                  isClean());
-          server_ = null;
-        }
-        return serverBuilder_;
+      public Builder clearDeflated() {
+        
+        deflated_ = getDefaultInstance().getDeflated();
+        onChanged();
+        return this;
       }
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -5871,27 +10691,27 @@ public final class Message {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Servers)
+      // @@protoc_insertion_point(builder_scope:Snapshot)
     }
 
-    // @@protoc_insertion_point(class_scope:Servers)
-    private static final org.teamclutch.chat.protobuf.Message.Servers DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Snapshot)
+    private static final org.teamclutch.chat.protobuf.Message.Snapshot DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.Servers();
+      DEFAULT_INSTANCE = new org.teamclutch.chat.protobuf.Message.Snapshot();
     }
 
-    public static org.teamclutch.chat.protobuf.Message.Servers getDefaultInstance() {
+    public static org.teamclutch.chat.protobuf.Message.Snapshot getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Servers>
-        PARSER = new com.google.protobuf.AbstractParser<Servers>() {
-      public Servers parsePartialFrom(
+    private static final com.google.protobuf.Parser<Snapshot>
+        PARSER = new com.google.protobuf.AbstractParser<Snapshot>() {
+      public Snapshot parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
         try {
-          return new Servers(input, extensionRegistry);
+          return new Snapshot(input, extensionRegistry);
         } catch (RuntimeException e) {
           if (e.getCause() instanceof
               com.google.protobuf.InvalidProtocolBufferException) {
@@ -5903,16 +10723,16 @@ public final class Message {
       }
     };
 
-    public static com.google.protobuf.Parser<Servers> parser() {
+    public static com.google.protobuf.Parser<Snapshot> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Servers> getParserForType() {
+    public com.google.protobuf.Parser<Snapshot> getParserForType() {
       return PARSER;
     }
 
-    public org.teamclutch.chat.protobuf.Message.Servers getDefaultInstanceForType() {
+    public org.teamclutch.chat.protobuf.Message.Snapshot getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -5958,6 +10778,31 @@ public final class Message {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_Servers_Server_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_SearchRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_SearchRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_SearchResults_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_SearchResults_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_HistoryRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_HistoryRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_HistoryPage_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_HistoryPage_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_Snapshot_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_Snapshot_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -5967,20 +10812,34 @@ public final class Message {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\rMessage.proto\"\262\001\n\006Packet\022\025\n\004data\030\001 \001(\013" +
+      "\n\rMessage.proto\"\330\002\n\006Packet\022\025\n\004data\030\001 \001(\013" +
       "2\005.DataH\000\022\037\n\007request\030\002 \001(\0132\014.DataRequest" +
       "H\000\022\027\n\003new\030\003 \001(\0132\010.NewUserH\000\022\025\n\004ping\030\004 \001(" +
       "\0132\005.PingH\000\022\033\n\003pkg\030\005 \001(\0132\014.DataPackageH\000\022" +
-      "\033\n\007servers\030\006 \001(\0132\010.ServersH\000B\006\n\004Type\"J\n\004" +
-      "Data\022\n\n\002id\030\001 \001(\t\022\020\n\010username\030\002 \001(\t\022\026\n\016se" +
-      "rverClientId\030\003 \001(\t\022\014\n\004data\030\004 \001(\t\"\031\n\013Data" +
-      "Request\022\n\n\002id\030\001 \001(\t\"5\n\007NewUser\022\n\n\002id\030\001 \001" +
-      "(\t\022\020\n\010username\030\002 \001(\t\022\014\n\004node\030\003 \001(\010\"&\n\013Da" +
-      "taPackage\022\027\n\010messages\030\001 \003(\0132\005.Data\"&\n\004Pi",
-      "ng\022\020\n\010timeSent\030\001 \001(\003\022\014\n\004load\030\002 \001(\t\"R\n\007Se" +
-      "rvers\022\037\n\006server\030\001 \003(\0132\017.Servers.Server\032&" +
-      "\n\006Server\022\n\n\002id\030\001 \001(\t\022\020\n\010location\030\002 \001(\tB\036" +
-      "\n\034org.teamclutch.chat.protobufb\006proto3"
+      "\033\n\007servers\030\006 \001(\0132\010.ServersH\000\022 \n\006search\030\007" +
+      " \001(\0132\016.SearchRequestH\000\022!\n\007results\030\010 \001(\0132" +
+      "\016.SearchResultsH\000\022\"\n\007history\030\t \001(\0132\017.His" +
+      "toryRequestH\000\022\034\n\004page\030\n \001(\0132\014.HistoryPag" +
+      "eH\000\022\035\n\010snapshot\030\013 \001(\0132\t.SnapshotH\000B\006\n\004Ty" +
+      "pe\"X\n\004Data\022\n\n\002id\030\001 \001(\t\022\020\n\010username\030\002 \001(\t",
+      "\022\026\n\016serverClientId\030\003 \001(\t\022\014\n\004data\030\004 \001(\t\022\014" +
+      "\n\004room\030\005 \001(\t\"\031\n\013DataRequest\022\n\n\002id\030\001 \001(\t\"" +
+      "D\n\007NewUser\022\n\n\002id\030\001 \001(\t\022\020\n\010username\030\002 \001(\t" +
+      "\022\014\n\004node\030\003 \001(\010\022\r\n\005rooms\030\004 \003(\t\"&\n\013DataPac" +
+      "kage\022\027\n\010messages\030\001 \003(\0132\005.Data\"&\n\004Ping\022\020\n" +
+      "\010timeSent\030\001 \001(\003\022\014\n\004load\030\002 \001(\t\"R\n\007Servers" +
+      "\022\037\n\006server\030\001 \003(\0132\017.Servers.Server\032&\n\006Ser" +
+      "ver\022\n\n\002id\030\001 \001(\t\022\020\n\010location\030\002 \001(\t\"J\n\rSea" +
+      "rchRequest\022\013\n\003tag\030\001 \001(\t\022\r\n\005query\030\002 \001(\t\022\016" +
+      "\n\006offset\030\003 \001(\005\022\r\n\005limit\030\004 \001(\005\"I\n\rSearchR",
+      "esults\022\013\n\003tag\030\001 \001(\t\022\016\n\006offset\030\002 \001(\005\022\r\n\005t" +
+      "otal\030\003 \001(\005\022\014\n\004keys\030\004 \003(\t\"J\n\016HistoryReque" +
+      "st\022\013\n\003tag\030\001 \001(\t\022\014\n\004room\030\002 \001(\t\022\016\n\006before\030" +
+      "\003 \001(\003\022\r\n\005limit\030\004 \001(\005\"A\n\013HistoryPage\022\013\n\003t" +
+      "ag\030\001 \001(\t\022\027\n\010messages\030\002 \003(\0132\005.Data\022\014\n\004nex" +
+      "t\030\003 \001(\003\"*\n\010Snapshot\022\014\n\004room\030\001 \001(\t\022\020\n\010def" +
+      "lated\030\002 \001(\014B\036\n\034org.teamclutch.chat.proto" +
+      "bufb\006proto3"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -5999,13 +10858,13 @@ public final class Message {
     internal_static_Packet_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Packet_descriptor,
-        new java.lang.String[] { "Data", "Request", "New", "Ping", "Pkg", "Servers", "Type", });
+        new java.lang.String[] { "Data", "Request", "New", "Ping", "Pkg", "Servers", "Search", "Results", "History", "Page", "Snapshot", "Type", });
     internal_static_Data_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_Data_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Data_descriptor,
-        new java.lang.String[] { "Id", "Username", "ServerClientId", "Data", });
+        new java.lang.String[] { "Id", "Username", "ServerClientId", "Data", "Room", });
     internal_static_DataRequest_descriptor =
       getDescriptor().getMessageTypes().get(2);
     internal_static_DataRequest_fieldAccessorTable = new
@@ -6017,7 +10876,7 @@ public final class Message {
     internal_static_NewUser_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_NewUser_descriptor,
-        new java.lang.String[] { "Id", "Username", "Node", });
+        new java.lang.String[] { "Id", "Username", "Node", "Rooms", });
     internal_static_DataPackage_descriptor =
       getDescriptor().getMessageTypes().get(4);
     internal_static_DataPackage_fieldAccessorTable = new
@@ -6042,6 +10901,36 @@ public final class Message {
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_Servers_Server_descriptor,
         new java.lang.String[] { "Id", "Location", });
+    internal_static_SearchRequest_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_SearchRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_SearchRequest_descriptor,
+        new java.lang.String[] { "Tag", "Query", "Offset", "Limit", });
+    internal_static_SearchResults_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_SearchResults_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_SearchResults_descriptor,
+        new java.lang.String[] { "Tag", "Offset", "Total", "Keys", });
+    internal_static_HistoryRequest_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_HistoryRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_HistoryRequest_descriptor,
+        new java.lang.String[] { "Tag", "Room", "Before", "Limit", });
+    internal_static_HistoryPage_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_HistoryPage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_HistoryPage_descriptor,
+        new java.lang.String[] { "Tag", "Messages", "Next", });
+    internal_static_Snapshot_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_Snapshot_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_Snapshot_descriptor,
+        new java.lang.String[] { "Room", "Deflated", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
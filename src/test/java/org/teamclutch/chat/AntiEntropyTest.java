@@ -0,0 +1,131 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Two nodes whose packets are handed across by the test, until neither has anything left to say.
+ */
+public class AntiEntropyTest {
+    private static final String SENDER = "sender";
+
+    private final Node initiator = new Node();
+    private final Node responder = new Node();
+
+    @Test
+    public void nodesInSyncExchangeOnePacket() {
+        for (int i = 0; i < 100; i++) {
+            initiator.add(SENDER, i);
+            responder.add(SENDER, i);
+        }
+        initiator.antiEntropy.compare(initiator.channel);
+        assertEquals(1, exchange());
+        assertTrue(initiator.requested.isEmpty());
+        assertTrue(responder.requested.isEmpty());
+    }
+
+    @Test
+    public void onlyTheInitiatorRequestsRanges() {
+        for (int i = 0; i < 1000; i++) {
+            if (i >= 10) {
+                initiator.add(SENDER, i);
+            }
+            if (i != 500) {
+                responder.add(SENDER, i);
+            }
+        }
+        responder.add("other", 3);
+        initiator.antiEntropy.compare(initiator.channel);
+        exchange();
+
+        // Every differing leaf once, including the one starting at id 0
+        assertEquals(3, responder.requested.size());
+        assertTrue(responder.requested.contains(SENDER + ":0-63"));
+        assertTrue(responder.requested.contains(SENDER + ":448-511"));
+        assertTrue(responder.requested.contains("other:0-63"));
+        assertTrue(initiator.requested.isEmpty());
+        // The initiator sends what it holds of the leaves it requests
+        assertTrue(responder.received.contains(SENDER + ":500"));
+    }
+
+    @Test
+    public void senderOnlyTheInitiatorHasIsSent() {
+        initiator.add(SENDER, 7);
+        initiator.antiEntropy.compare(initiator.channel);
+        exchange();
+        assertEquals(1, responder.requested.size());
+        assertTrue(responder.received.contains(SENDER + ":7"));
+    }
+
+    /**
+     * @return how many packets went across
+     */
+    private int exchange() {
+        int packets = 0;
+        boolean quiet = false;
+        while (!quiet) {
+            quiet = true;
+            for (Node from : new Node[]{initiator, responder}) {
+                Node to = from == initiator ? responder : initiator;
+                Object packet;
+                while ((packet = from.channel.readOutbound()) != null) {
+                    to.channel.writeInbound(packet);
+                    packets++;
+                    quiet = false;
+                }
+            }
+        }
+        return packets;
+    }
+
+    private static final class Node extends ChannelInboundHandlerAdapter {
+        final Map<String, TreeMap<Long, DataMessage>> held = new HashMap<>();
+        final MerkleSummary summary = new MerkleSummary();
+        final AntiEntropy antiEntropy = new AntiEntropy(summary, (sender, lower, upper) ->
+                new ArrayList<>(held.getOrDefault(sender, new TreeMap<>()).subMap(lower, true, upper, true).values()));
+        final EmbeddedChannel channel = new EmbeddedChannel(this);
+        /**
+         * The plain range requests this node got
+         */
+        final List<String> requested = new ArrayList<>();
+        /**
+         * The keys of the messages this node was sent
+         */
+        final List<String> received = new ArrayList<>();
+
+        void add(String sender, long id) {
+            held.computeIfAbsent(sender, key -> new TreeMap<>())
+                    .put(id, new DataMessage("alice", sender, Long.toString(id), "message " + id));
+            summary.toggle(sender + ':' + id);
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            Message.Packet packet = (Message.Packet) msg;
+            if (packet.getTypeCase() == Message.Packet.TypeCase.REQUEST) {
+                String id = packet.getRequest().getId();
+                if (AntiEntropy.isSyncRequest(id)) {
+                    antiEntropy.onRequest(ctx, id);
+                } else {
+                    requested.add(id);
+                }
+            } else if (packet.getTypeCase() == Message.Packet.TypeCase.PKG) {
+                for (Message.Data data : packet.getPkg().getMessagesList()) {
+                    received.add(data.getServerClientId() + ':' + data.getId());
+                }
+            }
+        }
+    }
+}
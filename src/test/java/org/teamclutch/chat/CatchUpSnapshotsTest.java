@@ -0,0 +1,125 @@
+package org.teamclutch.chat;
+
+import com.google.protobuf.ByteString;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CatchUpSnapshotsTest {
+    private static final String ROOM = "general";
+
+    private final RoomTimeline timeline = new RoomTimeline();
+    private final Map<String, DataMessage> held = new HashMap<>();
+    // Builds only run when the test runs them
+    private final Queue<Runnable> builds = new ArrayDeque<>();
+    private final CatchUpSnapshots snapshots = new CatchUpSnapshots(new ServerConfig().catchUpMessages(3), builds::add);
+
+    @Test
+    public void snapshotsSurviveTheirEncoding() throws Exception {
+        List<DataMessage> recent = Arrays.asList(message(0), message(1), message(2));
+        Message.Packet packet = Message.Packet.parseFrom(CatchUpSnapshots.encode(ROOM, recent).toByteArray());
+        assertEquals(Message.Packet.TypeCase.SNAPSHOT, packet.getTypeCase());
+        assertEquals(ROOM, packet.getSnapshot().getRoom());
+        assertEquals(texts(0, 3), texts(CatchUpSnapshots.decode(packet.getSnapshot())));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void corruptedSnapshotsAreRefused() {
+        CatchUpSnapshots.decode(Message.Snapshot.newBuilder().setRoom(ROOM)
+                .setDeflated(ByteString.copyFromUtf8("not deflated")).build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void snapshotsCutShortAreRefused() {
+        ByteString deflated = CatchUpSnapshots.encode(ROOM, Arrays.asList(message(0), message(1)))
+                .getSnapshot().getDeflated();
+        CatchUpSnapshots.decode(Message.Snapshot.newBuilder().setRoom(ROOM)
+                .setDeflated(deflated.substring(0, deflated.size() / 2)).build());
+    }
+
+    @Test
+    public void joinsShareTheSnapshotUntilTheRoomChanges() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            add(i);
+        }
+        CompletableFuture<Message.Packet> first = snapshot();
+        // A join while it is built waits for the same one
+        assertSame(first, snapshot());
+        assertEquals(1, builds.size());
+        builds.poll().run();
+        assertEquals(texts(2, 5), texts(CatchUpSnapshots.decode(first.get().getSnapshot())));
+
+        assertSame(first, snapshot());
+        assertTrue(builds.isEmpty());
+
+        add(5);
+        CompletableFuture<Message.Packet> changed = snapshot();
+        assertNotSame(first, changed);
+        builds.poll().run();
+        assertEquals(texts(3, 6), texts(CatchUpSnapshots.decode(changed.get().getSnapshot())));
+    }
+
+    @Test
+    public void roomsWithoutMessagesHaveNoSnapshot() throws Exception {
+        CompletableFuture<Message.Packet> snapshot = snapshot();
+        builds.poll().run();
+        assertNull(snapshot.get());
+
+        CatchUpSnapshots disabled = new CatchUpSnapshots(new ServerConfig().catchUpMessages(0), builds::add);
+        add(0);
+        assertNull(disabled.snapshot(ROOM, timeline, held::get).get());
+        assertTrue(builds.isEmpty());
+    }
+
+    @NotNull
+    private CompletableFuture<Message.Packet> snapshot() {
+        return snapshots.snapshot(ROOM, timeline, held::get);
+    }
+
+    private void add(int i) {
+        String key = "server:" + i;
+        held.put(key, message(i));
+        timeline.add(ROOM, key, System.currentTimeMillis());
+    }
+
+    @NotNull
+    private static DataMessage message(int i) {
+        return new DataMessage("alice", "server", Integer.toString(i), "message " + i);
+    }
+
+    /**
+     * @return the texts of the messages from the first up to the one before the end
+     */
+    @NotNull
+    private static List<String> texts(int first, int end) {
+        List<String> texts = new ArrayList<>();
+        for (int i = first; i < end; i++) {
+            texts.add("message " + i);
+        }
+        return texts;
+    }
+
+    @NotNull
+    private static List<String> texts(@NotNull List<DataMessage> messages) {
+        List<String> texts = new ArrayList<>();
+        for (DataMessage message : messages) {
+            texts.add(message.message());
+        }
+        return texts;
+    }
+}
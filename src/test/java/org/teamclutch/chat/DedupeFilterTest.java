@@ -0,0 +1,64 @@
+package org.teamclutch.chat;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Fills the filter with as many keys as it holds and checks that keys never added are found at about the
+ * configured false positive rate, and at the rate it expects itself.
+ */
+public class DedupeFilterTest {
+    private static final long EXPECTED = 200000;
+    private static final double RATE = 0.01;
+    private static final int PROBES = 400000;
+
+    @Test
+    public void falsePositivesComeAtTheConfiguredRate() {
+        DedupeFilter filter = new DedupeFilter(new ServerConfig().dedupeExpectedMessages(EXPECTED)
+                .dedupeFalsePositiveRate(RATE));
+        // One partition more would make the filter drop the oldest
+        long added = EXPECTED - EXPECTED / DedupeFilter.PARTITIONS;
+        for (long i = 0; i < added; i++) {
+            filter.put("sender:" + i);
+        }
+        for (long i = 0; i < added; i++) {
+            assertTrue("Lost key " + i, filter.mightContain("sender:" + i));
+        }
+
+        int hits = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (filter.mightContain("other:" + i)) {
+                hits++;
+            }
+        }
+        double observed = (double) hits / PROBES;
+        double expected = filter.expectedFalsePositiveRate();
+        assertTrue("Observed rate " + observed, observed > RATE / 4 && observed < RATE * 1.5);
+        assertTrue("Observed rate " + observed + ", expected " + expected, Math.abs(observed - expected) < expected / 4);
+    }
+
+    /**
+     * Keys it no longer finds were added before the time it reports, so only they need looking up elsewhere.
+     */
+    @Test
+    public void keysAreFoundSinceTheTimeReported() throws Exception {
+        long created = System.currentTimeMillis();
+        // One key fills a partition
+        DedupeFilter filter = new DedupeFilter(new ServerConfig().dedupeExpectedMessages(DedupeFilter.PARTITIONS));
+        assertTrue(filter.coveredSince() >= created);
+        Thread.sleep(5);
+        long first = System.currentTimeMillis();
+        for (int i = 0; i < DedupeFilter.PARTITIONS - 1; i++) {
+            filter.put("sender:" + i);
+        }
+        // Nothing was dropped yet
+        assertTrue(filter.coveredSince() < first);
+        assertTrue(filter.mightContain("sender:0"));
+
+        // Drops the partition the filter started with
+        filter.put("sender:" + (DedupeFilter.PARTITIONS - 1));
+        assertTrue(filter.coveredSince() >= first);
+        assertTrue(filter.mightContain("sender:" + (DedupeFilter.PARTITIONS - 1)));
+    }
+}
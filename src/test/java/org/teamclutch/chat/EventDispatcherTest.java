@@ -0,0 +1,95 @@
+package org.teamclutch.chat;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EventDispatcherTest {
+    private static final int EVENTS = 10;
+
+    private final ChatMetrics metrics = new ChatMetrics();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private EventDispatcher dispatcher;
+
+    @After
+    public void shutdown() {
+        release.countDown();
+        dispatcher.shutdown();
+    }
+
+    /**
+     * Posting returns while the listener is still stuck on the first event, which must not hold up the
+     * other listeners either.
+     */
+    @Test
+    public void postingDoesNotWaitForListeners() throws InterruptedException {
+        dispatcher = new EventDispatcher("test", new ClientConfig().listenerMailboxSize(EVENTS), metrics);
+        List<String> stuck = new CopyOnWriteArrayList<>();
+        dispatcher.register(message -> {
+            awaitRelease();
+            stuck.add(message.message());
+        });
+        CountDownLatch other = new CountDownLatch(EVENTS);
+        dispatcher.register(message -> other.countDown());
+
+        post(EVENTS);
+        assertTrue("A stuck listener held up another", other.await(10, TimeUnit.SECONDS));
+        assertTrue(stuck.isEmpty());
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (stuck.size() < EVENTS && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(EVENTS, stuck.size());
+        assertEquals("message 0", stuck.get(0));
+        assertEquals(0, metrics.listenerDroppedEvents());
+    }
+
+    @Test
+    public void fullMailboxDropsTheOldestEvents() throws InterruptedException {
+        dispatcher = new EventDispatcher("test", new ClientConfig().listenerMailboxSize(2), metrics);
+        CountDownLatch running = new CountDownLatch(1);
+        List<String> received = new CopyOnWriteArrayList<>();
+        dispatcher.register(message -> {
+            running.countDown();
+            awaitRelease();
+            received.add(message.message());
+        });
+
+        post(1);
+        assertTrue(running.await(10, TimeUnit.SECONDS));
+        // The first is being handled, two fit in the mailbox, the third pushes out the oldest waiting
+        post(3);
+        assertEquals(1, metrics.listenerDroppedEvents());
+
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (received.size() < 3 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(3, received.size());
+        assertEquals("message 1", received.get(1));
+    }
+
+    private void post(int count) {
+        for (int i = 0; i < count; i++) {
+            dispatcher.post(new DataMessage("alice", "1", Integer.toString(i), "message " + i));
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
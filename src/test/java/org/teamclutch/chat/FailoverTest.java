@@ -0,0 +1,96 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Kills the server a client is connected to, on loopback, while another node is up. Clients use the same
+ * port for every server, so the two servers share one and are bound to different loopback addresses.
+ */
+public class FailoverTest {
+    private static final String ALTERNATE = "127.0.0.2";
+
+    @Rule
+    public final LoopbackChats chats = new LoopbackChats();
+    private int port;
+
+    @Test
+    public void reconnectsToAlternateWithinTwoSeconds() throws Exception {
+        Chat primary = startPrimary();
+        Chat user = startUser();
+
+        primary.stopAsync();
+        awaitReconnect(user);
+        RttHistogram reconnects = user.metrics().reconnectTimes();
+        assertEquals(1, reconnects.count());
+        assertTrue("p99 time to reconnect was " + reconnects.p99(TimeUnit.MILLISECONDS) + "ms",
+                reconnects.p99(TimeUnit.MILLISECONDS) < 2000);
+    }
+
+    /**
+     * The alternate's catch-up snapshot holds the messages the user got from the primary, which it must
+     * not be handed again.
+     */
+    @Test
+    public void snapshotAfterFailoverIsNotDeliveredAgain() throws Exception {
+        Chat primary = startPrimary();
+        Chat user = startUser();
+        AtomicInteger deliveries = new AtomicInteger();
+        user.addListener(message -> {
+            if (message.message().equals("before failover")) {
+                deliveries.incrementAndGet();
+            }
+        });
+        CountDownLatch received = LoopbackChats.awaitMessage(user, "before failover");
+        primary.newMessage("before failover");
+        assertTrue("The message didn't reach the user", received.await(10, TimeUnit.SECONDS));
+
+        primary.stopAsync();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (user.metrics().catchUpTimes().count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals("The alternate sent no snapshot", 1, user.metrics().catchUpTimes().count());
+        // Listeners are called on their own thread, give a repeat the time to arrive
+        Thread.sleep(500);
+        assertEquals(1, deliveries.get());
+    }
+
+    @NotNull
+    private Chat startPrimary() throws Exception {
+        port = LoopbackChats.freePort();
+        Chat primary = chats.create("primary", port);
+        primary.serverConfig().bindAddress(LoopbackChats.HOST);
+        return chats.start(primary);
+    }
+
+    /**
+     * Starts the user, connected to the primary, once the primary has told it about the alternate.
+     */
+    @NotNull
+    private Chat startUser() throws Exception {
+        // The user's own server is the alternate, its link makes the primary tell the user about it
+        Chat user = chats.create("alice", port);
+        user.serverConfig().bindAddress(ALTERNATE).peers(LoopbackChats.HOST + ':' + port);
+        user.config().reconnectBackoff(50, 1000, TimeUnit.MILLISECONDS);
+        CountDownLatch knowsAlternate = LoopbackChats.awaitServers(user, ALTERNATE);
+        chats.start(user);
+        assertTrue("The primary never announced the alternate", knowsAlternate.await(10, TimeUnit.SECONDS));
+        return user;
+    }
+
+    private static void awaitReconnect(@NotNull Chat user) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+        while (user.metrics().reconnectTimes().count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.teamclutch.chat;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Federated nodes on loopback, each on its own port with one user of its own.
+ */
+public class FederationTest {
+    @Rule
+    public final LoopbackChats chats = new LoopbackChats();
+
+    @Test
+    public void messageReachesUserOnOtherNode() throws Exception {
+        Chat a = chats.create("alice");
+        CountDownLatch linked = LoopbackChats.awaitServers(a, LoopbackChats.HOST);
+        chats.start(a);
+        Chat b = chats.create("bob");
+        b.serverConfig().peers(LoopbackChats.HOST + ':' + a.config().port());
+        chats.start(b);
+        assertTrue("Node B never linked to node A", linked.await(10, TimeUnit.SECONDS));
+
+        CountDownLatch received = LoopbackChats.awaitMessage(b, "hello from A");
+        a.newMessage("hello from A");
+        assertTrue("The message didn't reach the user on node B", received.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void messageCrossesAChainOfNodes() throws Exception {
+        Chat a = chats.create("alice");
+        CountDownLatch linkedToA = LoopbackChats.awaitServers(a, LoopbackChats.HOST);
+        chats.start(a);
+        Chat b = chats.create("bob");
+        b.serverConfig().peers(LoopbackChats.HOST + ':' + a.config().port());
+        CountDownLatch linkedToB = LoopbackChats.awaitServers(b, LoopbackChats.HOST);
+        chats.start(b);
+        Chat c = chats.create("carol");
+        c.serverConfig().peers(LoopbackChats.HOST + ':' + b.config().port());
+        chats.start(c);
+        assertTrue(linkedToA.await(10, TimeUnit.SECONDS));
+        assertTrue(linkedToB.await(10, TimeUnit.SECONDS));
+
+        CountDownLatch received = LoopbackChats.awaitMessage(c, "hello from A");
+        CountDownLatch receivedBack = LoopbackChats.awaitMessage(a, "hello from C");
+        a.newMessage("hello from A");
+        c.newMessage("hello from C");
+        assertTrue("The message didn't reach the user two nodes away", received.await(10, TimeUnit.SECONDS));
+        assertTrue("The reply didn't come back two nodes", receivedBack.await(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,82 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FlushCoalescerTest {
+    private static final int BURST = 10;
+
+    private final ChatMetrics metrics = new ChatMetrics();
+    private final FlushCounter flushes = new FlushCounter();
+
+    @Test
+    public void readBurstIsFlushedOnce() {
+        EmbeddedChannel channel = newChannel(new ServerConfig());
+        channel.writeInbound(burst());
+        assertEquals(1, flushes.count);
+        assertEquals(BURST, channel.outboundMessages().size());
+        assertEquals(1, metrics.channelFlushes());
+        assertEquals(BURST, metrics.channelWrites());
+    }
+
+    @Test
+    public void longBurstIsFlushedEveryMaxPendingWrites() {
+        EmbeddedChannel channel = newChannel(new ServerConfig().flushMaxPendingWrites(4));
+        channel.writeInbound(burst());
+        // After the 4th and 8th write, and the last two at the end of the burst
+        assertEquals(3, flushes.count);
+        assertEquals(BURST, channel.outboundMessages().size());
+    }
+
+    @Test
+    public void writesOutsideAReadAreFlushedAfterTheCurrentTask() {
+        EmbeddedChannel channel = newChannel(new ServerConfig());
+        for (int i = 0; i < BURST; i++) {
+            channel.writeAndFlush(i);
+        }
+        assertEquals(0, flushes.count);
+        channel.runPendingTasks();
+        assertEquals(1, flushes.count);
+        assertEquals(BURST, channel.outboundMessages().size());
+    }
+
+    private EmbeddedChannel newChannel(ServerConfig config) {
+        return new EmbeddedChannel(flushes, new FlushCoalescer(config, metrics), new Echo());
+    }
+
+    private static Object[] burst() {
+        Object[] messages = new Object[BURST];
+        for (int i = 0; i < BURST; i++) {
+            messages[i] = i;
+        }
+        return messages;
+    }
+
+    /**
+     * Answers every message with a flush of its own, as the server handler does.
+     */
+    private static final class Echo extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            ctx.writeAndFlush(msg);
+        }
+    }
+
+    /**
+     * Counts the flushes that get past the coalescer to the socket.
+     */
+    private static final class FlushCounter extends ChannelOutboundHandlerAdapter {
+        int count;
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) throws Exception {
+            count++;
+            super.flush(ctx);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.IdleStateEvent;
+import org.junit.Test;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class HeartbeatHandlerTest {
+    private static final int MISSED = 3;
+
+    private final RttHistogram connectionRtt = new RttHistogram();
+
+    @Test
+    public void closesAfterMissedHeartbeats() {
+        EmbeddedChannel channel = newChannel();
+        for (int i = 0; i < MISSED; i++) {
+            assertTrue(channel.isOpen());
+            channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        }
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void pausedReadsAreNotMissedHeartbeats() {
+        EmbeddedChannel channel = newChannel();
+        channel.config().setAutoRead(false);
+        for (int i = 0; i < MISSED * 2; i++) {
+            channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        }
+        assertTrue(channel.isOpen());
+
+        // Counting starts over once reading resumes
+        channel.config().setAutoRead(true);
+        for (int i = 0; i < MISSED - 1; i++) {
+            channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        }
+        assertTrue(channel.isOpen());
+    }
+
+    @Test
+    public void repliesAreTimedLocally() {
+        EmbeddedChannel channel = newChannel();
+        long before = System.currentTimeMillis();
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        Message.Ping first = ((Message.Packet) channel.readOutbound()).getPing();
+        Message.Ping second = ((Message.Packet) channel.readOutbound()).getPing();
+        // Milliseconds on the wire, as older servers expect, and never the same twice
+        assertTrue(first.getTimeSent() >= before && first.getTimeSent() <= System.currentTimeMillis() + 1);
+        assertNotEquals(first.getTimeSent(), second.getTimeSent());
+
+        channel.writeInbound(DataMessage.createPingReply(second, "{}"));
+        assertEquals(1, connectionRtt.count());
+        assertTrue(connectionRtt.p99(TimeUnit.SECONDS) < 10);
+        // The first was skipped by the reply to the second, a late reply to it is ignored
+        channel.writeInbound(DataMessage.createPingReply(first, "{}"));
+        assertEquals(1, connectionRtt.count());
+        assertNull(channel.readInbound());
+    }
+
+    @Test
+    public void unknownRepliesAreIgnored() {
+        EmbeddedChannel channel = newChannel();
+        channel.writeInbound(DataMessage.createPingReply(DataMessage.createPing().getPing(), "{}"));
+        assertEquals(0, connectionRtt.count());
+    }
+
+    private EmbeddedChannel newChannel() {
+        ClientConfig config = new ClientConfig().heartbeat(1, TimeUnit.SECONDS, MISSED);
+        return new EmbeddedChannel(new HeartbeatHandler(config, connectionRtt, new RttHistogram()));
+    }
+}
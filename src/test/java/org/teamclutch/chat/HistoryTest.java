@@ -0,0 +1,89 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Pages back through a room held by a server on loopback. The user's own server is bound to another
+ * loopback address, so the server holding the room can be stopped under it.
+ */
+public class HistoryTest {
+    private static final String ALTERNATE = "127.0.0.2";
+
+    @Rule
+    public final LoopbackChats chats = new LoopbackChats();
+    private Chat server;
+    private Chat user;
+
+    @Test
+    public void cursorsPageBackToTheOldestMessage() throws Exception {
+        start(5);
+        HistoryPage newest = user.history(null, 2).get(10, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("message 3", "message 4"), texts(newest));
+        assertTrue(newest.hasMore());
+        HistoryPage middle = user.history(newest.nextCursor(), 2).get(10, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("message 1", "message 2"), texts(middle));
+        assertTrue(middle.hasMore());
+        HistoryPage oldest = user.history(middle.nextCursor(), 2).get(10, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("message 0"), texts(oldest));
+        assertFalse(oldest.hasMore());
+    }
+
+    @Test
+    public void thePageBeforeIsFetchedWhileOneIsRead() throws Exception {
+        start(4);
+        HistoryPage newest = user.history(null, 2).get(10, TimeUnit.SECONDS);
+        // Give the page before it the time to arrive, then take away the server that could answer for it
+        Thread.sleep(500);
+        server.stopAsync().awaitTerminated(10, TimeUnit.SECONDS);
+
+        HistoryPage before = user.history(newest.nextCursor(), 2).get(1, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("message 0", "message 1"), texts(before));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cursorsAreChecked() throws Exception {
+        start(0);
+        user.history("not a cursor", 2);
+    }
+
+    /**
+     * Starts the server and the user, and has the server's own user send messages the user has received
+     * once this returns.
+     */
+    private void start(int messages) throws Exception {
+        int port = LoopbackChats.freePort();
+        server = chats.create("server", port);
+        server.serverConfig().bindAddress(LoopbackChats.HOST);
+        chats.start(server);
+        user = chats.create("alice", port);
+        user.serverConfig().bindAddress(ALTERNATE);
+        chats.start(user);
+
+        CountDownLatch received = LoopbackChats.awaitMessage(user, "message " + (messages - 1));
+        for (int i = 0; i < messages; i++) {
+            server.newMessage("message " + i);
+        }
+        assertTrue("The messages didn't reach the user", messages == 0 || received.await(10, TimeUnit.SECONDS));
+    }
+
+    @NotNull
+    private static List<String> texts(@NotNull HistoryPage page) {
+        List<String> texts = new ArrayList<>();
+        for (DataMessage message : page.messages()) {
+            texts.add(message.message());
+        }
+        return texts;
+    }
+}
@@ -0,0 +1,90 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Fills the inbound queue of a user with messages from a user on a federated node.
+ */
+public class InboundOverflowTest {
+    private static final int MESSAGES = 20;
+    // Room for the messages sent while starting, so the nodes can still link
+    private static final int CAPACITY = 8;
+
+    @Rule
+    public final LoopbackChats chats = new LoopbackChats();
+
+    @Test
+    public void blockStopsReadingUntilThereIsRoom() throws Exception {
+        Chat alice = chats.create("alice");
+        alice.config().inboundQueueCapacity(CAPACITY).inboundOverflowPolicy(InboundOverflowPolicy.BLOCK, 1,
+                TimeUnit.MINUTES);
+        Chat bob = startLinked(alice);
+        CountDownLatch lastSent = LoopbackChats.awaitMessage(bob, "message " + (MESSAGES - 1));
+        for (int i = 0; i < MESSAGES; i++) {
+            assertTrue(bob.newMessage("message " + i));
+        }
+        assertTrue(lastSent.await(10, TimeUnit.SECONDS));
+        awaitInboundFull(alice);
+
+        int next = 0;
+        while (next < MESSAGES) {
+            String text = alice.getNextMessage().message();
+            if (text.startsWith("message ")) {
+                assertEquals("message " + next, text);
+                next++;
+            }
+        }
+        assertEquals(0, alice.metrics().inboundDroppedMessages());
+        assertFalse(alice.isInboundFull());
+    }
+
+    @Test
+    public void blockDropsWhatWaitedForTheWholeTimeout() throws Exception {
+        Chat alice = chats.create("alice");
+        alice.config().inboundQueueCapacity(CAPACITY).inboundOverflowPolicy(InboundOverflowPolicy.BLOCK, 100,
+                TimeUnit.MILLISECONDS);
+        Chat bob = startLinked(alice);
+        CountDownLatch received = LoopbackChats.awaitMessage(alice, "message " + (MESSAGES - 1));
+        for (int i = 0; i < MESSAGES; i++) {
+            assertTrue(bob.newMessage("message " + i));
+        }
+        // Nobody takes from the queue, yet reading resumes after every timeout
+        assertTrue("Reading never resumed", received.await(10, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (alice.metrics().inboundDroppedMessages() < MESSAGES - CAPACITY && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(alice.metrics().inboundDroppedMessages() >= MESSAGES - CAPACITY);
+    }
+
+    /**
+     * Starts both users, the second on a node of its own that links to the first's.
+     */
+    @NotNull
+    private Chat startLinked(@NotNull Chat alice) throws Exception {
+        CountDownLatch linked = LoopbackChats.awaitServers(alice, LoopbackChats.HOST);
+        chats.start(alice);
+        Chat bob = chats.create("bob");
+        bob.serverConfig().peers(LoopbackChats.HOST + ':' + alice.config().port());
+        chats.start(bob);
+        assertTrue("The nodes never linked", linked.await(10, TimeUnit.SECONDS));
+        return bob;
+    }
+
+    private static void awaitInboundFull(@NotNull Chat chat) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!chat.isInboundFull() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue("The inbound queue never filled", chat.isInboundFull());
+    }
+}
@@ -0,0 +1,110 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.rules.ExternalResource;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Starts chat sessions on loopback for a test and stops them after it.
+ */
+final class LoopbackChats extends ExternalResource {
+    static final String HOST = "127.0.0.1";
+    private static final String PASSWORD = "loopback-test";
+
+    private final List<Chat> chats = new ArrayList<>();
+
+    /**
+     * Creates a session on its own free port.
+     */
+    @NotNull
+    Chat create(@NotNull String username) throws IOException {
+        return create(username, freePort());
+    }
+
+    @NotNull
+    Chat create(@NotNull String username, int port) {
+        return new Chat(HOST, username, PASSWORD, port, null);
+    }
+
+    /**
+     * Starts the session and waits for its server to be up and its user to have joined, as messages sent
+     * before that don't reach the user.
+     */
+    @NotNull
+    Chat start(@NotNull Chat chat) throws InterruptedException {
+        CountDownLatch welcomed = new CountDownLatch(1);
+        MessageListener listener = message -> {
+            if (message.message().startsWith("Welcome to ")) {
+                welcomed.countDown();
+            }
+        };
+        chat.addListener(listener);
+        chats.add(chat.start());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!chat.isServerUp() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue("The server didn't come up", chat.isServerUp());
+        assertTrue("The user never joined", welcomed.await(10, TimeUnit.SECONDS));
+        chat.removeListener(listener);
+        return chat;
+    }
+
+    /**
+     * @return a latch released once the session's client is told about a server at the location
+     */
+    @NotNull
+    static CountDownLatch awaitServers(@NotNull Chat chat, @NotNull String location) {
+        CountDownLatch known = new CountDownLatch(1);
+        chat.dispatcher().registerPacketListener(packet -> {
+            if (packet.getTypeCase() == Message.Packet.TypeCase.SERVERS && packet.getServers().getServerList()
+                    .stream().anyMatch(server -> server.getLocation().equals(location))) {
+                known.countDown();
+            }
+        });
+        return known;
+    }
+
+    /**
+     * @return a latch released once the session receives a message with the text
+     */
+    @NotNull
+    static CountDownLatch awaitMessage(@NotNull Chat chat, @NotNull String text) {
+        CountDownLatch received = new CountDownLatch(1);
+        chat.addListener(message -> {
+            if (message.message().equals(text)) {
+                received.countDown();
+            }
+        });
+        return received;
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    protected void after() {
+        for (Chat chat : chats) {
+            chat.stopAsync();
+        }
+        for (Chat chat : chats) {
+            try {
+                chat.awaitTerminated(10, TimeUnit.SECONDS);
+            } catch (Exception ignored) {
+                // Stopping is best effort, the next test uses other ports anyway
+            }
+        }
+    }
+}
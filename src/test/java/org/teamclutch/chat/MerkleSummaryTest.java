@@ -0,0 +1,71 @@
+package org.teamclutch.chat;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class MerkleSummaryTest {
+    private static final String SENDER = "sender";
+
+    @Test
+    public void orderDoesNotMatter() {
+        MerkleSummary forwards = new MerkleSummary();
+        MerkleSummary backwards = new MerkleSummary();
+        for (int i = 0; i < 1000; i++) {
+            forwards.toggle(SENDER + ':' + i);
+            backwards.toggle(SENDER + ':' + (999 - i));
+        }
+        assertNotEquals(0, forwards.hash());
+        assertEquals(forwards.hash(), backwards.hash());
+        for (int level = 0; level <= MerkleSummary.ROOT_LEVEL; level++) {
+            assertEquals(forwards.hash(SENDER, level, 0), backwards.hash(SENDER, level, 0));
+        }
+    }
+
+    @Test
+    public void togglingTwiceRemoves() {
+        MerkleSummary summary = new MerkleSummary();
+        summary.toggle(SENDER + ":1");
+        summary.toggle("other:1");
+        summary.toggle(SENDER + ":1");
+        summary.toggle("other:1");
+        assertEquals(0, summary.hash());
+        assertEquals(0, summary.hash(SENDER, MerkleSummary.ROOT_LEVEL, 0));
+    }
+
+    /**
+     * A message only one side holds changes one node per level, the path down to its leaf.
+     */
+    @Test
+    public void differenceStaysOnOnePath() {
+        MerkleSummary ours = new MerkleSummary();
+        MerkleSummary theirs = new MerkleSummary();
+        for (int i = 0; i < 5000; i++) {
+            ours.toggle(SENDER + ':' + i);
+            theirs.toggle(SENDER + ':' + i);
+        }
+        long missing = 4321;
+        ours.toggle(SENDER + ':' + missing);
+
+        assertNotEquals(ours.hash(), theirs.hash());
+        long node = missing / MerkleSummary.LEAF_SPAN;
+        for (int level = 0; level <= MerkleSummary.ROOT_LEVEL; level++) {
+            assertNotEquals(ours.hash(SENDER, level, node), theirs.hash(SENDER, level, node));
+            assertEquals(ours.hash(SENDER, level, node + 1), theirs.hash(SENDER, level, node + 1));
+            if (node > 0) {
+                assertEquals(ours.hash(SENDER, level, node - 1), theirs.hash(SENDER, level, node - 1));
+            }
+            node /= MerkleSummary.FAN_OUT;
+        }
+    }
+
+    @Test
+    public void malformedKeysAreIgnored() {
+        MerkleSummary summary = new MerkleSummary();
+        summary.toggle("no separator");
+        summary.toggle(SENDER + ":not a number");
+        summary.toggle(SENDER + ":-1");
+        assertEquals(0, summary.hash());
+    }
+}
@@ -0,0 +1,142 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MessageLogTest {
+    private static final int MESSAGES = 5000;
+    private static final int SENDERS = 4;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Several segments of interleaved senders, read back after a restart.
+     */
+    @Test
+    public void committedMessagesSurviveARestart() throws IOException {
+        ServerConfig config = newConfig();
+        try (MessageLog log = MessageLog.open(config)) {
+            for (int i = 0; i < MESSAGES; i++) {
+                append(log, "server" + i % SENDERS, i / SENDERS);
+            }
+            log.commit();
+        }
+
+        try (MessageLog log = MessageLog.open(config)) {
+            for (int s = 0; s < SENDERS; s++) {
+                List<DataMessage> replayed = log.range("server" + s, 0, MESSAGES);
+                assertEquals(MESSAGES / SENDERS, replayed.size());
+                for (int id = 0; id < replayed.size(); id++) {
+                    assertEquals(Integer.toString(id), replayed.get(id).messageId());
+                    assertEquals("server" + s, replayed.get(id).serverIdentifier());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void rangeOnlyHoldsTheSendersIdsWithin() throws IOException {
+        try (MessageLog log = MessageLog.open(newConfig())) {
+            for (int i = 0; i < MESSAGES; i++) {
+                append(log, "server" + i % SENDERS, i / SENDERS);
+            }
+            List<DataMessage> range = log.range("server1", 300, 399);
+            assertEquals(100, range.size());
+            assertEquals("300", range.get(0).messageId());
+            assertEquals("399", range.get(99).messageId());
+            assertTrue(log.range("server1", 400, 399).isEmpty());
+            assertTrue(log.range("nobody", 0, MESSAGES).isEmpty());
+        }
+    }
+
+    /**
+     * Backfilled messages arrive with lower ids than the ones already logged.
+     */
+    @Test
+    public void outOfOrderIdsAreFound() throws IOException {
+        try (MessageLog log = MessageLog.open(newConfig())) {
+            for (int id = 200; id < 400; id++) {
+                append(log, "server", id);
+            }
+            for (int id = 0; id < 200; id++) {
+                append(log, "server", id);
+            }
+            List<DataMessage> range = log.range("server", 150, 249);
+            assertEquals(100, range.size());
+            assertEquals("150", range.get(0).messageId());
+            assertTrue(log.contains("server:0"));
+            assertTrue(log.contains("server:399"));
+            assertFalse(log.contains("server:400"));
+            assertFalse(log.contains("other:0"));
+        }
+    }
+
+    @Test
+    public void keysAreOnlyLookedForInSegmentsStartedBeforeTheTime() throws IOException {
+        try (MessageLog log = MessageLog.open(newConfig())) {
+            long before = System.currentTimeMillis();
+            append(log, "server", 0);
+            assertFalse(log.contains("server:0", before));
+            assertTrue(log.contains("server:0", System.currentTimeMillis() + 1));
+            assertTrue(log.contains("server:0"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void keyWithoutIdIsRefused() throws IOException {
+        try (MessageLog log = MessageLog.open(newConfig())) {
+            log.append("server:not a number", "", new DataMessage("alice", "server", "x", "hello"));
+        }
+    }
+
+    /**
+     * The server drops removed messages from the room they were in, so it is told the room with the key.
+     */
+    @Test
+    public void retentionReportsTheRoomOfEveryRemovedMessage() throws IOException {
+        try (MessageLog log = MessageLog.open(newConfig().messageLogMaxBytes(128 * 1024))) {
+            Map<String, String> removed = new HashMap<>();
+            log.onRemoved(removed::put);
+            for (int id = 0; id < MESSAGES; id++) {
+                String room = id % 2 == 0 ? "even" : "odd";
+                log.append("server:" + id, room, new DataMessage(Message.Data.newBuilder().setUsername("alice")
+                        .setServerClientId("server").setId(Integer.toString(id)).setData("message").setRoom(room)
+                        .build()));
+            }
+            log.enforceRetention();
+
+            assertFalse(removed.isEmpty());
+            removed.forEach((key, room) -> {
+                int id = Integer.parseInt(key.substring(key.indexOf(':') + 1));
+                assertEquals(id % 2 == 0 ? "even" : "odd", room);
+                assertFalse(log.contains(key));
+            });
+            assertTrue(log.contains("server:" + (MESSAGES - 1)));
+        }
+    }
+
+    @NotNull
+    private ServerConfig newConfig() {
+        // Small segments, so a few thousand messages span several of them
+        return new ServerConfig().messageLogDirectory(folder.getRoot().toPath()).messageLogSegmentSize(64 * 1024)
+                .messageLogCommitInterval(1, TimeUnit.HOURS);
+    }
+
+    private static void append(@NotNull MessageLog log, @NotNull String sender, long id) throws IOException {
+        log.append(sender + ':' + id, "", new DataMessage("alice", sender, Long.toString(id), "message " + id));
+    }
+}
@@ -0,0 +1,186 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Delivers on the calling thread, so every signal is handled before the call returns.
+ */
+public class MessagePublisherTest {
+    private static final int BUFFER_SIZE = 4;
+
+    private final EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    private final MessagePublisher publisher = new MessagePublisher(new ClientConfig()
+            .subscriberBufferSize(BUFFER_SIZE), Runnable::run, this::updateAutoRead);
+
+    @Test
+    public void deliversOnlyWhatWasRequested() {
+        RecordingSubscriber subscriber = subscribe();
+        publish(5);
+        assertEquals(0, subscriber.received.size());
+        subscriber.subscription.request(2);
+        assertEquals(2, subscriber.received.size());
+        subscriber.subscription.request(10);
+        assertEquals(5, subscriber.received.size());
+        assertEquals("message 4", subscriber.received.get(4).message());
+    }
+
+    @Test
+    public void nonPositiveRequestIsAnError() {
+        RecordingSubscriber subscriber = subscribe();
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        publish(1);
+        subscriber.subscription.request(1);
+        assertEquals(0, subscriber.received.size());
+    }
+
+    @Test
+    public void cancelStopsDelivery() {
+        RecordingSubscriber subscriber = subscribe();
+        subscriber.subscription.request(Long.MAX_VALUE);
+        publish(2);
+        subscriber.subscription.cancel();
+        publish(2);
+        assertEquals(2, subscriber.received.size());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void completesOnceBufferedMessagesAreDelivered() {
+        RecordingSubscriber subscriber = subscribe();
+        publish(2);
+        publisher.complete();
+        assertFalse(subscriber.completed);
+        subscriber.subscription.request(2);
+        assertEquals(2, subscriber.received.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void lateSubscriberIsCompleted() {
+        publisher.complete();
+        assertTrue(subscribe().completed);
+    }
+
+    /**
+     * Subscribing while the publisher completes must never leave the subscriber waiting.
+     */
+    @Test
+    public void subscribeRacingCompleteIsCompleted() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                MessagePublisher racing = new MessagePublisher(new ClientConfig(), Runnable::run, () -> {
+                });
+                RecordingSubscriber subscriber = new RecordingSubscriber();
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> subscribed = pool.submit(() -> {
+                    barrier.await();
+                    racing.subscribe(subscriber);
+                    return null;
+                });
+                Future<?> completed = pool.submit(() -> {
+                    barrier.await();
+                    racing.complete();
+                    return null;
+                });
+                subscribed.get(10, TimeUnit.SECONDS);
+                completed.get(10, TimeUnit.SECONDS);
+                assertTrue("Subscriber " + i + " was never completed", subscriber.done.await(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void fullBufferStopsReadingUntilHalfEmpty() {
+        RecordingSubscriber subscriber = subscribe();
+        publish(BUFFER_SIZE - 1);
+        assertTrue(channel.config().isAutoRead());
+        publish(1);
+        assertTrue(publisher.isSaturated());
+        assertFalse(channel.config().isAutoRead());
+
+        subscriber.subscription.request(1);
+        assertFalse(channel.config().isAutoRead());
+        subscriber.subscription.request(1);
+        assertFalse(publisher.isSaturated());
+        assertTrue(channel.config().isAutoRead());
+    }
+
+    @Test
+    public void cancellingAFullSubscriberResumesReading() {
+        RecordingSubscriber subscriber = subscribe();
+        publish(BUFFER_SIZE);
+        assertFalse(channel.config().isAutoRead());
+        subscriber.subscription.cancel();
+        assertTrue(channel.config().isAutoRead());
+    }
+
+    /**
+     * As the client does, see {@link ChatClient#updateAutoRead()}.
+     */
+    private void updateAutoRead() {
+        channel.config().setAutoRead(!publisher.isSaturated());
+    }
+
+    @NotNull
+    private RecordingSubscriber subscribe() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        return subscriber;
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            publisher.publish(new DataMessage("alice", "1", Integer.toString(i), "message " + i));
+        }
+    }
+
+    private static final class RecordingSubscriber implements MessagePublisher.Subscriber {
+        final List<DataMessage> received = new ArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile MessagePublisher.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+
+        @Override
+        public void onSubscribe(@NotNull MessagePublisher.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(@NotNull DataMessage message) {
+            received.add(message);
+        }
+
+        @Override
+        public void onError(@NotNull Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.teamclutch.chat;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapMessageTest {
+    private static final int ROUNDS = 20000;
+    private static final int READERS = 4;
+
+    @Test
+    public void releasedMessageReadsAsNull() {
+        OffHeapMessage message = OffHeapMessage.copyOf(new DataMessage("alice", "1", "1", "hello"), "room");
+        DataMessage read = message.materialize();
+        assertNotNull(read);
+        assertEquals("hello", read.message());
+        assertEquals("room", message.room());
+
+        message.release();
+        assertNull(message.materialize());
+        assertEquals("room", message.room());
+    }
+
+    /**
+     * Evicts messages while they are read, and immediately allocates more so the pool hands the freed
+     * buffers out again. A read must see the message it asked for or nothing, never another one.
+     */
+    @Test
+    public void readsRacingEvictionSeeTheirMessageOrNothing() throws InterruptedException {
+        AtomicReference<Published> current = new AtomicReference<>(new Published(0));
+        AtomicInteger wrong = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(READERS);
+        ExecutorService pool = Executors.newFixedThreadPool(READERS);
+        for (int t = 0; t < READERS; t++) {
+            pool.execute(() -> {
+                try {
+                    for (int i = 0; i < ROUNDS; i++) {
+                        Published published = current.get();
+                        DataMessage read = published.message.materialize();
+                        if (read != null && !read.message().equals(published.text)) {
+                            wrong.incrementAndGet();
+                        }
+                    }
+                } catch (RuntimeException ex) {
+                    // Parsing memory that holds something else
+                    wrong.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        for (int i = 1; done.getCount() > 0; i++) {
+            current.getAndSet(new Published(i)).message.release();
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        pool.shutdown();
+        current.get().message.release();
+        assertEquals(0, wrong.get());
+    }
+
+    private static final class Published {
+        final String text;
+        final OffHeapMessage message;
+
+        Published(int i) {
+            this.text = "message number " + i;
+            this.message = OffHeapMessage.copyOf(new DataMessage("alice", "1", Integer.toString(i), text), "");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.teamclutch.chat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PacketCodecTest {
+    @Test
+    public void binaryRoundTrip() {
+        List<Message.Packet> packets = packets(100);
+        assertEquals(packets, roundTrip(WireFormat.BINARY, packets));
+    }
+
+    @Test
+    public void legacyRoundTrip() {
+        List<Message.Packet> packets = packets(100);
+        assertEquals(packets, roundTrip(WireFormat.LEGACY_JSON, packets));
+    }
+
+    @Test
+    public void serverAnswersThePreamble() {
+        EmbeddedChannel server = new EmbeddedChannel(new ChannelInitializer<Channel>() {
+            @Override
+            protected void initChannel(Channel ch) {
+                ch.pipeline().addLast(new PacketCodec.ProtocolDetector());
+                ch.pipeline().addLast(PacketCodec.HANDLER_NAME, new ChannelInboundHandlerAdapter());
+            }
+        });
+        server.writeInbound(PacketCodec.newPreamble());
+        assertEquals(WireFormat.BINARY, server.attr(PacketCodec.WIRE_FORMAT).get());
+        assertEquals(PacketCodec.newPreamble(), server.readOutbound());
+        server.finish();
+    }
+
+    @Test
+    public void clientDecodesBinaryOnceAnswered() throws Exception {
+        EmbeddedChannel client = new EmbeddedChannel(PacketCodec.newClientCodec(WireFormat.BINARY));
+        CompletableFuture<WireFormat> answer = PacketCodec.answer(client);
+        assertFalse(answer.isDone());
+
+        Message.Packet packet = packets(1).get(0);
+        ByteBuf answered = Unpooled.buffer();
+        answered.writeBytes(PacketCodec.newPreamble());
+        answered.writeBytes(PacketCodec.encode(UnpooledByteBufAllocator.DEFAULT, packet, WireFormat.BINARY));
+        client.writeInbound(answered);
+        assertEquals(WireFormat.BINARY, answer.get());
+        assertEquals(packet, client.readInbound());
+        assertTrue(client.isOpen());
+        client.finish();
+    }
+
+    @Test
+    public void clientLeavesServersThatGreetInJson() throws Exception {
+        EmbeddedChannel client = new EmbeddedChannel(PacketCodec.newClientCodec(WireFormat.BINARY));
+        client.writeInbound(PacketCodec.encode(UnpooledByteBufAllocator.DEFAULT, packets(1).get(0),
+                WireFormat.LEGACY_JSON));
+        assertEquals(WireFormat.LEGACY_JSON, PacketCodec.answer(client).get());
+        assertNull(client.readInbound());
+        assertFalse(client.isOpen());
+    }
+
+    static List<Message.Packet> roundTrip(WireFormat format, List<Message.Packet> packets) {
+        EmbeddedChannel encoder = new EmbeddedChannel(PacketCodec.newCodec(format));
+        EmbeddedChannel decoder = new EmbeddedChannel(PacketCodec.newCodec(format));
+        for (Message.Packet packet : packets) {
+            encoder.writeOutbound(packet);
+        }
+        Object encoded;
+        while ((encoded = encoder.readOutbound()) != null) {
+            decoder.writeInbound((ByteBuf) encoded);
+        }
+        List<Message.Packet> decoded = new ArrayList<>(packets.size());
+        Object packet;
+        while ((packet = decoder.readInbound()) != null) {
+            decoded.add((Message.Packet) packet);
+        }
+        encoder.finish();
+        decoder.finish();
+        return decoded;
+    }
+
+    static List<Message.Packet> packets(int count) {
+        List<Message.Packet> packets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            packets.add(Message.Packet.newBuilder().setData(Message.Data.newBuilder()
+                    .setId(Integer.toString(i))
+                    .setServerClientId("4bf1b2a7-6c3e-4f2e-9a51-0d2c7e8f9a10")
+                    .setUsername("alice")
+                    .setData("Message number " + i + ", long enough to look like something people type"))
+                    .build());
+        }
+        return packets;
+    }
+}
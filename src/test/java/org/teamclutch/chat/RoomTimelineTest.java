@@ -0,0 +1,128 @@
+package org.teamclutch.chat;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RoomTimelineTest {
+    private static final String ROOM = "general";
+
+    private final RoomTimeline timeline = new RoomTimeline();
+    private final Map<String, DataMessage> held = new HashMap<>();
+
+    @Test
+    public void cursorsPageBackThroughEveryMessageOnce() {
+        for (int i = 0; i < 10; i++) {
+            add(ROOM, i);
+        }
+        add("other", 10);
+
+        HistoryPage newest = page(null, 4);
+        assertEquals(texts(6, 10), texts(newest));
+        assertTrue(newest.hasMore());
+        HistoryPage middle = page(newest.nextCursor(), 4);
+        assertEquals(texts(2, 6), texts(middle));
+        assertTrue(middle.hasMore());
+        HistoryPage oldest = page(middle.nextCursor(), 4);
+        assertEquals(texts(0, 2), texts(oldest));
+        assertFalse(oldest.hasMore());
+        assertNull(oldest.nextCursor());
+    }
+
+    @Test
+    public void aPageEndingAtTheOldestMessageHasNoMore() {
+        for (int i = 0; i < 4; i++) {
+            add(ROOM, i);
+        }
+        assertFalse(page(null, 4).hasMore());
+        assertTrue(page(null, 3).hasMore());
+        assertFalse(page(null, 5).hasMore());
+        assertFalse(page(null, 1, "empty").hasMore());
+    }
+
+    @Test
+    public void messagesNoLongerHeldAreLeftOut() {
+        for (int i = 0; i < 6; i++) {
+            add(ROOM, i);
+        }
+        held.remove("server:4");
+        timeline.remove(ROOM, "server:1");
+
+        HistoryPage newest = page(null, 3);
+        assertEquals(texts(2, 4, 5, 6), texts(newest));
+        assertEquals(texts(0, 1), texts(page(newest.nextCursor(), 3)));
+    }
+
+    @Test
+    public void pagesSurviveTheirEncoding() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            add(ROOM, i);
+        }
+        HistoryPage page = page(null, 3);
+        Message.Packet answer = Message.Packet.parseFrom(RoomTimeline.createAnswer("7", page).toByteArray());
+        assertEquals("7", answer.getPage().getTag());
+        HistoryPage decoded = HistoryPage.of(answer.getPage());
+        assertEquals(texts(page), texts(decoded));
+        assertEquals(page.nextCursor(), decoded.nextCursor());
+
+        Message.Packet request = Message.Packet.parseFrom(
+                RoomTimeline.createRequest("8", page.nextCursor(), 3, ROOM).toByteArray());
+        assertEquals(Long.parseLong(page.nextCursor()), request.getHistory().getBefore());
+        assertEquals(ROOM, request.getHistory().getRoom());
+        // The newest messages are asked for without a cursor
+        assertEquals(0, RoomTimeline.createRequest("9", null, 3, ROOM).getHistory().getBefore());
+
+        HistoryPage last = page(page.nextCursor(), 3);
+        assertFalse(HistoryPage.of(Message.Packet.parseFrom(RoomTimeline.createAnswer("10", last).toByteArray())
+                .getPage()).hasMore());
+    }
+
+    private void add(@NotNull String room, int i) {
+        String key = "server:" + i;
+        held.put(key, new DataMessage("alice", "server", Integer.toString(i), "message " + i));
+        timeline.add(room, key, i);
+    }
+
+    @NotNull
+    private HistoryPage page(String cursor, int limit) {
+        return page(cursor, limit, ROOM);
+    }
+
+    @NotNull
+    private HistoryPage page(String cursor, int limit, @NotNull String room) {
+        return timeline.page(room, cursor == null ? Long.MAX_VALUE : Long.parseLong(cursor), limit, held::get);
+    }
+
+    /**
+     * @param ranges pairs of the first message and the one after the last
+     */
+    @NotNull
+    private static List<String> texts(int... ranges) {
+        List<String> texts = new ArrayList<>();
+        for (int r = 0; r < ranges.length; r += 2) {
+            for (int i = ranges[r]; i < ranges[r + 1]; i++) {
+                texts.add("message " + i);
+            }
+        }
+        return texts;
+    }
+
+    @NotNull
+    private static List<String> texts(@NotNull HistoryPage page) {
+        List<String> texts = new ArrayList<>();
+        for (DataMessage message : page.messages()) {
+            texts.add(message.message());
+        }
+        return texts;
+    }
+}
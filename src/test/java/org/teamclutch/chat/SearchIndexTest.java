@@ -0,0 +1,164 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+import org.teamclutch.chat.protobuf.Message;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class SearchIndexTest {
+    private static final String ROOM = "general";
+
+    private final SearchIndex index = new SearchIndex();
+    private final Searcher searcher = new Searcher(index, Collections.singleton(ROOM));
+
+    @Test
+    public void closerMatchesRankFirst() throws Exception {
+        add("a:1", ROOM, "the cat sat on the mat");
+        add("a:2", ROOM, "cat cat cat");
+        add("a:3", ROOM, "a dog barked");
+        add("a:4", ROOM, "the dog and the cat");
+
+        SearchResults results = searcher.search("cat", 0, 10);
+        assertEquals(3, results.total());
+        assertEquals("a:2", results.messageKeys().get(0));
+        assertEquals(new HashSet<>(Arrays.asList("a:1", "a:4")), new HashSet<>(results.messageKeys().subList(1, 3)));
+
+        // Matching both words beats matching one of them often
+        assertEquals("a:4", searcher.search("dog cat", 0, 1).messageKeys().get(0));
+    }
+
+    @Test
+    public void pagesCoverEveryMatchOnce() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            add("a:" + i, ROOM, "the same words");
+        }
+        SearchResults first = searcher.search("words", 0, 4);
+        assertEquals(10, first.total());
+        assertEquals(0, first.offset());
+        // Ties go to the newer message
+        assertEquals(Arrays.asList("a:9", "a:8", "a:7", "a:6"), first.messageKeys());
+        assertTrue(first.hasMore());
+
+        SearchResults second = searcher.search("words", 4, 4);
+        assertEquals(Arrays.asList("a:5", "a:4", "a:3", "a:2"), second.messageKeys());
+        SearchResults last = searcher.search("words", 8, 4);
+        assertEquals(8, last.offset());
+        assertEquals(Arrays.asList("a:1", "a:0"), last.messageKeys());
+        assertFalse(last.hasMore());
+
+        assertTrue(searcher.search("words", 10, 4).messageKeys().isEmpty());
+    }
+
+    @Test
+    public void onlyTheRoomsOfTheAskingChannelAreSearched() throws Exception {
+        add("a:1", ROOM, "meeting at noon");
+        add("a:2", "private", "meeting at midnight");
+        add("a:3", RoomIndex.LOBBY, "no meeting today");
+
+        SearchResults results = searcher.search("meeting", 0, 10);
+        assertEquals(1, results.total());
+        assertEquals(Collections.singletonList("a:1"), results.messageKeys());
+
+        Searcher both = new Searcher(index, new HashSet<>(Arrays.asList(ROOM, "private")));
+        assertEquals(2, both.search("meeting", 0, 10).total());
+        assertEquals(0, new Searcher(index, Collections.emptySet()).search("meeting", 0, 10).total());
+    }
+
+    @Test
+    public void removedMessagesNoLongerMatch() throws Exception {
+        add("a:1", ROOM, "Hello there");
+        add("a:2", ROOM, "hello again");
+        index.remove("a:1");
+
+        SearchResults results = searcher.search("HELLO", 0, 10);
+        assertEquals(Collections.singletonList("a:2"), results.messageKeys());
+        assertEquals(0, searcher.search("there", 0, 10).total());
+    }
+
+    @Test
+    public void answersCarryTheTagOfTheirRequest() throws Exception {
+        add("a:1", ROOM, "tagged");
+        Message.SearchResults answer = searcher.ask(SearchIndex.createRequest("42", "tagged", 0, 10));
+        assertEquals("42", answer.getTag());
+        assertEquals(Collections.singletonList("a:1"), answer.getKeysList());
+    }
+
+    @Test
+    public void malformedRequestsAreNotAnswered() throws Exception {
+        add("a:1", ROOM, "anything");
+        searcher.send(SearchIndex.createRequest("1", "anything", -1, 10));
+        searcher.send(SearchIndex.createRequest("2", "anything", 0, 0));
+        // Answers come in the order of the requests
+        assertEquals("3", searcher.ask(SearchIndex.createRequest("3", "anything", 0, 10)).getTag());
+    }
+
+    private void add(@NotNull String key, @NotNull String room, @NotNull String text) {
+        int split = key.indexOf(':');
+        index.add(key, room, new DataMessage("alice", key.substring(0, split), key.substring(split + 1), text));
+    }
+
+    /**
+     * Asks an index as a channel in some rooms would, the requests and answers going through their
+     * binary encoding.
+     */
+    static final class Searcher {
+        private final BlockingQueue<Object> answers = new LinkedBlockingQueue<>();
+        private final EmbeddedChannel channel;
+        private int tag;
+
+        Searcher(@NotNull SearchIndex index, @NotNull Set<String> rooms) {
+            channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+                @Override
+                public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+                    answers.add(msg);
+                    promise.setSuccess();
+                }
+            }, new ChannelInboundHandlerAdapter() {
+                @Override
+                public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                    index.onRequest(ctx, ((Message.Packet) msg).getSearch(), rooms);
+                }
+            });
+        }
+
+        @NotNull
+        SearchResults search(@NotNull String query, int offset, int limit) throws Exception {
+            return SearchResults.of(ask(SearchIndex.createRequest(Integer.toString(++tag), query, offset, limit)));
+        }
+
+        /**
+         * @return the next answer, which is to this request unless an earlier one wasn't picked up yet
+         */
+        @NotNull
+        Message.SearchResults ask(@NotNull Message.Packet request) throws Exception {
+            send(request);
+            // Only long for the index to take in a lot of messages first
+            Object answer = answers.poll(1, TimeUnit.MINUTES);
+            assertNotNull("The search wasn't answered", answer);
+            Message.Packet packet = Message.Packet.parseFrom(((Message.Packet) answer).toByteArray());
+            assertEquals(Message.Packet.TypeCase.RESULTS, packet.getTypeCase());
+            return packet.getResults();
+        }
+
+        void send(@NotNull Message.Packet request) throws Exception {
+            channel.writeInbound(Message.Packet.parseFrom(request.toByteArray()));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.teamclutch.chat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.nio.channels.ClosedChannelException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SlowConsumerHandlerTest {
+    private static final int HIGH_WATER_MARK = 64;
+
+    private final ChatMetrics metrics = new ChatMetrics();
+
+    @Test
+    public void dropOldestQueuesUntilWritableAgain() {
+        EmbeddedChannel channel = newStalledChannel(new ServerConfig()
+                .slowConsumerPolicy(SlowConsumerPolicy.DROP_OLDEST).slowConsumerMaxQueuedWrites(2));
+        ByteBuf dropped = message();
+        ByteBuf kept1 = message();
+        ByteBuf kept2 = message();
+        ChannelFuture droppedWrite = channel.write(dropped);
+        channel.write(kept1);
+        channel.write(kept2);
+        assertEquals(1, metrics.slowConsumers());
+        assertEquals(1, metrics.slowConsumerDroppedWrites());
+        assertEquals(2 * HIGH_WATER_MARK, metrics.slowConsumerQueuedBytes());
+        assertEquals(0, dropped.refCnt());
+        assertTrue(droppedWrite.isSuccess());
+
+        // The socket drains, the queued writes follow in order
+        channel.flush();
+        channel.runPendingTasks();
+        assertEquals(3, channel.outboundMessages().size());
+        channel.readOutbound();
+        assertSame(kept1, channel.readOutbound());
+        assertSame(kept2, channel.readOutbound());
+        assertEquals(0, metrics.slowConsumers());
+        assertEquals(0, metrics.slowConsumerQueuedBytes());
+    }
+
+    @Test
+    public void skipDropsWritesWhileUnwritable() {
+        EmbeddedChannel channel = newStalledChannel(new ServerConfig().slowConsumerPolicy(SlowConsumerPolicy.SKIP));
+        ByteBuf skipped = message();
+        ChannelFuture write = channel.write(skipped);
+        assertTrue(write.isSuccess());
+        assertEquals(0, skipped.refCnt());
+        assertEquals(1, metrics.slowConsumerDroppedWrites());
+        assertTrue(channel.isOpen());
+
+        channel.flush();
+        assertEquals(1, channel.outboundMessages().size());
+    }
+
+    @Test
+    public void disconnectClosesTheChannel() {
+        EmbeddedChannel channel = newStalledChannel(new ServerConfig()
+                .slowConsumerPolicy(SlowConsumerPolicy.DISCONNECT));
+        ByteBuf refused = message();
+        ChannelFuture write = channel.write(refused);
+        assertTrue(write.cause() instanceof ClosedChannelException);
+        assertEquals(0, refused.refCnt());
+        assertEquals(1, metrics.slowConsumerDisconnects());
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    public void writableChannelsAreLeftAlone() {
+        EmbeddedChannel channel = new EmbeddedChannel(new SlowConsumerHandler(new ServerConfig()
+                .slowConsumerPolicy(SlowConsumerPolicy.DISCONNECT), metrics));
+        channel.writeAndFlush(message());
+        assertTrue(channel.isOpen());
+        assertEquals(1, channel.outboundMessages().size());
+        assertEquals(0, metrics.slowConsumers());
+    }
+
+    /**
+     * @return a channel whose outbound buffer holds more than the high water mark, unflushed
+     */
+    private EmbeddedChannel newStalledChannel(ServerConfig config) {
+        EmbeddedChannel channel = new EmbeddedChannel(new SlowConsumerHandler(config, metrics));
+        channel.config().setWriteBufferLowWaterMark(HIGH_WATER_MARK / 2);
+        channel.config().setWriteBufferHighWaterMark(HIGH_WATER_MARK);
+        channel.write(Unpooled.buffer(2 * HIGH_WATER_MARK).writeZero(2 * HIGH_WATER_MARK));
+        assertFalse(channel.isWritable());
+        return channel;
+    }
+
+    private static ByteBuf message() {
+        return Unpooled.buffer(HIGH_WATER_MARK).writeZero(HIGH_WATER_MARK);
+    }
+}
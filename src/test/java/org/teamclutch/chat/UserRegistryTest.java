@@ -0,0 +1,101 @@
+package org.teamclutch.chat;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class UserRegistryTest {
+    private static final int JOINS = 10000;
+    private static final int THREADS = 16;
+
+    @Test
+    public void usernameBelongsToTheFirstClient() {
+        UserRegistry users = new UserRegistry();
+        Channel first = channel();
+        Channel second = channel();
+        assertNotNull(users.join(first, "alice", "1", false));
+        assertNull(users.join(second, "alice", "2", false));
+        assertNull(users.sessionOf(second));
+        assertTrue(users.isClaimed("alice"));
+
+        first.close();
+        assertFalse(users.isClaimed("alice"));
+        assertNotNull(users.join(second, "alice", "2", false));
+    }
+
+    /**
+     * 10k joins at once from many threads, every other one for a username another client wants too.
+     * Exactly one client of each pair must get the name.
+     */
+    @Test
+    public void concurrentJoins() throws InterruptedException {
+        UserRegistry users = new UserRegistry();
+        List<Channel> channels = channels(JOINS);
+        assertEquals(JOINS / 2, joinConcurrently(users, channels, THREADS));
+        for (int i = 0; i < JOINS; i += 2) {
+            assertTrue((users.sessionOf(channels.get(i)) == null) != (users.sessionOf(channels.get(i + 1)) == null));
+        }
+    }
+
+    static List<Channel> channels(int count) {
+        List<Channel> channels = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            channels.add(channel());
+        }
+        return channels;
+    }
+
+    /**
+     * Joins every channel at once, spread over the threads. Channels {@code 2n} and {@code 2n + 1} both
+     * want the name {@code user<n>}.
+     *
+     * @return how many joins got their name
+     */
+    static int joinConcurrently(UserRegistry users, List<Channel> channels, int threads) throws InterruptedException {
+        AtomicInteger joined = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = thread; i < channels.size(); i += threads) {
+                        if (users.join(channels.get(i), "user" + i / 2, Integer.toString(i), false) != null) {
+                            joined.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        pool.shutdown();
+        return joined.get();
+    }
+
+    private static Channel channel() {
+        // This version of EmbeddedChannel wants at least one handler
+        return new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+    }
+}